@@ -293,7 +293,9 @@ async def process_message(
         application_info: Application details from Spring Boot (kVA, address, etc.)
         api_key: Gemini API key from Spring Boot (DB-managed).
         attached_file: Optional attached file dict with keys:
-            filename, content_base64, mime_type.
+            filename, mime_type and either sha256 (content-addressed upload)
+            or content_base64 (inline), or error when Spring Boot could not
+            transfer the file (reported to the client as a file_error event).
     """
     agent = await get_agent()
     tracker = ProgressTracker(thread_id, application_seq)
@@ -316,13 +318,17 @@ async def process_message(
     yield tracker.update("initializing")
 
     # ── 첨부 파일 처리: Gemini AI로 해석하여 에이전트 컨텍스트에 주입
-    if attached_file and attached_file.get("content_base64") and attached_file.get("filename"):
+    if attached_file and attached_file.get("filename") and (
+        attached_file.get("sha256") or attached_file.get("content_base64") or attached_file.get("error")
+    ):
         yield {"type": "status", "content": "Analyzing attached file..."}
         try:
             from app.sld.schedule_parser import extract_schedule_from_file, format_extracted_schedule
 
-            file_bytes = base64.b64decode(attached_file["content_base64"])
+            from app.attachments import resolve_attached_file
+
             filename = attached_file["filename"]
+            file_bytes = await resolve_attached_file(attached_file)
 
             extraction_result = await extract_schedule_from_file(
                 file_bytes=file_bytes,
@@ -0,0 +1,148 @@
+"""
+Content-addressed attachment store.
+
+Spring Boot uploads each attached file once (PUT /api/attachments/{sha256})
+and afterwards references it by hash in chat requests, so repeated
+attachments of the same file are not re-sent.
+
+Files live under ``{temp_file_dir}/attachments/{sha256}`` and are removed by
+the regular temp file cleanup (TEMP_FILE_MAX_AGE_HOURS).
+
+Files larger than ``attachment_max_bytes`` are rejected with
+AttachmentTooLargeError (PUT -> 413, chat -> ``file_error`` event) rather than
+being dropped silently.
+"""
+
+import asyncio
+import base64
+import hashlib
+import os
+import re
+import uuid
+from typing import AsyncIterator
+
+from starlette.concurrency import run_in_threadpool
+
+from app.config import settings
+
+_SHA256_PATTERN = re.compile(r"^[0-9a-f]{64}$")
+
+
+class AttachmentError(ValueError):
+    """업로드 검증 실패 (해시 불일치 / 크기 초과 / 잘못된 해시)."""
+
+
+class AttachmentTooLargeError(AttachmentError):
+    """attachment_max_bytes 초과."""
+
+    def __init__(self, size: int | None = None):
+        limit = settings.attachment_max_bytes
+        if size is None:
+            super().__init__(f"Attachment too large: exceeds the {limit}-byte limit")
+        else:
+            super().__init__(f"Attachment too large: {size} bytes exceeds the {limit}-byte limit")
+
+
+def attachment_dir() -> str:
+    return os.path.join(settings.temp_file_dir, "attachments")
+
+
+def attachment_path(sha256: str) -> str:
+    if not _SHA256_PATTERN.match(sha256):
+        raise AttachmentError("Invalid sha256")
+    return os.path.join(attachment_dir(), sha256)
+
+
+def has_attachment(sha256: str) -> bool:
+    """보관 중이면 mtime을 갱신하여 정리 대상에서 미룬다."""
+    path = attachment_path(sha256)
+    if not os.path.exists(path):
+        return False
+    os.utime(path)
+    return True
+
+
+async def load_attachment(sha256: str) -> bytes | None:
+    """
+    보관 중인 첨부 파일 내용. 디스크 읽기는 스레드에서 실행한다 (이벤트 루프 블로킹 방지).
+
+    Returns:
+        파일 내용, 보관 중이 아니거나 해시 형식이 잘못되었으면 None
+
+    Raises:
+        AttachmentTooLargeError: 보관 파일이 attachment_max_bytes 초과 (상한을 낮춘 경우)
+    """
+    try:
+        path = attachment_path(sha256)
+    except AttachmentError:
+        return None
+    return await asyncio.to_thread(_read_within_limit, path)
+
+
+def _read_within_limit(path: str) -> bytes | None:
+    try:
+        with open(path, "rb") as f:
+            size = os.fstat(f.fileno()).st_size
+            if size > settings.attachment_max_bytes:
+                raise AttachmentTooLargeError(size)
+            return f.read()
+    except FileNotFoundError:
+        return None
+
+
+async def resolve_attached_file(attached_file: dict) -> bytes:
+    """
+    채팅 요청의 attached_file → 파일 내용.
+
+    - {"error": ...}: Spring Boot가 전달하지 못한 첨부 (예: 업로드 413) — 그 사유를 그대로 보고
+    - {"sha256": ...}: 미리 업로드된 파일
+    - {"content_base64": ...}: 인라인 전송 (디코딩 후 상한 검사)
+
+    Raises:
+        AttachmentError: 위 사유로 파일을 사용할 수 없음 (메시지는 file_error 이벤트로 전달)
+    """
+    if attached_file.get("error"):
+        raise AttachmentError(str(attached_file["error"]))
+    if attached_file.get("sha256"):
+        file_bytes = await load_attachment(attached_file["sha256"])
+        if file_bytes is None:
+            raise AttachmentError(f"Attachment not uploaded: {attached_file['sha256']}")
+        return file_bytes
+    file_bytes = base64.b64decode(attached_file.get("content_base64") or "")
+    if len(file_bytes) > settings.attachment_max_bytes:
+        raise AttachmentTooLargeError(len(file_bytes))
+    return file_bytes
+
+
+async def save_attachment(sha256: str, chunks: AsyncIterator[bytes]) -> int:
+    """
+    스트리밍 본문을 임시 파일에 기록하며 해시를 계산하고,
+    선언된 sha256과 일치할 때만 최종 경로로 rename한다.
+    파일 I/O는 스레드풀에서 실행한다 (이벤트 루프 블로킹 방지).
+
+    Returns:
+        저장된 바이트 수
+    """
+    path = attachment_path(sha256)
+    os.makedirs(attachment_dir(), exist_ok=True)
+    part_path = f"{path}.{uuid.uuid4().hex}.part"
+    digest = hashlib.sha256()
+    size = 0
+    try:
+        f = await run_in_threadpool(open, part_path, "wb")
+        try:
+            async for chunk in chunks:
+                size += len(chunk)
+                if size > settings.attachment_max_bytes:
+                    raise AttachmentTooLargeError()
+                digest.update(chunk)
+                await run_in_threadpool(f.write, chunk)
+        finally:
+            await run_in_threadpool(f.close)
+        if digest.hexdigest() != sha256:
+            raise AttachmentError("Content does not match sha256")
+        await run_in_threadpool(os.replace, part_path, path)
+        return size
+    finally:
+        if os.path.exists(part_path):
+            os.remove(part_path)
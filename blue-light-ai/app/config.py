@@ -24,6 +24,7 @@ class Settings(BaseSettings):
     # Storage
     sqlite_db_path: str = "./data/db/checkpoints.db"
     temp_file_dir: str = "./temp"
+    attachment_max_bytes: int = 20 * 1024 * 1024  # 첨부 파일 업로드 상한 (20MB)
 
     # MySQL (SLD 템플릿 DB)
     mysql_host: str = "localhost"
@@ -17,11 +17,12 @@ from contextlib import asynccontextmanager
 from datetime import datetime, timezone
 from typing import AsyncGenerator
 
-from fastapi import Depends, FastAPI, HTTPException
+from fastapi import Depends, FastAPI, HTTPException, Request, Response
 from fastapi.middleware.cors import CORSMiddleware
 from fastapi.responses import FileResponse, StreamingResponse
 
 from app.agent.graph import get_agent, process_message
+from app.attachments import AttachmentError, AttachmentTooLargeError, has_attachment, save_attachment
 from app.agent.checkpointer import get_checkpointer, close_checkpointer
 from app.config import settings
 from app.dependencies import verify_service_key
@@ -82,6 +83,17 @@ def cleanup_old_temp_files() -> dict:
             except Exception as e:
                 errors.append({"file": os.path.basename(file_path), "error": str(e)})
 
+    # 해시 참조 첨부 파일 (app/attachments.py)
+    for file_path in glob_module.glob(
+        os.path.join(settings.temp_file_dir, "attachments", "*")
+    ):
+        try:
+            if os.path.getmtime(file_path) < cutoff:
+                os.remove(file_path)
+                deleted.append(os.path.basename(file_path))
+        except Exception as e:
+            errors.append({"file": os.path.basename(file_path), "error": str(e)})
+
     if deleted:
         logger.info(f"Temp cleanup: deleted {len(deleted)} old files: {deleted}")
     if errors:
@@ -151,7 +163,7 @@ app.add_middleware(
     CORSMiddleware,
     allow_origins=[settings.spring_boot_url],
     allow_credentials=True,
-    allow_methods=["GET", "POST", "DELETE"],
+    allow_methods=["GET", "HEAD", "POST", "PUT", "DELETE"],
     allow_headers=["*"],
 )
 
@@ -558,6 +570,51 @@ async def delete_temp_file(
     return {"status": "cleaned", "file_id": file_id, **result}
 
 
+# ── Attachment Endpoints ─────────────────────────────
+
+@app.head("/api/attachments/{sha256}")
+async def head_attachment(
+    sha256: str,
+    _: str = Depends(verify_service_key),
+):
+    """
+    Check whether an attachment with this content hash is already stored.
+    Spring Boot skips the upload when this returns 200.
+    """
+    try:
+        exists = has_attachment(sha256)
+    except AttachmentError as e:
+        raise HTTPException(status_code=400, detail=str(e))
+    return Response(status_code=200 if exists else 404)
+
+
+@app.put("/api/attachments/{sha256}")
+async def put_attachment(
+    sha256: str,
+    request: Request,
+    _: str = Depends(verify_service_key),
+):
+    """
+    Store a raw (application/octet-stream) attachment body under its SHA-256.
+    The body is streamed to disk and rejected if its hash does not match.
+    Bodies over attachment_max_bytes are rejected with 413 (checked against
+    Content-Length first, then while streaming).
+    """
+    try:
+        if has_attachment(sha256):
+            return {"status": "exists", "sha256": sha256}
+        declared = request.headers.get("content-length")
+        if declared and declared.isdigit() and int(declared) > settings.attachment_max_bytes:
+            raise AttachmentTooLargeError(int(declared))
+        size = await save_attachment(sha256, request.stream())
+    except AttachmentTooLargeError as e:
+        raise HTTPException(status_code=413, detail=str(e))
+    except AttachmentError as e:
+        raise HTTPException(status_code=400, detail=str(e))
+    logger.info(f"Attachment stored: sha256={sha256}, size={size}")
+    return {"status": "stored", "sha256": sha256, "size": size}
+
+
 # ── Helpers ──────────────────────────────────────────
 
 
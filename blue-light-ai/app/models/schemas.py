@@ -27,7 +27,10 @@ class ChatRequest(BaseModel):
     attached_file: dict | None = Field(
         None,
         description="Attached file for circuit schedule extraction: "
-        '{"filename": "xxx.xlsx", "content_base64": "...", "mime_type": "..."}',
+        '{"filename": "xxx.xlsx", "sha256": "...", "mime_type": "..."} '
+        "(uploaded beforehand via PUT /api/attachments/{sha256}) or "
+        '{"filename": "xxx.xlsx", "content_base64": "...", "mime_type": "..."} or '
+        '{"filename": "xxx.xlsx", "error": "..."} (transfer failed; reported as file_error)',
     )
 
 
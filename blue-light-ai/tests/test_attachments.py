@@ -0,0 +1,231 @@
+"""Tests for the content-addressed attachment store (app/attachments.py) and its endpoints."""
+
+import asyncio
+import base64
+import hashlib
+import os
+
+import pytest
+from fastapi.testclient import TestClient
+
+from app.attachments import (
+    AttachmentError,
+    AttachmentTooLargeError,
+    attachment_path,
+    load_attachment,
+    resolve_attached_file,
+    save_attachment,
+)
+from app.config import settings
+
+
+def _sha256(data: bytes) -> str:
+    return hashlib.sha256(data).hexdigest()
+
+
+async def _chunks(*parts: bytes):
+    for part in parts:
+        yield part
+
+
+@pytest.fixture(autouse=True)
+def temp_dir(tmp_path, monkeypatch):
+    """Each test gets its own attachment directory."""
+    monkeypatch.setattr(settings, "temp_file_dir", str(tmp_path))
+    return tmp_path
+
+
+@pytest.fixture
+def client():
+    from app.main import app
+    from app.dependencies import verify_service_key
+
+    async def _no_auth():
+        return "test"
+
+    app.dependency_overrides[verify_service_key] = _no_auth
+    yield TestClient(app)
+    app.dependency_overrides.pop(verify_service_key, None)
+
+
+def _leftover_parts(tmp_path) -> list[str]:
+    directory = tmp_path / "attachments"
+    if not directory.exists():
+        return []
+    return [name for name in os.listdir(directory) if name.endswith(".part")]
+
+
+class TestSaveAttachment:
+
+    @pytest.mark.asyncio
+    async def test_streams_chunks_and_stores_under_hash(self, temp_dir):
+        data = b"circuit schedule " * 1000
+        size = await save_attachment(_sha256(data), _chunks(data[:7], data[7:5000], data[5000:]))
+
+        assert size == len(data)
+        assert await load_attachment(_sha256(data)) == data
+        assert _leftover_parts(temp_dir) == []
+
+    @pytest.mark.asyncio
+    async def test_hash_mismatch_is_rejected_and_cleaned_up(self, temp_dir):
+        declared = _sha256(b"expected")
+
+        with pytest.raises(AttachmentError, match="does not match"):
+            await save_attachment(declared, _chunks(b"tampered"))
+
+        assert not os.path.exists(attachment_path(declared))
+        assert _leftover_parts(temp_dir) == []
+
+    @pytest.mark.asyncio
+    async def test_size_cap_is_enforced_while_streaming(self, temp_dir, monkeypatch):
+        monkeypatch.setattr(settings, "attachment_max_bytes", 10)
+        data = b"0123456789AB"
+
+        with pytest.raises(AttachmentTooLargeError, match="10-byte limit"):
+            await save_attachment(_sha256(data), _chunks(data[:6], data[6:]))
+
+        assert not os.path.exists(attachment_path(_sha256(data)))
+        assert _leftover_parts(temp_dir) == []
+
+    @pytest.mark.asyncio
+    @pytest.mark.parametrize("sha256", ["", "abc", "A" * 64, "g" * 64, "../" + "a" * 61])
+    async def test_invalid_sha256_is_rejected(self, sha256):
+        with pytest.raises(AttachmentError):
+            attachment_path(sha256)
+        assert await load_attachment(sha256) is None
+
+
+class TestLoadAttachment:
+
+    @pytest.mark.asyncio
+    async def test_missing_attachment_is_none(self):
+        assert await load_attachment(_sha256(b"never uploaded")) is None
+
+    @pytest.mark.asyncio
+    async def test_reads_off_the_event_loop(self, monkeypatch):
+        data = b"schedule"
+        await save_attachment(_sha256(data), _chunks(data))
+        calls = []
+        real_to_thread = asyncio.to_thread
+
+        async def _to_thread(func, *args):
+            calls.append(func.__name__)
+            return await real_to_thread(func, *args)
+
+        monkeypatch.setattr("app.attachments.asyncio.to_thread", _to_thread)
+
+        assert await load_attachment(_sha256(data)) == data
+        assert calls == ["_read_within_limit"]
+
+    @pytest.mark.asyncio
+    async def test_stored_file_over_current_limit_raises(self, monkeypatch):
+        data = b"x" * 32
+        await save_attachment(_sha256(data), _chunks(data))
+        monkeypatch.setattr(settings, "attachment_max_bytes", 16)
+
+        with pytest.raises(AttachmentTooLargeError, match="32 bytes exceeds the 16-byte limit"):
+            await load_attachment(_sha256(data))
+
+
+class TestResolveAttachedFile:
+
+    @pytest.mark.asyncio
+    async def test_reference_resolves_uploaded_bytes(self):
+        data = b"circuit schedule"
+        await save_attachment(_sha256(data), _chunks(data))
+
+        assert await resolve_attached_file({"filename": "a.xlsx", "sha256": _sha256(data)}) == data
+
+    @pytest.mark.asyncio
+    async def test_reference_not_uploaded_is_reported(self):
+        with pytest.raises(AttachmentError, match="not uploaded"):
+            await resolve_attached_file({"filename": "a.xlsx", "sha256": _sha256(b"missing")})
+
+    @pytest.mark.asyncio
+    async def test_inline_over_limit_is_reported(self, monkeypatch):
+        monkeypatch.setattr(settings, "attachment_max_bytes", 4)
+        encoded = base64.b64encode(b"12345").decode()
+
+        with pytest.raises(AttachmentTooLargeError, match="5 bytes exceeds the 4-byte limit"):
+            await resolve_attached_file({"filename": "a.csv", "content_base64": encoded})
+
+    @pytest.mark.asyncio
+    async def test_inline_within_limit_is_decoded(self):
+        encoded = base64.b64encode(b"1234").decode()
+
+        assert await resolve_attached_file({"filename": "a.csv", "content_base64": encoded}) == b"1234"
+
+    @pytest.mark.asyncio
+    async def test_transfer_error_from_backend_is_reported(self):
+        reason = "Attached file exceeds the AI service size limit"
+
+        with pytest.raises(AttachmentError, match=reason):
+            await resolve_attached_file({"filename": "big.pdf", "error": reason})
+
+
+class TestAttachmentEndpoints:
+
+    def test_head_miss_then_put_then_head_hit(self, client):
+        data = b"%PDF-1.7 single line diagram"
+        sha256 = _sha256(data)
+
+        assert client.head(f"/api/attachments/{sha256}").status_code == 404
+
+        resp = client.put(f"/api/attachments/{sha256}", content=data,
+                          headers={"Content-Type": "application/octet-stream"})
+        assert resp.status_code == 200
+        assert resp.json() == {"status": "stored", "sha256": sha256, "size": len(data)}
+
+        assert client.head(f"/api/attachments/{sha256}").status_code == 200
+        assert asyncio.run(load_attachment(sha256)) == data
+
+    def test_put_existing_is_not_rewritten(self, client):
+        data = b"already uploaded"
+        sha256 = _sha256(data)
+        client.put(f"/api/attachments/{sha256}", content=data)
+
+        resp = client.put(f"/api/attachments/{sha256}", content=data)
+
+        assert resp.status_code == 200
+        assert resp.json() == {"status": "exists", "sha256": sha256}
+
+    def test_put_hash_mismatch_returns_400(self, client, temp_dir):
+        sha256 = _sha256(b"declared content")
+
+        resp = client.put(f"/api/attachments/{sha256}", content=b"different content")
+
+        assert resp.status_code == 400
+        assert client.head(f"/api/attachments/{sha256}").status_code == 404
+        assert _leftover_parts(temp_dir) == []
+
+    def test_put_over_size_cap_returns_413(self, client, monkeypatch):
+        monkeypatch.setattr(settings, "attachment_max_bytes", 16)
+        data = b"x" * 17
+        sha256 = _sha256(data)
+
+        resp = client.put(f"/api/attachments/{sha256}", content=data)
+
+        assert resp.status_code == 413
+        assert resp.json()["detail"] == "Attachment too large: 17 bytes exceeds the 16-byte limit"
+        assert client.head(f"/api/attachments/{sha256}").status_code == 404
+
+    def test_put_over_size_cap_without_content_length_returns_413(self, client, monkeypatch, temp_dir):
+        monkeypatch.setattr(settings, "attachment_max_bytes", 16)
+        data = b"y" * 40
+        sha256 = _sha256(data)
+
+        def _body():
+            yield data[:20]
+            yield data[20:]
+
+        resp = client.put(f"/api/attachments/{sha256}", content=_body())
+
+        assert resp.status_code == 413
+        assert "16-byte limit" in resp.json()["detail"]
+        assert client.head(f"/api/attachments/{sha256}").status_code == 404
+        assert _leftover_parts(temp_dir) == []
+
+    @pytest.mark.parametrize("sha256", ["not-a-hash", "A" * 64, "a" * 63])
+    def test_invalid_sha256_returns_400(self, client, sha256):
+        assert client.head(f"/api/attachments/{sha256}").status_code == 400
+        assert client.put(f"/api/attachments/{sha256}", content=b"data").status_code == 400
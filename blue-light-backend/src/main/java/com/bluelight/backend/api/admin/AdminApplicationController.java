@@ -1,6 +1,7 @@
 package com.bluelight.backend.api.admin;
 
 import com.bluelight.backend.api.admin.dto.*;
+import com.bluelight.backend.common.util.CursorSlice;
 import com.bluelight.backend.domain.application.ApplicationStatus;
 import com.bluelight.backend.domain.audit.AuditAction;
 import com.bluelight.backend.domain.audit.AuditCategory;
@@ -77,6 +78,27 @@ public class AdminApplicationController {
         return ResponseEntity.ok(applications);
     }
 
+    /**
+     * Get applications by cursor (keyset, no total count)
+     * GET /api/admin/applications?cursor=&status=PAID&size=20 (첫 페이지는 빈 cursor, 이후 응답의 nextCursor)
+     * LEW는 자신에게 배정된 신청서만 조회, 키워드 검색은 page 방식에서만 지원
+     */
+    @GetMapping(value = "/applications", params = "cursor")
+    public ResponseEntity<CursorSlice<AdminApplicationResponse>> getApplicationsByCursor(
+            Authentication authentication,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Long userSeq = (Long) authentication.getPrincipal();
+        String role = authentication.getAuthorities().iterator().next().getAuthority();
+        int validSize = Math.min(Math.max(1, size), 100);
+        log.info("Admin get applications by cursor: userSeq={}, role={}, status={}, size={}",
+                userSeq, role, status, validSize);
+        CursorSlice<AdminApplicationResponse> applications =
+                adminApplicationService.getApplicationsByCursor(status, cursor, validSize, userSeq, role);
+        return ResponseEntity.ok(applications);
+    }
+
     /**
      * Get application detail (admin view)
      * GET /api/admin/applications/:id
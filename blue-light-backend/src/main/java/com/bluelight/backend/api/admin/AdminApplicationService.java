@@ -3,13 +3,18 @@ package com.bluelight.backend.api.admin;
 import com.bluelight.backend.api.admin.dto.*;
 import com.bluelight.backend.api.email.EmailService;
 import com.bluelight.backend.common.exception.BusinessException;
+import com.bluelight.backend.common.util.CursorSlice;
+import com.bluelight.backend.common.util.EnumCounter;
+import com.bluelight.backend.common.util.PageCursor;
 import com.bluelight.backend.domain.application.*;
 import com.bluelight.backend.domain.user.User;
 import com.bluelight.backend.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,38 +32,22 @@ public class AdminApplicationService {
     private final ApplicationRepository applicationRepository;
     private final UserRepository userRepository;
     private final EmailService emailService;
+    private final ApplicationStatusCounter applicationStatusCounter;
+    private final ApplicationSearchService applicationSearchService;
 
     /**
      * Get admin dashboard summary (역할별 범위 분리)
+     * - 상태별 건수는 ApplicationStatusCounter 캐시에서 조회 (이벤트 반영 + 주기적 재집계)
      */
     public AdminDashboardResponse getDashboardSummary(Long userSeq, String role) {
         if ("ROLE_LEW".equals(role)) {
             return getLewDashboardSummary(userSeq);
         }
 
-        long totalApplications = applicationRepository.count();
-        long pendingReview = applicationRepository.countByStatus(ApplicationStatus.PENDING_REVIEW);
-        long revisionRequested = applicationRepository.countByStatus(ApplicationStatus.REVISION_REQUESTED);
-        long pendingPayment = applicationRepository.countByStatus(ApplicationStatus.PENDING_PAYMENT);
-        long paid = applicationRepository.countByStatus(ApplicationStatus.PAID);
-        long inProgress = applicationRepository.countByStatus(ApplicationStatus.IN_PROGRESS);
-        long completed = applicationRepository.countByStatus(ApplicationStatus.COMPLETED);
-        long expired = applicationRepository.countByStatus(ApplicationStatus.EXPIRED);
-        long totalUsers = userRepository.count();
-
-        long unassigned = applicationRepository.countByAssignedLewIsNull();
-
-        return AdminDashboardResponse.builder()
-                .totalApplications(totalApplications)
-                .pendingReview(pendingReview)
-                .revisionRequested(revisionRequested)
-                .pendingPayment(pendingPayment)
-                .paid(paid)
-                .inProgress(inProgress)
-                .completed(completed)
-                .expired(expired)
-                .totalUsers(totalUsers)
-                .unassigned(unassigned)
+        EnumCounter<ApplicationStatus> counts = applicationStatusCounter.countByStatus();
+        return toDashboardResponse(counts)
+                .totalUsers(userRepository.count())
+                .unassigned(applicationStatusCounter.countUnassigned())
                 .build();
     }
 
@@ -66,29 +55,26 @@ public class AdminApplicationService {
      * LEW 전용 대시보드: 자기 배정 신청서만 집계
      */
     private AdminDashboardResponse getLewDashboardSummary(Long lewSeq) {
-        long totalApplications = applicationRepository.countByAssignedLewUserSeq(lewSeq);
-        long pendingReview = applicationRepository.countByAssignedLewUserSeqAndStatus(lewSeq, ApplicationStatus.PENDING_REVIEW);
-        long revisionRequested = applicationRepository.countByAssignedLewUserSeqAndStatus(lewSeq, ApplicationStatus.REVISION_REQUESTED);
-        long pendingPayment = applicationRepository.countByAssignedLewUserSeqAndStatus(lewSeq, ApplicationStatus.PENDING_PAYMENT);
-        long paid = applicationRepository.countByAssignedLewUserSeqAndStatus(lewSeq, ApplicationStatus.PAID);
-        long inProgress = applicationRepository.countByAssignedLewUserSeqAndStatus(lewSeq, ApplicationStatus.IN_PROGRESS);
-        long completed = applicationRepository.countByAssignedLewUserSeqAndStatus(lewSeq, ApplicationStatus.COMPLETED);
-        long expired = applicationRepository.countByAssignedLewUserSeqAndStatus(lewSeq, ApplicationStatus.EXPIRED);
-
-        return AdminDashboardResponse.builder()
-                .totalApplications(totalApplications)
-                .pendingReview(pendingReview)
-                .revisionRequested(revisionRequested)
-                .pendingPayment(pendingPayment)
-                .paid(paid)
-                .inProgress(inProgress)
-                .completed(completed)
-                .expired(expired)
+        EnumCounter<ApplicationStatus> counts = applicationStatusCounter.countByStatusForLew(lewSeq);
+        return toDashboardResponse(counts)
                 .totalUsers(0)
                 .unassigned(0)
                 .build();
     }
 
+    private AdminDashboardResponse.AdminDashboardResponseBuilder toDashboardResponse(
+            EnumCounter<ApplicationStatus> counts) {
+        return AdminDashboardResponse.builder()
+                .totalApplications(counts.total())
+                .pendingReview(counts.get(ApplicationStatus.PENDING_REVIEW))
+                .revisionRequested(counts.get(ApplicationStatus.REVISION_REQUESTED))
+                .pendingPayment(counts.get(ApplicationStatus.PENDING_PAYMENT))
+                .paid(counts.get(ApplicationStatus.PAID))
+                .inProgress(counts.get(ApplicationStatus.IN_PROGRESS))
+                .completed(counts.get(ApplicationStatus.COMPLETED))
+                .expired(counts.get(ApplicationStatus.EXPIRED));
+    }
+
     /**
      * Get all applications (paginated, optional status filter and search)
      * LEW는 자신에게 배정된 신청서만, Admin/SystemAdmin은 전체
@@ -107,15 +93,30 @@ public class AdminApplicationService {
         return page.map(AdminApplicationResponse::from);
     }
 
+    /**
+     * 커서 기반 신청 목록 (COUNT 없음, 깊은 페이지도 일정 비용)
+     * LEW는 자신에게 배정된 신청서만, Admin/SystemAdmin은 전체
+     */
+    public CursorSlice<AdminApplicationResponse> getApplicationsByCursor(
+            ApplicationStatus status, String cursor, int size, Long userSeq, String role) {
+        PageCursor position = PageCursor.decode(cursor);
+        Long lewSeq = "ROLE_LEW".equals(role) ? userSeq : null;
+        Slice<Application> slice = applicationRepository.findSliceByCursor(
+                status, lewSeq,
+                position != null ? position.createdAt() : null,
+                position != null ? position.seq() : null,
+                PageRequest.of(0, size));
+        return CursorSlice.of(slice, AdminApplicationResponse::from,
+                a -> new PageCursor(a.getCreatedAt(), a.getApplicationSeq()));
+    }
+
     /**
      * LEW 전용: 배정된 신청서만 조회
      */
     private Page<Application> getLewApplications(
             ApplicationStatus status, String search, boolean hasSearch, Long lewSeq, Pageable pageable) {
-        if (hasSearch && status != null) {
-            return applicationRepository.searchByKeywordAndStatusAndAssignedLew(search.trim(), status, lewSeq, pageable);
-        } else if (hasSearch) {
-            return applicationRepository.searchByKeywordAndAssignedLew(search.trim(), lewSeq, pageable);
+        if (hasSearch) {
+            return applicationSearchService.search(search.trim(), status, lewSeq, pageable);
         } else if (status != null) {
             return applicationRepository.findByAssignedLewUserSeqAndStatusOrderByCreatedAtDesc(lewSeq, status, pageable);
         } else {
@@ -128,10 +129,8 @@ public class AdminApplicationService {
      */
     private Page<Application> getAdminApplications(
             ApplicationStatus status, String search, boolean hasSearch, Pageable pageable) {
-        if (hasSearch && status != null) {
-            return applicationRepository.searchByKeywordAndStatus(search.trim(), status, pageable);
-        } else if (hasSearch) {
-            return applicationRepository.searchByKeyword(search.trim(), pageable);
+        if (hasSearch) {
+            return applicationSearchService.search(search.trim(), status, null, pageable);
         } else if (status != null) {
             return applicationRepository.findByStatusOrderByCreatedAtDesc(status, pageable);
         } else {
@@ -129,7 +129,7 @@ public class AdminPriceSettingsController {
         });
 
         // 새 파일 저장
-        String filePath = fileStorageService.store(file, "settings");
+        String filePath = fileStorageService.store(file, "settings").path();
 
         // DB 설정 업데이트
         SystemSetting setting = systemSettingRepository.findById("payment_paynow_qr")
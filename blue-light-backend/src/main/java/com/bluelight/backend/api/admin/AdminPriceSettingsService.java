@@ -7,6 +7,8 @@ import com.bluelight.backend.api.admin.dto.UpdatePriceRequest;
 import com.bluelight.backend.common.exception.BusinessException;
 import com.bluelight.backend.domain.price.MasterPrice;
 import com.bluelight.backend.domain.price.MasterPriceRepository;
+import com.bluelight.backend.domain.price.PriceTierCache;
+import com.bluelight.backend.domain.setting.SettingsCache;
 import com.bluelight.backend.domain.setting.SystemSetting;
 import com.bluelight.backend.domain.setting.SystemSettingRepository;
 import lombok.RequiredArgsConstructor;
@@ -28,7 +30,9 @@ import java.util.stream.Collectors;
 public class AdminPriceSettingsService {
 
     private final MasterPriceRepository masterPriceRepository;
+    private final PriceTierCache priceTierCache;
     private final SystemSettingRepository systemSettingRepository;
+    private final SettingsCache settingsCache;
 
     /**
      * 모든 가격 티어 조회 (kVA 최소값 오름차순)
@@ -91,6 +95,7 @@ public class AdminPriceSettingsService {
         if (request.getIsActive() != null) {
             masterPrice.setActive(request.getIsActive());
         }
+        priceTierCache.markChanged();
 
         log.info("Price tier updated: priceSeq={}, price={}, kvaMin={}, kvaMax={}, isActive={}",
                 priceSeq, request.getPrice(), masterPrice.getKvaMin(),
@@ -205,6 +210,7 @@ public class AdminPriceSettingsService {
             }
         }
 
+        priceTierCache.markChanged();
         log.info("Batch price update completed: {} tiers processed", tiers.size());
         return getAllPrices();
     }
@@ -231,6 +237,7 @@ public class AdminPriceSettingsService {
             setting.updateValue(value, updatedBy);
             log.info("Setting updated: key={}, value={}, by={}", key, value, updatedBy);
         });
+        settingsCache.markChanged();
         return getSettings();
     }
 }
@@ -2,6 +2,7 @@ package com.bluelight.backend.api.admin;
 
 import com.bluelight.backend.api.admin.dto.AdminUserResponse;
 import com.bluelight.backend.api.admin.dto.ChangeRoleRequest;
+import com.bluelight.backend.api.audit.AuditUserCache;
 import com.bluelight.backend.common.exception.BusinessException;
 import com.bluelight.backend.domain.audit.AuditAction;
 import com.bluelight.backend.domain.audit.AuditCategory;
@@ -33,6 +34,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminUserController {
 
     private final UserRepository userRepository;
+    private final AuditUserCache auditUserCache;
 
     /**
      * Get all users (paginated, optional role filter and search)
@@ -105,6 +107,7 @@ public class AdminUserController {
 
         // changeRole이 approvedStatus도 자동 연동 (LEW → PENDING, APPLICANT → null)
         user.changeRole(targetRole);
+        auditUserCache.evict(id);
         log.info("User role changed: userSeq={}, newRole={}", id, targetRole);
 
         return ResponseEntity.ok(AdminUserResponse.from(user));
@@ -0,0 +1,114 @@
+package com.bluelight.backend.api.admin;
+
+import com.bluelight.backend.domain.application.Application;
+import com.bluelight.backend.domain.application.ApplicationRepository;
+import com.bluelight.backend.domain.application.ApplicationStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 신청 키워드 검색 (Admin/LEW 목록)
+ *
+ * application-search.engine:
+ * - fulltext (기본): applications.address / users(first_name, last_name, email)의
+ *   FULLTEXT(ngram) 인덱스 + 숫자 키워드는 신청 ID 일치 → 인덱스 기반 검색
+ * - like: 기존 LIKE '%keyword%' 전체 스캔 쿼리
+ *
+ * ngram 토큰 길이(기본 2)보다 짧은 키워드만 있으면 LIKE 쿼리로 처리
+ *
+ * fulltext 엔진의 LIKE 대비 동작 차이 (ApplicationSearchServiceTest / ApplicationSearchRepositoryTest):
+ * 1. 2자 미만 단어는 무시 — "a marina"는 "marina"로 검색 (남는 단어가 없을 때만 LIKE)
+ * 2. 신청 ID는 키워드 전체가 숫자일 때 정확히 일치 — LIKE는 ID 문자열 부분 일치("12" → 112, 1203 ...)
+ * 3. 공백으로 나뉜 단어는 모두 포함돼야 하며(순서 무관), 한 컬럼 그룹(주소 / 이름·이메일) 안에서 일치해야 함
+ *    — LIKE는 키워드 전체를 한 컬럼의 연속 부분 문자열로 검색 ("marina tanaka"처럼 주소+이름 조합은 양쪽 모두 불일치)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ApplicationSearchService {
+
+    /** MySQL ngram_token_size 기본값 — 이보다 짧은 단어는 FULLTEXT로 찾을 수 없음 */
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int MAX_TERMS = 10;
+
+    private final ApplicationRepository applicationRepository;
+    private final boolean fullText;
+
+    public ApplicationSearchService(
+            ApplicationRepository applicationRepository,
+            @Value("${application-search.engine:fulltext}") String engine) {
+        this.applicationRepository = applicationRepository;
+        this.fullText = "fulltext".equalsIgnoreCase(engine);
+        log.info("Application search engine: {}", fullText ? "fulltext" : "like");
+    }
+
+    /**
+     * 키워드 검색 (상태 / 담당 LEW 필터 선택)
+     *
+     * @param keyword 공백 제거된 검색어
+     * @param status  null이면 전체 상태
+     * @param lewSeq  null이면 전체 (LEW 본인 범위 검색 시 지정)
+     */
+    public Page<Application> search(String keyword, ApplicationStatus status, Long lewSeq, Pageable pageable) {
+        String query = fullText ? toBooleanQuery(keyword) : null;
+        if (query == null) {
+            return searchLike(keyword, status, lewSeq, pageable);
+        }
+        return applicationRepository.searchFullText(
+                query, parseSeq(keyword), status != null ? status.name() : null, lewSeq, pageable);
+    }
+
+    private Page<Application> searchLike(String keyword, ApplicationStatus status, Long lewSeq, Pageable pageable) {
+        if (lewSeq != null) {
+            return status != null
+                    ? applicationRepository.searchByKeywordAndStatusAndAssignedLew(keyword, status, lewSeq, pageable)
+                    : applicationRepository.searchByKeywordAndAssignedLew(keyword, lewSeq, pageable);
+        }
+        return status != null
+                ? applicationRepository.searchByKeywordAndStatus(keyword, status, pageable)
+                : applicationRepository.searchByKeyword(keyword, pageable);
+    }
+
+    /**
+     * BOOLEAN MODE 검색식 생성 — 단어마다 +"단어" (모든 단어 포함, 단어 내부는 ngram 구문 일치)
+     * - 따옴표 안에서는 연산자 문자가 리터럴로 처리되므로 " 만 제거
+     * - 유효 단어가 없으면 null
+     */
+    static String toBooleanQuery(String keyword) {
+        StringBuilder sb = new StringBuilder();
+        int terms = 0;
+        for (String token : keyword.trim().split("\\s+")) {
+            String term = token.replace("\"", "");
+            if (term.length() < MIN_TOKEN_LENGTH) {
+                continue;
+            }
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append("+\"").append(term).append('"');
+            if (++terms == MAX_TERMS) {
+                break;
+            }
+        }
+        return terms > 0 ? sb.toString() : null;
+    }
+
+    /**
+     * 키워드 전체가 숫자면 신청 ID (정확 일치용), 아니면 null
+     */
+    static Long parseSeq(String keyword) {
+        if (keyword.isEmpty() || keyword.length() > 18) {
+            return null;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            if (!Character.isDigit(keyword.charAt(i))) {
+                return null;
+            }
+        }
+        return Long.parseLong(keyword);
+    }
+}
@@ -0,0 +1,222 @@
+package com.bluelight.backend.api.admin;
+
+import com.bluelight.backend.common.util.EnumCounter;
+import com.bluelight.backend.domain.application.ApplicationRepository;
+import com.bluelight.backend.domain.application.ApplicationStatus;
+import com.bluelight.backend.domain.application.ApplicationStatusChangedEvent;
+import com.bluelight.backend.domain.application.ApplicationStatusCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 신청 상태별 건수 캐시 (Admin/LEW 대시보드)
+ *
+ * - 기동 시 GROUP BY 1회로 전체/LEW별/미할당 건수 구성
+ * - 이후 ApplicationStatusChangedEvent (커밋 후)로 증감 → 대시보드 조회 시 DB 접근 없음
+ * - 주기적 재집계 (dashboard.counter-cache.reconcile-interval-ms)로 드리프트 보정
+ *   (다른 서버의 변경, 벌크 UPDATE 등 이벤트가 없는 변경분 포함)
+ * - 음수 발생 등 불일치 감지 시 무효화 → 다음 조회에서 재집계
+ * - dashboard.counter-cache.enabled=false: 매 조회마다 GROUP BY 쿼리
+ */
+@Slf4j
+@Component
+public class ApplicationStatusCounter {
+
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+
+    private final ApplicationRepository applicationRepository;
+    private final boolean enabled;
+
+    /** 이벤트 반영 횟수 — 재집계 중 이벤트 유입 여부 판별 */
+    private final AtomicLong eventSequence = new AtomicLong();
+
+    /** null이면 다음 조회 시 재집계 */
+    private volatile Counts counts;
+
+    /** 재집계 직렬화 (DB 조회 포함 — synchronized 대신 사용해 가상 스레드 pinning 방지) */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public ApplicationStatusCounter(
+            ApplicationRepository applicationRepository,
+            @Value("${dashboard.counter-cache.enabled:true}") boolean enabled) {
+        this.applicationRepository = applicationRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 전체 신청의 상태별 건수
+     */
+    public EnumCounter<ApplicationStatus> countByStatus() {
+        return current().all;
+    }
+
+    /**
+     * 특정 LEW에게 할당된 신청의 상태별 건수
+     */
+    public EnumCounter<ApplicationStatus> countByStatusForLew(Long lewSeq) {
+        if (!enabled) {
+            return Counts.load(applicationRepository.countGroupByStatusForLew(lewSeq)).forLew(lewSeq);
+        }
+        return current().forLew(lewSeq);
+    }
+
+    /**
+     * 미할당 신청 건수
+     */
+    public long countUnassigned() {
+        return current().unassigned.total();
+    }
+
+    /**
+     * 캐시 무효화 — 이벤트 없이 상태를 일괄 변경한 경우 호출
+     */
+    public void invalidate() {
+        counts = null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            rebuild(false);
+        } catch (Exception e) {
+            log.warn("Application status counter warm-up failed, will rebuild on first read: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 주기적 재집계 — 캐시 값과 다르면 드리프트로 기록 후 교체
+     */
+    @Scheduled(fixedDelayString = "${dashboard.counter-cache.reconcile-interval-ms:60000}",
+            initialDelayString = "${dashboard.counter-cache.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        if (enabled) {
+            rebuild(true);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(ApplicationStatusChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        eventSequence.incrementAndGet();
+        Counts current = counts;
+        if (current == null) {
+            return;
+        }
+        boolean consistent = true;
+        if (event.fromStatus() != null) {
+            consistent = current.add(event.fromLewSeq(), event.fromStatus(), -1);
+        }
+        if (event.toStatus() != null) {
+            current.add(event.toLewSeq(), event.toStatus(), 1);
+        }
+        if (!consistent) {
+            log.warn("Application status counter drift detected (applicationSeq={}), invalidating",
+                    event.applicationSeq());
+            counts = null;
+        }
+    }
+
+    private Counts current() {
+        if (!enabled) {
+            return Counts.load(applicationRepository.countGroupByAssignedLewAndStatus());
+        }
+        Counts current = counts;
+        return current != null ? current : rebuild(false);
+    }
+
+    /**
+     * GROUP BY 재집계 후 교체
+     * - 집계 도중 이벤트가 반영되면 중복/누락 가능성이 있으므로 재시도
+     */
+    private Counts rebuild(boolean reportDrift) {
+        rebuildLock.lock();
+        try {
+            Counts fresh = null;
+            for (int attempt = 1; attempt <= MAX_REBUILD_ATTEMPTS; attempt++) {
+                long sequence = eventSequence.get();
+                fresh = Counts.load(applicationRepository.countGroupByAssignedLewAndStatus());
+                Counts previous = counts;
+                counts = fresh;
+                if (reportDrift && previous != null && !previous.sameCounts(fresh)) {
+                    log.warn("Application status counter drift corrected: cached={}, actual={}", previous.all, fresh.all);
+                }
+                if (eventSequence.get() == sequence) {
+                    break;
+                }
+                reportDrift = false;
+            }
+            log.debug("Application status counter rebuilt: {}", fresh.all);
+            return fresh;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 집계 스냅샷 — 전체 / LEW별 / 미할당
+     */
+    private static final class Counts {
+
+        final EnumCounter<ApplicationStatus> all = new EnumCounter<>(ApplicationStatus.class);
+        final EnumCounter<ApplicationStatus> unassigned = new EnumCounter<>(ApplicationStatus.class);
+        final Map<Long, EnumCounter<ApplicationStatus>> byLew = new ConcurrentHashMap<>();
+
+        static Counts load(List<ApplicationStatusCount> rows) {
+            Counts counts = new Counts();
+            for (ApplicationStatusCount row : rows) {
+                counts.add(row.getLewSeq(), row.getStatus(), row.getCount());
+            }
+            return counts;
+        }
+
+        /**
+         * 증감 반영 — 음수가 되면 false (불일치)
+         */
+        boolean add(Long lewSeq, ApplicationStatus status, long delta) {
+            EnumCounter<ApplicationStatus> scoped = (lewSeq == null)
+                    ? unassigned
+                    : byLew.computeIfAbsent(lewSeq, k -> new EnumCounter<>(ApplicationStatus.class));
+            long total = all.add(status, delta);
+            long partial = scoped.add(status, delta);
+            return total >= 0 && partial >= 0;
+        }
+
+        EnumCounter<ApplicationStatus> forLew(Long lewSeq) {
+            EnumCounter<ApplicationStatus> counter = byLew.get(lewSeq);
+            return counter != null ? counter : new EnumCounter<>(ApplicationStatus.class);
+        }
+
+        boolean sameCounts(Counts other) {
+            if (!all.sameCounts(other.all) || !unassigned.sameCounts(other.unassigned)) {
+                return false;
+            }
+            for (Map.Entry<Long, EnumCounter<ApplicationStatus>> entry : byLew.entrySet()) {
+                if (!entry.getValue().sameCounts(other.forLew(entry.getKey()))) {
+                    return false;
+                }
+            }
+            for (Map.Entry<Long, EnumCounter<ApplicationStatus>> entry : other.byLew.entrySet()) {
+                if (!entry.getValue().sameCounts(forLew(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -36,7 +36,7 @@ public class SampleFileService {
      */
     @Transactional
     public SampleFileResponse upload(String categoryKey, MultipartFile file) {
-        String storedPath = fileStorageService.store(file, SAMPLE_SUB_DIR);
+        String storedPath = fileStorageService.store(file, SAMPLE_SUB_DIR).path();
 
         int sortOrder = (int) sampleFileRepository.countByCategoryKey(categoryKey);
 
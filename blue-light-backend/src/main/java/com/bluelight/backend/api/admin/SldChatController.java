@@ -12,6 +12,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
@@ -66,10 +67,10 @@ public class SldChatController {
      * POST /api/admin/applications/:id/sld-chat/reset
      */
     @PostMapping("/applications/{id}/sld-chat/reset")
-    public ResponseEntity<Map<String, String>> resetChat(@PathVariable Long id) {
+    public Mono<ResponseEntity<Map<String, String>>> resetChat(@PathVariable Long id) {
         log.info("SLD chat reset: applicationSeq={}", id);
-        sldAgentService.resetChat(id);
-        return ResponseEntity.ok(Map.of("message", "Chat history cleared"));
+        return sldAgentService.resetChat(id)
+                .thenReturn(ResponseEntity.ok(Map.of("message", "Chat history cleared")));
     }
 
     /**
@@ -77,14 +78,13 @@ public class SldChatController {
      * POST /api/admin/applications/:id/sld-chat/accept
      */
     @PostMapping("/applications/{id}/sld-chat/accept")
-    public ResponseEntity<SldRequestResponse> acceptSld(
+    public Mono<ResponseEntity<SldRequestResponse>> acceptSld(
             @PathVariable Long id,
             @RequestBody Map<String, String> body) {
 
         String fileId = body.get("fileId");
         log.info("SLD accept: applicationSeq={}, fileId={}", id, fileId);
-        SldRequestResponse response = sldAgentService.acceptSld(id, fileId);
-        return ResponseEntity.ok(response);
+        return sldAgentService.acceptSld(id, fileId).map(ResponseEntity::ok);
     }
 
     /**
@@ -92,13 +92,12 @@ public class SldChatController {
      * GET /api/admin/applications/:id/sld-chat/preview/:fileId
      */
     @GetMapping(value = "/applications/{id}/sld-chat/preview/{fileId}", produces = "image/svg+xml")
-    public ResponseEntity<String> getSvgPreview(
+    public Mono<ResponseEntity<String>> getSvgPreview(
             @PathVariable Long id,
             @PathVariable String fileId) {
 
         log.info("SLD SVG preview: applicationSeq={}, fileId={}", id, fileId);
-        String svg = sldAgentService.getSvgPreview(id, fileId);
-        return ResponseEntity.ok(svg);
+        return sldAgentService.getSvgPreview(id, fileId).map(ResponseEntity::ok);
     }
 
     /**
@@ -106,20 +105,19 @@ public class SldChatController {
      * GET /api/admin/applications/{id}/sld-chat/download/{fileId}?format=pdf|dxf
      */
     @GetMapping("/applications/{id}/sld-chat/download/{fileId}")
-    public ResponseEntity<byte[]> downloadGeneratedFile(
+    public Mono<ResponseEntity<byte[]>> downloadGeneratedFile(
             @PathVariable Long id,
             @PathVariable String fileId,
             @RequestParam(defaultValue = "pdf") String format) {
 
         log.info("SLD file download: applicationSeq={}, fileId={}, format={}", id, fileId, format);
-        byte[] fileBytes = sldAgentService.downloadGeneratedFile(id, fileId, format);
-
         String mediaType = "dxf".equals(format) ? "application/dxf" : "application/pdf";
         String filename = "SLD_" + fileId + "." + format;
 
-        return ResponseEntity.ok()
-                .header("Content-Disposition", "attachment; filename=\"" + filename + "\"")
-                .header("Content-Type", mediaType)
-                .body(fileBytes);
+        return sldAgentService.downloadGeneratedFile(id, fileId, format)
+                .map(fileBytes -> ResponseEntity.ok()
+                        .header("Content-Disposition", "attachment; filename=\"" + filename + "\"")
+                        .header("Content-Type", mediaType)
+                        .body(fileBytes));
     }
 }
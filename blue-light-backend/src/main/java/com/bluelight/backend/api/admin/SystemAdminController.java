@@ -1,5 +1,6 @@
 package com.bluelight.backend.api.admin;
 
+import com.bluelight.backend.common.util.FileEncryptionMigrator;
 import com.bluelight.backend.domain.audit.AuditAction;
 import com.bluelight.backend.domain.audit.AuditCategory;
 import com.bluelight.backend.domain.audit.Auditable;
@@ -17,6 +18,7 @@ import java.util.Map;
  * - 챗봇 시스템 프롬프트 관리
  * - Gemini API 키 관리
  * - 이메일 인증 설정 관리
+ * - 파일 암호화 마이그레이션 실행/진행 조회
  */
 @Slf4j
 @RestController
@@ -26,6 +28,7 @@ import java.util.Map;
 public class SystemAdminController {
 
     private final SystemAdminService systemAdminService;
+    private final FileEncryptionMigrator fileEncryptionMigrator;
 
     // ── 시스템 설정 전체 조회 ──────────────────────────────
 
@@ -265,4 +268,36 @@ public class SystemAdminController {
                 "enabled", enabled
         ));
     }
+
+    // ── 파일 암호화 마이그레이션 ──────────────────────────────
+
+    /**
+     * 파일 암호화 마이그레이션 진행 상황 조회
+     * GET /api/admin/system/file-encryption/migration
+     */
+    @GetMapping("/file-encryption/migration")
+    public ResponseEntity<FileEncryptionMigrator.Progress> getFileEncryptionMigration() {
+        return ResponseEntity.ok(fileEncryptionMigrator.progress());
+    }
+
+    /**
+     * 파일 암호화 마이그레이션 백그라운드 시작 (평문 암호화 + 이전 키 파일 재암호화)
+     * POST /api/admin/system/file-encryption/migration?reset=false
+     * - reset=true면 체크포인트를 버리고 처음부터
+     */
+    @Auditable(action = AuditAction.FILE_ENCRYPTION_MIGRATION_STARTED, category = AuditCategory.SYSTEM, entityType = "FileEncryption")
+    @PostMapping("/file-encryption/migration")
+    public ResponseEntity<Map<String, Object>> startFileEncryptionMigration(
+            @RequestParam(defaultValue = "false") boolean reset) {
+        log.info("System admin start file encryption migration: reset={}", reset);
+        boolean started = fileEncryptionMigrator.start(reset);
+
+        return ResponseEntity.ok(Map.of(
+                "message", started
+                        ? "File encryption migration started in background"
+                        : "File encryption migration is already running",
+                "started", started,
+                "progress", fileEncryptionMigrator.progress()
+        ));
+    }
 }
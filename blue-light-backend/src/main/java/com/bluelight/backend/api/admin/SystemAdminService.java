@@ -1,8 +1,8 @@
 package com.bluelight.backend.api.admin;
 
-import com.bluelight.backend.api.chat.ChatService;
 import com.bluelight.backend.common.exception.BusinessException;
 import com.bluelight.backend.config.GeminiConfig;
+import com.bluelight.backend.domain.setting.SettingsCache;
 import com.bluelight.backend.domain.setting.SystemSetting;
 import com.bluelight.backend.domain.setting.SystemSettingRepository;
 import lombok.RequiredArgsConstructor;
@@ -10,11 +10,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -31,15 +31,12 @@ import java.util.Map;
 @Transactional(readOnly = true)
 public class SystemAdminService {
 
-    private static final long CACHE_TTL_SECONDS = 60;
-
     private final SystemSettingRepository systemSettingRepository;
-    private final ChatService chatService;
+    private final SettingsCache settingsCache;
     private final GeminiConfig geminiConfig;
 
-    // SLD 시스템 프롬프트 TTL 캐시 (SldAgentService에서 호출)
-    private volatile String cachedSldPrompt;
-    private volatile Instant sldPromptCacheExpiry = Instant.MIN;
+    /** 파일 기본 SLD 프롬프트 (classpath 리소스 — 최초 1회만 읽음) */
+    private volatile String defaultSldPrompt;
 
     // ── 시스템 프롬프트 ──────────────────────────────
 
@@ -73,8 +70,8 @@ public class SystemAdminService {
         setting.updateValue(prompt, updatedBy);
         systemSettingRepository.save(setting);
 
-        // 같은 서버의 캐시 즉시 무효화 (다른 서버는 TTL 만료 시 자동 반영)
-        chatService.invalidatePromptCache();
+        // 모든 서버의 설정 캐시 무효화 (커밋 시 버전 증가)
+        settingsCache.markChanged();
 
         log.info("System prompt updated by userSeq={}, length={}", updatedBy, prompt.length());
     }
@@ -92,7 +89,7 @@ public class SystemAdminService {
         setting.updateValue(defaultPrompt, updatedBy);
         systemSettingRepository.save(setting);
 
-        chatService.invalidatePromptCache();
+        settingsCache.markChanged();
 
         log.info("System prompt reset to default by userSeq={}", updatedBy);
         return defaultPrompt;
@@ -101,24 +98,14 @@ public class SystemAdminService {
     // ── SLD 시스템 프롬프트 ──────────────────────────────
 
     /**
-     * SLD 시스템 프롬프트 조회 (60초 TTL 캐시)
+     * SLD 시스템 프롬프트 조회 (SettingsCache, DB 접근 없음)
      * SldAgentService / SldOrderAgentService에서 호출
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public String getCachedSldSystemPrompt() {
-        Instant now = Instant.now();
-        if (now.isBefore(sldPromptCacheExpiry) && cachedSldPrompt != null) {
-            return cachedSldPrompt;
-        }
-
-        String dbPrompt = systemSettingRepository.findById("sld_system_prompt")
-                .map(SystemSetting::getSettingValue)
+        return settingsCache.get("sld_system_prompt")
                 .filter(v -> !v.isBlank())
-                .orElse(null);
-
-        String resolved = (dbPrompt != null) ? dbPrompt : loadDefaultSldPromptFromFile();
-        this.cachedSldPrompt = resolved;
-        this.sldPromptCacheExpiry = now.plusSeconds(CACHE_TTL_SECONDS);
-        return resolved;
+                .orElseGet(this::getDefaultSldPrompt);
     }
 
     /**
@@ -150,8 +137,7 @@ public class SystemAdminService {
         setting.updateValue(prompt, updatedBy);
         systemSettingRepository.save(setting);
 
-        // 같은 서버의 캐시 즉시 무효화 (다른 서버는 TTL 만료 시 자동 반영)
-        this.sldPromptCacheExpiry = Instant.MIN;
+        settingsCache.markChanged();
 
         log.info("SLD system prompt updated by userSeq={}, length={}", updatedBy, prompt.length());
     }
@@ -169,7 +155,7 @@ public class SystemAdminService {
         setting.updateValue(defaultPrompt, updatedBy);
         systemSettingRepository.save(setting);
 
-        this.sldPromptCacheExpiry = Instant.MIN;
+        settingsCache.markChanged();
 
         log.info("SLD system prompt reset to default by userSeq={}", updatedBy);
         return defaultPrompt;
@@ -222,8 +208,7 @@ public class SystemAdminService {
         setting.updateValue(apiKey, updatedBy);
         systemSettingRepository.save(setting);
 
-        // 같은 서버의 캐시 즉시 무효화 (다른 서버는 TTL 만료 시 자동 반영)
-        geminiConfig.invalidateCache();
+        settingsCache.markChanged();
 
         log.info("Gemini API key updated by userSeq={}", updatedBy);
     }
@@ -238,7 +223,7 @@ public class SystemAdminService {
             systemSettingRepository.save(setting);
         });
 
-        geminiConfig.invalidateCache();
+        settingsCache.markChanged();
 
         log.info("Gemini API key cleared (reverted to env) by userSeq={}", updatedBy);
     }
@@ -265,17 +250,20 @@ public class SystemAdminService {
         setting.updateValue(String.valueOf(enabled), updatedBy);
         systemSettingRepository.save(setting);
 
+        settingsCache.markChanged();
+
         log.info("Email verification {} by userSeq={}", enabled ? "enabled" : "disabled", updatedBy);
     }
 
     // ── AI SLD 생성 ──────────────────────────────
 
     /**
-     * AI SLD 생성 설정 조회
+     * AI SLD 생성 설정 조회 (SettingsCache, DB 접근 없음)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean isSldAiGenerationEnabled() {
-        return systemSettingRepository.findById("sld_ai_generation_enabled")
-                .map(SystemSetting::toBooleanValue)
+        return settingsCache.get("sld_ai_generation_enabled")
+                .map("true"::equalsIgnoreCase)
                 .orElse(true);
     }
 
@@ -290,6 +278,8 @@ public class SystemAdminService {
         setting.updateValue(String.valueOf(enabled), updatedBy);
         systemSettingRepository.save(setting);
 
+        settingsCache.markChanged();
+
         log.info("SLD AI generation {} by userSeq={}", enabled ? "enabled" : "disabled", updatedBy);
     }
 
@@ -329,6 +319,15 @@ public class SystemAdminService {
         }
     }
 
+    private String getDefaultSldPrompt() {
+        String prompt = defaultSldPrompt;
+        if (prompt == null) {
+            prompt = loadDefaultSldPromptFromFile();
+            this.defaultSldPrompt = prompt;
+        }
+        return prompt;
+    }
+
     private String loadDefaultSldPromptFromFile() {
         try {
             var resource = new ClassPathResource("sld-system-prompt.txt");
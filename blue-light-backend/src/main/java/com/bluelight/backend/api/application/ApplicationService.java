@@ -15,8 +15,8 @@ import com.bluelight.backend.domain.file.FileEntity;
 import com.bluelight.backend.domain.file.FileRepository;
 import com.bluelight.backend.domain.file.FileType;
 import com.bluelight.backend.domain.payment.PaymentRepository;
-import com.bluelight.backend.domain.price.MasterPrice;
-import com.bluelight.backend.domain.price.MasterPriceRepository;
+import com.bluelight.backend.domain.price.PriceTier;
+import com.bluelight.backend.domain.price.PriceTierCache;
 import com.bluelight.backend.domain.user.ApprovalStatus;
 import com.bluelight.backend.domain.user.User;
 import com.bluelight.backend.domain.user.UserRepository;
@@ -43,7 +43,7 @@ public class ApplicationService {
 
     private final ApplicationRepository applicationRepository;
     private final SldRequestRepository sldRequestRepository;
-    private final MasterPriceRepository masterPriceRepository;
+    private final PriceTierCache priceTierCache;
     private final PaymentRepository paymentRepository;
     private final UserRepository userRepository;
     private final FileRepository fileRepository;
@@ -58,7 +58,7 @@ public class ApplicationService {
                 .orElseThrow(() -> new BusinessException("User not found", HttpStatus.NOT_FOUND, "USER_NOT_FOUND"));
 
         // Calculate price from kVA
-        MasterPrice masterPrice = masterPriceRepository.findByKva(request.getSelectedKva())
+        PriceTier tier = priceTierCache.findByKva(request.getSelectedKva())
                 .orElseThrow(() -> new BusinessException(
                         "No price tier found for " + request.getSelectedKva() + " kVA",
                         HttpStatus.BAD_REQUEST,
@@ -73,7 +73,7 @@ public class ApplicationService {
 
         // SLD fee: only when REQUEST_LEW
         BigDecimal sldFee = (sldOption == SldOption.REQUEST_LEW)
-                ? masterPrice.getSldPrice() : null;
+                ? tier.sldPrice() : null;
 
         // Determine application type
         ApplicationType appType = ApplicationType.NEW;
@@ -101,8 +101,8 @@ public class ApplicationService {
 
         // Calculate total: New License vs Renewal 다른 가격 적용
         BigDecimal tierPrice = (appType == ApplicationType.RENEWAL)
-                ? masterPrice.getRenewalPrice()
-                : masterPrice.getPrice();
+                ? tier.renewalPrice()
+                : tier.price();
         BigDecimal quoteAmount = tierPrice;
         if (sldFee != null) {
             quoteAmount = quoteAmount.add(sldFee);
@@ -223,14 +223,14 @@ public class ApplicationService {
         }
 
         // Recalculate price if kVA changed (+ SLD fee + EMA fee)
-        MasterPrice masterPrice = masterPriceRepository.findByKva(request.getSelectedKva())
+        PriceTier tier = priceTierCache.findByKva(request.getSelectedKva())
                 .orElseThrow(() -> new BusinessException(
                         "No price tier found for " + request.getSelectedKva() + " kVA",
                         HttpStatus.BAD_REQUEST, "PRICE_TIER_NOT_FOUND"));
 
         // SLD fee: only when REQUEST_LEW
         BigDecimal sldFee = (application.getSldOption() == SldOption.REQUEST_LEW)
-                ? masterPrice.getSldPrice() : null;
+                ? tier.sldPrice() : null;
 
         // Determine current EMA fee (may be updated below)
         BigDecimal currentEmaFee = application.getEmaFee();
@@ -249,8 +249,8 @@ public class ApplicationService {
 
         // Calculate total: New License vs Renewal 다른 가격 적용
         BigDecimal tierPrice = (application.getApplicationType() == ApplicationType.RENEWAL)
-                ? masterPrice.getRenewalPrice()
-                : masterPrice.getPrice();
+                ? tier.renewalPrice()
+                : tier.price();
         BigDecimal quoteAmount = tierPrice;
         if (sldFee != null) {
             quoteAmount = quoteAmount.add(sldFee);
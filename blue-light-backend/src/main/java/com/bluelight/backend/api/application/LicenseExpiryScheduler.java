@@ -1,16 +1,17 @@
 package com.bluelight.backend.api.application;
 
+import com.bluelight.backend.api.admin.ApplicationStatusCounter;
 import com.bluelight.backend.api.email.EmailService;
 import com.bluelight.backend.domain.application.Application;
 import com.bluelight.backend.domain.application.ApplicationRepository;
 import com.bluelight.backend.domain.application.ApplicationStatus;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
@@ -19,25 +20,44 @@ import java.util.List;
 /**
  * 면허 만료 자동 처리 스케줄러
  * - 만료 임박 알림 이메일 발송 (기본 30일 전)
+ *   - SMTP outbox 모드: 알림 표시와 같은 트랜잭션에서 email_outbox에 적재 → 커밋 후 배치 발송
  * - 만료일 경과 시 자동 EXPIRED 상태 전환
+ *
+ * 대상 건수와 무관하게 chunk 단위(license-expiry.chunk-size)로 처리:
+ * - 알림: (만료일, seq) keyset으로 chunk 조회 (신청자 fetch join) → chunk마다 짧은 트랜잭션으로 커밋
+ * - 만료: LIMIT 붙은 벌크 UPDATE 반복 (엔티티 로딩 없음)
+ * - 진행 상태는 행 자체(expiry_notified_at, status)에 남으므로 중단 후 다음 실행에서 남은 대상만 이어서 처리
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class LicenseExpiryScheduler {
 
     private final ApplicationRepository applicationRepository;
     private final EmailService emailService;
-
-    @Value("${license-expiry.warning-days-before:30}")
-    private int warningDaysBefore;
+    private final ApplicationStatusCounter applicationStatusCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final int warningDaysBefore;
+    private final int chunkSize;
+
+    public LicenseExpiryScheduler(ApplicationRepository applicationRepository,
+                                  EmailService emailService,
+                                  ApplicationStatusCounter applicationStatusCounter,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${license-expiry.warning-days-before:30}") int warningDaysBefore,
+                                  @Value("${license-expiry.chunk-size:500}") int chunkSize) {
+        this.applicationRepository = applicationRepository;
+        this.emailService = emailService;
+        this.applicationStatusCounter = applicationStatusCounter;
+        this.transactionTemplate = transactionTemplate;
+        this.warningDaysBefore = warningDaysBefore;
+        this.chunkSize = chunkSize;
+    }
 
     /**
      * 매일 새벽 2시 실행: 만료 알림 + 자동 만료 처리
      */
     @Scheduled(cron = "${license-expiry.schedule-cron:0 0 2 * * ?}")
     @SchedulerLock(name = "processLicenseExpiry", lockAtMostFor = "30m", lockAtLeastFor = "5m")
-    @Transactional
     public void processLicenseExpiry() {
         log.info("License expiry scheduler started");
 
@@ -55,21 +75,39 @@ public class LicenseExpiryScheduler {
     /**
      * Step 1: 만료 임박 알림 이메일 발송
      * - 조건: COMPLETED + 만료일 <= today + warningDays + 아직 미알림
+     * - 발송 실패 건은 미알림으로 남고, cursor가 지나가므로 이번 실행에서 재조회하지 않음 (다음 실행에서 재시도)
      */
     private void sendExpiryWarnings(LocalDate today) {
         LocalDate warningDate = today.plusDays(warningDaysBefore);
 
-        List<Application> targets = applicationRepository
-                .findByStatusAndLicenseExpiryDateLessThanEqualAndExpiryNotifiedAtIsNull(
-                        ApplicationStatus.COMPLETED, warningDate);
+        Cursor cursor = new Cursor(null, null, 0, 0);
+        do {
+            Cursor from = cursor;
+            try {
+                cursor = transactionTemplate.execute(status -> warnChunk(today, warningDate, from));
+            } catch (RuntimeException e) {
+                // chunk 롤백 — 커밋된 chunk는 유지, 나머지는 다음 실행에서 이어서 처리
+                log.error("Expiry warning chunk failed after {} notified, stopping until next run", from.notified(), e);
+                return;
+            }
+        } while (cursor.lastChunkSize() == chunkSize);
 
-        if (targets.isEmpty()) {
+        if (cursor.notified() == 0) {
             log.debug("No expiry warning targets found");
-            return;
+        } else {
+            log.info("Expiry warnings sent for {} application(s)", cursor.notified());
         }
+    }
 
-        log.info("Sending expiry warnings for {} application(s)", targets.size());
+    private Cursor warnChunk(LocalDate today, LocalDate warningDate, Cursor from) {
+        List<Application> targets = applicationRepository.findExpiryWarningChunk(
+                ApplicationStatus.COMPLETED, warningDate, from.expiryDate(), from.applicationSeq(),
+                PageRequest.of(0, chunkSize));
+        if (targets.isEmpty()) {
+            return new Cursor(from.expiryDate(), from.applicationSeq(), 0, from.notified());
+        }
 
+        int notified = 0;
         for (Application app : targets) {
             try {
                 int daysRemaining = (int) ChronoUnit.DAYS.between(today, app.getLicenseExpiryDate());
@@ -84,34 +122,46 @@ public class LicenseExpiryScheduler {
                 );
 
                 app.markExpiryNotified();
-                log.info("Expiry warning sent: applicationSeq={}, expiryDate={}, daysRemaining={}",
+                notified++;
+                log.debug("Expiry warning queued: applicationSeq={}, expiryDate={}, daysRemaining={}",
                         app.getApplicationSeq(), app.getLicenseExpiryDate(), daysRemaining);
             } catch (Exception e) {
                 log.error("Failed to send expiry warning: applicationSeq={}",
                         app.getApplicationSeq(), e);
             }
         }
+
+        Application last = targets.get(targets.size() - 1);
+        return new Cursor(last.getLicenseExpiryDate(), last.getApplicationSeq(),
+                targets.size(), from.notified() + notified);
     }
 
     /**
      * Step 2: 만료일 경과 → EXPIRED 자동 전환
      * - 조건: COMPLETED + 만료일 < today
+     * - chunkSize건씩 벌크 UPDATE + 커밋 (대량 건도 잠금 구간이 짧음)
      */
     private void expireOverdueLicenses(LocalDate today) {
-        List<Application> expired = applicationRepository
-                .findByStatusAndLicenseExpiryDateBefore(ApplicationStatus.COMPLETED, today);
-
-        if (expired.isEmpty()) {
+        int total = 0;
+        Integer updated;
+        do {
+            updated = transactionTemplate.execute(status -> applicationRepository.expireOverdue(today, chunkSize));
+            total += updated != null ? updated : 0;
+        } while (updated != null && updated == chunkSize);
+
+        if (total == 0) {
             log.debug("No expired applications found");
             return;
         }
 
-        log.info("Expiring {} application(s)", expired.size());
+        // 벌크 UPDATE는 상태 변경 이벤트가 없으므로 대시보드 건수 캐시 재집계
+        applicationStatusCounter.invalidate();
+        log.info("Expired {} application(s) with licence expiry before {}", total, today);
+    }
 
-        for (Application app : expired) {
-            app.markAsExpired();
-            log.info("Application expired: applicationSeq={}, expiryDate={}",
-                    app.getApplicationSeq(), app.getLicenseExpiryDate());
-        }
+    /**
+     * 알림 keyset 위치 + 누적 건수
+     */
+    private record Cursor(LocalDate expiryDate, Long applicationSeq, int lastChunkSize, int notified) {
     }
 }
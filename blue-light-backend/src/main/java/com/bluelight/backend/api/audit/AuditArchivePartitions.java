@@ -0,0 +1,112 @@
+package com.bluelight.backend.api.audit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * audit_logs_archive 월별 파티션 관리 (audit.archive.partitioning.enabled=true 일 때만 사용)
+ *
+ * - RANGE COLUMNS(created_at) 월 단위 파티션: pYYYYMM (해당 월), pmax (MAXVALUE)
+ * - 파티션 키가 모든 UNIQUE 키에 포함되어야 하므로 PK를 (audit_log_seq, created_at)으로 변경
+ * - 보유 기간이 지난 월은 DROP PARTITION → 행 단위 DELETE 없이 즉시 삭제
+ * - 최초 전환은 테이블 재구성(ALTER)이 필요하므로 트래픽 적은 시간대에 실행될 스케줄에서만 호출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditArchivePartitions {
+
+    private static final String TABLE = "audit_logs_archive";
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p'uuuuMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 파티션 테이블로 전환 (미전환 시) + 앞으로 monthsAhead개월 파티션 확보
+     */
+    public void ensurePartitions(int monthsAhead) {
+        YearMonth until = YearMonth.now().plusMonths(monthsAhead);
+        List<YearMonth> existing = listMonths();
+
+        if (existing.isEmpty() && !isPartitioned()) {
+            LocalDateTime oldest = jdbcTemplate.queryForObject(
+                    "SELECT MIN(created_at) FROM " + TABLE, LocalDateTime.class);
+            YearMonth from = oldest != null ? YearMonth.from(oldest) : YearMonth.now();
+            log.info("Partitioning {} by month ({} ~ {})...", TABLE, from, until);
+            jdbcTemplate.execute("ALTER TABLE " + TABLE +
+                    " DROP PRIMARY KEY, ADD PRIMARY KEY (audit_log_seq, created_at)" +
+                    " PARTITION BY RANGE COLUMNS(created_at) (" + definitions(from, until) + ")");
+            log.info("Partitioning {} completed", TABLE);
+            return;
+        }
+
+        YearMonth latest = existing.isEmpty() ? YearMonth.now().minusMonths(1) : existing.get(existing.size() - 1);
+        if (latest.isBefore(until)) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION pmax INTO (" +
+                    definitions(latest.plusMonths(1), until) + ")");
+            log.info("Added {} partitions {} ~ {}", TABLE, latest.plusMonths(1), until);
+        }
+    }
+
+    /**
+     * cutoff 이전에 끝나는 월 파티션 삭제
+     *
+     * @return 삭제한 파티션 수
+     */
+    public int dropExpired(LocalDateTime cutoff) {
+        List<String> expired = new ArrayList<>();
+        for (YearMonth month : listMonths()) {
+            if (!month.plusMonths(1).atDay(1).atStartOfDay().isAfter(cutoff)) {
+                expired.add(month.format(NAME_FORMAT));
+            }
+        }
+        if (!expired.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + String.join(", ", expired));
+            log.info("Dropped expired {} partitions: {}", TABLE, expired);
+        }
+        return expired.size();
+    }
+
+    private boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.partitions " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL",
+                Integer.class, TABLE);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 월 파티션 목록 (오름차순, pmax 제외)
+     */
+    private List<YearMonth> listMonths() {
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT partition_name FROM information_schema.partitions " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL " +
+                "ORDER BY partition_ordinal_position",
+                String.class, TABLE);
+        List<YearMonth> months = new ArrayList<>();
+        for (String name : names) {
+            if (!"pmax".equalsIgnoreCase(name)) {
+                months.add(YearMonth.parse(name, NAME_FORMAT));
+            }
+        }
+        return months;
+    }
+
+    private String definitions(YearMonth from, YearMonth until) {
+        StringBuilder sb = new StringBuilder();
+        for (YearMonth month = from; !month.isAfter(until); month = month.plusMonths(1)) {
+            sb.append("PARTITION ").append(month.format(NAME_FORMAT))
+                    .append(" VALUES LESS THAN ('").append(month.plusMonths(1).atDay(1)).append("'), ");
+        }
+        return sb.append("PARTITION pmax VALUES LESS THAN (MAXVALUE)").toString();
+    }
+}
@@ -0,0 +1,117 @@
+package com.bluelight.backend.api.audit;
+
+import com.bluelight.backend.domain.audit.AuditLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 아카이브 이동기 (keyset 구간 단위)
+ *
+ * - 원본 PK(audit_log_seq)를 chunk-size 폭의 구간으로 순회:
+ *   구간마다 짧은 트랜잭션 1개로 복사(INSERT ... SELECT) + 원본 삭제
+ * - NOT IN / IN (SELECT ... FROM audit_logs_archive) 없이 PK 범위 스캔만 사용
+ *   → 아카이브 테이블 크기와 무관하게 구간당 비용 일정
+ * - 이동 완료분은 원본에서 삭제되므로 MIN(audit_log_seq)가 곧 재개 지점
+ *   (중단·시간 초과 후 다음 실행에서 이어서 진행 — 별도 체크포인트 없음)
+ * - 실행 시간 상한(audit.archive.max-run-minutes) 초과 시 중단 → ShedLock lockAtMostFor 이내 종료
+ */
+@Slf4j
+@Component
+public class AuditLogArchiver {
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditArchivePartitions auditArchivePartitions;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration maxRunTime;
+    private final boolean partitioning;
+    private final int partitionMonthsAhead;
+
+    public AuditLogArchiver(AuditLogRepository auditLogRepository,
+                            AuditArchivePartitions auditArchivePartitions,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${audit.archive.chunk-size:5000}") int chunkSize,
+                            @Value("${audit.archive.max-run-minutes:25}") long maxRunMinutes,
+                            @Value("${audit.archive.partitioning.enabled:false}") boolean partitioning,
+                            @Value("${audit.archive.partitioning.months-ahead:3}") int partitionMonthsAhead) {
+        this.auditLogRepository = auditLogRepository;
+        this.auditArchivePartitions = auditArchivePartitions;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxRunTime = Duration.ofMinutes(maxRunMinutes);
+        this.partitioning = partitioning;
+        this.partitionMonthsAhead = partitionMonthsAhead;
+    }
+
+    /**
+     * cutoff 이전 원본 로그를 아카이브로 이동
+     *
+     * @return 이동한 건수
+     */
+    public long archiveOlderThan(LocalDateTime cutoff) {
+        if (partitioning) {
+            auditArchivePartitions.ensurePartitions(partitionMonthsAhead);
+        }
+
+        Long minSeq = auditLogRepository.findMinSeq();
+        Long maxSeq = auditLogRepository.findMaxSeqBefore(cutoff);
+        if (minSeq == null || maxSeq == null || minSeq > maxSeq) {
+            return 0;
+        }
+
+        long deadline = System.nanoTime() + maxRunTime.toNanos();
+        long moved = 0;
+        long from = minSeq;
+        while (from <= maxSeq) {
+            long to = Math.min(maxSeq, from + chunkSize - 1);
+            moved += moveChunk(from, to, cutoff);
+            from = to + 1;
+            if (System.nanoTime() > deadline && from <= maxSeq) {
+                log.warn("감사 로그 아카이브 시간 상한 도달: {}건 이동, seq {}부터 다음 실행에서 재개", moved, from);
+                break;
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * Privacy Policy 보유 기간 초과 아카이브 삭제
+     * - 파티션 사용 시: 기간이 지난 월 파티션 DROP 후 경계 월의 잔여분만 행 삭제
+     *
+     * @return 행 단위로 삭제한 건수
+     */
+    public long purgeArchivesOlderThan(LocalDateTime cutoff, int batchSize) {
+        if (partitioning) {
+            auditArchivePartitions.dropExpired(cutoff);
+        }
+        long total = 0;
+        int deleted;
+        do {
+            Integer count = transactionTemplate.execute(
+                    status -> auditLogRepository.deleteExpiredArchives(cutoff, batchSize));
+            deleted = count != null ? count : 0;
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+
+    /**
+     * 구간 1개 이동 (복사 + 삭제를 하나의 트랜잭션으로)
+     */
+    private int moveChunk(long from, long to, LocalDateTime cutoff) {
+        Integer moved = transactionTemplate.execute(status -> {
+            int copied = auditLogRepository.archiveRange(from, to, cutoff);
+            int deleted = auditLogRepository.deleteRange(from, to, cutoff);
+            if (copied != deleted) {
+                log.debug("Audit archive chunk [{}, {}]: copied={}, deleted={}", from, to, copied, deleted);
+            }
+            return deleted;
+        });
+        return moved != null ? moved : 0;
+    }
+}
@@ -1,5 +1,6 @@
 package com.bluelight.backend.api.audit;
 
+import com.bluelight.backend.common.util.CursorSlice;
 import com.bluelight.backend.common.util.EnumParser;
 import com.bluelight.backend.domain.audit.AuditAction;
 import com.bluelight.backend.domain.audit.AuditCategory;
@@ -53,4 +54,35 @@ public class AuditLogController {
 
         return ResponseEntity.ok(result);
     }
+
+    /**
+     * 커서 기반 감사 로그 조회 (전체 건수 없음)
+     * GET /api/admin/audit-logs?cursor=&size=20 (첫 페이지는 빈 cursor, 이후 응답의 nextCursor)
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorSlice<AuditLogResponse>> getAuditLogsByCursor(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) Long userSeq,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String entityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("감사 로그 조회 (cursor): category={}, action={}, search={}, size={}", category, action, search, size);
+
+        int validSize = Math.min(Math.max(1, size), 100);
+
+        AuditCategory categoryEnum = EnumParser.parseNullable(AuditCategory.class, category, "INVALID_CATEGORY");
+        AuditAction actionEnum = EnumParser.parseNullable(AuditAction.class, action, "INVALID_ACTION");
+
+        CursorSlice<AuditLogResponse> result = auditLogService.searchLogsByCursor(
+                categoryEnum, actionEnum, userSeq, entityType, entityId,
+                startDate, endDate, search, cursor, validSize);
+
+        return ResponseEntity.ok(result);
+    }
 }
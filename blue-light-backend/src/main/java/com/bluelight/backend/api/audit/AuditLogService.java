@@ -1,16 +1,18 @@
 package com.bluelight.backend.api.audit;
 
+import com.bluelight.backend.common.util.CursorSlice;
+import com.bluelight.backend.common.util.PageCursor;
 import com.bluelight.backend.domain.audit.*;
-import com.bluelight.backend.domain.user.UserRepository;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -24,7 +26,8 @@ import java.time.LocalDateTime;
 public class AuditLogService {
 
     private final AuditLogRepository auditLogRepository;
-    private final UserRepository userRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final AuditLogArchiver auditLogArchiver;
     private final ObjectMapper objectMapper;
 
     @Value("${audit.retention-days:365}")
@@ -35,45 +38,22 @@ public class AuditLogService {
 
     /**
      * 비동기 감사 로그 기록 (AOP에서 호출)
+     * - JSON 직렬화만 호출 스레드에서 수행 후 AuditLogWriter 큐에 적재 (DB 기록은 일괄 처리)
+     * - 사용자 이메일/역할은 기록 시 AuditUserCache로 채움
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logAsync(Long userSeq, AuditAction action, AuditCategory category,
                          String entityType, String entityId, String description,
                          Object beforeValue, Object afterValue,
                          String ipAddress, String userAgent,
                          String requestMethod, String requestUri, Integer httpStatus) {
         try {
-            String userEmail = null;
-            String userRole = null;
-            if (userSeq != null) {
-                var userOpt = userRepository.findById(userSeq);
-                if (userOpt.isPresent()) {
-                    userEmail = userOpt.get().getEmail();
-                    userRole = userOpt.get().getRole().name();
-                }
-            }
-
-            AuditLog auditLog = AuditLog.builder()
-                    .userSeq(userSeq)
-                    .userEmail(userEmail)
-                    .userRole(userRole)
-                    .action(action)
-                    .actionCategory(category)
-                    .entityType(entityType)
-                    .entityId(entityId)
-                    .description(description)
-                    .beforeValue(toJson(beforeValue))
-                    .afterValue(toJson(afterValue))
-                    .ipAddress(ipAddress)
-                    .userAgent(userAgent)
-                    .requestMethod(requestMethod)
-                    .requestUri(requestUri)
-                    .httpStatus(httpStatus)
-                    .build();
-
-            auditLogRepository.save(auditLog);
-            log.debug("감사 로그 기록: action={}, entityType={}, entityId={}", action, entityType, entityId);
+            auditLogWriter.submit(new AuditLogWriter.Entry(
+                    userSeq, null, null,
+                    action, category, entityType, entityId, description,
+                    toJson(beforeValue), toJson(afterValue),
+                    ipAddress, userAgent, requestMethod, requestUri, httpStatus,
+                    LocalDateTime.now()));
+            log.debug("감사 로그 적재: action={}, entityType={}, entityId={}", action, entityType, entityId);
         } catch (Exception e) {
             log.error("감사 로그 비동기 저장 실패", e);
         }
@@ -128,49 +108,42 @@ public class AuditLogService {
         return page.map(AuditLogResponse::from);
     }
 
+    /**
+     * 커서 기반 감사 로그 검색 (SYSTEM_ADMIN 전용, COUNT 없음)
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<AuditLogResponse> searchLogsByCursor(AuditCategory category, AuditAction action,
+                                                           Long userSeq, String entityType, String entityId,
+                                                           LocalDateTime startDate, LocalDateTime endDate,
+                                                           String search, String cursor, int size) {
+        PageCursor position = PageCursor.decode(cursor);
+        Slice<AuditLog> slice = auditLogRepository.searchAuditLogsByCursor(
+                category, action, userSeq, entityType, entityId,
+                startDate, endDate, search,
+                position != null ? position.createdAt() : null,
+                position != null ? position.seq() : null,
+                PageRequest.of(0, size));
+        return CursorSlice.of(slice, AuditLogResponse::from,
+                a -> new PageCursor(a.getCreatedAt(), a.getAuditLogSeq()));
+    }
+
     /**
      * 감사 로그 아카이브 (매일 새벽 3시)
      * - 1단계: retention-days(기본 365일) 초과 로그 → audit_logs_archive로 이동
-     * - 2단계: 원본 테이블에서 아카이브 완료된 로그 삭제
-     * - 3단계: Privacy Policy 보유 기간(기본 5년) 초과 아카이브 영구 삭제
+     *   (AuditLogArchiver: PK 구간 단위, 구간마다 복사+삭제 1트랜잭션, 중단 시 다음 실행에서 재개)
+     * - 2단계: Privacy Policy 보유 기간(기본 5년) 초과 아카이브 영구 삭제
      */
     @Scheduled(cron = "0 0 3 * * *")
     @SchedulerLock(name = "archiveAndCleanupLogs", lockAtMostFor = "30m", lockAtLeastFor = "5m")
-    @Transactional
     public void archiveAndCleanupLogs() {
-        int batchSize = 1000;
         LocalDateTime archiveCutoff = LocalDateTime.now().minusDays(retentionDays);
-
-        // 1단계: 아카이브 테이블로 복사
-        int totalArchived = 0;
-        int archived;
-        do {
-            archived = auditLogRepository.archiveOlderThan(archiveCutoff, batchSize);
-            totalArchived += archived;
-        } while (archived == batchSize);
-
-        // 2단계: 아카이브 완료된 원본 삭제
-        int totalDeleted = 0;
-        int deleted;
-        do {
-            deleted = auditLogRepository.deleteArchivedLogs(archiveCutoff, batchSize);
-            totalDeleted += deleted;
-        } while (deleted == batchSize);
-
-        if (totalArchived > 0 || totalDeleted > 0) {
-            log.info("감사 로그 아카이브 완료: {}건 아카이브, {}건 원본 삭제 (보존 기간: {}일)",
-                    totalArchived, totalDeleted, retentionDays);
+        long totalArchived = auditLogArchiver.archiveOlderThan(archiveCutoff);
+        if (totalArchived > 0) {
+            log.info("감사 로그 아카이브 완료: {}건 이동 (보존 기간: {}일)", totalArchived, retentionDays);
         }
 
-        // 3단계: Privacy Policy 보유 기간 초과 아카이브 영구 삭제
         LocalDateTime expiryCutoff = LocalDateTime.now().minusYears(archiveRetentionYears);
-        int totalExpired = 0;
-        int expired;
-        do {
-            expired = auditLogRepository.deleteExpiredArchives(expiryCutoff, batchSize);
-            totalExpired += expired;
-        } while (expired == batchSize);
-
+        long totalExpired = auditLogArchiver.purgeArchivesOlderThan(expiryCutoff, 1000);
         if (totalExpired > 0) {
             log.info("아카이브 로그 영구 삭제: {}건 (보유 기간: {}년 초과)", totalExpired, archiveRetentionYears);
         }
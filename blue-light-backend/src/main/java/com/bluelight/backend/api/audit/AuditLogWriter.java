@@ -0,0 +1,300 @@
+package com.bluelight.backend.api.audit;
+
+import com.bluelight.backend.domain.audit.AuditAction;
+import com.bluelight.backend.domain.audit.AuditCategory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 감사 로그 일괄 기록기
+ *
+ * - 요청 스레드는 큐에 넣고 즉시 반환 (락 없는 ConcurrentLinkedQueue + 원자적 건수 상한)
+ * - 전용 writer 스레드 1개가 flush-interval-ms마다 (또는 batch-size 이상 쌓이면 즉시)
+ *   큐를 비우며 JDBC batch INSERT (rewriteBatchedStatements → 다중 VALUES 1건)
+ * - 사용자 이메일/역할은 AuditUserCache로 배치 단위 일괄 조회
+ * - 큐 초과 시 audit.writer.overflow-policy:
+ *   - caller-runs (기본): 호출 스레드에서 직접 INSERT → 감사 로그 유실 없음
+ *   - drop: 버리고 audit.writer.dropped 증가
+ * - 배치 INSERT 실패 시 건별 재시도로 문제 행만 격리
+ * - 종료 시 접수를 먼저 닫고(이후 요청은 호출 스레드에서 직접 INSERT) 진행 중인 submit을 기다린 뒤
+ *   남은 로그를 모두 기록 → 종료 중 접수된 로그도 유실 없음
+ *
+ * 메트릭: audit.writer.queue.depth, audit.writer.written, audit.writer.dropped,
+ *        audit.writer.failed, audit.writer.flush (Timer)
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_logs (user_seq, user_email, user_role, action, action_category, " +
+            "entity_type, entity_id, description, before_value, after_value, ip_address, user_agent, " +
+            "request_method, request_uri, http_status, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final long DROP_WARN_INTERVAL_MS = 60_000;
+    private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditUserCache auditUserCache;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final boolean dropOnOverflow;
+
+    private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicLong lastDropWarn = new AtomicLong();
+
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    /** 큐 접수 여부 — false면 submit()이 호출 스레드에서 직접 기록 */
+    private volatile boolean accepting;
+    /** 접수 여부를 확인한 뒤 아직 큐에 넣지 않은 submit() 수 (종료 시 대기) */
+    private final AtomicInteger submitting = new AtomicInteger();
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          AuditUserCache auditUserCache,
+                          MeterRegistry meterRegistry,
+                          @Value("${audit.writer.capacity:10000}") int capacity,
+                          @Value("${audit.writer.batch-size:200}") int batchSize,
+                          @Value("${audit.writer.flush-interval-ms:500}") long flushIntervalMs,
+                          @Value("${audit.writer.overflow-policy:caller-runs}") String overflowPolicy) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditUserCache = auditUserCache;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.dropOnOverflow = "drop".equalsIgnoreCase(overflowPolicy);
+
+        Gauge.builder("audit.writer.queue.depth", depth, AtomicInteger::get)
+                .description("감사 로그 기록 대기 건수")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.writer.written").register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.writer.dropped").register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.writer.failed").register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.writer.flush").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        accepting = true;
+        writerThread = new Thread(this::runLoop, "audit-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Audit log writer started (capacity={}, batchSize={}, overflow={})",
+                capacity, batchSize, dropOnOverflow ? "drop" : "caller-runs");
+    }
+
+    /**
+     * 종료 시 남은 로그 기록 (최대 10초)
+     * 1. 접수 중단 — 이후 submit()은 호출 스레드에서 직접 기록
+     * 2. 접수 여부를 이미 확인한 submit()이 큐에 넣을 때까지 대기
+     * 3. writer 스레드가 큐를 비우고 종료 (남은 건은 이 스레드에서 기록)
+     */
+    @PreDestroy
+    public void stop() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_TIMEOUT_MS);
+        accepting = false;
+        while (submitting.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!writerThread.isAlive()) {
+            drain();
+        }
+        if (depth.get() > 0) {
+            log.warn("Audit log writer stopped with {} entries unwritten", depth.get());
+        }
+    }
+
+    /**
+     * 기록 요청 (호출 스레드에서 DB 접근 없음 — 큐 초과 + caller-runs, 종료 이후 제외)
+     */
+    public void submit(Entry entry) {
+        boolean accepted;
+        boolean queued = false;
+        // 접수 확인 ~ 큐 삽입 구간만 submitting으로 표시 (DB 기록은 구간 밖에서)
+        submitting.incrementAndGet();
+        try {
+            accepted = accepting;
+            if (accepted) {
+                if (depth.incrementAndGet() <= capacity) {
+                    queue.offer(entry);
+                    queued = true;
+                } else {
+                    depth.decrementAndGet();
+                }
+            }
+        } finally {
+            submitting.decrementAndGet();
+        }
+
+        if (!accepted) {
+            flush(List.of(entry));
+        } else if (!queued) {
+            onOverflow(entry);
+        } else if (depth.get() >= batchSize) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    private void onOverflow(Entry entry) {
+        if (!dropOnOverflow) {
+            flush(List.of(entry));
+            return;
+        }
+        droppedCounter.increment();
+        long now = System.currentTimeMillis();
+        long last = lastDropWarn.get();
+        if (now - last > DROP_WARN_INTERVAL_MS && lastDropWarn.compareAndSet(last, now)) {
+            log.warn("Audit log queue full (capacity={}), dropping entries: action={}", capacity, entry.action());
+        }
+    }
+
+    private void runLoop() {
+        while (running) {
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            drain();
+        }
+        drain();
+    }
+
+    private void drain() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (true) {
+            Entry entry;
+            while (batch.size() < batchSize && (entry = queue.poll()) != null) {
+                batch.add(entry);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            depth.addAndGet(-batch.size());
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * 배치 INSERT — 실패 시 건별 재시도
+     */
+    private void flush(List<Entry> batch) {
+        long start = System.nanoTime();
+        try {
+            Map<Long, AuditUserCache.AuditUser> users = resolveUsers(batch);
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(),
+                        (ps, entry) -> bind(ps, entry, users));
+                writtenCounter.increment(batch.size());
+            } catch (DataAccessException e) {
+                log.warn("Audit log batch insert failed ({} entries), retrying individually: {}",
+                        batch.size(), e.getMessage());
+                for (Entry entry : batch) {
+                    insertOne(entry, users);
+                }
+            }
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            log.error("감사 로그 일괄 저장 실패: {}건", batch.size(), e);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void insertOne(Entry entry, Map<Long, AuditUserCache.AuditUser> users) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, entry, users));
+            writtenCounter.increment();
+        } catch (DataAccessException e) {
+            failedCounter.increment();
+            log.error("감사 로그 저장 실패: action={}, entityType={}, entityId={}",
+                    entry.action(), entry.entityType(), entry.entityId(), e);
+        }
+    }
+
+    private Map<Long, AuditUserCache.AuditUser> resolveUsers(List<Entry> batch) {
+        Set<Long> userSeqs = new HashSet<>();
+        for (Entry entry : batch) {
+            if (entry.userSeq() != null && entry.userEmail() == null) {
+                userSeqs.add(entry.userSeq());
+            }
+        }
+        return userSeqs.isEmpty() ? Map.of() : auditUserCache.resolve(userSeqs);
+    }
+
+    private void bind(PreparedStatement ps, Entry entry,
+                      Map<Long, AuditUserCache.AuditUser> users) throws SQLException {
+        String email = entry.userEmail();
+        String role = entry.userRole();
+        AuditUserCache.AuditUser user = (email == null && entry.userSeq() != null) ? users.get(entry.userSeq()) : null;
+        if (user != null) {
+            email = user.email();
+            role = user.role();
+        }
+        ps.setObject(1, entry.userSeq());
+        ps.setString(2, email);
+        ps.setString(3, role);
+        ps.setString(4, entry.action().name());
+        ps.setString(5, entry.category().name());
+        ps.setString(6, entry.entityType());
+        ps.setString(7, entry.entityId());
+        ps.setString(8, entry.description());
+        ps.setString(9, entry.beforeValue());
+        ps.setString(10, entry.afterValue());
+        ps.setString(11, entry.ipAddress());
+        ps.setString(12, entry.userAgent());
+        ps.setString(13, entry.requestMethod());
+        ps.setString(14, entry.requestUri());
+        ps.setObject(15, entry.httpStatus());
+        ps.setObject(16, entry.createdAt());
+    }
+
+    /**
+     * 기록 대기 중인 감사 로그 1건 (JSON 직렬화 완료 상태)
+     * - userEmail이 null이고 userSeq가 있으면 기록 시 AuditUserCache로 채움
+     */
+    public record Entry(Long userSeq, String userEmail, String userRole,
+                        AuditAction action, AuditCategory category,
+                        String entityType, String entityId, String description,
+                        String beforeValue, String afterValue,
+                        String ipAddress, String userAgent,
+                        String requestMethod, String requestUri, Integer httpStatus,
+                        LocalDateTime createdAt) {
+    }
+}
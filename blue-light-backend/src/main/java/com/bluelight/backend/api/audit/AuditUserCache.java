@@ -0,0 +1,104 @@
+package com.bluelight.backend.api.audit;
+
+import com.bluelight.backend.common.cache.VersionedSnapshotCache;
+import com.bluelight.backend.domain.user.User;
+import com.bluelight.backend.domain.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 감사 로그용 사용자 이메일/역할 캐시
+ * - 배치 단위로 미보유 사용자만 findAllById 1회 조회 (이벤트마다 findById 하지 않음)
+ * - TTL(audit.writer.user-cache-ttl-seconds) 경과 시 재조회
+ * - 존재하지 않는 사용자도 빈 값으로 캐시 (반복 조회 방지)
+ * - 역할 변경 시 evict() → audit_user_version 증가 (VersionedSnapshotCache)
+ *   → 모든 서버가 현재 버전의 사용자 맵을 버리고 빈 맵부터 다시 채움
+ *   (사용자 전체를 적재하지 않음 — 스냅샷은 버전별 지연 적재 맵)
+ */
+@Component
+public class AuditUserCache extends VersionedSnapshotCache<ConcurrentHashMap<Long, AuditUserCache.AuditUser>> {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+
+    public AuditUserCache(UserRepository userRepository,
+                          JdbcTemplate jdbcTemplate,
+                          @Value("${audit.writer.user-cache-ttl-seconds:300}") long ttlSeconds) {
+        super(jdbcTemplate, "audit_user_version", "Audit user cache");
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 사용자 seq 목록 → 이메일/역할 (캐시 미스분만 DB 조회)
+     */
+    public Map<Long, AuditUser> resolve(Collection<Long> userSeqs) {
+        ConcurrentHashMap<Long, AuditUser> cache = current();
+        long now = System.currentTimeMillis();
+        Map<Long, AuditUser> result = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        for (Long userSeq : userSeqs) {
+            AuditUser cached = cache.get(userSeq);
+            if (cached != null && now - cached.loadedAt() < ttlMillis) {
+                result.put(userSeq, cached);
+            } else {
+                missing.add(userSeq);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        if (cache.size() + missing.size() > MAX_ENTRIES) {
+            cache.clear();
+        }
+        for (User user : userRepository.findAllById(missing)) {
+            AuditUser loaded = new AuditUser(user.getEmail(), user.getRole().name(), now);
+            cache.put(user.getUserSeq(), loaded);
+            result.put(user.getUserSeq(), loaded);
+            missing.remove(user.getUserSeq());
+        }
+        for (Long userSeq : missing) {
+            AuditUser unknown = new AuditUser(null, null, now);
+            cache.put(userSeq, unknown);
+            result.put(userSeq, unknown);
+        }
+        return result;
+    }
+
+    /**
+     * 캐시 제거 (역할 변경 등) — 호출 트랜잭션과 함께 커밋, 다른 서버는 poll()로 감지
+     * - 버전 단위 무효화이므로 해당 사용자뿐 아니라 캐시 전체를 다시 채움 (역할 변경은 드묾)
+     */
+    public void evict(Long userSeq) {
+        markChanged();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${audit.writer.user-cache-poll-interval-ms:1000}")
+    public void poll() {
+        super.poll();
+    }
+
+    /**
+     * 새 버전은 빈 맵에서 시작 (resolve()가 배치 단위로 채움)
+     */
+    @Override
+    protected ConcurrentHashMap<Long, AuditUser> load() {
+        return new ConcurrentHashMap<>();
+    }
+
+    public record AuditUser(String email, String role, long loadedAt) {
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Mono;
 
 /**
  * AI 챗봇 API 컨트롤러 (Public — 로그인 불필요)
@@ -31,7 +32,7 @@ public class ChatController {
     private final ChatRateLimiter chatRateLimiter;
 
     @PostMapping
-    public ResponseEntity<ChatResponse> chat(
+    public Mono<ResponseEntity<ChatResponse>> chat(
             @Valid @RequestBody ChatRequest request,
             HttpServletRequest httpRequest) {
 
@@ -59,8 +60,8 @@ public class ChatController {
         log.info("Chat request: ip={}, authenticated={}, message={}", ip, authenticated,
                 request.getMessage().substring(0, Math.min(request.getMessage().length(), 50)));
 
-        ChatResponse response = chatService.chat(request, userSeq);
-        return ResponseEntity.ok(response);
+        return chatService.chat(request, userSeq)
+                .map(ResponseEntity::ok);
     }
 
     /**
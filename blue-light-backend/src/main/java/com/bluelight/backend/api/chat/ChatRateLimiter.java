@@ -1,19 +1,17 @@
 package com.bluelight.backend.api.chat;
 
-import com.bluelight.backend.domain.ratelimit.RateLimitAttempt;
-import com.bluelight.backend.domain.ratelimit.RateLimitAttemptRepository;
+import com.bluelight.backend.security.RateLimiterEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 
 /**
- * 챗봇 요청 Rate Limiter (DB 기반)
+ * 챗봇 요청 Rate Limiter
  * - 익명: IP당 15분 내 최대 20회
  * - 인증: IP당 15분 내 최대 40회
- * - DB 기반으로 서버 다중화 환경에서도 일관된 제한 적용
+ * - 카운팅은 RateLimiterEngine에 위임 (다중 서버: cluster-sync 또는 db 엔진 사용)
  */
 @Slf4j
 @Component
@@ -23,31 +21,22 @@ public class ChatRateLimiter {
     private static final String LIMITER_TYPE = "CHAT";
     private static final int MAX_ATTEMPTS_ANONYMOUS = 20;
     private static final int MAX_ATTEMPTS_AUTHENTICATED = 40;
-    private static final long WINDOW_MINUTES = 15;
+    private static final Duration WINDOW = Duration.ofMinutes(15);
 
-    private final RateLimitAttemptRepository rateLimitAttemptRepository;
+    private final RateLimiterEngine rateLimiterEngine;
 
     /**
      * 해당 IP가 차단 상태인지 확인
      */
-    @Transactional(readOnly = true)
     public boolean isBlocked(String ipAddress, boolean authenticated) {
         int limit = authenticated ? MAX_ATTEMPTS_AUTHENTICATED : MAX_ATTEMPTS_ANONYMOUS;
-        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(WINDOW_MINUTES);
-        long recentCount = rateLimitAttemptRepository.countRecentAttempts(LIMITER_TYPE, ipAddress, cutoff);
-        return recentCount >= limit;
+        return rateLimiterEngine.isBlocked(LIMITER_TYPE, ipAddress, limit, WINDOW);
     }
 
     /**
      * 요청 시도 기록
      */
-    @Transactional
     public void recordAttempt(String ipAddress) {
-        rateLimitAttemptRepository.save(
-                RateLimitAttempt.builder()
-                        .limiterType(LIMITER_TYPE)
-                        .identifier(ipAddress)
-                        .build()
-        );
+        rateLimiterEngine.record(LIMITER_TYPE, ipAddress, WINDOW);
     }
 }
@@ -6,7 +6,9 @@ import com.bluelight.backend.api.chat.dto.ChatResponse;
 import com.bluelight.backend.config.GeminiConfig;
 import com.bluelight.backend.domain.chat.ChatMessage;
 import com.bluelight.backend.domain.chat.ChatMessageRepository;
-import com.bluelight.backend.domain.setting.SystemSettingRepository;
+import com.bluelight.backend.domain.setting.SettingsCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -17,67 +19,60 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * AI 챗봇 서비스 — Gemini API 연동
  * 시스템 프롬프트: DB(system_settings) 우선, 없으면 파일 fallback
- * - DB 기반 TTL 캐시 (60초) — 다중 서버 환경에서도 일관성 보장
+ * - DB 값은 SettingsCache로 조회 (변경 시 모든 서버에 1초 이내 반영)
+ * - Gemini 호출은 논블로킹 (GeminiConfig 전용 커넥션 풀)
+ *
+ * 메트릭: gemini.request.duration (Timer 히스토그램, call/outcome 태그), gemini.stream.first-token
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatService {
 
-    private static final long CACHE_TTL_SECONDS = 60;
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
 
     private final GeminiConfig geminiConfig;
     private final WebClient geminiWebClient;
     private final ChatMessageRepository chatMessageRepository;
-    private final SystemSettingRepository systemSettingRepository;
+    private final SettingsCache settingsCache;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
-    /** TTL 캐시: DB 조회 결과를 60초간 보관 */
-    private volatile String cachedSystemPrompt;
-    private volatile Instant promptCacheExpiry = Instant.MIN;
+    /** 최근 system_instruction (프롬프트 변경 시 교체) */
+    private volatile GeminiRequest.Content systemInstruction;
+
+    /** 파일 기본 프롬프트 (classpath 리소스 — 최초 1회만 읽음) */
+    private volatile String defaultSystemPrompt;
 
     /**
-     * 시스템 프롬프트 조회 (DB 우선, 파일 fallback, 60초 TTL 캐시)
+     * 시스템 프롬프트 조회 (DB 우선, 파일 fallback)
      */
     private String getSystemPrompt() {
-        Instant now = Instant.now();
-        if (now.isBefore(promptCacheExpiry) && cachedSystemPrompt != null) {
-            return cachedSystemPrompt;
-        }
-
-        // DB에서 조회
-        String dbPrompt = systemSettingRepository.findById("chat_system_prompt")
-                .map(s -> s.getSettingValue())
+        return settingsCache.get("chat_system_prompt")
                 .filter(v -> !v.isBlank())
-                .orElse(null);
-
-        String resolved;
-        if (dbPrompt != null) {
-            resolved = dbPrompt;
-        } else {
-            resolved = loadDefaultPromptFromFile();
-        }
-
-        this.cachedSystemPrompt = resolved;
-        this.promptCacheExpiry = now.plusSeconds(CACHE_TTL_SECONDS);
-        return resolved;
+                .orElseGet(this::getDefaultPrompt);
     }
 
-    /**
-     * 캐시 무효화 (설정 변경 시 즉시 반영용 — 같은 서버에서만 효과)
-     */
-    public void invalidatePromptCache() {
-        this.promptCacheExpiry = Instant.MIN;
-        log.info("System prompt cache invalidated");
+    private String getDefaultPrompt() {
+        String prompt = defaultSystemPrompt;
+        if (prompt == null) {
+            prompt = loadDefaultPromptFromFile();
+            this.defaultSystemPrompt = prompt;
+        }
+        return prompt;
     }
 
     private String loadDefaultPromptFromFile() {
@@ -90,30 +85,37 @@ public class ChatService {
         }
     }
 
-    public ChatResponse chat(ChatRequest request, Long userSeq) {
+    /**
+     * 단건 챗봇 응답 (논블로킹)
+     * - Gemini 응답 대기 중 요청 스레드를 점유하지 않음
+     * - 대화 기록 저장(JPA)은 boundedElastic에서 수행
+     */
+    public Mono<ChatResponse> chat(ChatRequest request, Long userSeq) {
         // Gemini API 키 미설정 시 안내 메시지 반환
         if (geminiConfig.getApiKey() == null || geminiConfig.getApiKey().isBlank()) {
             log.warn("Gemini API key not configured");
-            return ChatResponse.builder()
+            return Mono.just(ChatResponse.builder()
                     .message("The AI assistant is currently unavailable. Please try again later.")
                     .suggestedQuestions(getDefaultSuggestions())
-                    .build();
+                    .build());
         }
 
-        Map<String, Object> body = buildGeminiRequest(request, userSeq);
-        String responseText = callGeminiApi(body);
-
-        // 대화 기록 저장
-        saveMessages(request.getSessionId(), userSeq, request.getMessage(), responseText);
-
-        return ChatResponse.builder()
-                .message(responseText)
-                .suggestedQuestions(generateSuggestedQuestions(request.getMessage()))
-                .build();
+        GeminiRequest body = buildGeminiRequest(request, userSeq);
+        return callGeminiApi(body)
+                .flatMap(responseText -> Mono.fromRunnable(() ->
+                                // 대화 기록 저장
+                                saveMessages(request.getSessionId(), userSeq, request.getMessage(), responseText))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .thenReturn(responseText))
+                .map(responseText -> ChatResponse.builder()
+                        .message(responseText)
+                        .suggestedQuestions(generateSuggestedQuestions(request.getMessage()))
+                        .build());
     }
 
     /**
      * SSE 스트리밍 챗봇 응답
+     * - 청크 처리 / SSE 전송 / DB 저장은 boundedElastic에서 수행 (Netty 이벤트 루프 블로킹 없음)
      */
     public void chatStream(ChatRequest request, Long userSeq, SseEmitter emitter) {
         if (geminiConfig.getApiKey() == null || geminiConfig.getApiKey().isBlank()) {
@@ -123,12 +125,13 @@ public class ChatService {
             return;
         }
 
-        Map<String, Object> body = buildGeminiRequest(request, userSeq);
+        GeminiRequest body = buildGeminiRequest(request, userSeq);
         String path = "/models/" + geminiConfig.getModel() + ":streamGenerateContent";
 
         StringBuilder fullResponse = new StringBuilder();
+        long start = System.nanoTime();
 
-        Disposable subscription = geminiWebClient
+        Flux<String> stream = geminiWebClient
                 .post()
                 .uri(uriBuilder -> uriBuilder
                         .path(path)
@@ -137,11 +140,19 @@ public class ChatService {
                         .build())
                 .bodyValue(body)
                 .retrieve()
-                .bodyToFlux(String.class)
+                .bodyToFlux(String.class);
+
+        Disposable subscription = stream
+                .publishOn(Schedulers.boundedElastic())
+                .doFinally(signal -> recordLatency("stream", signal, start))
                 .subscribe(
                         chunk -> {
-                            String text = extractTextFromChunk(chunk);
+                            String text = extractText(chunk);
                             if (text != null && !text.isEmpty()) {
+                                if (fullResponse.isEmpty()) {
+                                    meterRegistry.timer("gemini.stream.first-token")
+                                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                                }
                                 fullResponse.append(text);
                                 sendSseEvent(emitter, "token", Map.of(
                                         "type", "token", "content", text));
@@ -180,11 +191,13 @@ public class ChatService {
         emitter.onError(t -> subscription.dispose());
     }
 
+    /**
+     * 응답 JSON(단건 응답 / 스트리밍 청크 공통)에서 candidates[0].content.parts[0].text 추출
+     */
     @SuppressWarnings("unchecked")
-    private String extractTextFromChunk(String jsonChunk) {
+    private String extractText(String json) {
         try {
-            Map<String, Object> parsed = objectMapper.readValue(
-                    jsonChunk, new TypeReference<Map<String, Object>>() {});
+            Map<String, Object> parsed = objectMapper.readValue(json, MAP_TYPE);
             List<Map<String, Object>> candidates =
                     (List<Map<String, Object>>) parsed.get("candidates");
             if (candidates == null || candidates.isEmpty()) return null;
@@ -196,7 +209,7 @@ public class ChatService {
             if (parts == null || parts.isEmpty()) return null;
             return (String) parts.get(0).get("text");
         } catch (Exception e) {
-            log.debug("Failed to parse Gemini chunk: {}", e.getMessage());
+            log.debug("Failed to parse Gemini response: {}", e.getMessage());
             return null;
         }
     }
@@ -233,24 +246,16 @@ public class ChatService {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> buildGeminiRequest(ChatRequest request, Long userSeq) {
-        // System instruction
-        Map<String, Object> systemInstruction = Map.of(
-                "parts", List.of(Map.of("text", getSystemPrompt()))
-        );
-
+    private GeminiRequest buildGeminiRequest(ChatRequest request, Long userSeq) {
         // Conversation contents
-        List<Map<String, Object>> contents = new ArrayList<>();
+        List<GeminiRequest.Content> contents = new ArrayList<>(
+                (request.getHistory() != null ? request.getHistory().size() : 0) + 1);
 
         // 이전 대화 히스토리 추가
         if (request.getHistory() != null) {
             for (ChatMessageDto msg : request.getHistory()) {
                 String role = "user".equals(msg.getRole()) ? "user" : "model";
-                contents.add(Map.of(
-                        "role", role,
-                        "parts", List.of(Map.of("text", msg.getContent()))
-                ));
+                contents.add(GeminiRequest.Content.of(role, msg.getContent()));
             }
         }
 
@@ -259,63 +264,75 @@ public class ChatService {
         if (userSeq != null) {
             userMessage = "[Logged-in user] " + userMessage;
         }
-        contents.add(Map.of(
-                "role", "user",
-                "parts", List.of(Map.of("text", userMessage))
-        ));
-
-        // Generation config
-        Map<String, Object> generationConfig = Map.of(
-                "maxOutputTokens", geminiConfig.getMaxTokens(),
-                "temperature", geminiConfig.getTemperature()
-        );
+        contents.add(GeminiRequest.Content.of("user", userMessage));
 
-        return Map.of(
-                "system_instruction", systemInstruction,
-                "contents", contents,
-                "generationConfig", generationConfig
-        );
+        return new GeminiRequest(
+                systemInstruction(),
+                contents,
+                new GeminiRequest.GenerationConfig(geminiConfig.getMaxTokens(), geminiConfig.getTemperature()));
     }
 
-    @SuppressWarnings("unchecked")
-    private String callGeminiApi(Map<String, Object> body) {
-        try {
-            String path = "/models/" + geminiConfig.getModel() + ":generateContent";
-
-            Map<String, Object> response = geminiWebClient
-                    .post()
-                    .uri(uriBuilder -> uriBuilder
-                            .path(path)
-                            .queryParam("key", geminiConfig.getApiKey())
-                            .build())
-                    .bodyValue(body)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            if (response == null) {
-                log.error("Gemini API returned null response");
-                return "Sorry, I couldn't process your request. Please try again.";
-            }
-
-            // candidates[0].content.parts[0].text 파싱
-            List<Map<String, Object>> candidates = (List<Map<String, Object>>) response.get("candidates");
-            if (candidates == null || candidates.isEmpty()) {
-                log.warn("Gemini API returned no candidates: {}", response);
-                return "Sorry, I couldn't generate a response. Please try rephrasing your question.";
-            }
+    /**
+     * System instruction (프롬프트가 같으면 기존 인스턴스 재사용)
+     */
+    private GeminiRequest.Content systemInstruction() {
+        String prompt = getSystemPrompt();
+        GeminiRequest.Content cached = systemInstruction;
+        if (cached == null || !cached.text().equals(prompt)) {
+            cached = GeminiRequest.Content.of(null, prompt);
+            this.systemInstruction = cached;
+        }
+        return cached;
+    }
 
-            Map<String, Object> content = (Map<String, Object>) candidates.get(0).get("content");
-            List<Map<String, Object>> parts = (List<Map<String, Object>>) content.get("parts");
-            return (String) parts.get(0).get("text");
+    private Mono<String> callGeminiApi(GeminiRequest body) {
+        String path = "/models/" + geminiConfig.getModel() + ":generateContent";
+
+        return Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return geminiWebClient
+                            .post()
+                            .uri(uriBuilder -> uriBuilder
+                                    .path(path)
+                                    .queryParam("key", geminiConfig.getApiKey())
+                                    .build())
+                            .bodyValue(body)
+                            .retrieve()
+                            .bodyToMono(String.class)
+                            .doFinally(signal -> recordLatency("generate", signal, start));
+                })
+                .map(response -> {
+                    String text = extractText(response);
+                    if (text == null) {
+                        log.warn("Gemini API returned no candidates: {}", response);
+                        return "Sorry, I couldn't generate a response. Please try rephrasing your question.";
+                    }
+                    return text;
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.error("Gemini API returned null response");
+                    return "Sorry, I couldn't process your request. Please try again.";
+                }))
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    log.error("Gemini API error: status={}, body={}", e.getStatusCode(), e.getResponseBodyAsString());
+                    return Mono.just("Sorry, the AI service is temporarily unavailable. Please try again later.");
+                })
+                .onErrorResume(e -> {
+                    log.error("Unexpected error calling Gemini API", e);
+                    return Mono.just("Sorry, an unexpected error occurred. Please try again later.");
+                });
+    }
 
-        } catch (WebClientResponseException e) {
-            log.error("Gemini API error: status={}, body={}", e.getStatusCode(), e.getResponseBodyAsString());
-            return "Sorry, the AI service is temporarily unavailable. Please try again later.";
-        } catch (Exception e) {
-            log.error("Unexpected error calling Gemini API", e);
-            return "Sorry, an unexpected error occurred. Please try again later.";
-        }
+    /**
+     * Gemini 호출 지연 히스토그램 (call: generate / stream, outcome: on_complete / on_error / cancel)
+     */
+    private void recordLatency(String call, SignalType signal, long start) {
+        Timer.builder("gemini.request.duration")
+                .tag("call", call)
+                .tag("outcome", signal.name().toLowerCase())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
     }
 
     private List<String> generateSuggestedQuestions(String lastMessage) {
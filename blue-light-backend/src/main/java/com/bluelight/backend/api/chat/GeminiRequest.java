@@ -0,0 +1,35 @@
+package com.bluelight.backend.api.chat;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Gemini generateContent / streamGenerateContent 요청 본문
+ * - system_instruction은 프롬프트가 바뀔 때까지 인스턴스를 재사용 (ChatService)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+record GeminiRequest(
+        @JsonProperty("system_instruction") Content systemInstruction,
+        List<Content> contents,
+        GenerationConfig generationConfig) {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Content(String role, List<Part> parts) {
+
+        static Content of(String role, String text) {
+            return new Content(role, List.of(new Part(text)));
+        }
+
+        String text() {
+            return parts.get(0).text();
+        }
+    }
+
+    record Part(String text) {
+    }
+
+    record GenerationConfig(int maxOutputTokens, double temperature) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.bluelight.backend.api.email;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 기동 시 1회 파싱된 템플릿 (리터럴 / 변수 구간 배열)
+ *
+ * - {{name}}: HTML 이스케이프 후 삽입, {{{name}}}: 원문 그대로 삽입
+ * - 렌더링은 스레드별 StringBuilder 재사용 → 구간 순서대로 append만 수행 (포맷 문자열 재해석 없음)
+ * - 모델에 없는 변수는 오류 (오타로 빈 칸이 나가는 것 방지), 값이 null이면 빈 문자열
+ */
+final class CompiledTemplate {
+
+    private static final Pattern VARIABLE_NAME = Pattern.compile("[A-Za-z0-9_.-]+");
+    private static final int INITIAL_BUFFER = 8 * 1024;
+    /** 이보다 커진 버퍼는 스레드에 남기지 않음 */
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER));
+
+    private final String name;
+    /** variables.length + 1개 */
+    private final String[] literals;
+    private final String[] variables;
+    private final boolean[] escaped;
+
+    private CompiledTemplate(String name, String[] literals, String[] variables, boolean[] escaped) {
+        this.name = name;
+        this.literals = literals;
+        this.variables = variables;
+        this.escaped = escaped;
+    }
+
+    /**
+     * @param escape false면 {{name}}도 원문 삽입 (제목 등 평문용)
+     */
+    static CompiledTemplate compile(String name, String source, boolean escape) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        List<Boolean> escapedFlags = new ArrayList<>();
+
+        int pos = 0;
+        while (true) {
+            int open = source.indexOf("{{", pos);
+            if (open < 0) {
+                literals.add(source.substring(pos));
+                break;
+            }
+            boolean raw = source.startsWith("{{{", open);
+            String closeToken = raw ? "}}}" : "}}";
+            int start = open + (raw ? 3 : 2);
+            int close = source.indexOf(closeToken, start);
+            if (close < 0) {
+                throw new IllegalStateException("Unclosed variable in email template '" + name + "' at offset " + open);
+            }
+            String variable = source.substring(start, close).trim();
+            if (!VARIABLE_NAME.matcher(variable).matches()) {
+                throw new IllegalStateException("Invalid variable '" + variable + "' in email template '" + name + "'");
+            }
+            literals.add(source.substring(pos, open));
+            variables.add(variable);
+            escapedFlags.add(escape && !raw);
+            pos = close + closeToken.length();
+        }
+
+        boolean[] escaped = new boolean[escapedFlags.size()];
+        for (int i = 0; i < escaped.length; i++) {
+            escaped[i] = escapedFlags.get(i);
+        }
+        return new CompiledTemplate(name, literals.toArray(new String[0]), variables.toArray(new String[0]), escaped);
+    }
+
+    String render(Map<String, ?> model) {
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        sb.append(literals[0]);
+        for (int i = 0; i < variables.length; i++) {
+            Object value = model.get(variables[i]);
+            if (value == null && !model.containsKey(variables[i])) {
+                throw new IllegalArgumentException(
+                        "Missing variable '" + variables[i] + "' for email template '" + name + "'");
+            }
+            if (value != null) {
+                if (escaped[i]) {
+                    appendEscaped(sb, value.toString());
+                } else {
+                    sb.append(value);
+                }
+            }
+            sb.append(literals[i + 1]);
+        }
+        String result = sb.toString();
+        if (sb.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return result;
+    }
+
+    private static void appendEscaped(StringBuilder sb, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> sb.append("&amp;");
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '"' -> sb.append("&quot;");
+                case '\'' -> sb.append("&#39;");
+                default -> sb.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.bluelight.backend.api.email;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.io.UnsupportedEncodingException;
+
+/**
+ * 렌더링된 HTML 메일 → MimeMessage 변환 (발신자 공통 적용)
+ * - SmtpEmailService 즉시 발송 / EmailOutboxDispatcher 배치 발송 공용
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mail.smtp.enabled", havingValue = "true")
+public class EmailMessageFactory {
+
+    private final JavaMailSender mailSender;
+
+    @Value("${spring.mail.sender.from:noreply@licensekaki.com}")
+    private String fromAddress;
+
+    @Value("${spring.mail.sender.name:LicenseKaki}")
+    private String fromName;
+
+    public MimeMessage create(String to, String subject, String html) {
+        try {
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+            helper.setFrom(fromAddress, fromName);
+            helper.setTo(to);
+            helper.setSubject(subject);
+            helper.setText(html, true);
+            return message;
+        } catch (MessagingException | UnsupportedEncodingException e) {
+            throw new MailPreparationException("Failed to build email to " + to, e);
+        }
+    }
+
+    /**
+     * 1건 즉시 발송 (SMTP 세션 1회)
+     */
+    public void send(String to, String subject, String html) {
+        mailSender.send(create(to, subject, html));
+    }
+
+    /**
+     * 여러 건을 하나의 SMTP 연결로 발송
+     * - JavaMailSenderImpl은 배열 전체에 Transport 1개를 재사용
+     * - 일부 실패 시 MailSendException.getFailedMessages()에 실패 건만 담김
+     */
+    public void sendAll(MimeMessage[] messages) {
+        mailSender.send(messages);
+    }
+}
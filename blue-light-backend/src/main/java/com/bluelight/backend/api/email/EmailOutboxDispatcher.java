@@ -0,0 +1,229 @@
+package com.bluelight.backend.api.email;
+
+import com.bluelight.backend.domain.email.EmailOutbox;
+import com.bluelight.backend.domain.email.EmailOutboxRepository;
+import com.bluelight.backend.domain.email.EmailOutboxStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이메일 outbox 배치 발송기
+ *
+ * - ShedLock으로 전 서버 중 한 곳에서만 실행
+ * - 발송 대상을 batch-size 단위로 점유(SKIP LOCKED 조회 → SENDING + claim-lease 만료 시각) 후
+ *   배치 전체를 SMTP 연결 1개로 발송 (메일마다 연결/인증 반복 없음)
+ *   → ShedLock 만료 후 다른 서버가 실행돼도 점유된 행은 가져가지 않음
+ * - 실행 1회는 max-run-seconds 안에서만 새 배치 점유 (lockAtMostFor 10분 이내 유지)
+ * - 점유/결과 기록은 각각 짧은 트랜잭션 — SMTP 대기 중 DB 커넥션·잠금 미점유
+ * - 결과 기록 전 서버가 중단되면 점유 만료 후 재발송 (최소 1회 발송)
+ * - 실패 시 지수 백오프(backoff-initial-seconds × 2^(시도-1), 상한 backoff-max-seconds) 후 재시도,
+ *   max-attempts 도달 시 FAILED
+ * - SENT 행은 retention-days 경과 후 삭제 (FAILED는 확인용으로 유지)
+ *
+ * 메트릭: mail.outbox.dispatched (outcome=sent|retry|failed), mail.outbox.batch.duration
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mail.smtp.enabled", havingValue = "true")
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailMessageFactory messageFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration claimLease;
+    private final Duration maxRunTime;
+    private final int maxAttempts;
+    private final Duration backoffInitial;
+    private final Duration backoffMax;
+    private final int retentionDays;
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository,
+                                 EmailMessageFactory messageFactory,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${mail.outbox.batch-size:50}") int batchSize,
+                                 @Value("${mail.outbox.max-batches-per-run:20}") int maxBatchesPerRun,
+                                 @Value("${mail.outbox.claim-lease-seconds:900}") long claimLeaseSeconds,
+                                 @Value("${mail.outbox.max-run-seconds:300}") long maxRunSeconds,
+                                 @Value("${mail.outbox.max-attempts:6}") int maxAttempts,
+                                 @Value("${mail.outbox.backoff-initial-seconds:30}") long backoffInitialSeconds,
+                                 @Value("${mail.outbox.backoff-max-seconds:3600}") long backoffMaxSeconds,
+                                 @Value("${mail.outbox.retention-days:7}") int retentionDays) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.messageFactory = messageFactory;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.claimLease = Duration.ofSeconds(claimLeaseSeconds);
+        this.maxRunTime = Duration.ofSeconds(maxRunSeconds);
+        this.maxAttempts = maxAttempts;
+        this.backoffInitial = Duration.ofSeconds(backoffInitialSeconds);
+        this.backoffMax = Duration.ofSeconds(backoffMaxSeconds);
+        this.retentionDays = retentionDays;
+
+        this.sentCounter = dispatchedCounter(meterRegistry, "sent");
+        this.retryCounter = dispatchedCounter(meterRegistry, "retry");
+        this.failedCounter = dispatchedCounter(meterRegistry, "failed");
+        this.batchTimer = Timer.builder("mail.outbox.batch.duration")
+                .description("outbox 배치 1회 SMTP 발송 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발송 대상이 남아 있으면 배치를 연속 처리 (실행당 max-batches-per-run, max-run-seconds 상한)
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:5000}")
+    @SchedulerLock(name = "dispatchEmailOutbox", lockAtMostFor = "10m")
+    public void dispatch() {
+        long deadline = System.nanoTime() + maxRunTime.toNanos();
+        for (int i = 0; i < maxBatchesPerRun && System.nanoTime() - deadline < 0; i++) {
+            List<EmailOutbox> batch = transactionTemplate.execute(status -> claimBatch());
+            if (batch == null || batch.isEmpty()) {
+                return;
+            }
+
+            Map<Long, String> failures = batchTimer.record(() -> sendBatch(batch));
+            transactionTemplate.executeWithoutResult(status -> recordResults(batch, failures));
+
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 매일 새벽 4시: 보관 기간이 지난 SENT 행 삭제
+     */
+    @Scheduled(cron = "${mail.outbox.cleanup-cron:0 0 4 * * ?}")
+    @SchedulerLock(name = "cleanupEmailOutbox", lockAtMostFor = "10m", lockAtLeastFor = "1m")
+    public void cleanup() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = transactionTemplate.execute(status ->
+                emailOutboxRepository.deleteByStatusAndCreatedAtBefore(EmailOutboxStatus.SENT, cutoff));
+        if (deleted != null && deleted > 0) {
+            log.info("Email outbox cleanup: {} sent row(s) deleted", deleted);
+        }
+    }
+
+    /**
+     * 발송 대상 점유 — 커밋 후에는 점유 만료 전까지 다른 발송기의 조회 대상에서 빠짐
+     */
+    private List<EmailOutbox> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> batch = emailOutboxRepository.lockDue(now, batchSize);
+        LocalDateTime leaseUntil = now.plus(claimLease);
+        batch.forEach(row -> row.claim(leaseUntil));
+        return batch;
+    }
+
+    /**
+     * 배치를 SMTP 연결 1개로 발송
+     *
+     * @return 실패한 outboxSeq → 오류 메시지
+     */
+    private Map<Long, String> sendBatch(List<EmailOutbox> batch) {
+        Map<Long, String> failures = new HashMap<>();
+        Map<MimeMessage, EmailOutbox> messages = new IdentityHashMap<>();
+        for (EmailOutbox row : batch) {
+            try {
+                messages.put(messageFactory.create(row.getRecipient(), row.getSubject(), row.getHtmlBody()), row);
+            } catch (MailException e) {
+                failures.put(row.getOutboxSeq(), e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            messageFactory.sendAll(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            // 실패 건만 재시도 — 비어 있으면 전 건 전달 후 연결 종료만 실패한 경우 (재발송하면 중복)
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                log.warn("Email outbox batch delivered but SMTP close failed ({} message(s)): {}",
+                        messages.size(), e.getMessage());
+            }
+            failedMessages.forEach((message, cause) -> {
+                EmailOutbox row = messages.get(message);
+                if (row != null) {
+                    failures.put(row.getOutboxSeq(), cause.getMessage());
+                }
+            });
+        } catch (MailException e) {
+            // 연결/인증 실패 — 배치 전체 재시도
+            log.warn("Email outbox batch send failed ({} message(s)): {}", messages.size(), e.getMessage());
+            messages.values().forEach(row -> failures.put(row.getOutboxSeq(), e.getMessage()));
+        }
+        return failures;
+    }
+
+    private void recordResults(List<EmailOutbox> batch, Map<Long, String> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> seqs = batch.stream().map(EmailOutbox::getOutboxSeq).toList();
+        for (EmailOutbox row : emailOutboxRepository.findAllById(seqs)) {
+            if (row.getStatus() != EmailOutboxStatus.SENDING) {
+                continue;
+            }
+            String error = failures.get(row.getOutboxSeq());
+            if (error == null) {
+                row.markSent();
+                sentCounter.increment();
+                continue;
+            }
+
+            int attempt = row.getAttempts() + 1;
+            if (attempt >= maxAttempts) {
+                row.markAttemptFailed(error, null);
+                failedCounter.increment();
+                log.error("Email outbox gave up after {} attempt(s): outboxSeq={}, to={}, error={}",
+                        attempt, row.getOutboxSeq(), row.getRecipient(), error);
+            } else {
+                row.markAttemptFailed(error, now.plus(backoff(attempt)));
+                retryCounter.increment();
+                log.warn("Email outbox send failed (attempt {}/{}), will retry: outboxSeq={}, error={}",
+                        attempt, maxAttempts, row.getOutboxSeq(), error);
+            }
+        }
+        if (failures.size() < batch.size()) {
+            log.info("Email outbox dispatched: sent={}, failed={}", batch.size() - failures.size(), failures.size());
+        }
+    }
+
+    private Duration backoff(int attempt) {
+        Duration delay = backoffInitial.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+    }
+
+    private static Counter dispatchedCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("mail.outbox.dispatched")
+                .description("outbox 발송 결과")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,30 @@
+package com.bluelight.backend.api.email;
+
+import com.bluelight.backend.domain.email.EmailOutbox;
+import com.bluelight.backend.domain.email.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 이메일 outbox 적재
+ * - 호출 트랜잭션에 참여 → 업무 데이터와 함께 커밋/롤백
+ * - 트랜잭션 밖에서 호출되면 단독 트랜잭션으로 즉시 커밋
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mail.smtp.enabled", havingValue = "true")
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    @Transactional
+    public void enqueue(String to, String subject, String html) {
+        emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(to)
+                .subject(subject)
+                .htmlBody(html)
+                .build());
+    }
+}
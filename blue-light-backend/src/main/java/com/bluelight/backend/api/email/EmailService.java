@@ -2,6 +2,7 @@ package com.bluelight.backend.api.email;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Map;
 
 /**
  * 이메일 발송 서비스 인터페이스
@@ -110,4 +111,14 @@ public interface EmailService {
      * @param amount   결제 금액
      */
     void sendPaymentConfirmedToLewEmail(String to, String lewName, Long appSeq, String address, BigDecimal amount);
+
+    /**
+     * 템플릿 이메일 발송 (templates/email/{templateName}.html)
+     * - 새 이메일 유형은 템플릿 파일 추가 후 이 메서드로 발송
+     *
+     * @param to           수신자 이메일
+     * @param templateName 템플릿 이름 (파일명에서 .html 제외)
+     * @param model        템플릿 변수
+     */
+    void sendTemplateEmail(String to, String templateName, Map<String, ?> model);
 }
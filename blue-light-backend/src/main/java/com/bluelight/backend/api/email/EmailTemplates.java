@@ -0,0 +1,109 @@
+package com.bluelight.backend.api.email;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 이메일 템플릿 저장소 (classpath:templates/email/*.html)
+ *
+ * - 기동 시 모든 템플릿을 공통 레이아웃(_layout.html)에 끼워 넣은 뒤 1회 컴파일 → 이후 파일/파싱 없음
+ * - 템플릿 첫 줄 <!-- subject: ... --> 가 제목 (변수 사용 가능)
+ * - 새 이메일 유형 = 템플릿 파일 추가 + EmailService.sendTemplateEmail 호출
+ * - 템플릿 오류는 기동 실패로 드러남
+ */
+@Slf4j
+@Component
+public class EmailTemplates {
+
+    private static final String LOCATION = "classpath:templates/email/*.html";
+    private static final String LAYOUT = "_layout";
+    private static final String CONTENT_SLOT = "{{{content}}}";
+    private static final Pattern SUBJECT_LINE = Pattern.compile("\\A<!--\\s*subject:\\s*(.*?)\\s*-->\\R");
+
+    private final Map<String, Compiled> templates;
+
+    public EmailTemplates() {
+        this.templates = Map.copyOf(loadAll());
+        log.info("Email templates compiled: {}", templates.keySet());
+    }
+
+    /**
+     * @throws IllegalArgumentException 템플릿이 없거나 모델에 변수가 빠진 경우
+     */
+    public RenderedEmail render(String templateName, Map<String, ?> model) {
+        Compiled compiled = templates.get(templateName);
+        if (compiled == null) {
+            throw new IllegalArgumentException("Unknown email template: " + templateName);
+        }
+        return new RenderedEmail(compiled.subject().render(model), compiled.html().render(model));
+    }
+
+    private static Map<String, Compiled> loadAll() {
+        Map<String, String> sources = new HashMap<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(LOCATION)) {
+                String filename = resource.getFilename();
+                if (filename == null) {
+                    continue;
+                }
+                sources.put(filename.substring(0, filename.length() - ".html".length()),
+                        resource.getContentAsString(StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load email templates from " + LOCATION, e);
+        }
+
+        String layout = sources.remove(LAYOUT);
+        if (layout == null || !layout.contains(CONTENT_SLOT)) {
+            throw new IllegalStateException("Email layout " + LAYOUT + ".html with " + CONTENT_SLOT + " not found");
+        }
+
+        Map<String, Compiled> compiled = new HashMap<>();
+        sources.forEach((name, source) -> {
+            Matcher subject = SUBJECT_LINE.matcher(source);
+            if (!subject.find()) {
+                throw new IllegalStateException("Email template '" + name + "' has no <!-- subject: ... --> line");
+            }
+            String body = source.substring(subject.end());
+            compiled.put(name, new Compiled(
+                    CompiledTemplate.compile(name + ":subject", subject.group(1), false),
+                    CompiledTemplate.compile(name, insertContent(layout, body), true)));
+        });
+        return compiled;
+    }
+
+    /**
+     * 레이아웃의 {{{content}}} 위치에 본문 삽입 (슬롯 줄의 들여쓰기를 본문 각 줄에 적용)
+     */
+    static String insertContent(String layout, String body) {
+        int slot = layout.indexOf(CONTENT_SLOT);
+        int lineStart = layout.lastIndexOf('\n', slot) + 1;
+        String indent = layout.substring(lineStart, slot);
+
+        String trimmed = body.endsWith("\n") ? body.substring(0, body.length() - 1) : body;
+        StringBuilder indented = new StringBuilder(body.length() + 256);
+        String[] lines = trimmed.split("\n", -1);
+        for (int i = 0; i < lines.length; i++) {
+            if (i > 0) {
+                indented.append('\n');
+                if (!lines[i].isEmpty()) {
+                    indented.append(indent);
+                }
+            }
+            indented.append(lines[i]);
+        }
+        return layout.substring(0, slot) + indented + layout.substring(slot + CONTENT_SLOT.length());
+    }
+
+    private record Compiled(CompiledTemplate subject, CompiledTemplate html) {
+    }
+}
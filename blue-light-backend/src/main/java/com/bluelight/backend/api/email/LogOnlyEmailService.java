@@ -1,10 +1,12 @@
 package com.bluelight.backend.api.email;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Map;
 
 /**
  * 개발용 이메일 서비스 (로그 출력만)
@@ -13,8 +15,11 @@ import java.time.LocalDate;
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class LogOnlyEmailService implements EmailService {
 
+    private final EmailTemplates emailTemplates;
+
     @Override
     public void sendPasswordResetEmail(String to, String userName, String resetLink) {
         log.info("==================================================");
@@ -123,4 +128,14 @@ public class LogOnlyEmailService implements EmailService {
         log.info("  Amount: ${}", amount);
         log.info("==================================================");
     }
+
+    @Override
+    public void sendTemplateEmail(String to, String templateName, Map<String, ?> model) {
+        RenderedEmail email = emailTemplates.render(templateName, model);
+        log.info("==================================================");
+        log.info("[DEV] Template Email [{}] (not actually sent)", templateName);
+        log.info("  To: {}", to);
+        log.info("  Subject: {}", email.subject());
+        log.info("==================================================");
+    }
 }
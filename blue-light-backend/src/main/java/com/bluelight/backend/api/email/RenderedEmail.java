@@ -0,0 +1,7 @@
+package com.bluelight.backend.api.email;
+
+/**
+ * 렌더링된 이메일 (제목 + HTML 본문)
+ */
+public record RenderedEmail(String subject, String html) {
+}
@@ -0,0 +1,72 @@
+package com.bluelight.backend.api.file;
+
+import com.bluelight.backend.common.util.FileEncryptionUtil;
+import org.springframework.core.io.AbstractResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 디스크의 암호화 파일을 읽는 시점에 복호화하는 Resource
+ * - getInputStream(): 호출할 때마다 새 복호화 스트림 (청크 단위, 메모리 일정)
+ * - contentLength(): 복호화 없이 헤더 + 파일 크기로 평문 크기 산출
+ * → 다운로드 응답이 디스크에서 서블릿 응답으로 그대로 흘러감 (ByteArrayResource 불필요)
+ */
+public class EncryptedFileResource extends AbstractResource {
+
+    private final Path path;
+    private final FileEncryptionUtil fileEncryptionUtil;
+
+    public EncryptedFileResource(Path path, FileEncryptionUtil fileEncryptionUtil) {
+        this.path = path;
+        this.fileEncryptionUtil = fileEncryptionUtil;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return fileEncryptionUtil.openDecrypted(path);
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        return fileEncryptionUtil.plaintextLength(path);
+    }
+
+    @Override
+    public long lastModified() throws IOException {
+        return Files.getLastModifiedTime(path).toMillis();
+    }
+
+    @Override
+    public boolean exists() {
+        return Files.exists(path);
+    }
+
+    @Override
+    public boolean isReadable() {
+        return Files.isReadable(path);
+    }
+
+    @Override
+    public String getFilename() {
+        return path.getFileName().toString();
+    }
+
+    @Override
+    public String getDescription() {
+        return "Encrypted file [" + path + "]";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+                || (other instanceof EncryptedFileResource that && path.equals(that.path));
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode();
+    }
+}
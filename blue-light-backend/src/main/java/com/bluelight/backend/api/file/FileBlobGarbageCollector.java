@@ -0,0 +1,86 @@
+package com.bluelight.backend.api.file;
+
+import com.bluelight.backend.domain.file.FileBlobRepository;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 참조가 없는 blob 정리
+ *
+ * - 대상: ref_count 0 + 유예 기간(file.dedup.gc-grace-hours) 경과
+ * - blob마다 짧은 트랜잭션: 행 잠금(ref_count 0 + 유예 경과 재확인) → 물리 삭제 → 행 삭제
+ *   같은 내용을 동시에 저장하는 요청은 잠금 해제까지 대기 후 새 행으로 다시 저장하므로 삭제된 blob을 참조하지 않음
+ * - 물리 삭제 실패 시 행을 남겨 다음 실행에서 재시도
+ * - file.dedup.enabled와 무관하게 실행 — dedup을 끈 뒤에도 이전에 저장된 blob은 참조 해제 후 정리
+ */
+@Slf4j
+@Component
+public class FileBlobGarbageCollector {
+
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_BATCHES_PER_RUN = 50;
+
+    private final FileBlobRepository fileBlobRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final int graceHours;
+
+    public FileBlobGarbageCollector(FileBlobRepository fileBlobRepository,
+                                    FileStorageService fileStorageService,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${file.dedup.gc-grace-hours:24}") int graceHours) {
+        this.fileBlobRepository = fileBlobRepository;
+        this.fileStorageService = fileStorageService;
+        this.transactionTemplate = transactionTemplate;
+        this.graceHours = graceHours;
+    }
+
+    @Scheduled(cron = "${file.dedup.gc-cron:0 30 3 * * ?}")
+    @SchedulerLock(name = "collectOrphanFileBlobs", lockAtMostFor = "30m", lockAtLeastFor = "1m")
+    public void collect() {
+        LocalDateTime before = LocalDateTime.now().minusHours(graceHours);
+        int processed = 0;
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            List<String> paths = fileBlobRepository.findOrphanPaths(before, PageRequest.of(0, BATCH_SIZE));
+            int batchProcessed = 0;
+            for (String path : paths) {
+                if (purge(path, before)) {
+                    batchProcessed++;
+                }
+            }
+            processed += batchProcessed;
+            // 실패 건은 행이 남아 같은 페이지에 다시 잡히므로 이번 실행은 중단
+            if (paths.size() < BATCH_SIZE || batchProcessed < paths.size()) {
+                break;
+            }
+        }
+        if (processed > 0) {
+            log.info("Orphan blob GC: {} blob(s) processed", processed);
+        }
+    }
+
+    /**
+     * @return false면 물리 삭제 실패 (행 유지)
+     */
+    private boolean purge(String path, LocalDateTime before) {
+        Boolean purged = transactionTemplate.execute(status -> fileBlobRepository.lockOrphan(path, before)
+                .map(blob -> {
+                    if (!fileStorageService.purge(path)) {
+                        return false;
+                    }
+                    fileBlobRepository.delete(blob);
+                    return true;
+                })
+                // 잠금 전에 다시 참조되거나 새로 기록 중 — 삭제 대상 아님
+                .orElse(true));
+        return Boolean.TRUE.equals(purged);
+    }
+}
@@ -0,0 +1,61 @@
+package com.bluelight.backend.api.file;
+
+import com.bluelight.backend.domain.file.FileBlobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 내용 주소 blob 경로 규칙 + 참조 카운트 (file_blobs)
+ *
+ * - 경로: blobs/{SHA-256 앞 2자리}/{SHA-256}{확장자} — 같은 내용은 한 번만 저장
+ * - 저장 순서: register(별도 트랜잭션, 참조 0 행) → blob 기록 → acquire
+ *   → blob이 기록된 뒤 업무 트랜잭션이 롤백돼도 참조 0 행이 남아 GC가 정리 (고아 blob 없음)
+ * - acquire/release는 호출자 트랜잭션에 참여 → 업무 트랜잭션이 롤백되면 참조 증감도 함께 취소
+ * - blobs/ 밖의 기존(UUID) 경로는 추적하지 않음 → 기존처럼 즉시 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileBlobRegistry {
+
+    public static final String BLOB_DIR = "blobs";
+
+    private final FileBlobRepository fileBlobRepository;
+
+    public static String blobPath(String sha256, String extension) {
+        return BLOB_DIR + "/" + sha256.substring(0, 2) + "/" + sha256 + extension.toLowerCase();
+    }
+
+    public static boolean isBlobPath(String path) {
+        return path != null && path.startsWith(BLOB_DIR + "/");
+    }
+
+    /**
+     * blob 기록 전 참조 0 행 확보 — 호출자 트랜잭션과 무관하게 즉시 커밋
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void register(StoredFile blob) {
+        fileBlobRepository.register(blob.path(), blob.sha256(), blob.size());
+    }
+
+    /**
+     * 참조 1 증가 (blob 기록 완료 후 호출)
+     */
+    @Transactional
+    public void acquire(StoredFile blob) {
+        fileBlobRepository.acquire(blob.path(), blob.sha256(), blob.size());
+    }
+
+    /**
+     * 참조 1 감소 — 물리 삭제는 FileBlobGarbageCollector가 유예 기간 후 수행
+     */
+    @Transactional
+    public void release(String path) {
+        if (fileBlobRepository.release(path) == 0) {
+            log.warn("Released untracked or unreferenced blob: {}", path);
+        }
+    }
+}
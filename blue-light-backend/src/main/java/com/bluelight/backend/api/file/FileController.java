@@ -7,10 +7,9 @@ import com.bluelight.backend.domain.audit.Auditable;
 import com.bluelight.backend.domain.file.FileEntity;
 import com.bluelight.backend.domain.file.FileType;
 import com.bluelight.backend.security.GenericRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +17,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -34,6 +34,7 @@ import java.util.List;
 public class FileController {
 
     private final FileService fileService;
+    private final FileDownloadEngine fileDownloadEngine;
     private final GenericRateLimiter rateLimiter;
 
     /** 파일 업로드: 사용자당 10분 내 최대 30회 */
@@ -94,16 +95,17 @@ public class FileController {
     /**
      * Download a file
      * GET /api/files/:fileId/download
+     * - ETag/If-None-Match → 304, Range → 206 (FileDownloadEngine)
      */
     @GetMapping("/api/files/{fileId}/download")
-    public ResponseEntity<Resource> downloadFile(
+    public ResponseEntity<StreamingResponseBody> downloadFile(
             Authentication authentication,
-            @PathVariable Long fileId) {
+            @PathVariable Long fileId,
+            HttpServletRequest request) {
         Long userSeq = (Long) authentication.getPrincipal();
         String role = authentication.getAuthorities().iterator().next().getAuthority();
-        log.info("File download: userSeq={}, fileSeq={}", userSeq, fileId);
+        log.info("File download: userSeq={}, fileSeq={}, range={}", userSeq, fileId, request.getHeader("Range"));
         FileEntity fileEntity = fileService.getFileEntity(userSeq, role, fileId);
-        Resource resource = fileService.downloadFile(userSeq, role, fileId);
 
         String encodedFilename = URLEncoder.encode(fileEntity.getOriginalFilename(), StandardCharsets.UTF_8)
                 .replaceAll("\\+", "%20");
@@ -115,11 +117,9 @@ public class FileController {
         } catch (Exception ignored) {}
         MediaType mediaType = mimeType != null ? MediaType.parseMediaType(mimeType) : MediaType.APPLICATION_OCTET_STREAM;
 
-        return ResponseEntity.ok()
-                .contentType(mediaType)
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + fileEntity.getOriginalFilename() + "\"; filename*=UTF-8''" + encodedFilename)
-                .body(resource);
+        String contentDisposition =
+                "attachment; filename=\"" + fileEntity.getOriginalFilename() + "\"; filename*=UTF-8''" + encodedFilename;
+        return fileDownloadEngine.serve(request, fileEntity.getFileUrl(), mediaType, contentDisposition);
     }
 
     /**
@@ -0,0 +1,176 @@
+package com.bluelight.backend.api.file;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 파일 다운로드 엔진 — 조건부 요청(ETag) + Range(206) 처리
+ *
+ * - If-None-Match 일치 → 304 (본문 전송·복호화 없음)
+ * - Range: bytes=a-b (단일 범위) → 206 + Content-Range, If-Range 불일치 시 전체 전송
+ * - 범위 불가 → 416 + Content-Range (unsatisfied-range 형식)
+ * - 본문 전송 경로는 FileStorageService.openRange()가 결정
+ *   - 평문 로컬 파일: Tomcat sendfile (지원 시) 또는 FileChannel.transferTo
+ *   - 청크 암호화 로컬 파일: 범위가 속한 청크부터만 복호화
+ *   - S3: Range GET
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileDownloadEngine {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final FileStorageService fileStorageService;
+
+    /**
+     * 저장 파일을 다운로드 응답으로 변환
+     *
+     * @param request            조건부/Range 헤더 조회 및 sendfile 속성 설정용
+     * @param filePath           저장 경로 (FileEntity.fileUrl)
+     * @param mediaType          응답 Content-Type
+     * @param contentDisposition 응답 Content-Disposition
+     */
+    public ResponseEntity<StreamingResponseBody> serve(HttpServletRequest request, String filePath,
+                                                       MediaType mediaType, String contentDisposition) {
+        FileStat stat = fileStorageService.stat(filePath);
+        long size = stat.size();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(stat.etag());
+        headers.setLastModified(stat.lastModified());
+        headers.setCacheControl(CacheControl.noCache().cachePrivate());
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (matchesIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), stat.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        headers.setContentType(mediaType);
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+
+        long start = 0;
+        long end = size - 1;
+        HttpStatus status = HttpStatus.OK;
+
+        HttpRange range = resolveRange(request, stat);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(size);
+                end = range.getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                start = size;
+            }
+            if (start >= size || start > end) {
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+            }
+            status = HttpStatus.PARTIAL_CONTENT;
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+
+        long length = Math.max(0, end - start + 1);
+        headers.setContentLength(length);
+
+        FileRange fileRange = fileStorageService.openRange(filePath, start, length);
+
+        // 평문 로컬 파일 + Tomcat sendfile 지원 → 컨테이너가 커널에서 직접 전송
+        if (fileRange.getPlainFile() != null && length > 0
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            closeQuietly(fileRange);
+            request.setAttribute(SENDFILE_FILENAME, fileRange.getPlainFile().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return ResponseEntity.status(status).headers(headers).build();
+        }
+
+        StreamingResponseBody body = out -> {
+            try (FileRange r = fileRange) {
+                r.writeTo(out);
+            }
+        };
+        return ResponseEntity.status(status).headers(headers).body(body);
+    }
+
+    /**
+     * Range 헤더 해석 — 단일 범위만 지원, If-Range 불일치/형식 오류/다중 범위는 전체 전송
+     */
+    private HttpRange resolveRange(HttpServletRequest request, FileStat stat) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || rangeHeader.isBlank()) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.isBlank() && !matchesIfRange(ifRange.trim(), stat)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            log.debug("Invalid Range header ignored: {}", rangeHeader);
+            return null;
+        }
+    }
+
+    /**
+     * If-Range: 강한 ETag 비교 또는 HTTP-date 비교 (초 단위)
+     */
+    private boolean matchesIfRange(String ifRange, FileStat stat) {
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(stat.etag());
+        }
+        try {
+            HttpHeaders h = new HttpHeaders();
+            h.set(HttpHeaders.IF_RANGE, ifRange);
+            long date = h.getFirstDate(HttpHeaders.IF_RANGE);
+            return stat.lastModified() / 1000 == date / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * If-None-Match: 약한 비교 (W/ 접두어 무시), 목록 및 * 지원
+     */
+    private boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) {
+            return false;
+        }
+        String target = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String c = candidate.trim();
+            if (c.equals("*") || stripWeak(c).equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private void closeQuietly(FileRange range) {
+        try {
+            range.close();
+        } catch (IOException e) {
+            log.debug("Failed to close file range", e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.bluelight.backend.api.file;
+
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+
+/**
+ * FileStorageService.openRange() 결과 — 저장소에서 읽어낼 평문 바이트 범위
+ * - 평문 로컬 파일: FileChannel.transferTo (커널 복사, 서블릿 컨테이너 sendfile 가능)
+ * - 그 외 (암호화 로컬 파일, S3): 범위 시작 위치에서 열린 스트림을 length만큼 복사
+ */
+@Getter
+public class FileRange implements Closeable {
+
+    private final long offset;
+    private final long length;
+    private final long totalLength;
+
+    /**
+     * 평문 로컬 파일 경로 (sendfile 대상, 그 외에는 null)
+     */
+    private final Path plainFile;
+
+    private final FileChannel channel;
+    private final InputStream stream;
+
+    private FileRange(long offset, long length, long totalLength,
+                      Path plainFile, FileChannel channel, InputStream stream) {
+        this.offset = offset;
+        this.length = length;
+        this.totalLength = totalLength;
+        this.plainFile = plainFile;
+        this.channel = channel;
+        this.stream = stream;
+    }
+
+    public static FileRange ofPlainFile(Path file, FileChannel channel, long offset, long length, long totalLength) {
+        return new FileRange(offset, length, totalLength, file, channel, null);
+    }
+
+    /**
+     * @param stream offset 위치에서 시작하는 평문 스트림
+     */
+    public static FileRange ofStream(InputStream stream, long offset, long length, long totalLength) {
+        return new FileRange(offset, length, totalLength, null, null, stream);
+    }
+
+    public boolean isPartial() {
+        return length != totalLength;
+    }
+
+    /**
+     * 범위 바이트를 출력 스트림에 기록
+     *
+     * @return 기록한 바이트 수
+     */
+    public long writeTo(OutputStream out) throws IOException {
+        if (channel != null) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = offset;
+            long remaining = length;
+            while (remaining > 0) {
+                long n = channel.transferTo(position, remaining, target);
+                if (n <= 0) {
+                    break;
+                }
+                position += n;
+                remaining -= n;
+            }
+            return length - remaining;
+        }
+
+        byte[] buffer = new byte[16 * 1024];
+        long remaining = length;
+        while (remaining > 0) {
+            int n = stream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (n == -1) {
+                break;
+            }
+            out.write(buffer, 0, n);
+            remaining -= n;
+        }
+        return length - remaining;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
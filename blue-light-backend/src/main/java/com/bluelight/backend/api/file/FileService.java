@@ -10,7 +10,6 @@ import com.bluelight.backend.domain.file.FileRepository;
 import com.bluelight.backend.domain.file.FileType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -56,7 +55,7 @@ public class FileService {
 
         // Store file on disk
         String subDirectory = "applications/" + applicationSeq;
-        String storedPath = fileStorageService.store(file, subDirectory);
+        String storedPath = fileStorageService.store(file, subDirectory).path();
 
         // Create DB record
         FileEntity fileEntity = FileEntity.builder()
@@ -85,7 +84,7 @@ public class FileService {
         validateFileExtension(file.getOriginalFilename());
 
         String subDirectory = "applications/" + applicationSeq;
-        String storedPath = fileStorageService.store(file, subDirectory);
+        String storedPath = fileStorageService.store(file, subDirectory).path();
 
         FileEntity fileEntity = FileEntity.builder()
                 .application(application)
@@ -118,21 +117,6 @@ public class FileService {
                 .toList();
     }
 
-    /**
-     * Download a file (with ownership check)
-     */
-    public Resource downloadFile(Long userSeq, String role, Long fileSeq) {
-        FileEntity fileEntity = fileRepository.findById(fileSeq)
-                .orElseThrow(() -> new BusinessException("File not found", HttpStatus.NOT_FOUND, "FILE_NOT_FOUND"));
-
-        // Admin: 전체 접근 / LEW: 자신에게 할당된 신청서만 / Applicant: 본인 소유만
-        Application application = fileEntity.getApplication();
-        OwnershipValidator.validateOwnerOrAdminOrAssignedLew(
-                application.getUser().getUserSeq(), userSeq, role, getAssignedLewSeq(application));
-
-        return fileStorageService.loadAsResource(fileEntity.getFileUrl());
-    }
-
     /**
      * Get file entity with ownership check (for content-disposition header)
      */
@@ -0,0 +1,12 @@
+package com.bluelight.backend.api.file;
+
+/**
+ * 저장 파일 메타데이터 (본문을 읽지 않고 조회)
+ *
+ * @param size         평문 기준 바이트 수
+ * @param lastModified 최종 수정 시각 (epoch millis)
+ * @param etag         강한 ETag (따옴표 포함)
+ * @param sha256       평문 SHA-256 (소문자 hex) — 메타데이터 도입 전 저장된 파일은 null
+ */
+public record FileStat(long size, long lastModified, String etag, String sha256) {
+}
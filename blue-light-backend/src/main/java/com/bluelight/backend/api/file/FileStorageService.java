@@ -7,27 +7,53 @@ import org.springframework.web.multipart.MultipartFile;
  * File storage abstraction.
  * MVP: LocalFileStorageService (disk).
  * Future: S3FileStorageService (AWS S3).
+ *
+ * file.dedup.enabled=true (기본값 false): 같은 내용은 blobs/ 아래 한 번만 저장하고 참조 카운트로 공유 (FileBlobRegistry)
  */
 public interface FileStorageService {
 
     /**
-     * Store a file and return the stored path/key
+     * Store a file and return the stored path/key with its size and SHA-256
+     * - 크기/해시는 저장 스트림에서 함께 계산 → 호출자가 다시 읽을 필요 없음
      */
-    String store(MultipartFile file, String subDirectory);
+    StoredFile store(MultipartFile file, String subDirectory);
 
     /**
-     * Store raw bytes and return the stored path/key
+     * Store raw bytes and return the stored path/key with its size and SHA-256
      * - AI 생성 파일 등 MultipartFile이 아닌 바이트 배열을 직접 저장할 때 사용
      */
-    String storeBytes(byte[] data, String filename, String subDirectory);
+    StoredFile storeBytes(byte[] data, String filename, String subDirectory);
 
     /**
      * Load a file as a Resource
      */
     Resource loadAsResource(String filePath);
 
+    /**
+     * 파일 메타데이터 조회 (크기, 수정 시각, ETag, SHA-256) — 본문을 읽지 않음
+     * - 로컬: 파일 속성 + 저장 시 기록한 sidecar(.meta), S3: HeadObject (사용자 메타데이터 sha256)
+     */
+    FileStat stat(String filePath);
+
+    /**
+     * 파일의 평문 바이트 범위 오픈 (Range 다운로드용)
+     * - 호출자가 close 책임
+     *
+     * @param offset 시작 위치 (평문 기준)
+     * @param length 읽을 바이트 수
+     */
+    FileRange openRange(String filePath, long offset, long length);
+
     /**
      * Delete a file
+     * - 내용 주소 blob(blobs/...)은 참조만 감소 — 물리 삭제는 FileBlobGarbageCollector
      */
     void delete(String filePath);
+
+    /**
+     * 참조 카운트와 무관하게 물리 삭제 (FileBlobGarbageCollector 전용)
+     *
+     * @return 삭제 성공 또는 이미 없음
+     */
+    boolean purge(String filePath);
 }
@@ -0,0 +1,79 @@
+package com.bluelight.backend.api.file;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+
+/**
+ * 읽은 바이트 수와 SHA-256을 함께 계산하는 입력 스트림 (저장 중 1-pass 메타데이터 산출용)
+ */
+class HashingInputStream extends FilterInputStream {
+
+    private final MessageDigest digest = ContentHash.newDigest();
+    private long size;
+
+    HashingInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            digest.update((byte) b);
+            size++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = super.read(b, off, len);
+        if (read > 0) {
+            digest.update(b, off, read);
+            size += read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // 건너뛴 바이트도 해시에 포함되도록 읽어서 버림
+        byte[] buffer = new byte[(int) Math.min(n, 8192)];
+        long remaining = n;
+        while (remaining > 0) {
+            int read = read(buffer, 0, (int) Math.min(remaining, buffer.length));
+            if (read == -1) {
+                break;
+            }
+            remaining -= read;
+        }
+        return n - remaining;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * 스트림을 끝까지 읽은 뒤 1회만 호출
+     */
+    String sha256() {
+        return ContentHash.hex(digest);
+    }
+}
@@ -7,18 +7,25 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
+import java.nio.channels.FileChannel;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
 import java.util.UUID;
 
 /**
@@ -27,10 +34,17 @@ import java.util.UUID;
  * file.storage-type=local (기본값) 일 때 활성화.
  *
  * 암호화 설정 시 (FILE_ENCRYPTION_KEY 환경변수):
- *   - store(): 파일 데이터 → AES-256-GCM 암호화 → 디스크 저장
- *   - loadAsResource(): 디스크 → 복호화 → ByteArrayResource 반환
+ *   - store(): 업로드 스트림 → AES-256-GCM 청크 암호화 → 디스크 (전체 바이트 배열 미생성)
+ *   - loadAsResource(): EncryptedFileResource 반환 → 읽는 시점에 청크 단위 복호화
  * 암호화 미설정 시:
  *   - 기존과 동일하게 평문 저장/로드
+ *
+ * 저장 시 평문 크기/SHA-256을 스트림에서 함께 계산해 sidecar({저장파일}.meta)에 기록
+ *   - stat()은 sidecar만 읽음 (본문/암호문 재독 없음), sidecar 없는 기존 파일은 파일 속성으로 대체
+ *
+ * file.dedup.enabled=true (기본값 false):
+ *   - 임시 파일(.part)로 해시하며 기록 → blobs/{hash}{ext}가 이미 있으면 임시 파일 폐기 (참조만 증가)
+ *   - delete()는 참조 감소만, 물리 삭제는 purge() (FileBlobGarbageCollector)
  */
 @Slf4j
 @Service
@@ -38,11 +52,25 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class LocalFileStorageService implements FileStorageService {
 
+    /**
+     * 메타데이터 sidecar 확장자 (평문 크기, SHA-256)
+     */
+    public static final String METADATA_SUFFIX = ".meta";
+
+    /**
+     * 기록 중 임시 파일 확장자 (완료 시 원자적 이동)
+     */
+    public static final String TEMP_SUFFIX = ".part";
+
     private final FileEncryptionUtil fileEncryptionUtil;
+    private final FileBlobRegistry fileBlobRegistry;
 
     @Value("${file.upload-dir}")
     private String uploadDir;
 
+    @Value("${file.dedup.enabled:false}")
+    private boolean dedupEnabled;
+
     private Path rootLocation;
 
     @PostConstruct
@@ -57,38 +85,23 @@ public class LocalFileStorageService implements FileStorageService {
     }
 
     @Override
-    public String store(MultipartFile file, String subDirectory) {
+    public StoredFile store(MultipartFile file, String subDirectory) {
         if (file.isEmpty()) {
             throw new BusinessException("Cannot store empty file", HttpStatus.BAD_REQUEST, "EMPTY_FILE");
         }
 
         try {
-            // Create subdirectory (e.g., "applications/1")
-            Path targetDir = this.rootLocation.resolve(subDirectory).normalize();
-            Files.createDirectories(targetDir);
-
-            // Generate unique filename to prevent collision
             String originalFilename = file.getOriginalFilename();
-            String extension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            }
-            String storedFilename = UUID.randomUUID() + extension;
-            Path targetPath = targetDir.resolve(storedFilename);
 
-            // 암호화 저장 또는 평문 저장
-            if (fileEncryptionUtil.isEnabled()) {
-                byte[] plainData = file.getBytes();
-                byte[] encryptedData = fileEncryptionUtil.encrypt(plainData);
-                Files.write(targetPath, encryptedData);
-                log.info("File stored (encrypted): {} -> {}", originalFilename, subDirectory + "/" + storedFilename);
-            } else {
-                Files.write(targetPath, file.getBytes());
-                log.info("File stored: {} -> {}", originalFilename, subDirectory + "/" + storedFilename);
+            // 암호화 저장 또는 평문 저장 (스트리밍)
+            StoredFile stored;
+            try (InputStream in = file.getInputStream()) {
+                stored = write(in, subDirectory, extractExtension(originalFilename));
             }
+            log.info("File stored{}: {} -> {}", fileEncryptionUtil.isEnabled() ? " (encrypted)" : "",
+                    originalFilename, stored.path());
 
-            // Return relative path from root
-            return subDirectory + "/" + storedFilename;
+            return stored;
 
         } catch (IOException e) {
             throw new BusinessException("Failed to store file", HttpStatus.INTERNAL_SERVER_ERROR, "FILE_STORE_ERROR");
@@ -96,32 +109,17 @@ public class LocalFileStorageService implements FileStorageService {
     }
 
     @Override
-    public String storeBytes(byte[] data, String filename, String subDirectory) {
+    public StoredFile storeBytes(byte[] data, String filename, String subDirectory) {
         if (data == null || data.length == 0) {
             throw new BusinessException("Cannot store empty data", HttpStatus.BAD_REQUEST, "EMPTY_FILE");
         }
 
         try {
-            Path targetDir = this.rootLocation.resolve(subDirectory).normalize();
-            Files.createDirectories(targetDir);
-
-            String extension = "";
-            if (filename != null && filename.contains(".")) {
-                extension = filename.substring(filename.lastIndexOf("."));
-            }
-            String storedFilename = UUID.randomUUID() + extension;
-            Path targetPath = targetDir.resolve(storedFilename);
-
-            if (fileEncryptionUtil.isEnabled()) {
-                byte[] encryptedData = fileEncryptionUtil.encrypt(data);
-                Files.write(targetPath, encryptedData);
-                log.info("Bytes stored (encrypted): {} -> {}", filename, subDirectory + "/" + storedFilename);
-            } else {
-                Files.write(targetPath, data);
-                log.info("Bytes stored: {} -> {}", filename, subDirectory + "/" + storedFilename);
-            }
+            StoredFile stored = write(new ByteArrayInputStream(data), subDirectory, extractExtension(filename));
+            log.info("Bytes stored{}: {} -> {}", fileEncryptionUtil.isEnabled() ? " (encrypted)" : "",
+                    filename, stored.path());
 
-            return subDirectory + "/" + storedFilename;
+            return stored;
 
         } catch (IOException e) {
             throw new BusinessException("Failed to store file", HttpStatus.INTERNAL_SERVER_ERROR, "FILE_STORE_ERROR");
@@ -137,11 +135,9 @@ public class LocalFileStorageService implements FileStorageService {
                 throw new BusinessException("File not found: " + filePath, HttpStatus.NOT_FOUND, "FILE_NOT_FOUND");
             }
 
-            // 암호화 활성화 시 복호화 후 반환
+            // 암호화 활성화 시 읽는 시점에 복호화하는 Resource 반환
             if (fileEncryptionUtil.isEnabled()) {
-                byte[] encryptedData = Files.readAllBytes(file);
-                byte[] decryptedData = fileEncryptionUtil.decrypt(encryptedData);
-                return new ByteArrayResource(decryptedData);
+                return new EncryptedFileResource(file, fileEncryptionUtil);
             }
 
             // 암호화 비활성화 시 기존 방식
@@ -153,19 +149,216 @@ public class LocalFileStorageService implements FileStorageService {
             }
         } catch (MalformedURLException e) {
             throw new BusinessException("File not found: " + filePath, HttpStatus.NOT_FOUND, "FILE_NOT_FOUND");
+        }
+    }
+
+    @Override
+    public FileStat stat(String filePath) {
+        Path file = resolveExisting(filePath);
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+            Metadata metadata = readMetadata(file);
+            long size;
+            if (metadata != null) {
+                size = metadata.size();
+            } else {
+                size = fileEncryptionUtil.isEnabled() ? fileEncryptionUtil.plaintextLength(file) : attrs.size();
+            }
+            long lastModified = attrs.lastModifiedTime().toMillis();
+            // 저장 파일명은 UUID로 불변 → 경로 + 크기 + 수정 시각으로 강한 ETag 구성
+            String etag = "\"" + Integer.toHexString(filePath.hashCode()) + "-"
+                    + Long.toHexString(attrs.size()) + "-" + Long.toHexString(lastModified) + "\"";
+            return new FileStat(size, lastModified, etag, metadata != null ? metadata.sha256() : null);
         } catch (IOException e) {
             throw new BusinessException("Failed to read file: " + filePath, HttpStatus.INTERNAL_SERVER_ERROR, "FILE_READ_ERROR");
         }
     }
 
+    @Override
+    public FileRange openRange(String filePath, long offset, long length) {
+        Path file = resolveExisting(filePath);
+        try {
+            if (!fileEncryptionUtil.isEnabled()) {
+                FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                return FileRange.ofPlainFile(file, channel, offset, length, channel.size());
+            }
+            long totalLength = fileEncryptionUtil.plaintextLength(file);
+            InputStream in = (length > 0)
+                    ? fileEncryptionUtil.openDecrypted(file, offset)
+                    : InputStream.nullInputStream();
+            return FileRange.ofStream(in, offset, length, totalLength);
+        } catch (IOException e) {
+            throw new BusinessException("Failed to read file: " + filePath, HttpStatus.INTERNAL_SERVER_ERROR, "FILE_READ_ERROR");
+        }
+    }
+
+    private Path resolveExisting(String filePath) {
+        Path file = this.rootLocation.resolve(filePath).normalize();
+        if (!file.startsWith(this.rootLocation) || !Files.isRegularFile(file) || !Files.isReadable(file)) {
+            throw new BusinessException("File not found: " + filePath, HttpStatus.NOT_FOUND, "FILE_NOT_FOUND");
+        }
+        return file;
+    }
+
+    /**
+     * dedup 모드면 내용 주소 blob, 아니면 {subDirectory}/{UUID}{ext}에 기록
+     *
+     * @return 루트 기준 상대 경로 + 평문 크기/해시
+     */
+    private StoredFile write(InputStream in, String subDirectory, String extension) throws IOException {
+        if (dedupEnabled) {
+            return writeBlob(in, extension);
+        }
+
+        // Create subdirectory (e.g., "applications/1")
+        Path targetDir = this.rootLocation.resolve(subDirectory).normalize();
+        Files.createDirectories(targetDir);
+
+        // Generate unique filename to prevent collision
+        String storedFilename = UUID.randomUUID() + extension;
+        Path targetPath = targetDir.resolve(storedFilename);
+        HashingInputStream hashing = writeStream(in, targetPath);
+        StoredFile stored = new StoredFile(subDirectory + "/" + storedFilename, hashing.size(), hashing.sha256());
+        writeMetadata(targetPath, stored);
+        return stored;
+    }
+
+    /**
+     * 내용 주소 blob 기록
+     * - 해시는 기록이 끝나야 알 수 있으므로 임시 파일에 먼저 기록
+     * - 참조 0 행 확보(register) → blob이 없으면 이동 → 참조 증가(acquire, 호출자 트랜잭션)
+     *   호출자 트랜잭션이 롤백되면 참조 0 행이 남아 GC가 blob을 정리
+     * - blob이 이미 있으면 임시 파일 폐기 (디스크 기록 1회로 끝나는 동일 내용 재저장)
+     */
+    private StoredFile writeBlob(InputStream in, String extension) throws IOException {
+        Path blobRoot = this.rootLocation.resolve(FileBlobRegistry.BLOB_DIR);
+        Files.createDirectories(blobRoot);
+        Path tempPath = blobRoot.resolve(UUID.randomUUID() + TEMP_SUFFIX);
+
+        HashingInputStream hashing = writeStream(in, tempPath);
+        try {
+            StoredFile blob = new StoredFile(FileBlobRegistry.blobPath(hashing.sha256(), extension),
+                    hashing.size(), hashing.sha256());
+            fileBlobRegistry.register(blob);
+
+            Path blobPath = this.rootLocation.resolve(blob.path());
+            if (Files.isRegularFile(blobPath)) {
+                log.debug("Blob already stored, reference added: {}", blob.path());
+            } else {
+                Files.createDirectories(blobPath.getParent());
+                // 같은 내용을 동시에 기록한 경우 덮어써도 평문은 동일
+                Files.move(tempPath, blobPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                writeMetadata(blobPath, blob);
+            }
+            fileBlobRegistry.acquire(blob);
+            return blob;
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /**
+     * 스트림을 대상 파일에 기록 (암호화 활성화 시 청크 암호화)
+     * - 평문 크기/SHA-256은 같은 패스에서 계산
+     * - 실패 시 일부만 기록된 파일 삭제
+     */
+    private HashingInputStream writeStream(InputStream in, Path targetPath) throws IOException {
+        HashingInputStream hashing = new HashingInputStream(in);
+        try (FileChannel out = FileChannel.open(targetPath,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            fileEncryptionUtil.encrypt(hashing, out);
+        } catch (IOException e) {
+            Files.deleteIfExists(targetPath);
+            throw e;
+        }
+        return hashing;
+    }
+
+    /**
+     * sidecar 기록 (임시 파일 → 원자적 이동)
+     * - 같은 blob을 동시에 저장해도 섞이지 않도록 임시 파일명은 요청마다 다름
+     * - 실패해도 저장은 성공 처리 — stat()이 파일 속성으로 대체
+     */
+    private void writeMetadata(Path targetPath, StoredFile stored) {
+        Path sidecar = metadataPath(targetPath);
+        Path temp = sidecar.resolveSibling(sidecar.getFileName() + "." + UUID.randomUUID() + TEMP_SUFFIX);
+        Properties props = new Properties();
+        props.setProperty("size", Long.toString(stored.size()));
+        props.setProperty("sha256", stored.sha256());
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                props.store(out, null);
+            }
+            Files.move(temp, sidecar, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to write file metadata: {}", sidecar, e);
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // 다음 저장과 무관 — 무시
+            }
+        }
+    }
+
+    /**
+     * sidecar 조회 — 없거나 손상된 경우 null
+     */
+    private Metadata readMetadata(Path file) {
+        Path sidecar = metadataPath(file);
+        if (!Files.isRegularFile(sidecar)) {
+            return null;
+        }
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(sidecar)) {
+            props.load(in);
+            String sha256 = props.getProperty("sha256");
+            String size = props.getProperty("size");
+            if (sha256 == null || size == null) {
+                return null;
+            }
+            return new Metadata(Long.parseLong(size), sha256);
+        } catch (IOException | NumberFormatException e) {
+            log.warn("Ignoring unreadable file metadata: {}", sidecar);
+            return null;
+        }
+    }
+
+    private static Path metadataPath(Path file) {
+        return file.resolveSibling(file.getFileName() + METADATA_SUFFIX);
+    }
+
+    private record Metadata(long size, String sha256) {
+    }
+
+    private static String extractExtension(String filename) {
+        if (filename != null && filename.contains(".")) {
+            return filename.substring(filename.lastIndexOf("."));
+        }
+        return "";
+    }
+
     @Override
     public void delete(String filePath) {
+        if (FileBlobRegistry.isBlobPath(filePath)) {
+            fileBlobRegistry.release(filePath);
+            log.info("Blob reference released: {}", filePath);
+            return;
+        }
+        if (purge(filePath)) {
+            log.info("File deleted: {}", filePath);
+        }
+    }
+
+    @Override
+    public boolean purge(String filePath) {
         try {
             Path file = this.rootLocation.resolve(filePath).normalize();
             Files.deleteIfExists(file);
-            log.info("File deleted: {}", filePath);
+            Files.deleteIfExists(metadataPath(file));
+            return true;
         } catch (IOException e) {
             log.warn("Failed to delete file: {}", filePath, e);
+            return false;
         }
     }
 }
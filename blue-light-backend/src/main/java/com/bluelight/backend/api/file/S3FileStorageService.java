@@ -10,12 +10,24 @@ import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * AWS S3 파일 저장 구현체
@@ -24,6 +36,12 @@ import java.util.UUID;
  * - 암호화: S3 SSE-S3 (서버 사이드 암호화) — 앱 레벨 AES-256-GCM 불필요
  * - 인증: IAM Role(EC2/ECS) 또는 AWS CLI 프로파일/환경변수
  * - S3 키 구조: {subDirectory}/{UUID}.{ext} (기존 로컬 경로 패턴 동일)
+ * - 업로드: 임계값(file.s3.multipart-threshold-mb) 미만은 스트림 PUT,
+ *   이상은 S3AsyncClient 멀티파트 — 어느 쪽이든 업로드 완료 후 반환 (키가 DB에 저장될 때 객체는 항상 존재)
+ * - 평문 SHA-256은 PUT 전에 계산해 사용자 메타데이터(x-amz-meta-sha256)로 저장 → stat()은 HeadObject만 사용
+ * - file.dedup.enabled=true (기본값 false): 키 = blobs/{hash}{ext}, 객체가 이미 있으면 PUT 생략
+ *   참조 0 행 확보(register) → 업로드 → 참조 증가(acquire) 순서 — 업로드 후 롤백돼도 GC가 객체 정리
+ *   delete()는 참조 감소만, 객체 삭제는 purge() (FileBlobGarbageCollector)
  */
 @Slf4j
 @Service
@@ -31,34 +49,75 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class S3FileStorageService implements FileStorageService {
 
+    private static final String SHA256_METADATA = "sha256";
+
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final FileBlobRegistry fileBlobRegistry;
+
+    /**
+     * 진행 중인 멀티파트 업로드 (S3 키 → 완료 future)
+     */
+    private final Map<String, CompletableFuture<?>> pendingUploads = new ConcurrentHashMap<>();
 
     @Value("${file.s3.bucket}")
     private String bucket;
 
+    @Value("${file.s3.multipart-threshold-mb:8}")
+    private long multipartThresholdMb;
+
+    @Value("${file.dedup.enabled:false}")
+    private boolean dedupEnabled;
+
     @Override
-    public String store(MultipartFile file, String subDirectory) {
+    public StoredFile store(MultipartFile file, String subDirectory) {
         if (file.isEmpty()) {
             throw new BusinessException("Cannot store empty file", HttpStatus.BAD_REQUEST, "EMPTY_FILE");
         }
 
+        String originalFilename = file.getOriginalFilename();
+        String extension = extractExtension(originalFilename);
+
         try {
-            String originalFilename = file.getOriginalFilename();
-            String extension = extractExtension(originalFilename);
-            String storedFilename = UUID.randomUUID() + extension;
-            String s3Key = subDirectory + "/" + storedFilename;
+            // 메타데이터 헤더/내용 주소 키는 본문보다 먼저 필요하므로 업로드 전 1회 해시 (업로드 임시 파일/메모리에서 읽음)
+            String sha256;
+            try (InputStream in = file.getInputStream()) {
+                sha256 = ContentHash.sha256(in);
+            }
+            StoredFile stored = new StoredFile(objectKey(subDirectory, extension, sha256), file.getSize(), sha256);
+            String s3Key = stored.path();
+            if (dedupEnabled && reuseExisting(stored)) {
+                log.info("File deduplicated on S3: {} -> s3://{}/{}", originalFilename, bucket, s3Key);
+                return stored;
+            }
 
             PutObjectRequest putRequest = PutObjectRequest.builder()
                     .bucket(bucket)
                     .key(s3Key)
                     .serverSideEncryption(ServerSideEncryption.AES256)  // SSE-S3
                     .contentType(file.getContentType())
+                    .contentLength(file.getSize())
+                    .metadata(Map.of(SHA256_METADATA, sha256))
                     .build();
 
-            s3Client.putObject(putRequest, RequestBody.fromBytes(file.getBytes()));
-
-            log.info("File stored to S3: {} -> s3://{}/{}", originalFilename, bucket, s3Key);
-            return s3Key;
+            if (file.getSize() < multipartThresholdBytes()) {
+                // 소용량: 업로드 스트림을 그대로 전송 (Content-Length 지정 → 버퍼링 없음)
+                try (InputStream in = file.getInputStream()) {
+                    s3Client.putObject(putRequest, RequestBody.fromInputStream(in, file.getSize()));
+                }
+                log.info("File stored to S3: {} -> s3://{}/{}", originalFilename, bucket, s3Key);
+            } else {
+                // 대용량: 멀티파트 임시 파일은 요청 종료 시 삭제되므로 전용 임시 파일로 이동 후 파트 업로드
+                Path tempFile = Files.createTempFile("s3-upload-", extension);
+                try {
+                    file.transferTo(tempFile);
+                    uploadMultipart(putRequest, AsyncRequestBody.fromFile(tempFile), originalFilename);
+                } finally {
+                    deleteTempFile(tempFile);
+                }
+            }
+            acquireUploaded(stored);
+            return stored;
 
         } catch (IOException e) {
             throw new BusinessException("Failed to store file", HttpStatus.INTERNAL_SERVER_ERROR, "FILE_STORE_ERROR");
@@ -69,33 +128,136 @@ public class S3FileStorageService implements FileStorageService {
     }
 
     @Override
-    public String storeBytes(byte[] data, String filename, String subDirectory) {
+    public StoredFile storeBytes(byte[] data, String filename, String subDirectory) {
         if (data == null || data.length == 0) {
             throw new BusinessException("Cannot store empty data", HttpStatus.BAD_REQUEST, "EMPTY_FILE");
         }
 
+        String extension = extractExtension(filename);
+        String sha256 = ContentHash.sha256(data);
+        StoredFile stored = new StoredFile(objectKey(subDirectory, extension, sha256), data.length, sha256);
+        String s3Key = stored.path();
+
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .serverSideEncryption(ServerSideEncryption.AES256)
+                .contentLength((long) data.length)
+                .metadata(Map.of(SHA256_METADATA, sha256))
+                .build();
+
         try {
-            String extension = extractExtension(filename);
-            String storedFilename = UUID.randomUUID() + extension;
-            String s3Key = subDirectory + "/" + storedFilename;
+            if (dedupEnabled && reuseExisting(stored)) {
+                // 동일한 AI 생성 결과 재저장 등 — 전송 없이 참조만 증가
+                log.info("Bytes deduplicated on S3: {} -> s3://{}/{}", filename, bucket, s3Key);
+                return stored;
+            }
+            if (data.length < multipartThresholdBytes()) {
+                // RequestBody.fromBytes는 배열을 복사하므로 스트림으로 전달
+                s3Client.putObject(putRequest,
+                        RequestBody.fromInputStream(new ByteArrayInputStream(data), data.length));
+                log.info("Bytes stored to S3: {} -> s3://{}/{}", filename, bucket, s3Key);
+            } else {
+                uploadMultipart(putRequest, AsyncRequestBody.fromBytesUnsafe(data), filename);
+            }
+            acquireUploaded(stored);
+            return stored;
 
-            PutObjectRequest putRequest = PutObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(s3Key)
-                    .serverSideEncryption(ServerSideEncryption.AES256)
-                    .build();
+        } catch (S3Exception e) {
+            log.error("S3 upload failed: {}", e.getMessage(), e);
+            throw new BusinessException("Failed to store file to S3", HttpStatus.INTERNAL_SERVER_ERROR, "FILE_STORE_ERROR");
+        }
+    }
 
-            s3Client.putObject(putRequest, RequestBody.fromBytes(data));
+    /**
+     * dedup 모드면 내용 주소 키, 아니면 {subDirectory}/{UUID}{ext}
+     */
+    private String objectKey(String subDirectory, String extension, String sha256) {
+        return dedupEnabled
+                ? FileBlobRegistry.blobPath(sha256, extension)
+                : subDirectory + "/" + UUID.randomUUID() + extension;
+    }
 
-            log.info("Bytes stored to S3: {} -> s3://{}/{}", filename, bucket, s3Key);
-            return s3Key;
+    /**
+     * 참조 0 행 확보 후 같은 키의 객체가 이미 있으면 참조 증가 → true (업로드 생략)
+     * - 업로드가 필요하면 완료 후 acquireUploaded()로 참조 증가
+     */
+    private boolean reuseExisting(StoredFile blob) {
+        fileBlobRegistry.register(blob);
+        if (!objectExists(blob.path())) {
+            return false;
+        }
+        fileBlobRegistry.acquire(blob);
+        return true;
+    }
 
+    /**
+     * 같은 키를 다른 요청이 멀티파트 업로드 중이면 완료를 기다려 성공한 경우만 존재로 판단,
+     * 실패했으면 HeadObject로 확인 (없으면 직접 업로드)
+     */
+    private boolean objectExists(String s3Key) {
+        CompletableFuture<?> pending = pendingUploads.get(s3Key);
+        if (pending != null) {
+            try {
+                pending.join();
+                return true;
+            } catch (CompletionException | CancellationException e) {
+                log.warn("Concurrent S3 upload failed, checking object: key={}", s3Key);
+            }
+        }
+        try {
+            s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(s3Key).build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
         } catch (S3Exception e) {
-            log.error("S3 upload failed: {}", e.getMessage(), e);
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 업로드 완료 후 참조 증가 (호출자 트랜잭션) — 업로드 실패 시에는 참조 0 행만 남아 GC 대상
+     */
+    private void acquireUploaded(StoredFile blob) {
+        if (dedupEnabled) {
+            fileBlobRegistry.acquire(blob);
+        }
+    }
+
+    /**
+     * 멀티파트 업로드 (S3AsyncClient, 파트 병렬 전송) — 완료까지 대기
+     * - 백그라운드 완료 방식은 두지 않음: 호출자가 키를 엔티티에 저장하므로 실패한 업로드의 키가 남게 됨
+     */
+    private void uploadMultipart(PutObjectRequest putRequest, AsyncRequestBody body, String name) {
+        String s3Key = putRequest.key();
+        CompletableFuture<PutObjectResponse> upload = s3AsyncClient.putObject(putRequest, body);
+        pendingUploads.put(s3Key, upload);
+        try {
+            upload.join();
+            log.info("File stored to S3 (multipart): {} -> s3://{}/{}", name, bucket, s3Key);
+        } catch (CompletionException e) {
+            log.error("S3 multipart upload failed: key={}, error={}", s3Key, e.getCause().getMessage(), e.getCause());
             throw new BusinessException("Failed to store file to S3", HttpStatus.INTERNAL_SERVER_ERROR, "FILE_STORE_ERROR");
+        } finally {
+            pendingUploads.remove(s3Key, upload);
+        }
+    }
+
+    private void deleteTempFile(Path tempFile) {
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete S3 upload temp file: {}", tempFile);
         }
     }
 
+    private long multipartThresholdBytes() {
+        return multipartThresholdMb * 1024 * 1024;
+    }
+
     @Override
     public Resource loadAsResource(String filePath) {
         try {
@@ -115,8 +277,66 @@ public class S3FileStorageService implements FileStorageService {
         }
     }
 
+    @Override
+    public FileStat stat(String filePath) {
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(filePath)
+                    .build());
+            // 메타데이터 도입 전 업로드된 객체는 sha256 없음 → null
+            return new FileStat(head.contentLength(), head.lastModified().toEpochMilli(), head.eTag(),
+                    head.metadata().get(SHA256_METADATA));
+
+        } catch (NoSuchKeyException e) {
+            throw new BusinessException("File not found: " + filePath, HttpStatus.NOT_FOUND, "FILE_NOT_FOUND");
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new BusinessException("File not found: " + filePath, HttpStatus.NOT_FOUND, "FILE_NOT_FOUND");
+            }
+            log.error("S3 head failed: key={}, error={}", filePath, e.getMessage(), e);
+            throw new BusinessException("Failed to read file from S3", HttpStatus.INTERNAL_SERVER_ERROR, "FILE_READ_ERROR");
+        }
+    }
+
+    /**
+     * S3 Range GET — 요청 범위만 전송받음
+     */
+    @Override
+    public FileRange openRange(String filePath, long offset, long length) {
+        if (length <= 0) {
+            FileStat stat = stat(filePath);
+            return FileRange.ofStream(InputStream.nullInputStream(), offset, 0, stat.size());
+        }
+
+        try {
+            ResponseInputStream<GetObjectResponse> in = s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(filePath)
+                    .range("bytes=" + offset + "-" + (offset + length - 1))
+                    .build());
+            return FileRange.ofStream(in, offset, length, parseTotalLength(in.response(), offset + length));
+
+        } catch (NoSuchKeyException e) {
+            throw new BusinessException("File not found: " + filePath, HttpStatus.NOT_FOUND, "FILE_NOT_FOUND");
+        } catch (S3Exception e) {
+            log.error("S3 range download failed: key={}, error={}", filePath, e.getMessage(), e);
+            throw new BusinessException("Failed to read file from S3", HttpStatus.INTERNAL_SERVER_ERROR, "FILE_READ_ERROR");
+        }
+    }
+
     @Override
     public void delete(String filePath) {
+        if (FileBlobRegistry.isBlobPath(filePath)) {
+            fileBlobRegistry.release(filePath);
+            log.info("Blob reference released: s3://{}/{}", bucket, filePath);
+            return;
+        }
+        purge(filePath);
+    }
+
+    @Override
+    public boolean purge(String filePath) {
         try {
             DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
                     .bucket(bucket)
@@ -125,10 +345,26 @@ public class S3FileStorageService implements FileStorageService {
 
             s3Client.deleteObject(deleteRequest);
             log.info("File deleted from S3: s3://{}/{}", bucket, filePath);
+            return true;
 
         } catch (S3Exception e) {
             log.warn("Failed to delete file from S3: key={}, error={}", filePath, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Content-Range: bytes 0-99/1234 → 1234
+     */
+    private long parseTotalLength(GetObjectResponse response, long fallback) {
+        String contentRange = response.contentRange();
+        if (contentRange != null) {
+            int slash = contentRange.lastIndexOf('/');
+            if (slash >= 0 && !contentRange.endsWith("*")) {
+                return Long.parseLong(contentRange.substring(slash + 1).trim());
+            }
         }
+        return fallback;
     }
 
     private String extractExtension(String filename) {
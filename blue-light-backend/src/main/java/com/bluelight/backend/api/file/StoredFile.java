@@ -0,0 +1,11 @@
+package com.bluelight.backend.api.file;
+
+/**
+ * 저장 결과 — 저장 중 한 번에 계산한 크기/다이제스트 (호출자가 파일을 다시 읽을 필요 없음)
+ *
+ * @param path   저장 경로 (로컬 상대 경로 또는 S3 키)
+ * @param size   평문 기준 바이트 수
+ * @param sha256 평문 SHA-256 (소문자 hex)
+ */
+public record StoredFile(String path, long size, String sha256) {
+}
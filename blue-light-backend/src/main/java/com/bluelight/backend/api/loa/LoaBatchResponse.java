@@ -0,0 +1,17 @@
+package com.bluelight.backend.api.loa;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * LOA 일괄 재생성 결과 DTO
+ */
+@Getter
+@Builder
+public class LoaBatchResponse {
+    private int requested;
+    private int regenerated;
+    private List<Long> failedApplicationSeqs;
+}
@@ -0,0 +1,208 @@
+package com.bluelight.backend.api.loa;
+
+import com.bluelight.backend.api.file.FileStorageService;
+import com.bluelight.backend.api.file.StoredFile;
+import com.bluelight.backend.common.exception.BusinessException;
+import com.bluelight.backend.domain.application.Application;
+import com.bluelight.backend.domain.application.ApplicationRepository;
+import com.bluelight.backend.domain.application.ApplicationType;
+import com.bluelight.backend.domain.file.FileEntity;
+import com.bluelight.backend.domain.file.FileRepository;
+import com.bluelight.backend.domain.file.FileType;
+import com.bluelight.backend.domain.user.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * LOA 일괄 재생성 (LEW 정보 변경 시)
+ *
+ * 1. 대상 신청을 한 번에 조회해 LoaData 스냅샷 추출 (짧은 읽기 트랜잭션)
+ * 2. 렌더링 + 저장을 고정 크기 작업 풀에서 병렬 수행 (DB 커넥션 점유 없음)
+ *    - 작업 큐가 차면 호출 스레드에서 직접 실행 → 메모리 상한 유지
+ * 3. 결과를 트랜잭션 1개로 반영: 기존 미서명 LOA 레코드 교체
+ *    - 그 사이 서명된 신청은 새 파일을 삭제하고 건너뜀
+ * - NEW 신청만 대상 (RENEWAL LOA는 신청자 업로드 전용 — LoaService.generateLoa와 동일 규칙)
+ *   - 시스템 생성(system_generated) LOA만 교체, 신청자가 업로드한 LOA가 있으면 제외
+ *
+ * loa.batch.threads / loa.batch.queue-capacity 로 병렬도 조정
+ */
+@Slf4j
+@Service
+public class LoaBatchService {
+
+    private final ApplicationRepository applicationRepository;
+    private final FileRepository fileRepository;
+    private final UserRepository userRepository;
+    private final LoaGenerationService loaGenerationService;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    public LoaBatchService(ApplicationRepository applicationRepository,
+                           FileRepository fileRepository,
+                           UserRepository userRepository,
+                           LoaGenerationService loaGenerationService,
+                           FileStorageService fileStorageService,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${loa.batch.threads:4}") int threads,
+                           @Value("${loa.batch.queue-capacity:100}") int queueCapacity) {
+        this.applicationRepository = applicationRepository;
+        this.fileRepository = fileRepository;
+        this.userRepository = userRepository;
+        this.loaGenerationService = loaGenerationService;
+        this.fileStorageService = fileStorageService;
+        this.transactionTemplate = transactionTemplate;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "loa-batch-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 해당 LEW가 담당하는 미서명 LOA 전체 재생성
+     */
+    public LoaBatchResponse regenerateForLew(Long lewSeq) {
+        if (!userRepository.existsById(lewSeq)) {
+            throw new BusinessException("LEW user not found", HttpStatus.NOT_FOUND, "LEW_NOT_FOUND");
+        }
+
+        List<Long> failed = new ArrayList<>();
+        List<LoaData> targets = transactionTemplate.execute(status -> snapshot(lewSeq, failed));
+        int requested = (targets != null ? targets.size() : 0) + failed.size();
+        if (targets == null || targets.isEmpty()) {
+            return LoaBatchResponse.builder()
+                    .requested(requested)
+                    .regenerated(0)
+                    .failedApplicationSeqs(failed)
+                    .build();
+        }
+
+        long start = System.currentTimeMillis();
+        Map<Long, Future<StoredFile>> futures = new LinkedHashMap<>();
+        for (LoaData data : targets) {
+            futures.put(data.applicationSeq(),
+                    executor.submit(() -> loaGenerationService.renderAndStore(data, false)));
+        }
+
+        Map<Long, StoredFile> generated = new LinkedHashMap<>();
+        futures.forEach((applicationSeq, future) -> {
+            try {
+                generated.put(applicationSeq, future.get());
+            } catch (ExecutionException e) {
+                log.warn("LOA regeneration failed: applicationSeq={}, reason={}",
+                        applicationSeq, e.getCause().getMessage());
+                failed.add(applicationSeq);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed.add(applicationSeq);
+            }
+        });
+
+        Integer replaced = transactionTemplate.execute(status -> replace(generated));
+        int regenerated = replaced != null ? replaced : 0;
+        log.info("LOA batch regenerated: lewSeq={}, requested={}, regenerated={}, failed={}, elapsed={}ms",
+                lewSeq, requested, regenerated, failed.size(),
+                System.currentTimeMillis() - start);
+
+        return LoaBatchResponse.builder()
+                .requested(requested)
+                .regenerated(regenerated)
+                .failedApplicationSeqs(failed)
+                .build();
+    }
+
+    /**
+     * 대상 조회 + 스냅샷 (프로필 불완전 등 검증 실패는 failed에 기록)
+     */
+    private List<LoaData> snapshot(Long lewSeq, List<Long> failed) {
+        List<LoaData> targets = new ArrayList<>();
+        for (Application application : applicationRepository.findUnsignedLoaTargets(
+                lewSeq, ApplicationType.NEW, FileType.OWNER_AUTH_LETTER)) {
+            if (hasUploadedLoa(application)) {
+                continue;
+            }
+            try {
+                targets.add(loaGenerationService.prepare(application));
+            } catch (BusinessException e) {
+                log.warn("LOA regeneration skipped: applicationSeq={}, reason={}",
+                        application.getApplicationSeq(), e.getCode());
+                failed.add(application.getApplicationSeq());
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * 생성된 PDF로 기존 LOA 레코드 교체
+     *
+     * @return 교체한 건수
+     */
+    private int replace(Map<Long, StoredFile> generated) {
+        int replaced = 0;
+        for (Map.Entry<Long, StoredFile> entry : generated.entrySet()) {
+            Long applicationSeq = entry.getKey();
+            StoredFile loa = entry.getValue();
+            Application application = applicationRepository.findById(applicationSeq).orElse(null);
+            if (application == null || application.getLoaSignatureUrl() != null || hasUploadedLoa(application)) {
+                fileStorageService.delete(loa.path());
+                continue;
+            }
+
+            fileRepository.findByApplicationApplicationSeqAndFileType(applicationSeq, FileType.OWNER_AUTH_LETTER)
+                    .forEach(existing -> {
+                        fileRepository.delete(existing);
+                        fileStorageService.delete(existing.getFileUrl());
+                    });
+            fileRepository.save(FileEntity.builder()
+                    .application(application)
+                    .fileType(FileType.OWNER_AUTH_LETTER)
+                    .fileUrl(loa.path())
+                    .originalFilename(generatedFilename(applicationSeq))
+                    .fileSize(loa.size())
+                    .systemGenerated(true)
+                    .build());
+            replaced++;
+        }
+        return replaced;
+    }
+
+    /**
+     * 시스템 생성이 아닌(업로드된) LOA가 있는지 — 있으면 교체하지 않음
+     */
+    private boolean hasUploadedLoa(Application application) {
+        return fileRepository.findByApplicationApplicationSeqAndFileType(
+                        application.getApplicationSeq(), FileType.OWNER_AUTH_LETTER).stream()
+                .anyMatch(f -> !f.isSystemGenerated());
+    }
+
+    private static String generatedFilename(Long applicationSeq) {
+        return "LOA_" + applicationSeq + ".pdf";
+    }
+}
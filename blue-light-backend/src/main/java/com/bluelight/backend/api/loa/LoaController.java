@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -18,6 +19,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class LoaController {
 
     private final LoaService loaService;
+    private final LoaBatchService loaBatchService;
 
     /**
      * LOA PDF 생성 (Admin/LEW 액션)
@@ -30,6 +32,18 @@ public class LoaController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * LEW 담당 미서명 LOA 일괄 재생성 (LEW 정보 변경 후, Admin 액션)
+     * POST /api/admin/lews/{id}/loa/regenerate
+     */
+    @PreAuthorize("hasAnyRole('ADMIN', 'SYSTEM_ADMIN')")
+    @PostMapping("/api/admin/lews/{id}/loa/regenerate")
+    public ResponseEntity<LoaBatchResponse> regenerateLoasForLew(@PathVariable Long id) {
+        log.info("Regenerate LOAs: lewSeq={}", id);
+        LoaBatchResponse response = loaBatchService.regenerateForLew(id);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * LOA 전자서명 (Applicant 액션)
      * POST /api/applications/{id}/loa/sign
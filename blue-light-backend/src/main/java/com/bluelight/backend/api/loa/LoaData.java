@@ -0,0 +1,59 @@
+package com.bluelight.backend.api.loa;
+
+import com.bluelight.backend.domain.application.Application;
+import com.bluelight.backend.domain.application.ApplicationType;
+import com.bluelight.backend.domain.user.User;
+
+import java.time.LocalDate;
+
+/**
+ * LOA 기입 데이터 스냅샷
+ * - 트랜잭션 안에서 엔티티로부터 추출 → 렌더링은 영속성 컨텍스트 없이 (다른 스레드에서도) 수행
+ */
+public record LoaData(
+        Long applicationSeq,
+        boolean renewal,
+        String lewName,
+        String lewLicenceNo,
+        String address,
+        String postalCode,
+        String companyName,
+        String applicantName,
+        String designation,
+        String correspondenceAddress,
+        String uen,
+        String correspondencePostalCode,
+        String email,
+        String phone,
+        String existingLicenceNo,
+        LocalDate existingExpiryDate,
+        String renewalReferenceNo
+) {
+
+    /**
+     * 신청 엔티티에서 추출 (담당 LEW 필수 — 호출 전 검증)
+     */
+    static LoaData from(Application application) {
+        User applicant = application.getUser();
+        User lew = application.getAssignedLew();
+        return new LoaData(
+                application.getApplicationSeq(),
+                application.getApplicationType() == ApplicationType.RENEWAL,
+                lew.getFullName(),
+                lew.getLewLicenceNo(),
+                application.getAddress(),
+                application.getPostalCode(),
+                applicant.getCompanyName(),
+                applicant.getFullName(),
+                applicant.getDesignation(),
+                applicant.getCorrespondenceAddress(),
+                applicant.getUen(),
+                applicant.getCorrespondencePostalCode(),
+                applicant.getEmail(),
+                applicant.getPhone(),
+                application.getExistingLicenceNo(),
+                application.getExistingExpiryDate(),
+                application.getRenewalReferenceNo()
+        );
+    }
+}
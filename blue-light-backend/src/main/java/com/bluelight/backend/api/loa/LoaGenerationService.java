@@ -1,6 +1,7 @@
 package com.bluelight.backend.api.loa;
 
 import com.bluelight.backend.api.file.FileStorageService;
+import com.bluelight.backend.api.file.StoredFile;
 import com.bluelight.backend.common.exception.BusinessException;
 import com.bluelight.backend.domain.application.Application;
 import com.bluelight.backend.domain.user.User;
@@ -11,7 +12,6 @@ import com.lowagie.text.pdf.PdfReader;
 import com.lowagie.text.pdf.PdfStamper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -19,12 +19,12 @@ import org.springframework.stereotype.Service;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 
 /**
  * LOA (Letter of Appointment) PDF 생성 서비스
  * - EMA 원본 양식 PDF를 템플릿으로 사용하여 PdfStamper로 텍스트 오버레이
+ * - 템플릿/폰트는 LoaTemplateCache에 상주, 기입 위치는 LoaLayout 정의를 따름
  * - FileStorageService를 통해 저장 (Local/S3 무관)
  */
 @Slf4j
@@ -32,187 +32,54 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class LoaGenerationService {
 
-    private static final String TEMPLATE_NEW = "templates/loa-electrical-installation.pdf";
-    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-
     private final FileStorageService fileStorageService;
+    private final LoaTemplateCache templateCache;
 
     /**
      * New Licence LOA PDF 생성
      * EMA 양식 템플릿 위에 신청자+LEW 데이터를 오버레이
      *
-     * @return 생성된 PDF의 저장 경로 (FileStorageService 기준)
+     * @return 생성된 PDF의 저장 결과 (경로/크기/해시, FileStorageService 기준)
+     */
+    public StoredFile generateNewLicenceLoa(Application application) {
+        return renderAndStore(prepare(application), false);
+    }
+
+    /**
+     * Renewal LOA PDF 생성
+     * New Licence와 동일한 템플릿에 갱신 정보를 같은 패스에서 추가 기입
      */
-    public String generateNewLicenceLoa(Application application) {
-        User applicant = application.getUser();
-        User lew = application.getAssignedLew();
+    public StoredFile generateRenewalLoa(Application application) {
+        return renderAndStore(prepare(application), true);
+    }
 
-        if (lew == null) {
+    /**
+     * 생성 전 검증 + 기입 데이터 추출 (트랜잭션 안에서 호출)
+     */
+    public LoaData prepare(Application application) {
+        if (application.getAssignedLew() == null) {
             throw new BusinessException("LEW must be assigned before generating LOA",
                     HttpStatus.BAD_REQUEST, "LEW_NOT_ASSIGNED");
         }
-        validateApplicantProfile(applicant);
+        validateApplicantProfile(application.getUser());
+        return LoaData.from(application);
+    }
 
-        String subDirectory = "applications/" + application.getApplicationSeq();
-        String filename = "LOA_" + application.getApplicationSeq() + "_"
+    /**
+     * 렌더링 + 저장 (엔티티 접근 없음 — 일괄 생성 시 작업 스레드에서 호출)
+     *
+     * @param renewal true면 갱신 정보 필드 추가 기입
+     * @return 생성된 PDF의 저장 결과
+     */
+    public StoredFile renderAndStore(LoaData data, boolean renewal) {
+        String subDirectory = "applications/" + data.applicationSeq();
+        String filename = (renewal ? "LOA_RENEWAL_" : "LOA_") + data.applicationSeq() + "_"
                 + UUID.randomUUID().toString().substring(0, 8) + ".pdf";
-
         try {
-            // 템플릿 PDF 로드 → 인메모리 ByteArrayOutputStream으로 출력
-            ClassPathResource templateResource = new ClassPathResource(TEMPLATE_NEW);
-            PdfReader reader = new PdfReader(templateResource.getInputStream());
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            PdfStamper stamper = new PdfStamper(reader, baos);
-            PdfContentByte over = stamper.getOverContent(1);
-
-            // 폰트 설정
-            BaseFont bf = BaseFont.createFont(BaseFont.HELVETICA, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
-            BaseFont bfBold = BaseFont.createFont(BaseFont.HELVETICA_BOLD, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
-
-            // ── 템플릿 빈칸에 데이터 기입 ──
-            // 좌표: PDF 좌하단 (0,0), A4 = 595 x 842 pt
-
-            // LEW 이름: y_bu=691
-            over.beginText();
-            over.setFontAndSize(bf, 10);
-            over.setTextMatrix(331, 691);
-            over.showText(lew.getFullName());
-            over.endText();
-
-            // LEW 면허번호: y_bu=666
-            over.beginText();
-            over.setFontAndSize(bf, 10);
-            over.setTextMatrix(170, 666);
-            over.showText(lew.getLewLicenceNo() != null ? lew.getLewLicenceNo() : "");
-            over.endText();
-
-            // 설치 주소 1줄: y_bu=591
-            over.beginText();
-            over.setFontAndSize(bf, 10);
-            over.setTextMatrix(57, 591);
-            over.showText(application.getAddress() != null ? application.getAddress() : "");
-            over.endText();
-
-            // 설치 주소 2줄: y_bu=554
-            over.beginText();
-            over.setFontAndSize(bf, 10);
-            over.setTextMatrix(57, 554);
-            over.showText("SINGAPORE " + (application.getPostalCode() != null ? application.getPostalCode() : ""));
-            over.endText();
-
-            // 회사명 (FOR): y_bu=516
-            over.beginText();
-            over.setFontAndSize(bfBold, 10);
-            over.setTextMatrix(86, 516);
-            over.showText(applicant.getCompanyName() != null ? applicant.getCompanyName().toUpperCase() : "");
-            over.endText();
-
-            // 신청자 이름+직함: y_bu=375
-            over.beginText();
-            over.setFontAndSize(bf, 10);
-            over.setTextMatrix(57, 375);
-            String nameDesignation = applicant.getFullName()
-                    + (applicant.getDesignation() != null ? "    " + applicant.getDesignation() : "");
-            over.showText(nameDesignation);
-            over.endText();
-
-            // 우편주소 (Correspondence Address)
-            String corrAddr = applicant.getCorrespondenceAddress() != null
-                    ? applicant.getCorrespondenceAddress() : "";
-            if (corrAddr.length() > 50) {
-                over.beginText();
-                over.setFontAndSize(bf, 9);
-                over.setTextMatrix(57, 301);
-                over.showText(corrAddr.substring(0, 50));
-                over.endText();
-
-                over.beginText();
-                over.setFontAndSize(bf, 9);
-                over.setTextMatrix(57, 277);
-                over.showText(corrAddr.substring(50));
-                over.endText();
-            } else {
-                over.beginText();
-                over.setFontAndSize(bf, 9);
-                over.setTextMatrix(57, 301);
-                over.showText(corrAddr);
-                over.endText();
-            }
-
-            // UEN: 9개 박스
-            if (applicant.getUen() != null && !applicant.getUen().isBlank()) {
-                String uen = applicant.getUen();
-                float[] boxCenterX = {374.5f, 395.0f, 415.6f, 436.1f, 456.7f, 477.2f, 497.8f, 518.3f, 538.9f};
-                float uenY = 228;
-
-                if (uen.length() <= 9) {
-                    for (int i = 0; i < uen.length(); i++) {
-                        over.beginText();
-                        over.setFontAndSize(bf, 11);
-                        float charX = boxCenterX[i] - 3;
-                        over.setTextMatrix(charX, uenY);
-                        over.showText(String.valueOf(uen.charAt(i)));
-                        over.endText();
-                    }
-                } else {
-                    float totalWidth = 549.1f - 364.2f;
-                    float cellWidth = totalWidth / uen.length();
-                    for (int i = 0; i < uen.length(); i++) {
-                        over.beginText();
-                        over.setFontAndSize(bf, 10);
-                        float charX = 364.2f + (i * cellWidth) + (cellWidth / 2) - 3;
-                        over.setTextMatrix(charX, uenY);
-                        over.showText(String.valueOf(uen.charAt(i)));
-                        over.endText();
-                    }
-                }
-            }
-
-            // Postal Code: y_bu=230
-            if (applicant.getCorrespondencePostalCode() != null
-                    && !applicant.getCorrespondencePostalCode().isBlank()) {
-                over.beginText();
-                over.setFontAndSize(bf, 10);
-                over.setTextMatrix(129, 230);
-                over.showText(applicant.getCorrespondencePostalCode());
-                over.endText();
-            }
-
-            // Email: y_bu=206
-            if (applicant.getEmail() != null && !applicant.getEmail().isBlank()) {
-                over.beginText();
-                over.setFontAndSize(bf, 10);
-                over.setTextMatrix(94, 206);
-                over.showText(applicant.getEmail());
-                over.endText();
-            }
-
-            // Tel No: y_bu=182
-            if (applicant.getPhone() != null && !applicant.getPhone().isBlank()) {
-                over.beginText();
-                over.setFontAndSize(bf, 10);
-                over.setTextMatrix(103, 182);
-                over.showText(applicant.getPhone());
-                over.endText();
-
-                // SMS: y_bu=130
-                over.beginText();
-                over.setFontAndSize(bf, 10);
-                over.setTextMatrix(289, 130);
-                over.showText(applicant.getPhone());
-                over.endText();
-            }
-
-            stamper.close();
-            reader.close();
-
-            // FileStorageService를 통해 저장
-            byte[] pdfBytes = baos.toByteArray();
-            String storedPath = fileStorageService.storeBytes(pdfBytes, filename, subDirectory);
-
-            log.info("LOA PDF generated: {}", storedPath);
-            return storedPath;
-
+            byte[] pdfBytes = render(data, renewal);
+            StoredFile stored = fileStorageService.storeBytes(pdfBytes, filename, subDirectory);
+            log.info("{} PDF generated: {}", renewal ? "Renewal LOA" : "LOA", stored.path());
+            return stored;
         } catch (BusinessException e) {
             throw e;
         } catch (Exception e) {
@@ -222,83 +89,59 @@ public class LoaGenerationService {
         }
     }
 
-    /**
-     * Renewal LOA PDF 생성
-     * New Licence와 동일한 템플릿 사용, 갱신 정보 추가 기입
-     */
-    public String generateRenewalLoa(Application application) {
-        // 기본 LOA 생성 (FileStorageService에 저장됨)
-        String basePdfPath = generateNewLicenceLoa(application);
-
+    private byte[] render(LoaData data, boolean renewal) throws IOException {
+        PdfReader reader = templateCache.openNewLicenceTemplate();
         try {
-            // 저장된 기본 LOA를 다시 로드
-            Resource baseResource = fileStorageService.loadAsResource(basePdfPath);
-            byte[] basePdfBytes = baseResource.getInputStream().readAllBytes();
-
-            PdfReader reader = new PdfReader(basePdfBytes);
             ByteArrayOutputStream baos = new ByteArrayOutputStream();
             PdfStamper stamper = new PdfStamper(reader, baos);
             PdfContentByte over = stamper.getOverContent(1);
 
-            BaseFont bf = BaseFont.createFont(BaseFont.HELVETICA, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
-            BaseFont bfBold = BaseFont.createFont(BaseFont.HELVETICA_BOLD, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
-
-            // "(Renewal)" 라벨 추가
-            over.beginText();
-            over.setFontAndSize(bfBold, 10);
-            over.setTextMatrix(270, 690);
-            over.showText("(Renewal)");
-            over.endText();
-
-            // 기존 면허번호
-            if (application.getExistingLicenceNo() != null) {
-                over.beginText();
-                over.setFontAndSize(bf, 9);
-                over.setTextMatrix(72, 505);
-                over.showText("(LICENCE NO: " + application.getExistingLicenceNo() + ")");
-                over.endText();
-            }
-
-            // 기존 만료일
-            if (application.getExistingExpiryDate() != null) {
-                over.beginText();
-                over.setFontAndSize(bf, 9);
-                over.setTextMatrix(250, 505);
-                over.showText("EXPIRY DATE: " + application.getExistingExpiryDate().format(DATE_FORMAT));
-                over.endText();
+            for (LoaLayout.TextField field : LoaLayout.NEW_LICENCE) {
+                drawText(over, field.at(), field.value().apply(data));
             }
-
-            // 갱신 참조번호
-            if (application.getRenewalReferenceNo() != null) {
-                over.beginText();
-                over.setFontAndSize(bfBold, 9);
-                over.setTextMatrix(400, 745);
-                over.showText("*Renewal Ref: " + application.getRenewalReferenceNo());
-                over.endText();
+            drawBoxed(over, LoaLayout.UEN, LoaLayout.UEN.value().apply(data));
+            if (renewal) {
+                for (LoaLayout.TextField field : LoaLayout.RENEWAL) {
+                    drawText(over, field.at(), field.value().apply(data));
+                }
             }
 
             stamper.close();
+            return baos.toByteArray();
+        } finally {
             reader.close();
+        }
+    }
 
-            // 원본 삭제
-            fileStorageService.delete(basePdfPath);
-
-            // 갱신 LOA 저장
-            String subDirectory = "applications/" + application.getApplicationSeq();
-            String renewalFilename = "LOA_RENEWAL_" + application.getApplicationSeq() + "_"
-                    + UUID.randomUUID().toString().substring(0, 8) + ".pdf";
-            byte[] renewalPdfBytes = baos.toByteArray();
-            String renewalPath = fileStorageService.storeBytes(renewalPdfBytes, renewalFilename, subDirectory);
-
-            log.info("Renewal LOA PDF generated: {}", renewalPath);
-            return renewalPath;
+    private void drawText(PdfContentByte over, LoaLayout.Placement at, String text) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        over.beginText();
+        over.setFontAndSize(templateCache.font(at.bold()), at.size());
+        over.setTextMatrix(at.x(), at.y());
+        over.showText(text);
+        over.endText();
+    }
 
-        } catch (BusinessException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Failed to add renewal info to LOA PDF: {}", e.getMessage(), e);
-            // 기본 LOA라도 반환
-            return basePdfPath;
+    /**
+     * 글자별 박스 기입 — 박스 수 이하면 박스 중앙, 초과하면 박스 영역을 균등 분할
+     */
+    private void drawBoxed(PdfContentByte over, LoaLayout.BoxedField field, String text) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        float[] centers = field.boxCenterX();
+        boolean fits = text.length() <= centers.length;
+        float cellWidth = (field.spanEndX() - field.spanStartX()) / text.length();
+        BaseFont font = templateCache.font(false);
+        for (int i = 0; i < text.length(); i++) {
+            float centerX = fits ? centers[i] : field.spanStartX() + (i * cellWidth) + (cellWidth / 2);
+            over.beginText();
+            over.setFontAndSize(font, fits ? field.size() : field.overflowSize());
+            over.setTextMatrix(centerX - 3, field.y());
+            over.showText(String.valueOf(text.charAt(i)));
+            over.endText();
         }
     }
 
@@ -308,9 +151,9 @@ public class LoaGenerationService {
      * @param existingPdfPath     기존 LOA PDF 저장 경로
      * @param signatureImagePath  서명 PNG 저장 경로
      * @param application         신청 엔티티
-     * @return 서명 임베드된 새 PDF의 저장 경로
+     * @return 서명 임베드된 새 PDF의 저장 결과
      */
-    public String embedSignatureIntoPdf(String existingPdfPath, String signatureImagePath,
+    public StoredFile embedSignatureIntoPdf(String existingPdfPath, String signatureImagePath,
                                         Application application) {
         try {
             // FileStorageService에서 기존 PDF와 서명 이미지 로드
@@ -326,22 +169,14 @@ public class LoaGenerationService {
 
             // 서명 이미지 삽입
             Image signatureImage = Image.getInstance(signatureBytes);
-            signatureImage.scaleToFit(120, 50);
-
-            float sigX = 309;
-            float sigY = 375;
-            signatureImage.setAbsolutePosition(sigX, sigY);
+            signatureImage.scaleToFit(LoaLayout.SIGNATURE_MAX_WIDTH, LoaLayout.SIGNATURE_MAX_HEIGHT);
+            signatureImage.setAbsolutePosition(LoaLayout.SIGNATURE_X, LoaLayout.SIGNATURE_Y);
 
             PdfContentByte over = stamper.getOverContent(1);
             over.addImage(signatureImage);
 
             // 서명 날짜
-            BaseFont bf = BaseFont.createFont(BaseFont.HELVETICA, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
-            over.beginText();
-            over.setFontAndSize(bf, 10);
-            over.setTextMatrix(448, 375);
-            over.showText(LocalDate.now().format(DATE_FORMAT));
-            over.endText();
+            drawText(over, LoaLayout.SIGNATURE_DATE, LocalDate.now().format(LoaLayout.DATE_FORMAT));
 
             stamper.close();
             reader.close();
@@ -351,10 +186,10 @@ public class LoaGenerationService {
             String signedFilename = "LOA_SIGNED_" + application.getApplicationSeq() + "_"
                     + UUID.randomUUID().toString().substring(0, 8) + ".pdf";
             byte[] signedPdfBytes = baos.toByteArray();
-            String signedPath = fileStorageService.storeBytes(signedPdfBytes, signedFilename, subDirectory);
+            StoredFile signed = fileStorageService.storeBytes(signedPdfBytes, signedFilename, subDirectory);
 
-            log.info("Signed LOA PDF generated: {}", signedPath);
-            return signedPath;
+            log.info("Signed LOA PDF generated: {}", signed.path());
+            return signed;
 
         } catch (BusinessException e) {
             throw e;
@@ -0,0 +1,114 @@
+package com.bluelight.backend.api.loa;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * LOA 템플릿(EMA 양식) 기입 위치 정의
+ * - 좌표: PDF 좌하단 (0,0), A4 = 595 x 842 pt
+ * - 값이 null/빈 문자열인 필드는 기입하지 않음
+ */
+final class LoaLayout {
+
+    static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private static final int CORRESPONDENCE_LINE_LENGTH = 50;
+
+    /**
+     * New Licence 기본 필드
+     */
+    static final List<TextField> NEW_LICENCE = List.of(
+            text("lewName", 331, 691, 10, LoaData::lewName),
+            text("lewLicenceNo", 170, 666, 10, LoaData::lewLicenceNo),
+            text("address", 57, 591, 10, LoaData::address),
+            text("postalCode", 57, 554, 10, d -> "SINGAPORE " + nullToEmpty(d.postalCode())),
+            bold("companyName", 86, 516, 10, d -> d.companyName() != null ? d.companyName().toUpperCase() : null),
+            text("nameDesignation", 57, 375, 10,
+                    d -> d.applicantName() + (d.designation() != null ? "    " + d.designation() : "")),
+            text("correspondenceAddress1", 57, 301, 9, d -> correspondenceLine(d.correspondenceAddress(), 0)),
+            text("correspondenceAddress2", 57, 277, 9, d -> correspondenceLine(d.correspondenceAddress(), 1)),
+            text("correspondencePostalCode", 129, 230, 10, LoaData::correspondencePostalCode),
+            text("email", 94, 206, 10, LoaData::email),
+            text("phone", 103, 182, 10, LoaData::phone),
+            text("sms", 289, 130, 10, LoaData::phone)
+    );
+
+    /**
+     * UEN: 9개 박스 중앙에 한 글자씩, 9자 초과 시 박스 영역을 균등 분할
+     */
+    static final BoxedField UEN = new BoxedField("uen", 228, 11, 10,
+            new float[]{374.5f, 395.0f, 415.6f, 436.1f, 456.7f, 477.2f, 497.8f, 518.3f, 538.9f},
+            364.2f, 549.1f, LoaData::uen);
+
+    /**
+     * Renewal 추가 필드 (New Licence 필드 위에 함께 기입)
+     */
+    static final List<TextField> RENEWAL = List.of(
+            bold("renewalLabel", 270, 690, 10, d -> "(Renewal)"),
+            text("existingLicenceNo", 72, 505, 9,
+                    d -> d.existingLicenceNo() != null ? "(LICENCE NO: " + d.existingLicenceNo() + ")" : null),
+            text("existingExpiryDate", 250, 505, 9,
+                    d -> d.existingExpiryDate() != null ? "EXPIRY DATE: " + d.existingExpiryDate().format(DATE_FORMAT) : null),
+            bold("renewalReferenceNo", 400, 745, 9,
+                    d -> d.renewalReferenceNo() != null ? "*Renewal Ref: " + d.renewalReferenceNo() : null)
+    );
+
+    /** 서명 이미지 위치 / 최대 크기 */
+    static final float SIGNATURE_X = 309;
+    static final float SIGNATURE_Y = 375;
+    static final float SIGNATURE_MAX_WIDTH = 120;
+    static final float SIGNATURE_MAX_HEIGHT = 50;
+
+    /** 서명 날짜 */
+    static final Placement SIGNATURE_DATE = new Placement(448, 375, 10, false);
+
+    private LoaLayout() {
+    }
+
+    /**
+     * 텍스트 1개의 위치 + 폰트
+     */
+    record Placement(float x, float y, float size, boolean bold) {
+    }
+
+    /**
+     * 단일 텍스트 필드
+     */
+    record TextField(String name, Placement at, Function<LoaData, String> value) {
+    }
+
+    /**
+     * 글자별 박스 필드
+     */
+    record BoxedField(String name, float y, float size, float overflowSize, float[] boxCenterX,
+                      float spanStartX, float spanEndX, Function<LoaData, String> value) {
+    }
+
+    private static TextField text(String name, float x, float y, float size, Function<LoaData, String> value) {
+        return new TextField(name, new Placement(x, y, size, false), value);
+    }
+
+    private static TextField bold(String name, float x, float y, float size, Function<LoaData, String> value) {
+        return new TextField(name, new Placement(x, y, size, true), value);
+    }
+
+    /**
+     * 우편주소 줄 분할 (50자 초과 시 2줄)
+     */
+    private static String correspondenceLine(String address, int line) {
+        if (address == null) {
+            return null;
+        }
+        if (address.length() <= CORRESPONDENCE_LINE_LENGTH) {
+            return line == 0 ? address : null;
+        }
+        return line == 0
+                ? address.substring(0, CORRESPONDENCE_LINE_LENGTH)
+                : address.substring(CORRESPONDENCE_LINE_LENGTH);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
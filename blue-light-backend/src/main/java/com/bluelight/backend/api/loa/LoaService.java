@@ -1,6 +1,7 @@
 package com.bluelight.backend.api.loa;
 
 import com.bluelight.backend.api.file.FileStorageService;
+import com.bluelight.backend.api.file.StoredFile;
 import com.bluelight.backend.api.file.dto.FileResponse;
 import com.bluelight.backend.common.exception.BusinessException;
 import com.bluelight.backend.common.util.OwnershipValidator;
@@ -56,29 +57,32 @@ public class LoaService {
                     HttpStatus.BAD_REQUEST, "LOA_ALREADY_SIGNED");
         }
 
-        // 기존 미서명 LOA 삭제 (재생성 케이스)
         List<FileEntity> existingLoas = fileRepository
                 .findByApplicationApplicationSeqAndFileType(applicationSeq, FileType.OWNER_AUTH_LETTER);
-        existingLoas.forEach(f -> fileRepository.delete(f));
 
         // 타입에 따라 PDF 생성 (LoaGenerationService가 FileStorageService로 저장)
-        String pdfStoredPath;
+        // 파일 크기는 저장 결과에 포함 (다시 로드하지 않음)
+        StoredFile pdf;
         if (application.getApplicationType() == ApplicationType.RENEWAL) {
-            pdfStoredPath = loaGenerationService.generateRenewalLoa(application);
+            pdf = loaGenerationService.generateRenewalLoa(application);
         } else {
-            pdfStoredPath = loaGenerationService.generateNewLicenceLoa(application);
+            pdf = loaGenerationService.generateNewLicenceLoa(application);
         }
 
-        // 파일 크기: FileStorageService에서 로드하여 확인
-        long fileSize = getFileSize(pdfStoredPath);
+        // 기존 미서명 LOA 삭제 (재생성 케이스) — 생성 성공 후 참조 해제 (동일 내용이면 같은 blob 재사용)
+        existingLoas.forEach(f -> {
+            fileRepository.delete(f);
+            fileStorageService.delete(f.getFileUrl());
+        });
 
         // FileEntity 레코드 생성
         FileEntity fileEntity = FileEntity.builder()
                 .application(application)
                 .fileType(FileType.OWNER_AUTH_LETTER)
-                .fileUrl(pdfStoredPath)
+                .fileUrl(pdf.path())
                 .originalFilename("LOA_" + applicationSeq + ".pdf")
-                .fileSize(fileSize)
+                .fileSize(pdf.size())
+                .systemGenerated(true)
                 .build();
 
         FileEntity saved = fileRepository.save(fileEntity);
@@ -119,15 +123,16 @@ public class LoaService {
 
         // 서명 이미지를 FileStorageService로 저장
         String subDirectory = "applications/" + applicationSeq;
-        String signatureRelativePath = fileStorageService.store(signatureImage, subDirectory);
+        String signatureRelativePath = fileStorageService.store(signatureImage, subDirectory).path();
 
         // PDF에 서명 임베드 (LoaGenerationService가 FileStorageService를 통해 로드/저장)
-        String signedPdfPath = loaGenerationService.embedSignatureIntoPdf(
+        StoredFile signedPdf = loaGenerationService.embedSignatureIntoPdf(
                 loaFile.getFileUrl(), signatureRelativePath, application);
 
-        // FileEntity 업데이트 (서명된 PDF로 교체)
-        long fileSize = getFileSize(signedPdfPath);
-        loaFile.updateFileUrl(signedPdfPath, "LOA_SIGNED_" + applicationSeq + ".pdf", fileSize);
+        // FileEntity 업데이트 (서명된 PDF로 교체) 후 미서명 LOA 참조 해제
+        String unsignedUrl = loaFile.getFileUrl();
+        loaFile.updateFileUrl(signedPdf.path(), "LOA_SIGNED_" + applicationSeq + ".pdf", signedPdf.size());
+        fileStorageService.delete(unsignedUrl);
 
         // Application에 서명 정보 등록
         application.registerLoaSignature(signatureRelativePath);
@@ -172,17 +177,4 @@ public class LoaService {
                 .orElseThrow(() -> new BusinessException(
                         "Application not found", HttpStatus.NOT_FOUND, "APPLICATION_NOT_FOUND"));
     }
-
-    /**
-     * FileStorageService에서 파일을 로드하여 크기 확인
-     */
-    private long getFileSize(String storedPath) {
-        try {
-            return fileStorageService.loadAsResource(storedPath)
-                    .getInputStream().readAllBytes().length;
-        } catch (Exception e) {
-            log.warn("Failed to determine file size: {}", storedPath, e);
-            return 0;
-        }
-    }
 }
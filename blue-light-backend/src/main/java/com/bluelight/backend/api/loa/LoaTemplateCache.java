@@ -0,0 +1,54 @@
+package com.bluelight.backend.api.loa;
+
+import com.lowagie.text.pdf.BaseFont;
+import com.lowagie.text.pdf.PdfReader;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * LOA 템플릿 / 폰트 상주 캐시
+ * - 기동 시 템플릿 PDF를 한 번만 읽어 바이트로 보관 → 생성마다 classpath I/O 없음
+ * - 템플릿은 미리 파싱해 두고 생성마다 PdfReader 복사본을 반환
+ *   (PdfStamper가 reader를 변경하므로 원본은 공유하지 않음)
+ * - Helvetica 계열은 비임베드 표준 Type1 폰트 → 읽기 전용으로 스레드 간 공유 가능
+ */
+@Slf4j
+@Component
+public class LoaTemplateCache {
+
+    private static final String TEMPLATE_NEW = "templates/loa-electrical-installation.pdf";
+
+    private PdfReader template;
+    private BaseFont regular;
+    private BaseFont bold;
+
+    @PostConstruct
+    void load() throws IOException {
+        byte[] bytes;
+        try (InputStream in = new ClassPathResource(TEMPLATE_NEW).getInputStream()) {
+            bytes = in.readAllBytes();
+        }
+        this.template = new PdfReader(bytes);
+        this.regular = BaseFont.createFont(BaseFont.HELVETICA, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+        this.bold = BaseFont.createFont(BaseFont.HELVETICA_BOLD, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+        log.info("LOA template loaded: {} ({} bytes, {} page(s))", TEMPLATE_NEW, bytes.length, template.getNumberOfPages());
+    }
+
+    /**
+     * 새 PdfStamper용 템플릿 복사본 (호출자가 close)
+     */
+    public PdfReader openNewLicenceTemplate() {
+        synchronized (template) {
+            return new PdfReader(template);
+        }
+    }
+
+    public BaseFont font(boolean boldFace) {
+        return boldFace ? bold : regular;
+    }
+}
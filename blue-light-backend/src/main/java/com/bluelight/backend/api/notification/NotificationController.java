@@ -1,5 +1,6 @@
 package com.bluelight.backend.api.notification;
 
+import com.bluelight.backend.common.util.CursorSlice;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -35,6 +36,20 @@ public class NotificationController {
         return ResponseEntity.ok(notificationService.getMyNotifications(userSeq, pageable));
     }
 
+    /**
+     * 내 알림 목록 (커서 기반, 전체 건수 없음)
+     * GET /api/notifications?cursor=&size=20 (첫 페이지는 빈 cursor, 이후 응답의 nextCursor)
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorSlice<NotificationResponse>> getMyNotificationsByCursor(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Long userSeq = (Long) authentication.getPrincipal();
+        return ResponseEntity.ok(notificationService.getMyNotificationsByCursor(
+                userSeq, cursor, Math.min(Math.max(1, size), 50)));
+    }
+
     /**
      * 읽지 않은 알림 건수
      * GET /api/notifications/unread-count
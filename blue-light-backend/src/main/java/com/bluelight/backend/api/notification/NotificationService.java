@@ -1,6 +1,8 @@
 package com.bluelight.backend.api.notification;
 
 import com.bluelight.backend.common.exception.BusinessException;
+import com.bluelight.backend.common.util.CursorSlice;
+import com.bluelight.backend.common.util.PageCursor;
 import com.bluelight.backend.domain.notification.Notification;
 import com.bluelight.backend.domain.notification.NotificationRepository;
 import com.bluelight.backend.domain.notification.NotificationType;
@@ -9,7 +11,9 @@ import com.bluelight.backend.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -58,6 +62,20 @@ public class NotificationService {
                 .map(NotificationResponse::from);
     }
 
+    /**
+     * 내 알림 목록 조회 (커서 기반)
+     */
+    public CursorSlice<NotificationResponse> getMyNotificationsByCursor(Long userSeq, String cursor, int size) {
+        PageCursor position = PageCursor.decode(cursor);
+        Slice<Notification> slice = notificationRepository.findSliceByRecipient(
+                userSeq,
+                position != null ? position.createdAt() : null,
+                position != null ? position.seq() : null,
+                PageRequest.of(0, size));
+        return CursorSlice.of(slice, NotificationResponse::from,
+                n -> new PageCursor(n.getCreatedAt(), n.getNotificationSeq()));
+    }
+
     /**
      * 읽지 않은 알림 건수
      */
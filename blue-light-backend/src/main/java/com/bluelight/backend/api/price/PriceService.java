@@ -3,13 +3,12 @@ package com.bluelight.backend.api.price;
 import com.bluelight.backend.api.price.dto.PriceCalculationResponse;
 import com.bluelight.backend.api.price.dto.PriceResponse;
 import com.bluelight.backend.common.exception.BusinessException;
-import com.bluelight.backend.domain.price.MasterPrice;
-import com.bluelight.backend.domain.price.MasterPriceRepository;
+import com.bluelight.backend.domain.price.PriceTier;
+import com.bluelight.backend.domain.price.PriceTierCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -18,20 +17,20 @@ import java.util.List;
  * Price service
  * - Retrieve active price tiers
  * - Calculate price for a given kVA (including optional SLD fee and EMA fee)
+ * - Tiers are served from PriceTierCache (no DB access or transaction per call)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class PriceService {
 
-    private final MasterPriceRepository masterPriceRepository;
+    private final PriceTierCache priceTierCache;
 
     /**
      * Get all active price tiers ordered by kVA min ascending
      */
     public List<PriceResponse> getActivePrices() {
-        return masterPriceRepository.findByIsActiveTrueOrderByKvaMinAsc()
+        return priceTierCache.table().tiers()
                 .stream()
                 .map(PriceResponse::from)
                 .toList();
@@ -50,7 +49,7 @@ public class PriceService {
             throw new BusinessException("kVA must be a positive number", HttpStatus.BAD_REQUEST, "INVALID_KVA");
         }
 
-        MasterPrice masterPrice = masterPriceRepository.findByKva(kva)
+        PriceTier tier = priceTierCache.findByKva(kva)
                 .orElseThrow(() -> new BusinessException(
                         "No price tier found for " + kva + " kVA",
                         HttpStatus.NOT_FOUND,
@@ -59,23 +58,23 @@ public class PriceService {
 
         // New License vs Renewal: 다른 가격 적용
         BigDecimal tierPrice = "RENEWAL".equals(applicationType)
-                ? masterPrice.getRenewalPrice()
-                : masterPrice.getPrice();
+                ? tier.renewalPrice()
+                : tier.price();
 
         // SLD fee: only when REQUEST_LEW
         BigDecimal sldFee = "REQUEST_LEW".equals(sldOption)
-                ? masterPrice.getSldPrice()
+                ? tier.sldPrice()
                 : BigDecimal.ZERO;
 
         BigDecimal emaFee = (months != null) ? calculateEmaFee(months) : BigDecimal.ZERO;
         BigDecimal totalAmount = tierPrice.add(sldFee).add(emaFee);
 
         log.info("Price calculated: kva={}, type={}, tier={}, price={}, sldFee={}, emaFee={}, total={}",
-                kva, applicationType, masterPrice.getDescription(), tierPrice, sldFee, emaFee, totalAmount);
+                kva, applicationType, tier.description(), tierPrice, sldFee, emaFee, totalAmount);
 
         return PriceCalculationResponse.builder()
                 .kva(kva)
-                .tierDescription(masterPrice.getDescription())
+                .tierDescription(tier.description())
                 .price(tierPrice)
                 .sldFee(sldFee)
                 .emaFee(emaFee)
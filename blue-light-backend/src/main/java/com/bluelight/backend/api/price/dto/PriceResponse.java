@@ -1,6 +1,6 @@
 package com.bluelight.backend.api.price.dto;
 
-import com.bluelight.backend.domain.price.MasterPrice;
+import com.bluelight.backend.domain.price.PriceTier;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -20,14 +20,14 @@ public class PriceResponse {
     private BigDecimal price;
     private BigDecimal renewalPrice;
 
-    public static PriceResponse from(MasterPrice masterPrice) {
+    public static PriceResponse from(PriceTier tier) {
         return PriceResponse.builder()
-                .masterPriceSeq(masterPrice.getMasterPriceSeq())
-                .description(masterPrice.getDescription())
-                .kvaMin(masterPrice.getKvaMin())
-                .kvaMax(masterPrice.getKvaMax())
-                .price(masterPrice.getPrice())
-                .renewalPrice(masterPrice.getRenewalPrice())
+                .masterPriceSeq(tier.masterPriceSeq())
+                .description(tier.description())
+                .kvaMin(tier.kvaMin())
+                .kvaMax(tier.kvaMax())
+                .price(tier.price())
+                .renewalPrice(tier.renewalPrice())
                 .build();
     }
 }
@@ -1,6 +1,7 @@
 package com.bluelight.backend.api.ratelimit;
 
 import com.bluelight.backend.domain.ratelimit.RateLimitAttemptRepository;
+import com.bluelight.backend.domain.ratelimit.RateLimitCounterRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
@@ -13,6 +14,8 @@ import java.time.LocalDateTime;
 /**
  * Rate Limit 시도 기록 정리 서비스
  * - 1시간마다 만료된 기록을 DB에서 삭제
+ *   - rate_limit_attempts (db 엔진)
+ *   - rate_limit_counters (memory 엔진 클러스터 동기화)
  * - ShedLock으로 다중 서버에서 1대만 실행
  */
 @Slf4j
@@ -21,6 +24,7 @@ import java.time.LocalDateTime;
 public class RateLimitCleanupService {
 
     private final RateLimitAttemptRepository rateLimitAttemptRepository;
+    private final RateLimitCounterRepository rateLimitCounterRepository;
 
     /**
      * 1시간마다 만료된 Rate Limit 기록 정리
@@ -39,6 +43,11 @@ public class RateLimitCleanupService {
             totalDeleted += deleted;
         } while (deleted == batchSize);
 
+        do {
+            deleted = rateLimitCounterRepository.deleteOlderThan(cutoff, batchSize);
+            totalDeleted += deleted;
+        } while (deleted == batchSize);
+
         if (totalDeleted > 0) {
             log.info("Rate limit 기록 정리: {}건 삭제", totalDeleted);
         }
@@ -0,0 +1,96 @@
+package com.bluelight.backend.api.ratelimit;
+
+import com.bluelight.backend.domain.ratelimit.RateLimitCounter;
+import com.bluelight.backend.domain.ratelimit.RateLimitCounterRepository;
+import com.bluelight.backend.security.InMemoryRateLimiterEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Rate Limit 클러스터 동기화 서비스
+ * - rate-limit.engine=memory + rate-limit.cluster-sync.enabled=true 일 때 활성화
+ * - 주기마다 (기본 5초): 로컬 증가분 push → 변경된 집계 pull → 엔진에 반영
+ * - 모든 서버가 각자 실행해야 하므로 ShedLock 미적용
+ * - 서버 간 반영 지연은 최대 동기화 주기만큼 (요청 경로는 DB 접근 없음)
+ */
+@Slf4j
+@Service
+@ConditionalOnExpression("'${rate-limit.engine:memory}' == 'memory' && ${rate-limit.cluster-sync.enabled:false}")
+@RequiredArgsConstructor
+public class RateLimitClusterSyncService {
+
+    /** 최초 pull 범위 및 DB 시각 기준 증분 조회 여유 */
+    private static final long INITIAL_LOOKBACK_MINUTES = 60;
+    private static final long OVERLAP_SECONDS = 1;
+
+    private final InMemoryRateLimiterEngine rateLimiterEngine;
+    private final RateLimitCounterRepository rateLimitCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private LocalDateTime lastSeenUpdate;
+
+    /**
+     * push/pull은 한 트랜잭션 — 커밋 실패 시 꺼낸 증가분·초기화 대상을 엔진에 되돌려 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.cluster-sync.interval-ms:5000}")
+    public void sync() {
+        syncLock.lock();
+        try {
+            List<String[]> resets = rateLimiterEngine.drainResets();
+            List<InMemoryRateLimiterEngine.PendingDelta> deltas = rateLimiterEngine.drainPendingDeltas();
+
+            List<RateLimitCounter> rows;
+            try {
+                rows = transactionTemplate.execute(status -> pushAndPull(resets, deltas));
+            } catch (RuntimeException e) {
+                rateLimiterEngine.restoreResets(resets);
+                rateLimiterEngine.restorePendingDeltas(deltas);
+                log.warn("Rate limit cluster sync failed, {} delta(s) re-queued: {}", deltas.size(), e.getMessage());
+                return;
+            }
+
+            if (rows != null) {
+                for (RateLimitCounter row : rows) {
+                    if (lastSeenUpdate == null || row.getUpdatedAt().isAfter(lastSeenUpdate)) {
+                        lastSeenUpdate = row.getUpdatedAt();
+                    }
+                }
+                rateLimiterEngine.applyClusterCounts(rows);
+            }
+
+            if (!deltas.isEmpty()) {
+                log.debug("Rate limit cluster sync: pushed={}, pulled={}", deltas.size(), rows != null ? rows.size() : 0);
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private List<RateLimitCounter> pushAndPull(List<String[]> resets,
+                                               List<InMemoryRateLimiterEngine.PendingDelta> deltas) {
+        for (String[] reset : resets) {
+            rateLimitCounterRepository.deleteByLimiterTypeAndIdentifier(reset[0], reset[1]);
+        }
+        for (InMemoryRateLimiterEngine.PendingDelta d : deltas) {
+            rateLimitCounterRepository.addCount(
+                    d.limiterType(), d.identifier(), d.windowStart(), d.windowMillis(), d.delta());
+        }
+
+        // 증분 조회 기준은 DB가 기록한 updated_at (서버 간 시각 차이 영향 없음)
+        // — 최초 조회도 앱 서버 시계가 아니라 DB NOW() 기준
+        LocalDateTime since = (lastSeenUpdate != null)
+                ? lastSeenUpdate.minusSeconds(OVERLAP_SECONDS)
+                : rateLimitCounterRepository.currentTime().minusMinutes(INITIAL_LOOKBACK_MINUTES);
+        return rateLimitCounterRepository.findUpdatedSince(since);
+    }
+}
@@ -0,0 +1,425 @@
+package com.bluelight.backend.api.sldagent;
+
+import com.bluelight.backend.api.admin.SystemAdminService;
+import com.bluelight.backend.common.exception.BusinessException;
+import com.bluelight.backend.config.GeminiConfig;
+import com.bluelight.backend.domain.file.FileEntity;
+import com.bluelight.backend.domain.file.FileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * SLD AI Agent (Python) 스트리밍 프록시 — 신청/SLD 주문 채팅 공용
+ *
+ * - 구독 수명주기: 클라이언트 연결 끊김·타임아웃·오류 시 Python 구독 취소
+ * - 청크 처리와 SseEmitter 전송은 relay 스레드에서 수행 (Netty 이벤트 루프 블로킹 없음)
+ *   - 스트림마다 직렬 전달(publishOn drain)이 relay 풀의 스레드를 따로 사용 — 고정 워커 공유 없음
+ *     → 느린 클라이언트의 send() 블로킹은 해당 스트림만 멈춤 (다른 스트림 전달 지연 없음)
+ *   - relay 풀은 전달 중인 스트림 수만큼만 스레드 사용 (유휴 60초 후 회수),
+ *     스레드 상한은 동시 스트림 상한의 2배 — 초과 시 해당 스트림만 busy 오류 이벤트로 종료
+ *   - publishOn prefetch(sld.agent.stream.prefetch)만큼만 선요청 → 느린 클라이언트는 Python 쪽 수신을 늦춤
+ * - 동시 스트림 상한(sld.agent.stream.max-concurrent, 기본 200) 초과 시 503
+ * - 응답 완료 시 onResponse 훅으로 AI 응답 전달 (DB 저장은 호출 서비스 책임)
+ *   — boundedElastic 스케줄러에서 실행 후 emitter 종료 (relay 스레드에서 DB 작업 없음)
+ * - 첨부 파일은 SldAgentAttachmentTransfer로 준비 (기본: 해시 참조 + 스트리밍 업로드) 후 채팅 요청
+ * - 생성 파일 조회 / 대화 초기화는 Mono로 반환 (요청 스레드/커넥션 점유 없음),
+ *   결과는 boundedElastic 스케줄러에서 전달되므로 후속 저장 등 블로킹 작업 가능
+ *
+ * 메트릭: sld.agent.streams.active, sld.agent.stream.chunks, sld.agent.stream.rejected,
+ *        sld.agent.stream.duration (Timer, outcome 태그)
+ */
+@Slf4j
+@Component
+public class AgentStreamProxy {
+
+    private static final String BUSY_MESSAGE = "AI service is busy. Please try again shortly.";
+    private static final String UNAVAILABLE_MESSAGE = "AI service is temporarily unavailable. Please try again later.";
+    private static final String TIMEOUT_MESSAGE = "Connection timed out. The AI processing took too long. Please try again.";
+
+    private final WebClient sldAgentWebClient;
+    private final SldAgentStreamRelay streamRelay;
+    private final SystemAdminService systemAdminService;
+    private final GeminiConfig geminiConfig;
+    private final FileRepository fileRepository;
+    private final SldAgentAttachmentTransfer attachmentTransfer;
+    private final MeterRegistry meterRegistry;
+    private final int prefetch;
+    private final int maxConcurrent;
+    private final ExecutorService relayExecutor;
+    private final Scheduler relayScheduler;
+
+    private final AtomicInteger activeStreams = new AtomicInteger();
+    private final Counter chunkCounter;
+    private final Counter rejectedCounter;
+
+    public AgentStreamProxy(WebClient sldAgentWebClient,
+                            SldAgentStreamRelay streamRelay,
+                            SystemAdminService systemAdminService,
+                            GeminiConfig geminiConfig,
+                            FileRepository fileRepository,
+                            SldAgentAttachmentTransfer attachmentTransfer,
+                            MeterRegistry meterRegistry,
+                            @Value("${sld.agent.stream.prefetch:32}") int prefetch,
+                            @Value("${sld.agent.stream.max-concurrent:200}") int maxConcurrent) {
+        this.sldAgentWebClient = sldAgentWebClient;
+        this.streamRelay = streamRelay;
+        this.systemAdminService = systemAdminService;
+        this.geminiConfig = geminiConfig;
+        this.fileRepository = fileRepository;
+        this.attachmentTransfer = attachmentTransfer;
+        this.meterRegistry = meterRegistry;
+        this.prefetch = prefetch;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+
+        // 스트림별 publishOn drain이 각자 스레드를 얻도록 대기열 없는 캐시 풀
+        // - 상한은 동시 스트림 수의 2배: doFinally에서 슬롯을 반납한 뒤에도 drain 스레드가 잠시 남아 있음
+        // - 상한 초과 시 AbortPolicy → publishOn이 RejectedExecutionException으로 스트림 종료 (busy 이벤트)
+        AtomicInteger threadCount = new AtomicInteger();
+        this.relayExecutor = new ThreadPoolExecutor(0, this.maxConcurrent * 2, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "sld-agent-relay-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.relayScheduler = Schedulers.fromExecutorService(relayExecutor, "sld-agent-relay");
+
+        Gauge.builder("sld.agent.streams.active", activeStreams, AtomicInteger::get)
+                .description("진행 중인 SLD Agent 스트림 수")
+                .register(meterRegistry);
+        this.chunkCounter = Counter.builder("sld.agent.stream.chunks").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("sld.agent.stream.rejected").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        relayScheduler.dispose();
+        relayExecutor.shutdown();
+    }
+
+    /**
+     * SSE 스트리밍 채팅 프록시
+     * - 호출 전 사용자 메시지 저장 / context 구성은 호출 서비스에서 트랜잭션으로 처리
+     *
+     * @param onResponse AI 응답 완료 시 호출 (비어있는 응답은 호출하지 않음)
+     */
+    public void chat(ChatRequest request, SseEmitter emitter, Consumer<String> onResponse) {
+        int active = activeStreams.incrementAndGet();
+        if (active > maxConcurrent) {
+            activeStreams.decrementAndGet();
+            rejectedCounter.increment();
+            throw new BusinessException(BUSY_MESSAGE, HttpStatus.SERVICE_UNAVAILABLE, "SLD_AGENT_BUSY");
+        }
+
+        Mono<Map<String, Object>> requestBody;
+        try {
+            requestBody = buildRequestBody(request);
+        } catch (RuntimeException e) {
+            activeStreams.decrementAndGet();
+            throw e;
+        }
+
+        String scope = request.scope();
+        Long seq = request.seq();
+        SldAgentStreamRelay.ResponseBuffer fullResponse = streamRelay.newResponseBuffer();
+        AtomicReference<Disposable> subscriptionRef = new AtomicReference<>();
+        AtomicBoolean clientDisconnected = new AtomicBoolean(false);
+        AtomicBoolean finished = new AtomicBoolean(false);
+        long start = System.nanoTime();
+
+        Runnable release = () -> {
+            if (finished.compareAndSet(false, true)) {
+                activeStreams.decrementAndGet();
+            }
+        };
+
+        Disposable subscription = requestBody
+                .flatMapMany(body -> sldAgentWebClient
+                        .post()
+                        .uri("/api/chat/stream")
+                        .bodyValue(body)
+                        .retrieve()
+                        .bodyToFlux(String.class))
+                .publishOn(relayScheduler, prefetch)
+                .doFinally(signal -> {
+                    release.run();
+                    Timer.builder("sld.agent.stream.duration")
+                            .tag("outcome", signal.name().toLowerCase())
+                            .register(meterRegistry)
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                })
+                .subscribe(
+                        chunk -> {
+                            // 클라이언트 연결 끊김 시 처리 중단
+                            if (clientDisconnected.get()) return;
+
+                            if (chunk == null || chunk.isBlank()) return;
+                            chunkCounter.increment();
+
+                            // Python SSE 청크를 프런트엔드로 재전송 (type/content만 추출, 원문 그대로 전달)
+                            SldAgentStreamRelay.Chunk parsed = streamRelay.scan(chunk);
+                            if (parsed == null) {
+                                // JSON 파싱 실패 시 원본 텍스트 전달
+                                streamRelay.sendEvent(emitter, "message", Map.of("type", "message", "content", chunk));
+                                return;
+                            }
+
+                            // AI 응답 텍스트 누적 (최종 저장용) — done 이벤트는 전체 응답으로 교체
+                            if (parsed.isToken()) {
+                                fullResponse.append(parsed.content());
+                            } else if (parsed.isDone() && parsed.content() != null && !parsed.content().isEmpty()) {
+                                fullResponse.replace(parsed.content());
+                            }
+
+                            // Heartbeat 포함 — 프런트엔드 SSE 타임아웃 방지를 위해 전달
+                            if (!streamRelay.forward(emitter, parsed)) {
+                                handleClientDisconnect(subscriptionRef, clientDisconnected, scope, seq);
+                            }
+                        },
+                        error -> {
+                            // relay 풀 포화 — 이 스트림만 busy로 종료 (publishOn이 호출 스레드에서 오류 전달)
+                            if (Exceptions.unwrap(error) instanceof RejectedExecutionException) {
+                                log.warn("SLD Agent relay pool saturated: {}={}", scope, seq);
+                                rejectedCounter.increment();
+                                streamRelay.sendEvent(emitter, "error",
+                                        Map.of("type", "error", "code", "SLD_AGENT_BUSY", "content", BUSY_MESSAGE));
+                                completeEmitter(emitter);
+                                return;
+                            }
+                            log.error("SLD Agent streaming error: {}={}", scope, seq, error);
+                            if (error instanceof WebClientResponseException wce) {
+                                log.error("Response body: {}", wce.getResponseBodyAsString());
+                            }
+                            streamRelay.sendEvent(emitter, "error", Map.of("type", "error", "content", UNAVAILABLE_MESSAGE));
+                            completeEmitter(emitter);
+                        },
+                        () -> {
+                            if (fullResponse.isTruncated()) {
+                                log.warn("AI response truncated for storage: {}={}", scope, seq);
+                            }
+                            String aiResponse = fullResponse.toString();
+                            if (aiResponse.isEmpty()) {
+                                completeEmitter(emitter);
+                                return;
+                            }
+                            // AI 응답 저장 훅 (DB 작업 → relay 스레드 밖에서, 실패해도 SSE 종료에 영향 없음)
+                            Schedulers.boundedElastic().schedule(() -> {
+                                try {
+                                    onResponse.accept(aiResponse);
+                                } catch (Exception e) {
+                                    log.warn("Failed to save AI response: {}={}, error={}", scope, seq, e.getMessage());
+                                }
+                                completeEmitter(emitter);
+                            });
+                        }
+                );
+
+        subscriptionRef.set(subscription);
+
+        // 클라이언트 연결 해제 시 구독 정리
+        emitter.onCompletion(() -> {
+            clientDisconnected.set(true);
+            subscription.dispose();
+        });
+        emitter.onTimeout(() -> {
+            log.warn("SSE emitter timed out: {}={}", scope, seq);
+            streamRelay.sendEvent(emitter, "error", Map.of("type", "error", "content", TIMEOUT_MESSAGE));
+            clientDisconnected.set(true);
+            subscription.dispose();
+        });
+        emitter.onError(t -> {
+            log.warn("SSE emitter error: {}={}, error={}", scope, seq, t.getMessage());
+            clientDisconnected.set(true);
+            subscription.dispose();
+        });
+    }
+
+    /**
+     * Python 대화 상태(체크포인트 + temp 파일) 초기화
+     * - 실패해도 무시 (오류 없이 완료되는 Mono)
+     */
+    public Mono<Void> resetConversation(Long seq) {
+        return sldAgentWebClient
+                .post()
+                .uri("/api/chat/reset/" + seq)
+                .retrieve()
+                .bodyToMono(String.class)
+                .doOnNext(response -> log.info("SLD chat reset from Python: seq={}, response={}", seq, response))
+                .onErrorResume(e -> {
+                    log.warn("Failed to reset Python state (non-critical): seq={}, error={}", seq, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * 생성 파일 조회 (PDF/DXF) — format이 null이면 기본(PDF)
+     * - 빈 응답은 빈 배열
+     * - 결과는 boundedElastic에서 전달 (호출 서비스의 저장 트랜잭션 등 블로킹 작업 허용)
+     */
+    public Mono<byte[]> fetchFile(String fileId, String format) {
+        return sldAgentWebClient
+                .get()
+                .uri(format != null ? "/api/files/" + fileId + "?format=" + format : "/api/files/" + fileId)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .defaultIfEmpty(new byte[0])
+                .publishOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * SVG 미리보기 조회
+     */
+    public Mono<String> fetchSvg(String fileId) {
+        return sldAgentWebClient
+                .get()
+                .uri("/api/files/" + fileId + "/svg")
+                .retrieve()
+                .bodyToMono(String.class);
+    }
+
+    /**
+     * Python 서비스의 임시 파일(PDF + SVG) 정리
+     * - 파일 저장 성공 후 호출 (비동기, 실패해도 무시)
+     */
+    public void cleanupTempFile(String fileId) {
+        try {
+            sldAgentWebClient
+                    .delete()
+                    .uri("/api/files/" + fileId)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .subscribe(
+                            result -> log.info("Python temp file cleaned up: fileId={}", fileId),
+                            error -> log.warn("Failed to cleanup Python temp file (non-critical): fileId={}, error={}",
+                                    fileId, error.getMessage())
+                    );
+        } catch (Exception e) {
+            log.warn("Failed to request Python temp file cleanup (non-critical): fileId={}, error={}",
+                    fileId, e.getMessage());
+        }
+    }
+
+    /**
+     * Python 요청 본문 구성 (시스템 프롬프트, Gemini API Key, 첨부 파일)
+     * - 첨부 파일 레코드 조회는 즉시 수행 (없으면 스트림 시작 전 404),
+     *   파일 전달은 구독 시점에 수행
+     */
+    private Mono<Map<String, Object>> buildRequestBody(ChatRequest request) {
+        // SLD 시스템 프롬프트 조회 (60초 TTL 캐시)
+        String sldSystemPrompt = systemAdminService.getCachedSldSystemPrompt();
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("application_seq", request.seq());
+        requestBody.put("user_seq", request.userSeq());
+        requestBody.put("message", request.message());
+        requestBody.put("application_info", request.context());
+        if (sldSystemPrompt != null && !sldSystemPrompt.isBlank()) {
+            requestBody.put("system_prompt", sldSystemPrompt);
+        }
+        // DB에서 관리하는 Gemini API Key를 Python 서비스에 전달
+        String apiKey = geminiConfig.getApiKey();
+        if (apiKey != null && !apiKey.isBlank()) {
+            requestBody.put("api_key", apiKey);
+        }
+
+        Long attachedFileSeq = request.attachedFileSeq();
+        if (attachedFileSeq == null) {
+            return Mono.just(requestBody);
+        }
+        FileEntity fileEntity = fileRepository.findById(attachedFileSeq)
+                .orElseThrow(() -> new BusinessException(
+                        "Attached file not found", HttpStatus.NOT_FOUND, "FILE_NOT_FOUND"));
+        return attachmentTransfer.prepare(fileEntity)
+                .map(attachment -> {
+                    requestBody.put("attached_file", attachment);
+                    return requestBody;
+                })
+                .defaultIfEmpty(requestBody);
+    }
+
+    /**
+     * MIME type 추정 (JDK 매핑에 없는 엑셀/CSV 보완)
+     */
+    static String guessMimeType(String filename) {
+        String mimeType = java.net.URLConnection.guessContentTypeFromName(filename);
+        if (mimeType != null) {
+            return mimeType;
+        }
+        String ext = filename.toLowerCase();
+        if (ext.endsWith(".xlsx")) {
+            return "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+        } else if (ext.endsWith(".xls")) {
+            return "application/vnd.ms-excel";
+        } else if (ext.endsWith(".csv")) {
+            return "text/csv";
+        }
+        return "application/octet-stream";
+    }
+
+    /**
+     * 클라이언트 연결 끊김 처리 — 구독 취소하여 Python 에이전트 리소스 해제.
+     */
+    private void handleClientDisconnect(
+            AtomicReference<Disposable> subscriptionRef,
+            AtomicBoolean clientDisconnected,
+            String scope, Long seq) {
+        if (clientDisconnected.compareAndSet(false, true)) {
+            log.info("Client disconnected, cancelling Python agent subscription: {}={}", scope, seq);
+            Disposable sub = subscriptionRef.get();
+            if (sub != null && !sub.isDisposed()) {
+                sub.dispose();
+            }
+        }
+    }
+
+    /**
+     * SseEmitter 안전 종료 (이미 닫힌 연결이면 무시).
+     */
+    private void completeEmitter(SseEmitter emitter) {
+        try {
+            emitter.complete();
+        } catch (Exception e) {
+            log.debug("SSE emitter already completed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 채팅 요청
+     *
+     * @param scope   로그 구분용 식별자 이름 (applicationSeq / sldOrderSeq)
+     * @param seq     Python 대화 키 (application_seq로 전달)
+     * @param context application_info로 전달할 신청/주문 정보
+     */
+    public record ChatRequest(String scope, Long seq, Long userSeq, String message,
+                              Map<String, Object> context, Long attachedFileSeq) {
+    }
+}
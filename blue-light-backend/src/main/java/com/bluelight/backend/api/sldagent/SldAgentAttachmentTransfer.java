@@ -0,0 +1,178 @@
+package com.bluelight.backend.api.sldagent;
+
+import com.bluelight.backend.api.file.ContentHash;
+import com.bluelight.backend.api.file.FileStorageService;
+import com.bluelight.backend.domain.file.FileEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SLD AI Agent 첨부 파일 전달
+ *
+ * sld.agent.attachment.transfer:
+ * - reference (기본): 내용 해시(SHA-256) 기반 "한 번 업로드, 해시로 참조"
+ *   1. HEAD /api/attachments/{sha256} 로 Agent 보유 여부 확인
+ *   2. 없으면 PUT /api/attachments/{sha256} 로 원본 바이트를 Flux&lt;DataBuffer&gt; 스트리밍 업로드
+ *   3. 채팅 요청에는 {filename, sha256, mime_type}만 포함
+ *   → 같은 파일을 다시 첨부해도 재전송 없음, 파일 전체를 힙에 올리지 않음
+ * - inline: 기존 방식 (파일 전체를 base64로 JSON 본문에 포함)
+ *
+ * 해시는 저장 시 기록된 메타데이터(stat)를 우선 사용, 없으면(기존 파일) 스트리밍 계산
+ * 파일 읽기/해시 계산은 boundedElastic 스케줄러에서 수행 (요청 스레드 블로킹 없음)
+ * 실패 시 {filename, error} 전달 → Agent가 file_error 이벤트로 사용자에게 사유 표시
+ * (크기 상한 초과 413 등 — 첨부가 조용히 빠진 채 채팅이 진행되지 않도록)
+ */
+@Slf4j
+@Component
+public class SldAgentAttachmentTransfer {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int DIGEST_CACHE_SIZE = 1024;
+    private static final String TOO_LARGE_MESSAGE = "Attached file exceeds the AI service size limit";
+    private static final String FAILED_MESSAGE = "Attached file could not be sent to the AI service";
+
+    private final WebClient sldAgentWebClient;
+    private final FileStorageService fileStorageService;
+    private final boolean inline;
+
+    /**
+     * 저장 경로(fileUrl) → SHA-256 (만료 없이 LRU로 보관)
+     * - 저장 경로는 UUID/내용 주소라 내용이 바뀌지 않음
+     * - fileSeq는 키로 쓰지 않음 — LOA 서명 등 updateFileUrl()로 같은 레코드의 내용이 바뀔 수 있음
+     */
+    private final Map<String, String> digestCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > DIGEST_CACHE_SIZE;
+                }
+            });
+
+    public SldAgentAttachmentTransfer(WebClient sldAgentWebClient,
+                                      FileStorageService fileStorageService,
+                                      @Value("${sld.agent.attachment.transfer:reference}") String transfer) {
+        this.sldAgentWebClient = sldAgentWebClient;
+        this.fileStorageService = fileStorageService;
+        this.inline = "inline".equalsIgnoreCase(transfer);
+    }
+
+    /**
+     * Python 요청 본문의 attached_file 값 준비
+     */
+    public Mono<Map<String, Object>> prepare(FileEntity fileEntity) {
+        String filename = fileEntity.getOriginalFilename();
+        String mimeType = AgentStreamProxy.guessMimeType(filename);
+        Mono<Map<String, Object>> attachment = inline
+                ? Mono.fromCallable(() -> inlineAttachment(fileEntity, mimeType))
+                    .subscribeOn(Schedulers.boundedElastic())
+                : Mono.fromCallable(() -> digest(fileEntity))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(sha256 -> ensureUploaded(fileEntity, sha256)
+                            .thenReturn(Map.<String, Object>of(
+                                    "filename", filename,
+                                    "sha256", sha256,
+                                    "mime_type", mimeType)));
+
+        return attachment
+                .doOnNext(a -> log.info("Attached file prepared for AI: fileSeq={}, filename={}, mime={}, transfer={}",
+                        fileEntity.getFileSeq(), filename, mimeType, inline ? "inline" : "reference"))
+                .onErrorResume(e -> {
+                    // 채팅은 계속 진행하되, 첨부가 빠진 사유를 Agent에 전달
+                    log.error("Failed to prepare attached file: fileSeq={}", fileEntity.getFileSeq(), e);
+                    boolean tooLarge = e instanceof WebClientResponseException w
+                            && w.getStatusCode().value() == HttpStatus.CONTENT_TOO_LARGE.value();
+                    return Mono.just(Map.of(
+                            "filename", filename,
+                            "error", tooLarge ? TOO_LARGE_MESSAGE : FAILED_MESSAGE));
+                });
+    }
+
+    /**
+     * Agent에 없으면 업로드 (있으면 전송 생략)
+     */
+    private Mono<Void> ensureUploaded(FileEntity fileEntity, String sha256) {
+        return sldAgentWebClient
+                .head()
+                .uri("/api/attachments/{sha256}", sha256)
+                .exchangeToMono(response -> response.releaseBody()
+                        .thenReturn(response.statusCode().is2xxSuccessful()))
+                .flatMap(exists -> {
+                    if (exists) {
+                        log.debug("Attachment already on agent, skipping upload: sha256={}", sha256);
+                        return Mono.empty();
+                    }
+                    return upload(fileEntity, sha256);
+                });
+    }
+
+    private Mono<Void> upload(FileEntity fileEntity, String sha256) {
+        Flux<DataBuffer> body = Flux.defer(() -> DataBufferUtils.read(
+                        fileStorageService.loadAsResource(fileEntity.getFileUrl()),
+                        DefaultDataBufferFactory.sharedInstance, CHUNK_SIZE))
+                .subscribeOn(Schedulers.boundedElastic());
+
+        return sldAgentWebClient
+                .put()
+                .uri("/api/attachments/{sha256}", sha256)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(BodyInserters.fromDataBuffers(body))
+                .retrieve()
+                .toBodilessEntity()
+                .doOnSuccess(r -> log.info("Attachment uploaded to agent: fileSeq={}, sha256={}",
+                        fileEntity.getFileSeq(), sha256))
+                .then();
+    }
+
+    /**
+     * 파일 내용 SHA-256 (결과는 저장 경로 단위로 캐시)
+     * - 저장 메타데이터에 있으면 본문을 읽지 않음 (로컬 sidecar / S3 HeadObject)
+     * - 메타데이터 도입 전 파일은 스트리밍 계산
+     */
+    private String digest(FileEntity fileEntity) throws IOException {
+        String cached = digestCache.get(fileEntity.getFileUrl());
+        if (cached != null) {
+            return cached;
+        }
+        String sha256 = fileStorageService.stat(fileEntity.getFileUrl()).sha256();
+        if (sha256 == null) {
+            Resource resource = fileStorageService.loadAsResource(fileEntity.getFileUrl());
+            try (InputStream in = resource.getInputStream()) {
+                sha256 = ContentHash.sha256(in);
+            }
+        }
+        digestCache.put(fileEntity.getFileUrl(), sha256);
+        return sha256;
+    }
+
+    private Map<String, Object> inlineAttachment(FileEntity fileEntity, String mimeType) throws IOException {
+        byte[] fileBytes;
+        try (InputStream in = fileStorageService.loadAsResource(fileEntity.getFileUrl()).getInputStream()) {
+            fileBytes = in.readAllBytes();
+        }
+        return Map.of(
+                "filename", fileEntity.getOriginalFilename(),
+                "content_base64", Base64.getEncoder().encodeToString(fileBytes),
+                "mime_type", mimeType
+        );
+    }
+}
@@ -0,0 +1,196 @@
+package com.bluelight.backend.api.sldagent;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Map;
+
+/**
+ * SLD AI Agent SSE 청크 중계기
+ *
+ * sld.agent.stream.relay:
+ * - raw (기본): 스트리밍 JsonParser로 최상위 type/content만 추출하고 원문 JSON을 그대로 전달
+ *   (청크마다 Map 역직렬화 → 재직렬화 없음)
+ * - reserialize: 기존 방식 (Map으로 파싱 후 다시 직렬화하여 전달)
+ *
+ * 응답 누적(DB 저장용)은 sld.agent.stream.max-response-bytes(UTF-8 기준)에서 절단
+ * — sld_chat_messages.content(TEXT, 64KB) 저장 가능 크기 이내로 유지
+ */
+@Slf4j
+@Component
+public class SldAgentStreamRelay {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+    private final boolean raw;
+    private final int maxResponseBytes;
+
+    public SldAgentStreamRelay(ObjectMapper objectMapper,
+                               @Value("${sld.agent.stream.relay:raw}") String relay,
+                               @Value("${sld.agent.stream.max-response-bytes:65535}") int maxResponseBytes) {
+        this.objectMapper = objectMapper;
+        this.raw = !"reserialize".equalsIgnoreCase(relay);
+        this.maxResponseBytes = maxResponseBytes;
+    }
+
+    /**
+     * 청크에서 type / content 추출 (JSON이 아니면 null)
+     * - content는 누적이 필요한 token / done 이벤트에서만 보관
+     */
+    public Chunk scan(String chunk) {
+        try (JsonParser parser = objectMapper.createParser(chunk)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            String type = null;
+            String content = null;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_OBJECT && token != null) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.VALUE_STRING && "type".equals(name)) {
+                    type = parser.getValueAsString();
+                } else if (value == JsonToken.VALUE_STRING && "content".equals(name)) {
+                    content = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+                if (type != null && !Chunk.carriesText(type)) {
+                    break;
+                }
+            }
+            return new Chunk(type, Chunk.carriesText(type) ? content : null, chunk);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 청크를 SSE 이벤트로 전달. 성공 시 true, 실패(클라이언트 연결 끊김 등) 시 false 반환.
+     */
+    public boolean forward(SseEmitter emitter, Chunk chunk) {
+        String eventName = chunk.type() != null ? chunk.type() : "message";
+        if (raw) {
+            return send(emitter, eventName, chunk.json());
+        }
+        try {
+            return send(emitter, eventName, objectMapper.writeValueAsString(objectMapper.readValue(chunk.json(), MAP_TYPE)));
+        } catch (RuntimeException e) {
+            return send(emitter, eventName, chunk.json());
+        }
+    }
+
+    /**
+     * 직접 구성한 이벤트 전송 (오류 / JSON이 아닌 청크 포장 등)
+     */
+    public boolean sendEvent(SseEmitter emitter, String eventName, Map<String, Object> data) {
+        try {
+            return send(emitter, eventName, objectMapper.writeValueAsString(data));
+        } catch (RuntimeException e) {
+            log.debug("Failed to serialize SSE event ({}): {}", eventName, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 스트림 1개의 AI 응답 누적 버퍼 (상한 적용)
+     */
+    public ResponseBuffer newResponseBuffer() {
+        return new ResponseBuffer(maxResponseBytes);
+    }
+
+    private boolean send(SseEmitter emitter, String eventName, String json) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(eventName)
+                    .data(json));
+            return true;
+        } catch (Exception e) {
+            log.debug("Failed to send SSE event ({}): {}", eventName, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 추출된 청크 (json = 수신 원문)
+     */
+    public record Chunk(String type, String content, String json) {
+
+        static boolean carriesText(String type) {
+            return "token".equals(type) || "done".equals(type);
+        }
+
+        public boolean isToken() {
+            return "token".equals(type);
+        }
+
+        public boolean isDone() {
+            return "done".equals(type);
+        }
+    }
+
+    /**
+     * UTF-8 바이트 상한이 있는 응답 누적기 (구독 콜백은 순차 실행 → 동기화 불필요)
+     */
+    public static final class ResponseBuffer {
+
+        private final int maxBytes;
+        private final StringBuilder text = new StringBuilder();
+        private int bytes;
+        private boolean truncated;
+
+        ResponseBuffer(int maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        public void append(String content) {
+            if (truncated || content == null) {
+                return;
+            }
+            for (int i = 0; i < content.length(); i++) {
+                char c = content.charAt(i);
+                int size = c < 0x80 ? 1 : c < 0x800 || Character.isSurrogate(c) ? 2 : 3;
+                if (bytes + size > maxBytes) {
+                    // 서로게이트 쌍 중간에서 끊기지 않도록 정리
+                    if (text.length() > 0 && Character.isHighSurrogate(text.charAt(text.length() - 1))) {
+                        text.setLength(text.length() - 1);
+                    }
+                    truncated = true;
+                    return;
+                }
+                text.append(c);
+                bytes += size;
+            }
+        }
+
+        /**
+         * 전체 응답으로 교체 (done 이벤트)
+         */
+        public void replace(String content) {
+            text.setLength(0);
+            bytes = 0;
+            truncated = false;
+            append(content);
+        }
+
+        public boolean isTruncated() {
+            return truncated;
+        }
+
+        public boolean isEmpty() {
+            return text.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+}
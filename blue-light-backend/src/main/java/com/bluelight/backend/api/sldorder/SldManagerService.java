@@ -5,6 +5,7 @@ import com.bluelight.backend.api.sldorder.dto.SldManagerUploadDto;
 import com.bluelight.backend.api.sldorder.dto.SldOrderDashboardResponse;
 import com.bluelight.backend.api.sldorder.dto.SldOrderResponse;
 import com.bluelight.backend.common.exception.BusinessException;
+import com.bluelight.backend.common.util.EnumCounter;
 import com.bluelight.backend.domain.sldorder.SldOrder;
 import com.bluelight.backend.domain.sldorder.SldOrderPayment;
 import com.bluelight.backend.domain.sldorder.SldOrderPaymentRepository;
@@ -33,20 +34,22 @@ public class SldManagerService {
     private final SldOrderRepository sldOrderRepository;
     private final SldOrderPaymentRepository sldOrderPaymentRepository;
     private final UserRepository userRepository;
+    private final SldOrderStatusCounter sldOrderStatusCounter;
 
     /**
-     * 대시보드 통계 조회 (상태별 건수)
+     * 대시보드 통계 조회 (상태별 건수, SldOrderStatusCounter 캐시)
      */
     public SldOrderDashboardResponse getDashboard() {
+        EnumCounter<SldOrderStatus> counts = sldOrderStatusCounter.countByStatus();
         return SldOrderDashboardResponse.builder()
-                .total(sldOrderRepository.count())
-                .pendingQuote(sldOrderRepository.countByStatus(SldOrderStatus.PENDING_QUOTE))
-                .quoteProposed(sldOrderRepository.countByStatus(SldOrderStatus.QUOTE_PROPOSED))
-                .pendingPayment(sldOrderRepository.countByStatus(SldOrderStatus.PENDING_PAYMENT))
-                .paid(sldOrderRepository.countByStatus(SldOrderStatus.PAID))
-                .inProgress(sldOrderRepository.countByStatus(SldOrderStatus.IN_PROGRESS))
-                .sldUploaded(sldOrderRepository.countByStatus(SldOrderStatus.SLD_UPLOADED))
-                .completed(sldOrderRepository.countByStatus(SldOrderStatus.COMPLETED))
+                .total(counts.total())
+                .pendingQuote(counts.get(SldOrderStatus.PENDING_QUOTE))
+                .quoteProposed(counts.get(SldOrderStatus.QUOTE_PROPOSED))
+                .pendingPayment(counts.get(SldOrderStatus.PENDING_PAYMENT))
+                .paid(counts.get(SldOrderStatus.PAID))
+                .inProgress(counts.get(SldOrderStatus.IN_PROGRESS))
+                .sldUploaded(counts.get(SldOrderStatus.SLD_UPLOADED))
+                .completed(counts.get(SldOrderStatus.COMPLETED))
                 .build();
     }
 
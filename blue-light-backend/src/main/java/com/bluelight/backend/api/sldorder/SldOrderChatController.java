@@ -12,6 +12,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
@@ -66,10 +67,10 @@ public class SldOrderChatController {
      * POST /api/sld-manager/orders/{id}/sld-chat/reset
      */
     @PostMapping("/reset")
-    public ResponseEntity<Map<String, String>> resetChat(@PathVariable Long id) {
+    public Mono<ResponseEntity<Map<String, String>>> resetChat(@PathVariable Long id) {
         log.info("SLD Order chat reset: sldOrderSeq={}", id);
-        sldOrderAgentService.resetChat(id);
-        return ResponseEntity.ok(Map.of("message", "Chat history cleared"));
+        return sldOrderAgentService.resetChat(id)
+                .thenReturn(ResponseEntity.ok(Map.of("message", "Chat history cleared")));
     }
 
     /**
@@ -77,14 +78,13 @@ public class SldOrderChatController {
      * POST /api/sld-manager/orders/{id}/sld-chat/accept
      */
     @PostMapping("/accept")
-    public ResponseEntity<SldOrderResponse> acceptSld(
+    public Mono<ResponseEntity<SldOrderResponse>> acceptSld(
             @PathVariable Long id,
             @RequestBody Map<String, String> body) {
 
         String fileId = body.get("fileId");
         log.info("SLD Order accept: sldOrderSeq={}, fileId={}", id, fileId);
-        SldOrderResponse response = sldOrderAgentService.acceptSld(id, fileId);
-        return ResponseEntity.ok(response);
+        return sldOrderAgentService.acceptSld(id, fileId).map(ResponseEntity::ok);
     }
 
     /**
@@ -92,13 +92,12 @@ public class SldOrderChatController {
      * GET /api/sld-manager/orders/{id}/sld-chat/preview/{fileId}
      */
     @GetMapping(value = "/preview/{fileId}", produces = "image/svg+xml")
-    public ResponseEntity<String> getSvgPreview(
+    public Mono<ResponseEntity<String>> getSvgPreview(
             @PathVariable Long id,
             @PathVariable String fileId) {
 
         log.info("SLD Order SVG preview: sldOrderSeq={}, fileId={}", id, fileId);
-        String svg = sldOrderAgentService.getSvgPreview(id, fileId);
-        return ResponseEntity.ok(svg);
+        return sldOrderAgentService.getSvgPreview(id, fileId).map(ResponseEntity::ok);
     }
 
     /**
@@ -106,20 +105,19 @@ public class SldOrderChatController {
      * GET /api/sld-manager/orders/{id}/sld-chat/download/{fileId}?format=pdf|dxf
      */
     @GetMapping("/download/{fileId}")
-    public ResponseEntity<byte[]> downloadGeneratedFile(
+    public Mono<ResponseEntity<byte[]>> downloadGeneratedFile(
             @PathVariable Long id,
             @PathVariable String fileId,
             @RequestParam(defaultValue = "pdf") String format) {
 
         log.info("SLD Order file download: sldOrderSeq={}, fileId={}, format={}", id, fileId, format);
-        byte[] fileBytes = sldOrderAgentService.downloadGeneratedFile(id, fileId, format);
-
         String mediaType = "dxf".equals(format) ? "application/dxf" : "application/pdf";
         String filename = "SLD_" + fileId + "." + format;
 
-        return ResponseEntity.ok()
-                .header("Content-Disposition", "attachment; filename=\"" + filename + "\"")
-                .header("Content-Type", mediaType)
-                .body(fileBytes);
+        return sldOrderAgentService.downloadGeneratedFile(id, fileId, format)
+                .map(fileBytes -> ResponseEntity.ok()
+                        .header("Content-Disposition", "attachment; filename=\"" + filename + "\"")
+                        .header("Content-Type", mediaType)
+                        .body(fileBytes));
     }
 }
@@ -89,7 +89,7 @@ public class SldOrderFileController {
 
         FileType parsedFileType = parseFileType(fileType);
         String subDirectory = "sld-orders/" + order.getSldOrderSeq();
-        String storedPath = fileStorageService.store(file, subDirectory);
+        String storedPath = fileStorageService.store(file, subDirectory).path();
 
         FileEntity fileEntity = FileEntity.builder()
                 .sldOrder(order)
@@ -0,0 +1,141 @@
+package com.bluelight.backend.api.sldorder;
+
+import com.bluelight.backend.common.util.EnumCounter;
+import com.bluelight.backend.domain.sldorder.SldOrderRepository;
+import com.bluelight.backend.domain.sldorder.SldOrderStatus;
+import com.bluelight.backend.domain.sldorder.SldOrderStatusChangedEvent;
+import com.bluelight.backend.domain.sldorder.SldOrderStatusCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SLD 주문 상태별 건수 캐시 (SLD Manager 대시보드)
+ *
+ * - 기동 시 GROUP BY 1회로 구성, 이후 SldOrderStatusChangedEvent (커밋 후)로 증감
+ * - 주기적 재집계로 드리프트 보정, 불일치 감지 시 무효화 → 다음 조회에서 재집계
+ * - 동작 방식은 ApplicationStatusCounter와 동일
+ */
+@Slf4j
+@Component
+public class SldOrderStatusCounter {
+
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+
+    private final SldOrderRepository sldOrderRepository;
+    private final boolean enabled;
+
+    private final AtomicLong eventSequence = new AtomicLong();
+
+    private volatile EnumCounter<SldOrderStatus> counts;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public SldOrderStatusCounter(
+            SldOrderRepository sldOrderRepository,
+            @Value("${dashboard.counter-cache.enabled:true}") boolean enabled) {
+        this.sldOrderRepository = sldOrderRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 상태별 주문 건수
+     */
+    public EnumCounter<SldOrderStatus> countByStatus() {
+        if (!enabled) {
+            return load();
+        }
+        EnumCounter<SldOrderStatus> current = counts;
+        return current != null ? current : rebuild(false);
+    }
+
+    /**
+     * 캐시 무효화 — 이벤트 없이 상태를 일괄 변경한 경우 호출
+     */
+    public void invalidate() {
+        counts = null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            rebuild(false);
+        } catch (Exception e) {
+            log.warn("SLD order status counter warm-up failed, will rebuild on first read: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.counter-cache.reconcile-interval-ms:60000}",
+            initialDelayString = "${dashboard.counter-cache.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        if (enabled) {
+            rebuild(true);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(SldOrderStatusChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        eventSequence.incrementAndGet();
+        EnumCounter<SldOrderStatus> current = counts;
+        if (current == null) {
+            return;
+        }
+        boolean consistent = true;
+        if (event.fromStatus() != null) {
+            consistent = current.add(event.fromStatus(), -1) >= 0;
+        }
+        if (event.toStatus() != null) {
+            current.add(event.toStatus(), 1);
+        }
+        if (!consistent) {
+            log.warn("SLD order status counter drift detected (sldOrderSeq={}), invalidating", event.sldOrderSeq());
+            counts = null;
+        }
+    }
+
+    private EnumCounter<SldOrderStatus> rebuild(boolean reportDrift) {
+        rebuildLock.lock();
+        try {
+            EnumCounter<SldOrderStatus> fresh = null;
+            for (int attempt = 1; attempt <= MAX_REBUILD_ATTEMPTS; attempt++) {
+                long sequence = eventSequence.get();
+                fresh = load();
+                EnumCounter<SldOrderStatus> previous = counts;
+                counts = fresh;
+                if (reportDrift && previous != null && !previous.sameCounts(fresh)) {
+                    log.warn("SLD order status counter drift corrected: cached={}, actual={}", previous, fresh);
+                }
+                if (eventSequence.get() == sequence) {
+                    break;
+                }
+                reportDrift = false;
+            }
+            return fresh;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private EnumCounter<SldOrderStatus> load() {
+        EnumCounter<SldOrderStatus> counter = new EnumCounter<>(SldOrderStatus.class);
+        List<SldOrderStatusCount> rows = sldOrderRepository.countGroupByStatus();
+        for (SldOrderStatusCount row : rows) {
+            counter.add(row.getStatus(), row.getCount());
+        }
+        return counter;
+    }
+}
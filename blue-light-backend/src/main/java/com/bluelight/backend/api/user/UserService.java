@@ -111,7 +111,7 @@ public class UserService {
         }
 
         // 새 서명 저장
-        String relativePath = fileStorageService.store(signatureImage, "users/" + userSeq);
+        String relativePath = fileStorageService.store(signatureImage, "users/" + userSeq).path();
         user.updateSignatureUrl(relativePath);
         log.info("Signature uploaded: userSeq={}, path={}", userSeq, relativePath);
         return UserResponse.from(user);
@@ -0,0 +1,130 @@
+package com.bluelight.backend.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 버전 기반 상주 캐시 공통 구현 (전 서버 공통 무효화)
+ *
+ * - 원본 전체를 버전이 붙은 불변 스냅샷으로 보관 → 조회 시 DB 접근 없음
+ * - 변경 시 markChanged()로 버전 테이블(id=1 단일 행) version 증가 (쓰기 트랜잭션에 참여)
+ *   → 같은 서버는 커밋 직후 무효화, 다른 서버는 poll()로 감지 후 재적재
+ * - 폴링은 PK 단건 조회 1회 — 캐시 조회 횟수와 무관
+ * - 재적재는 새 스냅샷을 만든 뒤 참조 1회 교체 → 조회 중인 스레드는 이전/새 스냅샷 중 하나만 봄
+ *
+ * 하위 클래스는 load()를 구현하고, 폴링 주기 설정과 함께 @Scheduled로 poll()을 재정의
+ *
+ * @param <T> 스냅샷 값 (불변)
+ */
+@Slf4j
+public abstract class VersionedSnapshotCache<T> {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String name;
+    private final String versionQuery;
+    private final String versionUpdate;
+
+    /** null이면 다음 조회 시 재적재 */
+    private volatile Snapshot<T> snapshot;
+
+    /** 재적재 직렬화 (DB 조회 포함 — synchronized 대신 사용해 가상 스레드 pinning 방지) */
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    /**
+     * @param versionTable 버전 테이블명 (id TINYINT, version BIGINT, updated_at — id=1 행 시드 필요)
+     * @param name         로그 표시명
+     */
+    protected VersionedSnapshotCache(JdbcTemplate jdbcTemplate, String versionTable, String name) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.name = name;
+        this.versionQuery = "SELECT version FROM " + versionTable + " WHERE id = 1";
+        this.versionUpdate = "UPDATE " + versionTable + " SET version = version + 1, updated_at = NOW(6) WHERE id = 1";
+    }
+
+    /**
+     * 원본 전체 적재 — reloadLock 안에서 호출
+     */
+    protected abstract T load();
+
+    /**
+     * 현재 스냅샷 값 (무효화된 경우 재적재)
+     */
+    protected T current() {
+        Snapshot<T> current = snapshot;
+        if (current == null) {
+            current = reload();
+        }
+        return current.value();
+    }
+
+    /**
+     * 변경 알림 — 호출 트랜잭션과 함께 커밋되도록 버전 증가
+     */
+    public void markChanged() {
+        jdbcTemplate.update(versionUpdate);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshot = null;
+                }
+            });
+        } else {
+            snapshot = null;
+        }
+    }
+
+    /**
+     * 다른 서버의 변경 감지
+     */
+    public void poll() {
+        Snapshot<T> current = snapshot;
+        if (current == null) {
+            return;
+        }
+        try {
+            long version = currentVersion();
+            if (version != current.version()) {
+                log.info("{} changed (version {} → {}), reloading", name, current.version(), version);
+                snapshot = null;
+            }
+        } catch (DataAccessException e) {
+            log.warn("{} version poll failed: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 버전을 먼저 읽고 적재
+     * - 사이에 커밋된 변경은 다음 폴링에서 다시 감지 (오래된 값이 새 버전으로 남지 않음)
+     */
+    private Snapshot<T> reload() {
+        reloadLock.lock();
+        try {
+            Snapshot<T> current = snapshot;
+            if (current != null) {
+                return current;
+            }
+            long version = currentVersion();
+            Snapshot<T> fresh = new Snapshot<>(version, load());
+            snapshot = fresh;
+            log.debug("{} loaded: version={}", name, version);
+            return fresh;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private long currentVersion() {
+        List<Long> rows = jdbcTemplate.queryForList(versionQuery, Long.class);
+        return rows.isEmpty() ? 0L : rows.get(0);
+    }
+
+    private record Snapshot<T>(long version, T value) {
+    }
+}
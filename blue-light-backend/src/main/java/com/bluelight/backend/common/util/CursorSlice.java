@@ -0,0 +1,28 @@
+package com.bluelight.backend.common.util;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답 (전체 건수 COUNT 없음)
+ *
+ * @param content    현재 페이지 항목
+ * @param size       요청 페이지 크기
+ * @param hasNext    다음 페이지 존재 여부
+ * @param nextCursor 다음 페이지 요청 시 cursor 파라미터 값 (없으면 null)
+ */
+public record CursorSlice<T>(List<T> content, int size, boolean hasNext, String nextCursor) {
+
+    /**
+     * 엔티티 Slice → 응답 변환 (마지막 항목 위치로 다음 커서 생성)
+     */
+    public static <E, T> CursorSlice<T> of(Slice<E> slice, Function<E, T> mapper, Function<E, PageCursor> cursorOf) {
+        List<E> rows = slice.getContent();
+        String next = (slice.hasNext() && !rows.isEmpty())
+                ? cursorOf.apply(rows.get(rows.size() - 1)).encode()
+                : null;
+        return new CursorSlice<>(rows.stream().map(mapper).toList(), slice.getSize(), slice.hasNext(), next);
+    }
+}
@@ -0,0 +1,67 @@
+package com.bluelight.backend.common.util;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Enum 값별 동시성 카운터 (상태별 건수 집계용)
+ * - ordinal 인덱스의 AtomicLongArray → 증감/조회 모두 락 없음
+ */
+public final class EnumCounter<E extends Enum<E>> {
+
+    private final Class<E> type;
+    private final AtomicLongArray counts;
+
+    public EnumCounter(Class<E> type) {
+        this.type = type;
+        this.counts = new AtomicLongArray(type.getEnumConstants().length);
+    }
+
+    /**
+     * 증감 후 값 반환
+     */
+    public long add(E key, long delta) {
+        return counts.addAndGet(key.ordinal(), delta);
+    }
+
+    public long get(E key) {
+        return counts.get(key.ordinal());
+    }
+
+    /**
+     * 전체 합계
+     */
+    public long total() {
+        long sum = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            sum += counts.get(i);
+        }
+        return sum;
+    }
+
+    /**
+     * 값별 건수가 모두 같은지 비교 (정합성 점검용)
+     */
+    public boolean sameCounts(EnumCounter<E> other) {
+        for (int i = 0; i < counts.length(); i++) {
+            if (counts.get(i) != other.counts.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Map<E, Long> toMap() {
+        Map<E, Long> map = new EnumMap<>(type);
+        for (E key : type.getEnumConstants()) {
+            map.put(key, get(key));
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+}
@@ -1,112 +1,387 @@
 package com.bluelight.backend.common.util;
 
-import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import com.bluelight.backend.api.file.LocalFileStorageService;
+import com.bluelight.backend.common.exception.BusinessException;
+import com.bluelight.backend.common.util.FileEncryptionUtil.EncryptionState;
+import com.bluelight.backend.common.util.FileEncryptionUtil.Inspection;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * 기존 평문 파일을 AES-256-GCM 암호화로 일괄 변환하는 마이그레이터
+ * 로컬 업로드 파일 암호화 마이그레이터 (백그라운드)
  *
- * 활성화: file.encryption-migrate=true (환경변수 FILE_ENCRYPTION_MIGRATE=true)
- * 조건: file.encryption-key가 설정되어 있어야 함 (FileEncryptionUtil.isEnabled())
+ * - 평문 파일 → 현재 키로 암호화
+ * - 이전 키(file.encryption-previous-keys) 또는 기존 단일 블록 형식 파일 → 현재 키 청크 형식으로 재암호화 (키 교체)
+ *
+ * 실행: file.encryption-migrate=true면 기동 완료 후 자동 시작 (기동을 막지 않음),
+ *       또는 SYSTEM_ADMIN API (POST /api/admin/system/file-encryption/migration)
+ * 진행: GET /api/admin/system/file-encryption/migration
  *
  * 동작:
- *   1. uploads/ 디렉토리 재귀 탐색
- *   2. 각 파일을 읽어 복호화 시도 → 실패하면 평문으로 간주
- *   3. 평문 파일을 암호화하여 덮어쓰기
- *   4. 서버 기동 시 1회 실행 (재실행 시 이미 암호화된 파일은 건너뜀)
+ *   - fork-join 디렉토리 워커: 디렉토리별 하위 디렉토리/파일 작업을 분기, 전용 풀 크기로 동시 처리 수 제한
+ *     (file.encryption-migration.concurrency)
+ *   - 판별: 청크 형식은 헤더 + 첫 청크만, 크기 미달/평문 시그니처 파일은 헤더만 읽음
+ *     그 외(단일 블록 후보)는 태그를 스트리밍 검증 — 파일 전체를 힙에 올리지 않음
+ *   - 변환: 임시 파일(.part)에 스트리밍 암호화 + fsync → 원본 위치로 원자적 rename (중단돼도 반쯤 쓴 파일 없음)
+ *   - 읽기 대역폭 제한 (file.encryption-migration.max-mb-per-second, 전 스레드 합산, 판별/변환 읽기 모두 포함)
+ *   - 체크포인트: {upload-dir}/.migration/file-encryption.checkpoint 에 완료 디렉토리 기록 → 재시작 시 이어서 처리
+ *     (키가 바뀌면 처음부터)
+ *   - 단일 블록 크기이나 어떤 키로도 인증되지 않는 파일(평문 시그니처 없음)은 평문으로 간주하지 않고 실패 처리
+ *     (손상/미등록 키 암호문을 이중 암호화하지 않음 — 키 설정 확인 또는 수동 처리 필요)
+ *   - 작업 시작 이후 수정된 파일은 앱이 현재 키로 기록 중/기록한 파일이므로 건너뜀
+ *   - 메타데이터 sidecar(.meta)·임시 파일(.part)은 대상 아님
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
-@ConditionalOnProperty(name = "file.encryption-migrate", havingValue = "true")
 public class FileEncryptionMigrator {
 
+    private static final String CHECKPOINT_DIR = ".migration";
+    private static final String CHECKPOINT_FILE = "file-encryption.checkpoint";
+    private static final long SHUTDOWN_WAIT_SECONDS = 10;
+
+    public enum State { IDLE, RUNNING, STOPPING, COMPLETED, STOPPED, FAILED }
+
+    /**
+     * 진행 상황 스냅샷
+     */
+    public record Progress(State state, String keyFingerprint, Instant startedAt, Instant finishedAt,
+                           long directoriesScanned, long directoriesResumed, long filesScanned,
+                           long encrypted, long rotated, long skipped, long failed,
+                           long bytesRewritten, String lastError) {
+    }
+
     private final FileEncryptionUtil fileEncryptionUtil;
+    private final Path rootPath;
+    private final boolean autoStart;
+    private final int concurrency;
+    private final long maxBytesPerSecond;
+
+    private volatile State state = State.IDLE;
+    private volatile boolean stopRequested;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String lastError;
+    private volatile ForkJoinPool pool;
 
-    @Value("${file.upload-dir}")
-    private String uploadDir;
+    private final AtomicLong directoriesScanned = new AtomicLong();
+    private final AtomicLong directoriesResumed = new AtomicLong();
+    private final AtomicLong filesScanned = new AtomicLong();
+    private final AtomicLong encrypted = new AtomicLong();
+    private final AtomicLong rotated = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong bytesRewritten = new AtomicLong();
+
+    public FileEncryptionMigrator(FileEncryptionUtil fileEncryptionUtil,
+                                  @Value("${file.upload-dir}") String uploadDir,
+                                  @Value("${file.encryption-migrate:false}") boolean autoStart,
+                                  @Value("${file.encryption-migration.concurrency:2}") int concurrency,
+                                  @Value("${file.encryption-migration.max-mb-per-second:20}") long maxMbPerSecond) {
+        this.fileEncryptionUtil = fileEncryptionUtil;
+        this.rootPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.autoStart = autoStart;
+        this.concurrency = Math.max(1, concurrency);
+        this.maxBytesPerSecond = maxMbPerSecond * 1024 * 1024;
+    }
 
-    @PostConstruct
-    public void migrate() {
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!autoStart) {
+            return;
+        }
         if (!fileEncryptionUtil.isEnabled()) {
             log.warn("파일 마이그레이션 건너뜀: 암호화 키가 설정되지 않음");
             return;
         }
+        start(false);
+    }
+
+    /**
+     * 백그라운드 마이그레이션 시작
+     *
+     * @param reset true면 체크포인트를 버리고 처음부터
+     * @return 시작 여부 (이미 실행 중이면 false)
+     */
+    public synchronized boolean start(boolean reset) {
+        if (!fileEncryptionUtil.isEnabled()) {
+            throw new BusinessException("File encryption key is not configured",
+                    HttpStatus.BAD_REQUEST, "FILE_ENCRYPTION_DISABLED");
+        }
+        if (state == State.RUNNING || state == State.STOPPING) {
+            return false;
+        }
+        resetCounters();
+        stopRequested = false;
+        startedAt = Instant.now();
+        finishedAt = null;
+        lastError = null;
+        state = State.RUNNING;
+
+        Thread coordinator = new Thread(() -> run(reset), "file-encryption-migrator");
+        coordinator.setDaemon(true);
+        coordinator.start();
+        return true;
+    }
+
+    public Progress progress() {
+        return new Progress(state, fileEncryptionUtil.keyFingerprint(), startedAt, finishedAt,
+                directoriesScanned.get(), directoriesResumed.get(), filesScanned.get(),
+                encrypted.get(), rotated.get(), skipped.get(), failed.get(),
+                bytesRewritten.get(), lastError);
+    }
+
+    /**
+     * 종료 시 진행 중인 파일까지만 처리하고 중단 (완료 디렉토리는 체크포인트에 남음)
+     */
+    @PreDestroy
+    public void stop() {
+        ForkJoinPool running = pool;
+        if (running == null) {
+            return;
+        }
+        stopRequested = true;
+        state = State.STOPPING;
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running.shutdownNow();
+        }
+    }
 
-        Path rootPath = Paths.get(uploadDir).toAbsolutePath().normalize();
-        if (!Files.exists(rootPath)) {
+    private void run(boolean reset) {
+        if (!Files.isDirectory(rootPath)) {
             log.info("파일 마이그레이션 건너뜀: 업로드 디렉토리 없음 ({})", rootPath);
+            finishedAt = Instant.now();
+            state = State.COMPLETED;
             return;
         }
+        Path checkpointFile = rootPath.resolve(CHECKPOINT_DIR).resolve(CHECKPOINT_FILE);
+        log.info("파일 암호화 마이그레이션 시작: {} (키 {}, 동시 {}개, {}MB/s{})", rootPath,
+                fileEncryptionUtil.keyFingerprint(), concurrency,
+                maxBytesPerSecond > 0 ? maxBytesPerSecond / (1024 * 1024) : "무제한",
+                reset ? ", 체크포인트 초기화" : "");
 
-        log.info("파일 암호화 마이그레이션 시작: {}", rootPath);
+        IoThrottle throttle = new IoThrottle(maxBytesPerSecond);
+        try (MigrationCheckpoint checkpoint = MigrationCheckpoint.open(
+                checkpointFile, fileEncryptionUtil.keyFingerprint(), reset)) {
+            pool = newPool();
+            pool.invoke(new DirectoryTask(rootPath, checkpoint, throttle));
+            state = stopRequested ? State.STOPPED : State.COMPLETED;
+        } catch (Exception e) {
+            lastError = e.getMessage();
+            state = stopRequested ? State.STOPPED : State.FAILED;
+            log.error("파일 암호화 마이그레이션 중단", e);
+        } finally {
+            ForkJoinPool finished = pool;
+            pool = null;
+            if (finished != null) {
+                finished.shutdown();
+            }
+            finishedAt = Instant.now();
+        }
 
-        AtomicInteger encrypted = new AtomicInteger(0);
-        AtomicInteger skipped = new AtomicInteger(0);
-        AtomicInteger failed = new AtomicInteger(0);
+        log.info("파일 암호화 마이그레이션 {}: 암호화={}건, 키 교체={}건, 건너뜀={}건, 실패={}건, 이어서 처리한 디렉토리={}개",
+                state, encrypted.get(), rotated.get(), skipped.get(), failed.get(), directoriesResumed.get());
+    }
 
-        try (Stream<Path> files = Files.walk(rootPath)) {
-            files.filter(Files::isRegularFile).forEach(filePath -> {
-                try {
-                    byte[] data = Files.readAllBytes(filePath);
+    /**
+     * 동시 처리 수를 풀 크기로 고정 (join 대기 중에도 보상 스레드를 만들지 않음)
+     */
+    private ForkJoinPool newPool() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return new ForkJoinPool(concurrency,
+                p -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                    thread.setName("file-encryption-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                null, false, concurrency, concurrency, 1, p -> true, 60, TimeUnit.SECONDS);
+    }
 
-                    if (data.length == 0) {
-                        skipped.incrementAndGet();
-                        return;
-                    }
+    /**
+     * 디렉토리 1개: 하위 디렉토리 작업 + 직속 파일 작업을 분기 → 직속 파일이 모두 성공하면 체크포인트 기록
+     */
+    private final class DirectoryTask extends RecursiveAction {
 
-                    // 이미 암호화되었는지 확인: 복호화 시도
-                    if (isAlreadyEncrypted(data)) {
-                        skipped.incrementAndGet();
-                        return;
-                    }
+        private final Path directory;
+        private final MigrationCheckpoint checkpoint;
+        private final IoThrottle throttle;
 
-                    // 평문 → 암호화
-                    byte[] encryptedData = fileEncryptionUtil.encrypt(data);
-                    Files.write(filePath, encryptedData);
-                    encrypted.incrementAndGet();
+        private DirectoryTask(Path directory, MigrationCheckpoint checkpoint, IoThrottle throttle) {
+            this.directory = directory;
+            this.checkpoint = checkpoint;
+            this.throttle = throttle;
+        }
+
+        @Override
+        protected void compute() {
+            if (stopRequested) {
+                return;
+            }
+            String key = checkpointKey(directory);
+            boolean resumed = checkpoint.isCompleted(key);
+
+            List<ForkJoinTask<?>> subtasks = new ArrayList<>();
+            List<ForkJoinTask<Boolean>> fileTasks = new ArrayList<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+                        if (!entry.equals(rootPath.resolve(CHECKPOINT_DIR))) {
+                            subtasks.add(new DirectoryTask(entry, checkpoint, throttle));
+                        }
+                    } else if (!resumed && isMigrationTarget(entry)) {
+                        fileTasks.add(ForkJoinTask.adapt(() -> migrateFile(entry, throttle)));
+                    }
+                }
+            } catch (IOException e) {
+                failed.incrementAndGet();
+                lastError = e.getMessage();
+                log.error("파일 마이그레이션 디렉토리 탐색 실패: {}", directory, e);
+                return;
+            }
+            directoriesScanned.incrementAndGet();
+            if (resumed) {
+                directoriesResumed.incrementAndGet();
+            }
 
-                    log.debug("파일 암호화 완료: {}", filePath);
+            subtasks.addAll(fileTasks);
+            invokeAll(subtasks);
 
+            if (!resumed && !stopRequested && fileTasks.stream().allMatch(ForkJoinTask::join)) {
+                try {
+                    checkpoint.markCompleted(key);
                 } catch (IOException e) {
-                    failed.incrementAndGet();
-                    log.error("파일 마이그레이션 실패: {}", filePath, e);
+                    log.warn("파일 마이그레이션 체크포인트 기록 실패: {}", key, e);
                 }
-            });
-        } catch (IOException e) {
-            log.error("파일 마이그레이션 디렉토리 탐색 실패", e);
-            return;
+            }
         }
-
-        log.info("파일 암호화 마이그레이션 완료: 암호화={}건, 건너뜀={}건, 실패={}건",
-                encrypted.get(), skipped.get(), failed.get());
     }
 
     /**
-     * 데이터가 이미 암호화되어 있는지 판별
-     * 복호화 시도하여 성공하면 암호화된 것으로 판단
+     * @return 처리 완료 여부 (false면 디렉토리를 체크포인트에 기록하지 않음 → 다음 실행에서 재시도)
      */
-    private boolean isAlreadyEncrypted(byte[] data) {
-        if (!fileEncryptionUtil.isLikelyEncrypted(data)) {
+    private boolean migrateFile(Path file, IoThrottle throttle) {
+        if (stopRequested) {
             return false;
         }
-
+        filesScanned.incrementAndGet();
         try {
-            fileEncryptionUtil.decrypt(data);
-            return true;  // 복호화 성공 → 이미 암호화된 파일
-        } catch (Exception e) {
-            return false;  // 복호화 실패 → 평문 파일
+            BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+            if (attrs.size() == 0 || attrs.lastModifiedTime().toInstant().isAfter(startedAt)) {
+                skipped.incrementAndGet();
+                return true;
+            }
+
+            Inspection inspection = fileEncryptionUtil.inspect(file, throttle);
+            EncryptionState encryptionState = inspection.state();
+            switch (encryptionState) {
+                case CURRENT -> {
+                    skipped.incrementAndGet();
+                    return true;
+                }
+                case UNKNOWN_KEY, UNRECOGNIZED -> {
+                    // 평문으로 간주해 이중 암호화하지 않음 — 키 설정 확인 필요
+                    failed.incrementAndGet();
+                    log.warn("파일 마이그레이션 건너뜀: 설정된 어떤 키로도 복호화되지 않음 ({}, {})", encryptionState, file);
+                    return false;
+                }
+                default -> {
+                    rewrite(file, inspection, throttle);
+                    (encryptionState == EncryptionState.PLAINTEXT ? encrypted : rotated).incrementAndGet();
+                    log.debug("파일 {} 완료: {}",
+                            encryptionState == EncryptionState.PLAINTEXT ? "암호화" : "재암호화", file);
+                    return true;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            failed.incrementAndGet();
+            lastError = file + ": " + e.getMessage();
+            log.error("파일 마이그레이션 실패: {}", file, e);
+            return false;
+        }
+    }
+
+    /**
+     * 임시 파일에 현재 키로 암호화 기록 → fsync → 원본 위치로 원자적 rename
+     * - 단일 블록 형식 원본은 끝까지 읽은 뒤 태그를 검증 → 실패 시 임시 파일만 폐기되고 원본 유지
+     */
+    private void rewrite(Path file, Inspection inspection, IoThrottle throttle) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + "." + UUID.randomUUID()
+                + LocalFileStorageService.TEMP_SUFFIX);
+        try (InputStream source = fileEncryptionUtil.openMigrationSource(file, inspection);
+             InputStream in = throttle.wrap(source);
+             FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            bytesRewritten.addAndGet(fileEncryptionUtil.encrypt(in, out));
+            out.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
         }
+
+        // 처리 중 삭제된 파일(blob GC 등)은 되살리지 않음
+        if (!Files.exists(file)) {
+            Files.deleteIfExists(temp);
+            return;
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private String checkpointKey(Path directory) {
+        String relative = rootPath.relativize(directory).toString().replace('\\', '/');
+        return relative.isEmpty() ? "." : relative;
+    }
+
+    /**
+     * 일반 파일 중 메타데이터 sidecar / 임시 파일 제외
+     */
+    private static boolean isMigrationTarget(Path path) {
+        String name = path.getFileName().toString();
+        return Files.isRegularFile(path, LinkOption.NOFOLLOW_LINKS)
+                && !name.endsWith(LocalFileStorageService.METADATA_SUFFIX)
+                && !name.endsWith(LocalFileStorageService.TEMP_SUFFIX);
+    }
+
+    private void resetCounters() {
+        directoriesScanned.set(0);
+        directoriesResumed.set(0);
+        filesScanned.set(0);
+        encrypted.set(0);
+        rotated.set(0);
+        skipped.set(0);
+        failed.set(0);
+        bytesRewritten.set(0);
     }
 }
@@ -5,20 +5,53 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.AEADBadTagException;
 import javax.crypto.Cipher;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
 
 /**
  * AES-256-GCM 파일 암호화/복호화 유틸리티
  *
- * 파일 저장 형식: [IV (12 bytes)] [Ciphertext + GCM Auth Tag (16 bytes)]
- * - IV(Initialization Vector): 파일마다 랜덤 생성, 암호문 앞에 prepend
- * - GCM Auth Tag: 기밀성 + 무결성 동시 보장
+ * 저장 형식 1 — 청크 스트리밍 (신규 파일):
+ *   [Header 16B: "BLS1" | chunkSize (4B) | noncePrefix (8B)]
+ *   [Chunk 0: ciphertext + tag(16B)] [Chunk 1] ... [Chunk N (마지막, chunkSize 이하)]
+ * - 청크별 nonce = noncePrefix(8B) || chunkIndex(4B) → 순서 변경 불가
+ * - 청크별 AAD = Header || finalFlag(1B) → 헤더 변조, 청크 경계 절단 탐지
+ * - 청크 단위로 암/복호화하므로 파일 크기와 무관하게 메모리 사용량 일정
+ * - 청크 크기가 고정이므로 임의 위치부터 복호화 가능 (Range 다운로드)
+ *
+ * 저장 형식 2 — 단일 블록 (기존 파일, 읽기 호환):
+ *   [IV (12 bytes)] [Ciphertext + GCM Auth Tag (16 bytes)]
+ * - 청크 헤더("BLS1" + 유효 청크 크기)로 시작하면 청크 형식으로만 해석하고 인증 실패는 오류로 처리
+ *   (기존 파일 IV가 우연히 헤더와 겹칠 확률 약 2^-40 — 단일 블록 재시도로 변조를 가리지 않음)
  *
  * 키가 설정되지 않으면 암호화 비활성화 (개발환경 호환)
+ *
+ * 키 교체: 새 키를 file.encryption-key, 기존 키를 file.encryption-previous-keys에 설정
+ * - 암호화는 항상 현재 키, 복호화는 현재 키 → 이전 키 순으로 시도 (첫 청크 인증으로 판별)
+ * - FileEncryptionMigrator가 이전 키 파일을 현재 키로 재암호화, 완료 후 이전 키 제거
  */
 @Slf4j
 @Component
@@ -29,12 +62,49 @@ public class FileEncryptionUtil {
     private static final int GCM_IV_LENGTH = 12;       // 12 bytes (96 bits) — GCM 권장
     private static final int GCM_TAG_LENGTH = 128;      // 128 bits — 최대 인증 태그
 
+    static final int TAG_BYTES = GCM_TAG_LENGTH / 8;
+    static final byte[] STREAM_MAGIC = {'B', 'L', 'S', '1'};
+    static final int STREAM_HEADER_LENGTH = 16;
+    private static final int NONCE_PREFIX_LENGTH = 8;
+    private static final int DEFAULT_CHUNK_SIZE = 64 * 1024;  // 64KB
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    /** 평문 확정 시그니처: PDF "%PDF-", PNG 8바이트 */
+    private static final List<byte[]> PLAINTEXT_SIGNATURES = List.of(
+            "%PDF-".getBytes(StandardCharsets.US_ASCII),
+            new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+
     @Value("${file.encryption-key:}")
     private String encryptionKeyBase64;
 
+    @Value("${file.encryption-previous-keys:}")
+    private String previousKeysBase64;
+
     private SecretKeySpec secretKey;
+
+    /**
+     * 복호화 시도 순서: 현재 키 → 이전 키
+     */
+    private List<SecretKeySpec> decryptionKeys = List.of();
     private boolean enabled;
 
+    /**
+     * 파일 암호화 상태 (마이그레이션 판별용)
+     */
+    public enum EncryptionState {
+        /** 평문 */
+        PLAINTEXT,
+        /** 현재 키 + 청크 형식 */
+        CURRENT,
+        /** 이전 키 또는 단일 블록 형식 — 현재 키 청크 형식으로 재암호화 대상 */
+        STALE,
+        /** 청크 헤더가 있으나 어떤 키로도 인증 실패 */
+        UNKNOWN_KEY,
+        /** 평문 시그니처 없이 단일 블록 크기이나 어떤 키로도 인증 실패 — 평문인지 손상/미등록 키 암호문인지 구분 불가 */
+        UNRECOGNIZED
+    }
+
     @PostConstruct
     public void init() {
         if (encryptionKeyBase64 == null || encryptionKeyBase64.isBlank()) {
@@ -44,19 +114,49 @@ public class FileEncryptionUtil {
         }
 
         try {
-            byte[] keyBytes = Base64.getDecoder().decode(encryptionKeyBase64);
-            if (keyBytes.length != 32) {
-                throw new IllegalArgumentException(
-                        "AES-256 키는 32바이트여야 합니다. 현재: " + keyBytes.length + "바이트");
+            this.secretKey = parseKey(encryptionKeyBase64);
+            List<SecretKeySpec> keys = new ArrayList<>();
+            keys.add(secretKey);
+            if (previousKeysBase64 != null && !previousKeysBase64.isBlank()) {
+                for (String previous : previousKeysBase64.split(",")) {
+                    if (!previous.isBlank()) {
+                        keys.add(parseKey(previous.trim()));
+                    }
+                }
             }
-            this.secretKey = new SecretKeySpec(keyBytes, ALGORITHM);
+            this.decryptionKeys = List.copyOf(keys);
             this.enabled = true;
-            log.info("파일 암호화 활성화: AES-256-GCM");
+            log.info("파일 암호화 활성화: AES-256-GCM (청크 {}KB, 키 {}, 이전 키 {}개)",
+                    DEFAULT_CHUNK_SIZE / 1024, keyFingerprint(), keys.size() - 1);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("파일 암호화 키 초기화 실패: " + e.getMessage(), e);
         }
     }
 
+    private static SecretKeySpec parseKey(String base64) {
+        byte[] keyBytes = Base64.getDecoder().decode(base64);
+        if (keyBytes.length != 32) {
+            throw new IllegalArgumentException(
+                    "AES-256 키는 32바이트여야 합니다. 현재: " + keyBytes.length + "바이트");
+        }
+        return new SecretKeySpec(keyBytes, ALGORITHM);
+    }
+
+    /**
+     * 현재 키 식별자 (키 SHA-256 앞 8바이트 hex — 키 자체는 노출하지 않음)
+     */
+    public String keyFingerprint() {
+        if (!enabled) {
+            return "none";
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secretKey.getEncoded());
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * 암호화 활성화 여부
      */
@@ -64,43 +164,235 @@ public class FileEncryptionUtil {
         return enabled;
     }
 
+    // ── 스트리밍 API ─────────────────────────────
+
     /**
-     * 바이트 배열을 AES-256-GCM으로 암호화
+     * 입력 스트림을 청크 형식으로 암호화하여 채널에 기록
+     * - 메모리 사용량: 청크 버퍼 2개 (약 128KB) — 파일 크기와 무관
      *
-     * @param plainData 원본 데이터
-     * @return [IV(12B) | ciphertext + GCM tag] 형태의 암호문
+     * @return 암호화한 평문 바이트 수
      */
-    public byte[] encrypt(byte[] plainData) {
+    public long encrypt(InputStream plainIn, WritableByteChannel out) throws IOException {
         if (!enabled) {
-            return plainData;
+            return copy(plainIn, out);
+        }
+
+        byte[] header = newStreamHeader(DEFAULT_CHUNK_SIZE);
+        writeFully(out, ByteBuffer.wrap(header));
+
+        PushbackInputStream in = new PushbackInputStream(plainIn, 1);
+        byte[] plainBuf = new byte[DEFAULT_CHUNK_SIZE];
+        byte[] cipherBuf = new byte[DEFAULT_CHUNK_SIZE + TAG_BYTES];
+        Cipher cipher = newCipher();
+        long total = 0;
+        int chunkIndex = 0;
+
+        while (true) {
+            int n = in.readNBytes(plainBuf, 0, plainBuf.length);
+            boolean last = n < plainBuf.length || isEof(in);
+            try {
+                cipher.init(Cipher.ENCRYPT_MODE, secretKey, chunkSpec(header, chunkIndex));
+                cipher.updateAAD(chunkAad(header, last));
+                int len = cipher.doFinal(plainBuf, 0, n, cipherBuf, 0);
+                writeFully(out, ByteBuffer.wrap(cipherBuf, 0, len));
+            } catch (GeneralSecurityException e) {
+                throw new IOException("파일 암호화 실패", e);
+            }
+            total += n;
+            if (last) {
+                return total;
+            }
+            chunkIndex++;
+        }
+    }
+
+    /**
+     * 암호문 스트림을 복호화하여 채널에 기록 (청크 형식 / 단일 블록 형식 자동 판별)
+     *
+     * @return 복호화된 평문 바이트 수
+     */
+    public long decrypt(InputStream encryptedIn, WritableByteChannel out) throws IOException {
+        try (InputStream plain = decryptingStream(encryptedIn)) {
+            return copy(plain, out);
+        }
+    }
+
+    /**
+     * 읽는 만큼만 복호화하는 입력 스트림 반환 (청크 형식 / 단일 블록 형식 자동 판별)
+     * - 청크 형식: 청크 단위 지연 복호화 (메모리 일정)
+     * - 단일 블록 형식(기존 파일): 전체를 읽어 한 번에 복호화
+     */
+    public InputStream decryptingStream(InputStream encryptedIn) throws IOException {
+        if (!enabled) {
+            return encryptedIn;
         }
 
+        PushbackInputStream in = new PushbackInputStream(encryptedIn, STREAM_HEADER_LENGTH);
+        byte[] header = in.readNBytes(STREAM_HEADER_LENGTH);
+        if (isStreamHeader(header)) {
+            return new ChunkedDecryptingInputStream(in, decryptionKeys, header, 0);
+        }
+        in.unread(header);
+        return new ByteArrayInputStream(decryptSingleBlock(in.readAllBytes()));
+    }
+
+    /**
+     * 디스크의 암호화 파일을 복호화 스트림으로 오픈
+     */
+    public InputStream openDecrypted(Path file) throws IOException {
+        return openDecrypted(file, 0);
+    }
+
+    /**
+     * 디스크의 암호화 파일을 평문 offset 위치부터 복호화 스트림으로 오픈 (Range 다운로드용)
+     * - 청크 형식: offset이 속한 청크로 바로 이동 → 해당 청크부터만 복호화
+     * - 단일 블록 형식(기존 파일): 전체 복호화 후 offset만큼 건너뜀
+     * - 청크 헤더가 있는 파일은 청크 형식으로만 처리 — 인증 실패 시 IOException
+     *   (단일 블록으로 재시도하지 않음: 변조를 가리고 Range 요청에 파일 전체를 메모리에 올리게 됨)
+     */
+    public InputStream openDecrypted(Path file, long offset) throws IOException {
+        if (!enabled) {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            channel.position(offset);
+            return Channels.newInputStream(channel);
+        }
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
         try {
-            // 랜덤 IV 생성
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            new SecureRandom().nextBytes(iv);
+            byte[] header = Channels.newInputStream(channel).readNBytes(STREAM_HEADER_LENGTH);
+            if (isStreamHeader(header)) {
+                int chunkSize = streamChunkSize(header);
+                long chunkIndex = offset / chunkSize;
+                channel.position(STREAM_HEADER_LENGTH + chunkIndex * (chunkSize + TAG_BYTES));
+                ChunkedDecryptingInputStream stream = new ChunkedDecryptingInputStream(
+                        new PushbackInputStream(Channels.newInputStream(channel), 1), decryptionKeys, header, chunkIndex);
+                if (!stream.prefetch()) {
+                    throw new IOException("파일 복호화 실패: 청크 " + chunkIndex + " 인증 실패 (" + file.getFileName() + ")");
+                }
+                stream.skipNBytes(offset - chunkIndex * chunkSize);
+                return stream;
+            }
+            channel.close();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        InputStream legacy = new ByteArrayInputStream(decryptSingleBlock(Files.readAllBytes(file)));
+        legacy.skipNBytes(offset);
+        return legacy;
+    }
 
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            GCMParameterSpec gcmSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, gcmSpec);
+    /**
+     * 판별 결과 (FileEncryptionMigrator용)
+     *
+     * @param legacyKey 단일 블록 형식 파일을 인증한 키 (청크 형식/평문이면 null)
+     */
+    record Inspection(EncryptionState state, SecretKeySpec legacyKey) {
+    }
 
-            byte[] ciphertext = cipher.doFinal(plainData);
+    /**
+     * 파일 암호화 상태 판별 (FileEncryptionMigrator용) — 모든 읽기는 throttle을 거침
+     * - 청크 형식: 헤더 + 첫 청크만 읽어 키 판별 (인증 실패 시 UNKNOWN_KEY, 전체 읽기 없음)
+     * - 그 외: isLikelyEncrypted 크기 미달이거나 알려진 평문 시그니처(PDF/PNG/JPEG)면 즉시 PLAINTEXT
+     * - 나머지는 단일 블록 형식 태그를 스트리밍 검증 (파일 1회 읽기, 메모리 일정 — 전체를 힙에 올리지 않음)
+     *   인증 실패 시 UNRECOGNIZED (평문으로 간주하지 않음 — 암호문을 이중 암호화하면 복구 불가)
+     */
+    Inspection inspect(Path file, IoThrottle throttle) throws IOException {
+        if (!enabled) {
+            return new Inspection(EncryptionState.PLAINTEXT, null);
+        }
 
-            // [IV | ciphertext] 결합
-            byte[] result = new byte[GCM_IV_LENGTH + ciphertext.length];
-            System.arraycopy(iv, 0, result, 0, GCM_IV_LENGTH);
-            System.arraycopy(ciphertext, 0, result, GCM_IV_LENGTH, ciphertext.length);
+        long length = Files.size(file);
+        try (InputStream raw = throttle.wrap(Files.newInputStream(file))) {
+            PushbackInputStream in = new PushbackInputStream(raw, STREAM_HEADER_LENGTH);
+            byte[] header = in.readNBytes(STREAM_HEADER_LENGTH);
+            if (isStreamHeader(header)) {
+                ChunkedDecryptingInputStream stream = new ChunkedDecryptingInputStream(in, decryptionKeys, header, 0);
+                if (!stream.prefetch()) {
+                    return new Inspection(EncryptionState.UNKNOWN_KEY, null);
+                }
+                return new Inspection(stream.keyIndex() == 0 ? EncryptionState.CURRENT : EncryptionState.STALE, null);
+            }
+            if (!isLikelyEncrypted(length) || hasPlaintextSignature(header)) {
+                return new Inspection(EncryptionState.PLAINTEXT, null);
+            }
 
-            return result;
+            in.unread(header);
+            int keyIndex = SingleBlockGcm.authenticate(in, length, decryptionKeys);
+            return keyIndex < 0
+                    ? new Inspection(EncryptionState.UNRECOGNIZED, null)
+                    : new Inspection(EncryptionState.STALE, decryptionKeys.get(keyIndex));
+        }
+    }
+
+    /**
+     * 마이그레이션 원본 평문 스트림 (inspect 결과 기준)
+     * - 단일 블록 형식: CTR 스트리밍 복호화 + 끝에서 태그 검증 (불일치 시 IOException → 호출자가 임시 파일 폐기)
+     */
+    InputStream openMigrationSource(Path file, Inspection inspection) throws IOException {
+        if (inspection.state() == EncryptionState.PLAINTEXT) {
+            return Files.newInputStream(file);
+        }
+        if (inspection.legacyKey() != null) {
+            InputStream raw = Files.newInputStream(file);
+            try {
+                return SingleBlockGcm.decrypting(raw, Files.size(file), inspection.legacyKey());
+            } catch (IOException e) {
+                raw.close();
+                throw e;
+            }
+        }
+        return openDecrypted(file);
+    }
+
+    /**
+     * 암호화 파일의 평문 크기 계산 (복호화 없이 헤더와 파일 크기로 산출)
+     */
+    public long plaintextLength(Path file) throws IOException {
+        long encryptedLength = Files.size(file);
+        if (!enabled) {
+            return encryptedLength;
+        }
+        byte[] header;
+        try (InputStream in = Files.newInputStream(file)) {
+            header = in.readNBytes(STREAM_HEADER_LENGTH);
+        }
+        if (isStreamHeader(header)) {
+            long body = encryptedLength - STREAM_HEADER_LENGTH;
+            long chunkStride = (long) streamChunkSize(header) + TAG_BYTES;
+            long chunks = Math.max(1, (body + chunkStride - 1) / chunkStride);
+            return body - chunks * TAG_BYTES;
+        }
+        return Math.max(0, encryptedLength - GCM_IV_LENGTH - TAG_BYTES);
+    }
+
+    // ── 바이트 배열 API (기존 호출부 호환) ─────────────────────────────
+
+    /**
+     * 바이트 배열을 AES-256-GCM 청크 형식으로 암호화
+     *
+     * @param plainData 원본 데이터
+     * @return [Header | Chunk...] 형태의 암호문
+     */
+    public byte[] encrypt(byte[] plainData) {
+        if (!enabled) {
+            return plainData;
+        }
+
+        try {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(
+                    STREAM_HEADER_LENGTH + plainData.length + TAG_BYTES * (plainData.length / DEFAULT_CHUNK_SIZE + 1));
+            encrypt(new ByteArrayInputStream(plainData), Channels.newChannel(bos));
+            return bos.toByteArray();
         } catch (Exception e) {
             throw new RuntimeException("파일 암호화 실패", e);
         }
     }
 
     /**
-     * AES-256-GCM 암호문을 복호화
+     * AES-256-GCM 암호문을 복호화 (청크 형식 / 단일 블록 형식 자동 판별)
      *
-     * @param encryptedData [IV(12B) | ciphertext + GCM tag] 형태의 암호문
+     * @param encryptedData 암호문
      * @return 복호화된 원본 데이터
      */
     public byte[] decrypt(byte[] encryptedData) {
@@ -109,20 +401,13 @@ public class FileEncryptionUtil {
         }
 
         try {
-            // IV 추출
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            System.arraycopy(encryptedData, 0, iv, 0, GCM_IV_LENGTH);
-
-            // 암호문 추출
-            int ciphertextLength = encryptedData.length - GCM_IV_LENGTH;
-            byte[] ciphertext = new byte[ciphertextLength];
-            System.arraycopy(encryptedData, GCM_IV_LENGTH, ciphertext, 0, ciphertextLength);
-
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            GCMParameterSpec gcmSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, gcmSpec);
-
-            return cipher.doFinal(ciphertext);
+            if (encryptedData.length >= STREAM_HEADER_LENGTH
+                    && isStreamHeader(Arrays.copyOf(encryptedData, STREAM_HEADER_LENGTH))) {
+                try (InputStream in = decryptingStream(new ByteArrayInputStream(encryptedData))) {
+                    return in.readAllBytes();
+                }
+            }
+            return decryptSingleBlock(encryptedData);
         } catch (Exception e) {
             throw new RuntimeException("파일 복호화 실패", e);
         }
@@ -135,4 +420,273 @@ public class FileEncryptionUtil {
     public boolean isLikelyEncrypted(byte[] data) {
         return enabled && data.length >= GCM_IV_LENGTH + 16;
     }
+
+    private boolean isLikelyEncrypted(long length) {
+        return enabled && SingleBlockGcm.isCandidate(length);
+    }
+
+    /**
+     * 알려진 평문 파일 시그니처 — 임의 IV와 우연히 일치할 확률이 무시할 수준(5바이트 이상)인 것만
+     */
+    static boolean hasPlaintextSignature(byte[] header) {
+        for (byte[] signature : PLAINTEXT_SIGNATURES) {
+            if (startsWith(header, signature, 0)) {
+                return true;
+            }
+        }
+        // JPEG: FF D8 FF + APP0 "JFIF" / APP1 "Exif" (오프셋 6)
+        return startsWith(header, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}, 0)
+                && (startsWith(header, "JFIF".getBytes(StandardCharsets.US_ASCII), 6)
+                || startsWith(header, "Exif".getBytes(StandardCharsets.US_ASCII), 6));
+    }
+
+    private static boolean startsWith(byte[] data, byte[] prefix, int offset) {
+        if (data.length < offset + prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ── 내부 구현 ─────────────────────────────
+
+    /**
+     * 단일 블록 형식 복호화: [IV(12B) | ciphertext + GCM tag] — 현재 키 → 이전 키 순으로 시도
+     */
+    private byte[] decryptSingleBlock(byte[] encryptedData) {
+        Exception lastError = null;
+        for (SecretKeySpec key : decryptionKeys) {
+            try {
+                return decryptSingleBlock(encryptedData, key);
+            } catch (Exception e) {
+                lastError = e;
+            }
+        }
+        throw new RuntimeException("파일 복호화 실패", lastError);
+    }
+
+    private static byte[] decryptSingleBlock(byte[] encryptedData, SecretKeySpec key) throws Exception {
+        Cipher cipher = newCipher();
+        GCMParameterSpec gcmSpec = new GCMParameterSpec(GCM_TAG_LENGTH, encryptedData, 0, GCM_IV_LENGTH);
+        cipher.init(Cipher.DECRYPT_MODE, key, gcmSpec);
+        return cipher.doFinal(encryptedData, GCM_IV_LENGTH, encryptedData.length - GCM_IV_LENGTH);
+    }
+
+    private static byte[] newStreamHeader(int chunkSize) {
+        ByteBuffer header = ByteBuffer.allocate(STREAM_HEADER_LENGTH);
+        header.put(STREAM_MAGIC);
+        header.putInt(chunkSize);
+        byte[] noncePrefix = new byte[NONCE_PREFIX_LENGTH];
+        SECURE_RANDOM.nextBytes(noncePrefix);
+        header.put(noncePrefix);
+        return header.array();
+    }
+
+    static boolean isStreamHeader(byte[] header) {
+        if (header.length < STREAM_HEADER_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < STREAM_MAGIC.length; i++) {
+            if (header[i] != STREAM_MAGIC[i]) {
+                return false;
+            }
+        }
+        int chunkSize = streamChunkSize(header);
+        return chunkSize > 0 && chunkSize <= 16 * 1024 * 1024;
+    }
+
+    static int streamChunkSize(byte[] header) {
+        return ByteBuffer.wrap(header, STREAM_MAGIC.length, 4).getInt();
+    }
+
+    /**
+     * 청크 nonce = noncePrefix(8B) || chunkIndex(4B, big-endian)
+     */
+    static GCMParameterSpec chunkSpec(byte[] header, long chunkIndex) {
+        byte[] nonce = new byte[GCM_IV_LENGTH];
+        System.arraycopy(header, STREAM_HEADER_LENGTH - NONCE_PREFIX_LENGTH, nonce, 0, NONCE_PREFIX_LENGTH);
+        ByteBuffer.wrap(nonce, NONCE_PREFIX_LENGTH, 4).putInt((int) chunkIndex);
+        return new GCMParameterSpec(GCM_TAG_LENGTH, nonce);
+    }
+
+    /**
+     * 청크 AAD = Header || finalFlag
+     */
+    static byte[] chunkAad(byte[] header, boolean last) {
+        byte[] aad = Arrays.copyOf(header, STREAM_HEADER_LENGTH + 1);
+        aad[STREAM_HEADER_LENGTH] = (byte) (last ? 1 : 0);
+        return aad;
+    }
+
+    static Cipher newCipher() throws IOException {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("AES-GCM 초기화 실패", e);
+        }
+    }
+
+    static boolean isEof(PushbackInputStream in) throws IOException {
+        int next = in.read();
+        if (next == -1) {
+            return true;
+        }
+        in.unread(next);
+        return false;
+    }
+
+    private static long copy(InputStream in, WritableByteChannel out) throws IOException {
+        byte[] buf = new byte[DEFAULT_CHUNK_SIZE];
+        long total = 0;
+        int n;
+        while ((n = in.read(buf)) != -1) {
+            writeFully(out, ByteBuffer.wrap(buf, 0, n));
+            total += n;
+        }
+        return total;
+    }
+
+    private static void writeFully(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * 청크 형식 복호화 스트림 — 청크 하나씩 읽어 인증 후 평문 제공
+     * - 첫 청크를 인증하는 키를 후보 목록에서 찾아 이후 청크에 고정 (키 교체 중 이전 키 파일 호환)
+     */
+    static final class ChunkedDecryptingInputStream extends InputStream {
+
+        private final PushbackInputStream in;
+        private final List<SecretKeySpec> keys;
+        private SecretKeySpec key;
+        private int keyIndex = -1;
+        private final byte[] header;
+        private final Cipher cipher;
+        private final byte[] cipherBuf;
+        private final byte[] plainBuf;
+        private long chunkIndex;
+        private int plainPos;
+        private int plainLen;
+        private boolean finished;
+
+        ChunkedDecryptingInputStream(PushbackInputStream in, List<SecretKeySpec> keys, byte[] header,
+                                     long startChunk) throws IOException {
+            this.in = in;
+            this.keys = keys;
+            this.header = header;
+            this.cipher = newCipher();
+            int chunkSize = streamChunkSize(header);
+            this.cipherBuf = new byte[chunkSize + TAG_BYTES];
+            this.plainBuf = new byte[chunkSize];
+            this.chunkIndex = startChunk;
+        }
+
+        /**
+         * 첫 청크를 미리 복호화 — 인증 실패 시 false (형식 판별용)
+         */
+        boolean prefetch() throws IOException {
+            try {
+                fill();
+                return true;
+            } catch (IOException e) {
+                if (e.getCause() instanceof AEADBadTagException) {
+                    return false;
+                }
+                throw e;
+            }
+        }
+
+        /**
+         * 인증에 사용된 키 순번 (0 = 현재 키, 첫 청크 복호화 전 -1)
+         */
+        int keyIndex() {
+            return keyIndex;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (plainPos >= plainLen && !fill()) {
+                return -1;
+            }
+            return plainBuf[plainPos++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (plainPos >= plainLen && !fill()) {
+                return -1;
+            }
+            int n = Math.min(len, plainLen - plainPos);
+            System.arraycopy(plainBuf, plainPos, b, off, n);
+            plainPos += n;
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return plainLen - plainPos;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        private boolean fill() throws IOException {
+            if (finished) {
+                return false;
+            }
+            int n = in.readNBytes(cipherBuf, 0, cipherBuf.length);
+            if (n < TAG_BYTES) {
+                throw new IOException("암호화 파일 손상: 청크 " + chunkIndex + " 절단됨");
+            }
+            boolean last = n < cipherBuf.length || isEof(in);
+            try {
+                if (key == null) {
+                    resolveKey(n, last);
+                } else {
+                    plainLen = decryptChunk(key, n, last);
+                }
+            } catch (GeneralSecurityException e) {
+                throw new IOException("파일 복호화 실패: 청크 " + chunkIndex + " 인증 실패", e);
+            }
+            plainPos = 0;
+            chunkIndex++;
+            finished = last;
+            return plainLen > 0 || !finished;
+        }
+
+        /**
+         * 현재 청크를 인증하는 키 탐색 — 모두 실패하면 마지막 인증 오류 전파
+         */
+        private void resolveKey(int n, boolean last) throws GeneralSecurityException {
+            GeneralSecurityException lastError = null;
+            for (int i = 0; i < keys.size(); i++) {
+                try {
+                    plainLen = decryptChunk(keys.get(i), n, last);
+                    key = keys.get(i);
+                    keyIndex = i;
+                    return;
+                } catch (AEADBadTagException e) {
+                    lastError = e;
+                }
+            }
+            throw lastError != null ? lastError : new AEADBadTagException("No decryption key");
+        }
+
+        private int decryptChunk(SecretKeySpec candidate, int n, boolean last) throws GeneralSecurityException {
+            cipher.init(Cipher.DECRYPT_MODE, candidate, chunkSpec(header, chunkIndex));
+            cipher.updateAAD(chunkAad(header, last));
+            return cipher.doFinal(cipherBuf, 0, n, plainBuf, 0);
+        }
+    }
 }
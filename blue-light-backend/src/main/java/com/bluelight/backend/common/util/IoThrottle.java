@@ -0,0 +1,69 @@
+package com.bluelight.backend.common.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 작업 스레드 공용 읽기 대역폭 제한 (바이트/초)
+ * - 읽은 만큼 다음 허용 시각을 뒤로 미루고, 앞서 나간 스레드는 그 시각까지 대기
+ * - bytesPerSecond <= 0 이면 제한 없음
+ */
+final class IoThrottle {
+
+    private final long bytesPerSecond;
+    private long nextFreeNanos = System.nanoTime();
+
+    IoThrottle(long bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    void acquire(long bytes) throws InterruptedIOException {
+        if (bytesPerSecond <= 0 || bytes <= 0) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            // 유휴 구간은 최대 1초분만 누적 (버스트 상한)
+            long start = Math.max(nextFreeNanos, now - TimeUnit.SECONDS.toNanos(1));
+            nextFreeNanos = start + bytes * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond;
+            waitNanos = nextFreeNanos - now;
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Throttled read interrupted");
+            }
+        }
+    }
+
+    InputStream wrap(InputStream in) {
+        if (bytesPerSecond <= 0) {
+            return in;
+        }
+        return new FilterInputStream(in) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b != -1) {
+                    acquire(1);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int n = super.read(b, off, len);
+                if (n > 0) {
+                    acquire(n);
+                }
+                return n;
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.bluelight.backend.common.util;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 파일 암호화 마이그레이션 체크포인트 (append-only 텍스트 파일)
+ *
+ * - 첫 줄: key={현재 키 fingerprint} — 키가 바뀌면 체크포인트 무효 (처음부터)
+ * - 이후: 직속 파일 처리를 모두 마친 디렉토리의 상대 경로 한 줄씩
+ * - 줄바꿈으로 끝나지 않은 마지막 줄(기록 중 중단)은 무시 → 잘린 경로를 완료로 오인하지 않음
+ */
+final class MigrationCheckpoint implements Closeable {
+
+    private static final String KEY_PREFIX = "key=";
+
+    private final Set<String> completed = ConcurrentHashMap.newKeySet();
+    private final BufferedWriter writer;
+
+    private MigrationCheckpoint(BufferedWriter writer) {
+        this.writer = writer;
+    }
+
+    static MigrationCheckpoint open(Path file, String keyFingerprint, boolean reset) throws IOException {
+        Files.createDirectories(file.getParent());
+        String keyLine = KEY_PREFIX + keyFingerprint;
+
+        if (!reset && Files.isRegularFile(file)) {
+            String content = Files.readString(file, StandardCharsets.UTF_8);
+            String[] lines = content.split("\n", -1);
+            if (lines.length > 1 && lines[0].equals(keyLine)) {
+                String tail = lines[lines.length - 1];
+                if (!tail.isEmpty()) {
+                    // 잘린 줄은 잘라내고 이어 씀 (줄바꿈만 덧붙이면 다음 실행에서 완료로 읽힘)
+                    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                        channel.truncate(content.getBytes(StandardCharsets.UTF_8).length
+                                - tail.getBytes(StandardCharsets.UTF_8).length);
+                    }
+                }
+                MigrationCheckpoint checkpoint = new MigrationCheckpoint(Files.newBufferedWriter(file,
+                        StandardCharsets.UTF_8, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+                // split 결과 마지막 원소는 마지막 줄바꿈 뒤 잔여 (정상이면 빈 문자열)
+                for (int i = 1; i < lines.length - 1; i++) {
+                    if (!lines[i].isEmpty()) {
+                        checkpoint.completed.add(lines[i]);
+                    }
+                }
+                return checkpoint;
+            }
+        }
+
+        BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        writer.write(keyLine);
+        writer.write('\n');
+        writer.flush();
+        return new MigrationCheckpoint(writer);
+    }
+
+    boolean isCompleted(String directory) {
+        return completed.contains(directory);
+    }
+
+    synchronized void markCompleted(String directory) throws IOException {
+        if (completed.add(directory)) {
+            writer.write(directory);
+            writer.write('\n');
+            writer.flush();
+        }
+    }
+
+    int completedCount() {
+        return completed.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,42 @@
+package com.bluelight.backend.common.util;
+
+import com.bluelight.backend.common.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * keyset 페이지네이션 커서 — (createdAt, seq) 위치
+ * - 클라이언트에는 불투명 문자열 (Base64url)로 전달
+ * - 정렬 기준: createdAt DESC, seq DESC → 다음 페이지는 이 위치보다 "이전" 행
+ */
+public record PageCursor(LocalDateTime createdAt, Long seq) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * 커서 문자열 해석 — null/빈 문자열은 첫 페이지 (null 반환)
+     *
+     * @throws BusinessException 형식이 잘못된 경우 (400 INVALID_CURSOR)
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            return new PageCursor(LocalDateTime.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new BusinessException("Invalid cursor", HttpStatus.BAD_REQUEST, "INVALID_CURSOR");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + seq;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
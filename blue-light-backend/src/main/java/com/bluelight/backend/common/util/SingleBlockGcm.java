@@ -0,0 +1,288 @@
+package com.bluelight.backend.common.util;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * 단일 블록 형식([IV 12B | ciphertext | tag 16B], AAD 없음) 스트리밍 처리 — 마이그레이션 전용
+ *
+ * JCE의 GCM 복호화는 인증 전까지 암호문 전체를 메모리에 모으므로, 파일 크기와 무관한 메모리로 처리하기 위해
+ * GCM을 구성 요소로 직접 계산 (NIST SP 800-38D):
+ *   tag = E(K, J0) XOR GHASH_H(C || len),  H = E(K, 0^128),  J0 = IV || 0^31 || 1
+ *   평문 = AES-CTR(K, inc32(J0)) 복호화
+ * - authenticate: 암호문만으로 태그 검증 (복호화 없음, 키 여러 개를 한 번에)
+ * - decrypting: CTR 복호화 스트림 — 끝까지 읽은 시점에 태그를 검증하고 불일치 시 IOException
+ *   (검증 전 평문이 노출되므로 임시 파일 기록 후 rename 하는 마이그레이션에서만 사용)
+ */
+final class SingleBlockGcm {
+
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH = 16;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** GF(2^128) 환원 다항식 (비트 반전 표현 상위 바이트 0xE1) */
+    private static final long R = 0xE100000000000000L;
+
+    private SingleBlockGcm() {
+    }
+
+    /**
+     * 단일 블록 형식으로 볼 수 있는 최소 크기 (IV + tag)
+     */
+    static boolean isCandidate(long length) {
+        return length >= IV_LENGTH + TAG_LENGTH;
+    }
+
+    /**
+     * 태그를 인증하는 키 순번 (없으면 -1) — 입력을 끝까지 1회 읽음
+     *
+     * @param in     파일 처음부터의 스트림 (호출자가 닫음)
+     * @param length 파일 전체 크기
+     */
+    static int authenticate(InputStream in, long length, List<SecretKeySpec> keys) throws IOException {
+        byte[] iv = readExactly(in, IV_LENGTH);
+        long cipherLength = length - IV_LENGTH - TAG_LENGTH;
+        Ghash[] hashes = new Ghash[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            hashes[i] = new Ghash(keys.get(i));
+        }
+
+        byte[] buf = new byte[BUFFER_SIZE];
+        long remaining = cipherLength;
+        while (remaining > 0) {
+            int n = in.read(buf, 0, (int) Math.min(buf.length, remaining));
+            if (n < 0) {
+                throw new IOException("파일 길이 불일치: 암호문 " + remaining + "바이트 부족");
+            }
+            for (Ghash hash : hashes) {
+                hash.update(buf, 0, n);
+            }
+            remaining -= n;
+        }
+        byte[] tag = readExactly(in, TAG_LENGTH);
+
+        for (int i = 0; i < hashes.length; i++) {
+            if (MessageDigest.isEqual(tag, hashes[i].tag(keys.get(i), iv, cipherLength))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 평문 스트림 — 마지막 바이트를 돌려준 뒤 태그 불일치면 다음 read에서 IOException
+     *
+     * @param in     파일 처음부터의 스트림 (반환 스트림을 닫으면 함께 닫힘)
+     * @param length 파일 전체 크기
+     */
+    static InputStream decrypting(InputStream in, long length, SecretKeySpec key) throws IOException {
+        byte[] iv = readExactly(in, IV_LENGTH);
+        return new DecryptingStream(in, length - IV_LENGTH - TAG_LENGTH, key, iv);
+    }
+
+    private static byte[] readExactly(InputStream in, int length) throws IOException {
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new IOException("파일 길이 불일치: " + length + "바이트 필요, " + bytes.length + "바이트 읽음");
+        }
+        return bytes;
+    }
+
+    private static final class DecryptingStream extends FilterInputStream {
+
+        private final SecretKeySpec key;
+        private final byte[] iv;
+        private final long cipherLength;
+        private final Cipher ctr;
+        private final Ghash ghash;
+        private long remaining;
+        private boolean verified;
+
+        private DecryptingStream(InputStream in, long cipherLength, SecretKeySpec key, byte[] iv) throws IOException {
+            super(in);
+            this.key = key;
+            this.iv = iv;
+            this.cipherLength = cipherLength;
+            this.remaining = cipherLength;
+            this.ghash = new Ghash(key);
+            try {
+                this.ctr = Cipher.getInstance("AES/CTR/NoPadding");
+                ctr.init(Cipher.DECRYPT_MODE, key, new IvParameterSpec(counterBlock(iv, 2)));
+            } catch (GeneralSecurityException e) {
+                throw new IOException("AES-CTR 초기화 실패", e);
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            int n = read(one, 0, 1);
+            return n < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (remaining == 0) {
+                verify();
+                return -1;
+            }
+            int n = in.read(b, off, (int) Math.min(len, remaining));
+            if (n < 0) {
+                throw new IOException("파일 길이 불일치: 암호문 " + remaining + "바이트 부족");
+            }
+            ghash.update(b, off, n);
+            try {
+                ctr.update(b, off, n, b, off);
+            } catch (GeneralSecurityException e) {
+                throw new IOException("파일 복호화 실패", e);
+            }
+            remaining -= n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            throw new IOException("skip not supported");
+        }
+
+        @Override
+        public int available() {
+            return 0;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void verify() throws IOException {
+            if (verified) {
+                return;
+            }
+            byte[] tag = readExactly(in, TAG_LENGTH);
+            if (!MessageDigest.isEqual(tag, ghash.tag(key, iv, cipherLength))) {
+                throw new IOException("파일 복호화 실패: 단일 블록 인증 실패");
+            }
+            verified = true;
+        }
+    }
+
+    /**
+     * 12바이트 IV의 카운터 블록: IV || counter(4B)
+     */
+    private static byte[] counterBlock(byte[] iv, int counter) {
+        return ByteBuffer.allocate(16).put(iv).putInt(counter).array();
+    }
+
+    /**
+     * AAD 없는 GHASH 누적 상태 (16바이트 미만 잔여분은 다음 입력과 이어서 처리)
+     */
+    private static final class Ghash {
+
+        private final long hHi;
+        private final long hLo;
+        private long xHi;
+        private long xLo;
+        private final byte[] partial = new byte[16];
+        private int partialLength;
+
+        private Ghash(SecretKeySpec key) throws IOException {
+            byte[] h = aesBlock(key, new byte[16]);
+            ByteBuffer hb = ByteBuffer.wrap(h);
+            this.hHi = hb.getLong();
+            this.hLo = hb.getLong();
+        }
+
+        void update(byte[] b, int off, int len) {
+            int i = off;
+            int end = off + len;
+            if (partialLength > 0) {
+                int n = Math.min(16 - partialLength, len);
+                System.arraycopy(b, i, partial, partialLength, n);
+                partialLength += n;
+                i += n;
+                if (partialLength < 16) {
+                    return;
+                }
+                block(partial, 0);
+                partialLength = 0;
+            }
+            for (; i + 16 <= end; i += 16) {
+                block(b, i);
+            }
+            if (i < end) {
+                partialLength = end - i;
+                System.arraycopy(b, i, partial, 0, partialLength);
+            }
+        }
+
+        byte[] tag(SecretKeySpec key, byte[] iv, long cipherLength) throws IOException {
+            long hi = xHi;
+            long lo = xLo;
+            if (partialLength > 0) {
+                byte[] last = new byte[16];
+                System.arraycopy(partial, 0, last, 0, partialLength);
+                ByteBuffer lb = ByteBuffer.wrap(last);
+                long[] r = multiply(hi ^ lb.getLong(), lo ^ lb.getLong());
+                hi = r[0];
+                lo = r[1];
+            }
+            // 길이 블록: len(A)=0 || len(C) (비트)
+            long[] r = multiply(hi, lo ^ (cipherLength * 8));
+            byte[] s = ByteBuffer.allocate(16).putLong(r[0]).putLong(r[1]).array();
+            byte[] ekj0 = aesBlock(key, counterBlock(iv, 1));
+            for (int i = 0; i < 16; i++) {
+                s[i] ^= ekj0[i];
+            }
+            return s;
+        }
+
+        private void block(byte[] b, int off) {
+            ByteBuffer bb = ByteBuffer.wrap(b, off, 16);
+            long[] r = multiply(xHi ^ bb.getLong(), xLo ^ bb.getLong());
+            xHi = r[0];
+            xLo = r[1];
+        }
+
+        /**
+         * X · H in GF(2^128) (SP 800-38D Algorithm 1)
+         */
+        private long[] multiply(long x0, long x1) {
+            long z0 = 0;
+            long z1 = 0;
+            long v0 = hHi;
+            long v1 = hLo;
+            for (int i = 0; i < 128; i++) {
+                long bit = i < 64 ? (x0 >>> (63 - i)) & 1 : (x1 >>> (127 - i)) & 1;
+                long mask = -bit;
+                z0 ^= v0 & mask;
+                z1 ^= v1 & mask;
+                long lsb = -(v1 & 1);
+                v1 = (v1 >>> 1) | (v0 << 63);
+                v0 = (v0 >>> 1) ^ (R & lsb);
+            }
+            return new long[]{z0, z1};
+        }
+
+        private static byte[] aesBlock(SecretKeySpec key, byte[] block) throws IOException {
+            try {
+                Cipher ecb = Cipher.getInstance("AES/ECB/NoPadding");
+                ecb.init(Cipher.ENCRYPT_MODE, key);
+                return ecb.doFinal(block);
+            } catch (GeneralSecurityException e) {
+                throw new IOException("AES 초기화 실패", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.bluelight.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 용도별 @Async 실행기
+ *
+ * emailExecutor — SMTP 즉시 발송 전용 (mail.outbox.enabled=false일 때 SmtpEmailService가 사용)
+ * - 느린 SMTP 서버가 공용 실행기(applicationTaskExecutor)를 점유하지 않도록 분리
+ * - 큐 상한(async.email.queue-capacity) 초과 시 async.email.overflow-policy:
+ *   - caller-runs (기본): 호출 스레드에서 직접 발송 → 메일 유실 없음
+ *   - drop: 버리고 async.executor.rejected 증가
+ * - 종료 시 대기 중인 발송을 최대 async.email.await-termination-seconds 동안 처리
+ *
+ * 감사 로그는 AuditLogWriter 전용 writer 스레드 + 자체 상한 큐로 이미 분리되어 있어 별도 실행기 없음
+ *
+ * 메트릭: executor.active / executor.queued / executor.completed / executor.pool.size (name=emailExecutor),
+ *        async.executor.rejected (name, policy 태그)
+ */
+@Slf4j
+@Configuration
+public class AsyncConfig {
+
+    @Bean(name = "emailExecutor")
+    public ThreadPoolTaskExecutor emailExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${async.email.core-size:2}") int coreSize,
+            @Value("${async.email.max-size:4}") int maxSize,
+            @Value("${async.email.queue-capacity:500}") int queueCapacity,
+            @Value("${async.email.overflow-policy:caller-runs}") String overflowPolicy,
+            @Value("${async.email.await-termination-seconds:30}") int awaitTerminationSeconds) {
+        return boundedExecutor("emailExecutor", "email-", meterRegistry,
+                coreSize, maxSize, queueCapacity, overflowPolicy, awaitTerminationSeconds);
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String name, String threadNamePrefix, MeterRegistry meterRegistry,
+                                                   int coreSize, int maxSize, int queueCapacity,
+                                                   String overflowPolicy, int awaitTerminationSeconds) {
+        boolean drop = "drop".equalsIgnoreCase(overflowPolicy);
+        Counter rejected = Counter.builder("async.executor.rejected")
+                .tag("name", name)
+                .tag("policy", drop ? "drop" : "caller-runs")
+                .register(meterRegistry);
+        RejectedExecutionHandler delegate = drop
+                ? new ThreadPoolExecutor.DiscardPolicy()
+                : new ThreadPoolExecutor.CallerRunsPolicy();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            if (drop) {
+                log.warn("{} queue full ({}), task dropped", name, queueCapacity);
+            }
+            delegate.rejectedExecution(task, pool);
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        executor.initialize();
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
+        log.info("{} initialized (core={}, max={}, queue={}, overflow={})",
+                name, coreSize, maxSize, queueCapacity, drop ? "drop" : "caller-runs");
+        return executor;
+    }
+}
@@ -38,6 +38,16 @@ public class DatabaseMigrationRunner {
             migrateSampleFilesMultiFile(conn);
             migrateMasterPricesRenewalPrice(conn);
             migrateNotificationsTable(conn);
+            migrateRateLimitCountersTable(conn);
+            migrateApplicationSearchIndexes(conn);
+            migrateCursorPaginationIndexes(conn);
+            migrateLicenseExpiryIndex(conn);
+            migrateSettingsVersionTable(conn);
+            migratePriceTierVersionTable(conn);
+            migrateEmailOutboxTable(conn);
+            migrateFileBlobsTable(conn);
+            migrateFilesSystemGenerated(conn);
+            migrateAuditUserVersionTable(conn);
             seedSystemSettings(conn);
             log.info("Database migration check completed");
         } catch (SQLException e) {
@@ -244,6 +254,32 @@ public class DatabaseMigrationRunner {
         }
     }
 
+    /**
+     * 마이그레이션: files에 system_generated 컬럼 추가
+     * - LOA 일괄 재생성이 신청자 업로드 파일을 교체하지 않도록 생성 여부를 명시적으로 기록
+     * - 기존 LOA: NEW 신청 + 신청자 본인이 올리지 않은 파일(Admin/LEW 생성)만 시스템 생성으로 표시
+     */
+    private void migrateFilesSystemGenerated(Connection conn) throws SQLException {
+        if (columnExists(conn, "files", "system_generated")) {
+            log.debug("Migration [files-system-generated]: already applied, skipping");
+            return;
+        }
+
+        log.info("Migration [files-system-generated]: adding system_generated column...");
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(
+                "ALTER TABLE files ADD COLUMN system_generated TINYINT(1) NOT NULL DEFAULT 0 AFTER file_size"
+            );
+            stmt.executeUpdate(
+                "UPDATE files f JOIN applications a ON a.application_seq = f.application_seq " +
+                "SET f.system_generated = 1 " +
+                "WHERE f.file_type = 'OWNER_AUTH_LETTER' AND a.application_type = 'NEW' " +
+                "AND (f.created_by IS NULL OR f.created_by <> a.user_seq)"
+            );
+            log.info("Migration [files-system-generated]: completed");
+        }
+    }
+
     /**
      * 마이그레이션: notifications 테이블 생성
      * - 인앱 알림 저장용 테이블
@@ -281,6 +317,245 @@ public class DatabaseMigrationRunner {
         }
     }
 
+    /**
+     * 마이그레이션: rate_limit_counters 테이블 생성
+     * - memory Rate Limit 엔진의 클러스터 동기화용 윈도우 집계
+     */
+    private void migrateRateLimitCountersTable(Connection conn) throws SQLException {
+        if (tableExists(conn, "rate_limit_counters")) {
+            log.debug("Migration [rate-limit-counters-table]: already exists, skipping");
+            return;
+        }
+
+        log.info("Migration [rate-limit-counters-table]: creating table...");
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(
+                "CREATE TABLE rate_limit_counters (" +
+                "  counter_seq    BIGINT       NOT NULL AUTO_INCREMENT," +
+                "  limiter_type   VARCHAR(20)  NOT NULL," +
+                "  identifier     VARCHAR(100) NOT NULL," +
+                "  window_start   BIGINT       NOT NULL," +
+                "  window_millis  BIGINT       NOT NULL," +
+                "  attempt_count  INT          NOT NULL DEFAULT 0," +
+                "  updated_at     DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6)," +
+                "  PRIMARY KEY (counter_seq)," +
+                "  UNIQUE KEY uk_rate_limit_counter (limiter_type, identifier, window_start)," +
+                "  KEY idx_rate_limit_counter_updated (updated_at)" +
+                ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci"
+            );
+            log.info("Migration [rate-limit-counters-table]: table created");
+        }
+    }
+
+    /**
+     * 마이그레이션: 신청 검색용 FULLTEXT(ngram) 인덱스 추가
+     * - applications.address, users(first_name, last_name, email)
+     * - 불용어 비활성 상태로 생성 (ngram 파서는 불용어를 "포함한" 토큰을 제외 — 기본 목록의 a, i 때문에
+     *   대부분의 영문 2-gram이 색인되지 않음). 불용어 설정은 인덱스 생성 시점에 고정됨
+     */
+    private void migrateApplicationSearchIndexes(Connection conn) throws SQLException {
+        String[][] indexes = {
+            // table, index, columns
+            {"applications", "ft_applications_address", "address"},
+            {"users", "ft_users_search", "first_name, last_name, email"},
+        };
+
+        for (String[] idx : indexes) {
+            if (!tableExists(conn, idx[0])) continue;
+            if (indexExists(conn, idx[0], idx[1])) {
+                log.debug("Migration [application-search-index]: {} already exists, skipping", idx[1]);
+                continue;
+            }
+            log.info("Migration [application-search-index]: creating {} on {}...", idx[1], idx[0]);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("SET SESSION innodb_ft_enable_stopword = OFF");
+                try {
+                    stmt.executeUpdate(
+                        "ALTER TABLE " + idx[0] + " ADD FULLTEXT INDEX " + idx[1] +
+                        " (" + idx[2] + ") WITH PARSER ngram"
+                    );
+                } finally {
+                    stmt.execute("SET SESSION innodb_ft_enable_stopword = ON");
+                }
+            }
+            log.info("Migration [application-search-index]: {} created", idx[1]);
+        }
+    }
+
+    /**
+     * 마이그레이션: 커서 페이지네이션용 복합 인덱스 추가
+     * - (필터 컬럼, created_at) + InnoDB 보조 인덱스에 포함되는 PK → (created_at, seq) keyset 정렬/탐색
+     */
+    private void migrateCursorPaginationIndexes(Connection conn) throws SQLException {
+        String[][] indexes = {
+            // table, index, columns
+            {"applications", "idx_applications_created", "created_at"},
+            {"applications", "idx_applications_status_created", "status, created_at"},
+            {"applications", "idx_applications_lew_created", "assigned_lew_seq, created_at"},
+            {"audit_logs", "idx_audit_logs_user_created", "user_seq, created_at"},
+            {"notifications", "idx_notification_recipient_created", "recipient_seq, created_at"},
+        };
+
+        for (String[] idx : indexes) {
+            if (!tableExists(conn, idx[0])) continue;
+            if (indexExists(conn, idx[0], idx[1])) {
+                log.debug("Migration [cursor-pagination-index]: {} already exists, skipping", idx[1]);
+                continue;
+            }
+            log.info("Migration [cursor-pagination-index]: creating {} on {}...", idx[1], idx[0]);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate("ALTER TABLE " + idx[0] + " ADD INDEX " + idx[1] + " (" + idx[2] + ")");
+            }
+        }
+    }
+
+    /**
+     * 마이그레이션: 면허 만료 스케줄러용 복합 인덱스 추가
+     * - (status, license_expiry_date) + PK → 알림 keyset 조회 / 만료 벌크 UPDATE 범위 탐색
+     */
+    private void migrateLicenseExpiryIndex(Connection conn) throws SQLException {
+        if (!tableExists(conn, "applications")) return;
+        if (indexExists(conn, "applications", "idx_applications_status_expiry")) {
+            log.debug("Migration [license-expiry-index]: already exists, skipping");
+            return;
+        }
+        log.info("Migration [license-expiry-index]: creating idx_applications_status_expiry...");
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("ALTER TABLE applications ADD INDEX idx_applications_status_expiry (status, license_expiry_date)");
+        }
+    }
+
+    /**
+     * 마이그레이션: settings_version 테이블 생성 + 단일 행 시드
+     * - SettingsCache 서버 간 무효화용 버전 카운터
+     */
+    private void migrateSettingsVersionTable(Connection conn) throws SQLException {
+        if (!tableExists(conn, "settings_version")) {
+            log.info("Migration [settings-version-table]: creating table...");
+            try (Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate(
+                    "CREATE TABLE settings_version (" +
+                    "  id          TINYINT     NOT NULL," +
+                    "  version     BIGINT      NOT NULL DEFAULT 0," +
+                    "  updated_at  DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)," +
+                    "  PRIMARY KEY (id)" +
+                    ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci"
+                );
+                log.info("Migration [settings-version-table]: table created");
+            }
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("INSERT IGNORE INTO settings_version (id, version) VALUES (1, 0)");
+        }
+    }
+
+    /**
+     * 마이그레이션: price_tier_version 테이블 생성 + 단일 행 시드
+     * - PriceTierCache 서버 간 무효화용 버전 카운터
+     */
+    private void migratePriceTierVersionTable(Connection conn) throws SQLException {
+        if (!tableExists(conn, "price_tier_version")) {
+            log.info("Migration [price-tier-version-table]: creating table...");
+            try (Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate(
+                    "CREATE TABLE price_tier_version (" +
+                    "  id          TINYINT     NOT NULL," +
+                    "  version     BIGINT      NOT NULL DEFAULT 0," +
+                    "  updated_at  DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)," +
+                    "  PRIMARY KEY (id)" +
+                    ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci"
+                );
+                log.info("Migration [price-tier-version-table]: table created");
+            }
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("INSERT IGNORE INTO price_tier_version (id, version) VALUES (1, 0)");
+        }
+    }
+
+    /**
+     * 마이그레이션: audit_user_version 테이블 생성 + 단일 행 시드
+     * - AuditUserCache 서버 간 무효화용 버전 카운터
+     */
+    private void migrateAuditUserVersionTable(Connection conn) throws SQLException {
+        if (!tableExists(conn, "audit_user_version")) {
+            log.info("Migration [audit-user-version-table]: creating table...");
+            try (Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate(
+                    "CREATE TABLE audit_user_version (" +
+                    "  id          TINYINT     NOT NULL," +
+                    "  version     BIGINT      NOT NULL DEFAULT 0," +
+                    "  updated_at  DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)," +
+                    "  PRIMARY KEY (id)" +
+                    ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci"
+                );
+                log.info("Migration [audit-user-version-table]: table created");
+            }
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("INSERT IGNORE INTO audit_user_version (id, version) VALUES (1, 0)");
+        }
+    }
+
+    /**
+     * 마이그레이션: email_outbox 테이블 생성
+     * - 트랜잭션 outbox 기반 이메일 배치 발송 (EmailOutboxDispatcher)
+     */
+    private void migrateEmailOutboxTable(Connection conn) throws SQLException {
+        if (tableExists(conn, "email_outbox")) {
+            log.debug("Migration [email-outbox-table]: already exists, skipping");
+            return;
+        }
+
+        log.info("Migration [email-outbox-table]: creating table...");
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(
+                "CREATE TABLE email_outbox (" +
+                "  outbox_seq       BIGINT       NOT NULL AUTO_INCREMENT," +
+                "  recipient        VARCHAR(255) NOT NULL," +
+                "  subject          VARCHAR(300) NOT NULL," +
+                "  html_body        MEDIUMTEXT   NOT NULL," +
+                "  status           VARCHAR(20)  NOT NULL DEFAULT 'PENDING'," +
+                "  attempts         INT          NOT NULL DEFAULT 0," +
+                "  next_attempt_at  DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6)," +
+                "  last_error       VARCHAR(500)," +
+                "  created_at       DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6)," +
+                "  sent_at          DATETIME(6)," +
+                "  PRIMARY KEY (outbox_seq)," +
+                "  INDEX idx_email_outbox_due (status, next_attempt_at)" +
+                ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci"
+            );
+            log.info("Migration [email-outbox-table]: table created");
+        }
+    }
+
+    /**
+     * 마이그레이션: file_blobs 테이블 생성 (내용 주소 저장 참조 카운트)
+     */
+    private void migrateFileBlobsTable(Connection conn) throws SQLException {
+        if (tableExists(conn, "file_blobs")) {
+            log.debug("Migration [file-blobs-table]: already exists, skipping");
+            return;
+        }
+
+        log.info("Migration [file-blobs-table]: creating table...");
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(
+                "CREATE TABLE file_blobs (" +
+                "  blob_path    VARCHAR(200) NOT NULL," +
+                "  sha256       CHAR(64)     NOT NULL," +
+                "  size         BIGINT       NOT NULL," +
+                "  ref_count    INT          NOT NULL DEFAULT 0," +
+                "  created_at   DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6)," +
+                "  released_at  DATETIME(6)," +
+                "  PRIMARY KEY (blob_path)," +
+                "  INDEX idx_file_blobs_orphan (ref_count, released_at)" +
+                ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci"
+            );
+            log.info("Migration [file-blobs-table]: table created");
+        }
+    }
+
     /**
      * 시드 데이터: SQL_INIT_MODE=never 환경에서 data.sql이 실행되지 않으므로
      * 필수 system_settings 초기값을 여기서 INSERT (이미 존재하면 스킵)
@@ -337,4 +612,19 @@ public class DatabaseMigrationRunner {
             return rs.next();
         }
     }
+
+    /**
+     * 특정 테이블에 인덱스가 존재하는지 확인
+     */
+    private boolean indexExists(Connection conn, String table, String index) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "SELECT 1 FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ? LIMIT 1")) {
+            ps.setString(1, table);
+            ps.setString(2, index);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
 }
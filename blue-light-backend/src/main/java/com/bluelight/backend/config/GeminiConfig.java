@@ -1,29 +1,32 @@
 package com.bluelight.backend.config;
 
-import com.bluelight.backend.domain.setting.SystemSettingRepository;
+import com.bluelight.backend.domain.setting.SettingsCache;
+import io.netty.channel.ChannelOption;
 import lombok.Getter;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
-import java.time.Instant;
+import java.time.Duration;
 
 /**
  * Google Gemini API 설정
  * - 환경변수 기본값 + DB 런타임 오버라이드 지원
- * - DB 기반 TTL 캐시 (60초) — 다중 서버 환경에서도 일관성 보장
+ * - DB 값은 SettingsCache로 조회 (변경 시 모든 서버에 1초 이내 반영)
+ * - 전용 커넥션 풀 (gemini.http.*): 최대 연결 / 대기열 상한 / 유휴 연결 정리, HTTP/2(ALPN) 우선
+ *   풀 메트릭: reactor.netty.connection.provider.* (name=gemini)
  */
 @Configuration
 @Getter
-@Slf4j
 public class GeminiConfig {
 
-    private static final long CACHE_TTL_SECONDS = 60;
-
     @Value("${gemini.api-key}")
     private String envApiKey;
 
@@ -39,51 +42,71 @@ public class GeminiConfig {
     @Value("${gemini.temperature}")
     private double temperature;
 
-    private final SystemSettingRepository systemSettingRepository;
+    @Value("${gemini.http.max-connections:50}")
+    private int maxConnections;
 
-    /**
-     * TTL 캐시: DB 조회 결과를 60초간 보관
-     */
-    private volatile String cachedApiKey;
-    private volatile Instant cacheExpiry = Instant.MIN;
+    @Value("${gemini.http.pending-acquire-max:200}")
+    private int pendingAcquireMax;
+
+    @Value("${gemini.http.pending-acquire-timeout-ms:5000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${gemini.http.max-idle-seconds:30}")
+    private long maxIdleSeconds;
+
+    @Value("${gemini.http.response-timeout-seconds:60}")
+    private long responseTimeoutSeconds;
+
+    @Value("${gemini.http.http2:true}")
+    private boolean http2;
 
-    public GeminiConfig(SystemSettingRepository systemSettingRepository) {
-        this.systemSettingRepository = systemSettingRepository;
+    private final SettingsCache settingsCache;
+
+    public GeminiConfig(SettingsCache settingsCache) {
+        this.settingsCache = settingsCache;
     }
 
     /**
      * 현재 활성 API 키 반환 (DB 오버라이드 > 환경변수)
-     * - 60초 TTL 캐시 적용: 다중 서버에서도 DB 변경이 최대 60초 내 반영
      */
     public String getApiKey() {
-        Instant now = Instant.now();
-        if (now.isBefore(cacheExpiry) && cachedApiKey != null) {
-            return cachedApiKey;
-        }
-
-        // DB에서 조회
-        String dbKey = systemSettingRepository.findById("gemini_api_key")
-                .map(s -> s.getSettingValue())
+        return settingsCache.get("gemini_api_key")
                 .filter(v -> !v.isBlank())
-                .orElse(null);
-
-        String resolved = (dbKey != null) ? dbKey : envApiKey;
-        this.cachedApiKey = resolved;
-        this.cacheExpiry = now.plusSeconds(CACHE_TTL_SECONDS);
-        return resolved;
+                .orElse(envApiKey);
     }
 
     /**
-     * 캐시 무효화 (설정 변경 시 즉시 반영용 — 같은 서버에서만 효과)
+     * Gemini 전용 커넥션 풀
+     * - 대기열(pending-acquire-max) 초과 / 대기 시간 초과 시 즉시 실패 → 버스트가 무한정 쌓이지 않음
+     * - 유휴 연결은 백그라운드에서 정리 (서버 측 keep-alive 종료로 인한 stale 연결 방지)
      */
-    public void invalidateCache() {
-        this.cacheExpiry = Instant.MIN;
-        log.info("Gemini API key cache invalidated");
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider geminiConnectionProvider() {
+        return ConnectionProvider.builder("gemini")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(maxIdleSeconds))
+                .maxLifeTime(Duration.ofMinutes(5))
+                .evictInBackground(Duration.ofSeconds(maxIdleSeconds))
+                .metrics(true)
+                .build();
     }
 
     @Bean
-    public WebClient geminiWebClient() {
+    public WebClient geminiWebClient(ConnectionProvider geminiConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(geminiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10_000)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                // 응답 수신 중 읽기 간격 상한 (스트리밍은 청크 사이 간격에 적용)
+                .responseTimeout(Duration.ofSeconds(responseTimeoutSeconds));
+        if (http2) {
+            // https baseUrl에서 ALPN으로 협상, 미지원 시 HTTP/1.1
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
         return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .baseUrl(baseUrl)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(256 * 1024))
@@ -18,7 +18,7 @@ import javax.sql.DataSource;
  * - createdAt, updatedAt 자동 관리
  * - createdBy, updatedBy는 AuditorAware를 통해 현재 로그인 사용자 ID로 설정
  * - @Scheduled 메서드 활성화 (Rate Limiter cleanup 등)
- * - @Async 메서드 활성화 (감사 로그 비동기 저장)
+ * - @Async 메서드 활성화 (이메일 비동기 발송 — 실행기는 AsyncConfig)
  * - ShedLock: 다중 서버 환경에서 스케줄러 중복 실행 방지
  */
 @Configuration
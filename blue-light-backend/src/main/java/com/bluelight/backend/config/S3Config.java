@@ -7,6 +7,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
 
@@ -24,6 +26,10 @@ import java.net.URI;
  *
  * 로컬 테스트: AWS CLI 프로파일 또는 환경변수 설정
  * 운영 환경: EC2/ECS에 IAM Role 부여 (키 불필요)
+ *
+ * S3AsyncClient: 대용량 파일 멀티파트 업로드용 (multipartEnabled)
+ * - file.s3.multipart-threshold-mb 이상이면 파트 단위 병렬 업로드
+ * - file.s3.endpoint 설정 시 동기 클라이언트와 동일하게 로컬 S3 대체 서버 사용
  */
 @Slf4j
 @Configuration
@@ -36,6 +42,12 @@ public class S3Config {
     @Value("${file.s3.endpoint:}")
     private String endpoint;
 
+    @Value("${file.s3.multipart-threshold-mb:8}")
+    private long multipartThresholdMb;
+
+    @Value("${file.s3.part-size-mb:8}")
+    private long partSizeMb;
+
     @Bean
     public S3Client s3Client() {
         S3ClientBuilder builder = S3Client.builder()
@@ -52,4 +64,23 @@ public class S3Config {
         log.info("S3 클라이언트 초기화: region={}", region);
         return builder.build();
     }
+
+    @Bean
+    public S3AsyncClient s3AsyncClient() {
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(DefaultCredentialsProvider.create())
+                .multipartEnabled(true)
+                .multipartConfiguration(c -> c
+                        .thresholdInBytes(multipartThresholdMb * 1024 * 1024)
+                        .minimumPartSizeInBytes(partSizeMb * 1024 * 1024));
+
+        if (endpoint != null && !endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .forcePathStyle(true);
+        }
+
+        log.info("S3 비동기 클라이언트 초기화: multipart threshold={}MB, part={}MB", multipartThresholdMb, partSizeMb);
+        return builder.build();
+    }
 }
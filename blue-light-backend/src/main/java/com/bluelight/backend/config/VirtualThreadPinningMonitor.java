@@ -0,0 +1,94 @@
+package com.bluelight.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 진단 (spring.threads.virtual.enabled=true + Java 21 이상, virtual-threads 프로필)
+ *
+ * - JFR jdk.VirtualThreadPinned 이벤트를 앱 내부에서 스트리밍 구독
+ *   (synchronized 블록 / 네이티브 프레임 안에서 블로킹되어 캐리어 스레드를 점유한 경우)
+ * - 메트릭: jvm.threads.virtual.pinned (Counter)
+ * - 발생 위치(상위 프레임)별 최초 1회만 WARN 로그 + 스택 → 로그 폭주 방지
+ * - 임계값 미만의 짧은 pinning은 기록하지 않음 (virtual-threads.pinning.threshold-ms)
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_REPORTED_SITES = 256;
+
+    private final Counter pinnedCounter;
+    private final Duration threshold;
+    private final int stackDepth;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${virtual-threads.pinning.threshold-ms:20}") long thresholdMs,
+                                       @Value("${virtual-threads.pinning.stack-depth:12}") int stackDepth) {
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("임계값 이상 캐리어 스레드에 고정된 가상 스레드 블로킹 횟수")
+                .register(meterRegistry);
+        this.threshold = Duration.ofMillis(thresholdMs);
+        this.stackDepth = stackDepth;
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold={}ms)", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        List<String> frames = topFrames(event.getStackTrace());
+        String site = frames.isEmpty() ? "(unknown)" : frames.get(0);
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+            log.warn("Virtual thread pinned for {}ms at {}\n\t{}",
+                    event.getDuration().toMillis(), site, String.join("\n\t", frames));
+        }
+    }
+
+    private List<String> topFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+        return stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .limit(stackDepth)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.toList());
+    }
+}
@@ -13,12 +13,14 @@ import org.hibernate.annotations.SQLRestriction;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 /**
  * 라이선스 신청 내역 Entity
  */
 @Entity
 @Table(name = "applications")
+@EntityListeners(ApplicationStatusListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE applications SET deleted_at = NOW() WHERE application_seq = ?")
@@ -182,6 +184,18 @@ public class Application extends BaseEntity {
     @Column(name = "expiry_notified_at")
     private LocalDateTime expiryNotifiedAt;
 
+    /**
+     * 마지막으로 집계에 반영된 상태/담당 LEW (비영속, ApplicationStatusListener 전용)
+     * - null 상태: 아직 집계되지 않음 (신규) 또는 삭제됨
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private ApplicationStatus syncedStatus;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private Long syncedLewSeq;
+
     @Builder
     public Application(User user, String address, String postalCode, String buildingType,
                        Integer selectedKva, BigDecimal quoteAmount, BigDecimal sldFee,
@@ -325,4 +339,32 @@ public class Application extends BaseEntity {
         this.loaSignatureUrl = signatureUrl;
         this.loaSignedAt = LocalDateTime.now();
     }
+
+    /**
+     * 현재 상태를 집계 기준으로 기록 (로드 직후)
+     */
+    void markStatusSynced() {
+        this.syncedStatus = isDeleted() ? null : this.status;
+        this.syncedLewSeq = this.syncedStatus != null ? assignedLewSeq() : null;
+    }
+
+    /**
+     * 집계 기준 대비 변경분을 이벤트로 반환하고 기준 갱신 — 변경 없으면 null
+     */
+    ApplicationStatusChangedEvent drainStatusChange(boolean removed) {
+        ApplicationStatus current = (removed || isDeleted()) ? null : this.status;
+        Long currentLewSeq = current != null ? assignedLewSeq() : null;
+        if (current == syncedStatus && Objects.equals(currentLewSeq, syncedLewSeq)) {
+            return null;
+        }
+        ApplicationStatusChangedEvent event = new ApplicationStatusChangedEvent(
+                applicationSeq, syncedStatus, syncedLewSeq, current, currentLewSeq);
+        this.syncedStatus = current;
+        this.syncedLewSeq = currentLewSeq;
+        return event;
+    }
+
+    private Long assignedLewSeq() {
+        return assignedLew != null ? assignedLew.getUserSeq() : null;
+    }
 }
@@ -1,13 +1,17 @@
 package com.bluelight.backend.domain.application;
 
+import com.bluelight.backend.domain.file.FileType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -51,6 +55,23 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
      */
     Page<Application> findByStatusOrderByCreatedAtDesc(ApplicationStatus status, Pageable pageable);
 
+    /**
+     * 커서 기반 목록 (Admin/LEW) — createdAt DESC, applicationSeq DESC
+     * - status, lewSeq: null이면 필터 미적용
+     * - cursorAt/cursorSeq: 이전 페이지 마지막 행 위치 (첫 페이지는 null)
+     */
+    @Query("SELECT a FROM Application a WHERE " +
+           "(:status IS NULL OR a.status = :status) AND " +
+           "(:lewSeq IS NULL OR FK(a.assignedLew) = :lewSeq) AND " +
+           "(:cursorAt IS NULL OR a.createdAt < :cursorAt OR " +
+           " (a.createdAt = :cursorAt AND a.applicationSeq < :cursorSeq)) " +
+           "ORDER BY a.createdAt DESC, a.applicationSeq DESC")
+    Slice<Application> findSliceByCursor(@Param("status") ApplicationStatus status,
+                                         @Param("lewSeq") Long lewSeq,
+                                         @Param("cursorAt") LocalDateTime cursorAt,
+                                         @Param("cursorSeq") Long cursorSeq,
+                                         Pageable pageable);
+
     /**
      * 검색: 주소, 이름, 이메일, ID로 검색 (Admin)
      */
@@ -75,19 +96,48 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     Page<Application> searchByKeywordAndStatus(@Param("keyword") String keyword, @Param("status") ApplicationStatus status, Pageable pageable);
 
     /**
-     * 상태별 건수 (Admin dashboard)
+     * FULLTEXT(ngram) 검색 FROM/WHERE 절 — 목록 쿼리와 count 쿼리가 공유
+     */
+    String FULL_TEXT_SEARCH_FROM = "FROM applications a " +
+           "JOIN users u ON u.user_seq = a.user_seq AND u.deleted_at IS NULL " +
+           "WHERE a.deleted_at IS NULL " +
+           "AND (:status IS NULL OR a.status = :status) " +
+           "AND (:lewSeq IS NULL OR a.assigned_lew_seq = :lewSeq) " +
+           "AND (a.application_seq = :applicationSeq OR a.application_seq IN (" +
+           "  SELECT fa.application_seq FROM applications fa " +
+           "  WHERE MATCH(fa.address) AGAINST(:query IN BOOLEAN MODE) " +
+           "  UNION " +
+           "  SELECT fu.application_seq FROM applications fu JOIN users mu ON mu.user_seq = fu.user_seq " +
+           "  WHERE MATCH(mu.first_name, mu.last_name, mu.email) AGAINST(:query IN BOOLEAN MODE))) ";
+
+    /**
+     * FULLTEXT(ngram) 검색: 주소 / 신청자 이름·이메일 / 신청 ID
+     * - query: BOOLEAN MODE 검색식 (ApplicationSearchService가 생성)
+     * - applicationSeq: 키워드가 숫자일 때 ID 일치 (아니면 null)
+     * - status, lewSeq: null이면 필터 미적용
      */
-    long countByStatus(ApplicationStatus status);
+    @Query(value = "SELECT a.* " + FULL_TEXT_SEARCH_FROM + "ORDER BY a.created_at DESC",
+           countQuery = "SELECT COUNT(*) " + FULL_TEXT_SEARCH_FROM,
+           nativeQuery = true)
+    Page<Application> searchFullText(@Param("query") String query,
+                                     @Param("applicationSeq") Long applicationSeq,
+                                     @Param("status") String status,
+                                     @Param("lewSeq") Long lewSeq,
+                                     Pageable pageable);
 
     /**
-     * 미할당 신청 건수
+     * 담당 LEW + 상태별 건수 (대시보드 집계 — 전체/LEW별/미할당을 한 번에 산출)
      */
-    long countByAssignedLewIsNull();
+    @Query("SELECT FK(a.assignedLew) AS lewSeq, a.status AS status, COUNT(a) AS count " +
+           "FROM Application a GROUP BY FK(a.assignedLew), a.status")
+    List<ApplicationStatusCount> countGroupByAssignedLewAndStatus();
 
     /**
-     * 특정 LEW에게 할당된 신청 건수
+     * 특정 LEW에게 할당된 신청의 상태별 건수
      */
-    long countByAssignedLewUserSeq(Long lewSeq);
+    @Query("SELECT FK(a.assignedLew) AS lewSeq, a.status AS status, COUNT(a) AS count " +
+           "FROM Application a WHERE FK(a.assignedLew) = :lewSeq GROUP BY FK(a.assignedLew), a.status")
+    List<ApplicationStatusCount> countGroupByStatusForLew(@Param("lewSeq") Long lewSeq);
 
     /**
      * 특정 LEW에게 할당된 신청 목록 (최신순, 페이지네이션)
@@ -129,19 +179,39 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
             @Param("lewSeq") Long lewSeq, Pageable pageable);
 
     /**
-     * LEW 전용: 할당된 신청서 중 특정 상태 건수
+     * LOA 일괄 재생성 대상: 해당 LEW 담당 + 지정 신청 유형 + 미서명 + 지정 유형 파일 보유 (신청자 함께 로딩)
      */
-    long countByAssignedLewUserSeqAndStatus(Long lewSeq, ApplicationStatus status);
+    @Query("SELECT a FROM Application a JOIN FETCH a.user WHERE FK(a.assignedLew) = :lewSeq " +
+           "AND a.applicationType = :type AND a.loaSignatureUrl IS NULL " +
+           "AND EXISTS (SELECT 1 FROM FileEntity f WHERE f.application = a AND f.fileType = :fileType)")
+    List<Application> findUnsignedLoaTargets(@Param("lewSeq") Long lewSeq,
+                                             @Param("type") ApplicationType type,
+                                             @Param("fileType") FileType fileType);
 
     /**
-     * 만료 대상: COMPLETED + 만료일 경과
+     * 만료 알림 대상 chunk: COMPLETED + 만료일 임박 + 미알림 (신청자 함께 로딩)
+     * - (licenseExpiryDate, applicationSeq) keyset — idx_applications_status_expiry 순서대로 탐색
+     * - cursor가 null이면 처음부터
      */
-    List<Application> findByStatusAndLicenseExpiryDateBefore(
-            ApplicationStatus status, LocalDate date);
+    @Query("SELECT a FROM Application a JOIN FETCH a.user WHERE a.status = :status " +
+           "AND a.licenseExpiryDate <= :date AND a.expiryNotifiedAt IS NULL AND " +
+           "(:cursorDate IS NULL OR a.licenseExpiryDate > :cursorDate OR " +
+           " (a.licenseExpiryDate = :cursorDate AND a.applicationSeq > :cursorSeq)) " +
+           "ORDER BY a.licenseExpiryDate, a.applicationSeq")
+    List<Application> findExpiryWarningChunk(@Param("status") ApplicationStatus status,
+                                             @Param("date") LocalDate date,
+                                             @Param("cursorDate") LocalDate cursorDate,
+                                             @Param("cursorSeq") Long cursorSeq,
+                                             Pageable pageable);
 
     /**
-     * 만료 알림 대상: COMPLETED + 만료일 임박 + 미알림
+     * 만료 처리 (COMPLETED + 만료일 경과 → EXPIRED), 호출당 최대 chunkSize건
+     * - 벌크 UPDATE라 ApplicationStatusChangedEvent 없음 → 호출 측에서 상태 카운터 무효화
      */
-    List<Application> findByStatusAndLicenseExpiryDateLessThanEqualAndExpiryNotifiedAtIsNull(
-            ApplicationStatus status, LocalDate date);
+    @Modifying
+    @Query(value = "UPDATE applications SET status = 'EXPIRED', updated_at = NOW(6) " +
+                   "WHERE status = 'COMPLETED' AND license_expiry_date < :today AND deleted_at IS NULL " +
+                   "LIMIT :chunkSize",
+           nativeQuery = true)
+    int expireOverdue(@Param("today") LocalDate today, @Param("chunkSize") int chunkSize);
 }
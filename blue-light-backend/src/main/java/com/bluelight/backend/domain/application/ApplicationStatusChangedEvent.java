@@ -0,0 +1,15 @@
+package com.bluelight.backend.domain.application;
+
+/**
+ * 신청 상태/담당 LEW 변경 이벤트 (커밋 후 대시보드 집계 반영용)
+ * - fromStatus == null: 신규 생성
+ * - toStatus == null: 삭제 (Soft Delete 포함)
+ * - 담당 LEW seq는 미할당이면 null
+ */
+public record ApplicationStatusChangedEvent(
+        Long applicationSeq,
+        ApplicationStatus fromStatus,
+        Long fromLewSeq,
+        ApplicationStatus toStatus,
+        Long toLewSeq) {
+}
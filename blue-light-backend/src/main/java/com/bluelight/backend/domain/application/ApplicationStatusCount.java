@@ -0,0 +1,16 @@
+package com.bluelight.backend.domain.application;
+
+/**
+ * 담당 LEW + 상태별 신청 건수 (GROUP BY 프로젝션)
+ */
+public interface ApplicationStatusCount {
+
+    /**
+     * 담당 LEW seq (미할당이면 null)
+     */
+    Long getLewSeq();
+
+    ApplicationStatus getStatus();
+
+    long getCount();
+}
@@ -0,0 +1,44 @@
+package com.bluelight.backend.domain.application;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Application 상태 변경 감지 EntityListener
+ * - 로드 시점 상태를 기준으로 flush(INSERT/UPDATE/DELETE) 때 변경분을 이벤트로 발행
+ * - changeStatus()/markAsPaid() 등 상태 전이 메서드, LEW 할당 변경, Soft Delete 모두 포함
+ * - Hibernate SpringBeanContainer가 생성 (생성자 주입)
+ */
+public class ApplicationStatusListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ApplicationStatusListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostLoad
+    void onLoad(Application application) {
+        application.markStatusSynced();
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onWrite(Application application) {
+        publish(application.drainStatusChange(false));
+    }
+
+    @PostRemove
+    void onRemove(Application application) {
+        publish(application.drainStatusChange(true));
+    }
+
+    private void publish(ApplicationStatusChangedEvent event) {
+        if (event != null) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+}
@@ -46,6 +46,7 @@ public enum AuditAction {
     SLD_AI_GENERATION_TOGGLED,
     PRICE_UPDATED,
     SETTINGS_UPDATED,
+    FILE_ENCRYPTION_MIGRATION_STARTED,
 
     // PDPA data rights
     DATA_EXPORTED,
@@ -2,6 +2,7 @@ package com.bluelight.backend.domain.audit;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -38,7 +39,51 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
             Pageable pageable);
 
     /**
-     * 보존 기간 초과 로그를 아카이브 테이블로 복사 (batch)
+     * 커서 기반 감사 로그 검색 — createdAt DESC, auditLogSeq DESC (COUNT 쿼리 없음)
+     */
+    @Query("SELECT a FROM AuditLog a WHERE " +
+           "(:category IS NULL OR a.actionCategory = :category) AND " +
+           "(:action IS NULL OR a.action = :action) AND " +
+           "(:userSeq IS NULL OR a.userSeq = :userSeq) AND " +
+           "(:entityType IS NULL OR a.entityType = :entityType) AND " +
+           "(:entityId IS NULL OR a.entityId = :entityId) AND " +
+           "(:startDate IS NULL OR a.createdAt >= :startDate) AND " +
+           "(:endDate IS NULL OR a.createdAt <= :endDate) AND " +
+           "(:search IS NULL OR " +
+           "  LOWER(a.userEmail) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "  LOWER(a.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "  LOWER(a.entityId) LIKE CONCAT('%', :search, '%')) AND " +
+           "(:cursorAt IS NULL OR a.createdAt < :cursorAt OR " +
+           " (a.createdAt = :cursorAt AND a.auditLogSeq < :cursorSeq)) " +
+           "ORDER BY a.createdAt DESC, a.auditLogSeq DESC")
+    Slice<AuditLog> searchAuditLogsByCursor(
+            @Param("category") AuditCategory category,
+            @Param("action") AuditAction action,
+            @Param("userSeq") Long userSeq,
+            @Param("entityType") String entityType,
+            @Param("entityId") String entityId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("search") String search,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorSeq") Long cursorSeq,
+            Pageable pageable);
+
+    /**
+     * 원본 테이블 최소 seq (아카이브 시작점 — 이동 완료분은 삭제되므로 자연스러운 재개 지점)
+     */
+    @Query(value = "SELECT MIN(audit_log_seq) FROM audit_logs", nativeQuery = true)
+    Long findMinSeq();
+
+    /**
+     * 보존 기간 초과 로그의 최대 seq (아카이브 상한)
+     */
+    @Query(value = "SELECT MAX(audit_log_seq) FROM audit_logs WHERE created_at < :cutoff", nativeQuery = true)
+    Long findMaxSeqBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * seq 구간 [fromSeq, toSeq] 내 보존 기간 초과 로그를 아카이브 테이블로 복사 (PK 범위 스캔)
+     * - 이미 복사된 행은 무시 (이전 방식으로 복사 후 삭제되지 않은 행 포함)
      */
     @Modifying
     @Query(value = """
@@ -51,23 +96,24 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
                 entity_type, entity_id, description, before_value, after_value,
                 ip_address, user_agent, request_method, request_uri, http_status, created_at, NOW(6)
             FROM audit_logs
-            WHERE created_at < :cutoff
-              AND audit_log_seq NOT IN (SELECT audit_log_seq FROM audit_logs_archive)
-            LIMIT :batchSize
+            WHERE audit_log_seq BETWEEN :fromSeq AND :toSeq
+              AND created_at < :cutoff
+            ON DUPLICATE KEY UPDATE audit_log_seq = audit_logs_archive.audit_log_seq
             """, nativeQuery = true)
-    int archiveOlderThan(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+    int archiveRange(@Param("fromSeq") long fromSeq, @Param("toSeq") long toSeq,
+                     @Param("cutoff") LocalDateTime cutoff);
 
     /**
-     * 아카이브 완료된 원본 로그 batch 삭제
+     * seq 구간 [fromSeq, toSeq] 내 보존 기간 초과 원본 삭제 (archiveRange와 같은 트랜잭션에서 호출)
      */
     @Modifying
     @Query(value = """
             DELETE FROM audit_logs
-            WHERE created_at < :cutoff
-              AND audit_log_seq IN (SELECT audit_log_seq FROM audit_logs_archive)
-            LIMIT :batchSize
+            WHERE audit_log_seq BETWEEN :fromSeq AND :toSeq
+              AND created_at < :cutoff
             """, nativeQuery = true)
-    int deleteArchivedLogs(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+    int deleteRange(@Param("fromSeq") long fromSeq, @Param("toSeq") long toSeq,
+                    @Param("cutoff") LocalDateTime cutoff);
 
     /**
      * Privacy Policy 보유 기간(5년) 초과 아카이브 로그 삭제
@@ -0,0 +1,98 @@
+package com.bluelight.backend.domain.email;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이메일 outbox 엔티티 (BaseEntity 미상속)
+ * - 업무 트랜잭션 안에서 렌더링된 메일을 적재 → 커밋된 메일만 발송
+ * - EmailOutboxDispatcher가 배치로 꺼내 발송, 실패 시 백오프 후 재시도
+ */
+@Entity
+@Table(name = "email_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_seq")
+    private Long outboxSeq;
+
+    @Column(name = "recipient", nullable = false, length = 255)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false, length = 300)
+    private String subject;
+
+    @Column(name = "html_body", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String htmlBody;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private EmailOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Builder
+    public EmailOutbox(String recipient, String subject, String htmlBody) {
+        LocalDateTime now = LocalDateTime.now();
+        this.recipient = recipient;
+        this.subject = subject;
+        this.htmlBody = htmlBody;
+        this.status = EmailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    /**
+     * 발송기 점유 — leaseUntil까지 결과가 기록되지 않으면 다시 발송 대상
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.status = EmailOutboxStatus.SENDING;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markSent() {
+        this.status = EmailOutboxStatus.SENT;
+        this.attempts++;
+        this.sentAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    /**
+     * 발송 실패 기록 — nextAttemptAt이 null이면 재시도 포기 (FAILED)
+     */
+    public void markAttemptFailed(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (nextAttemptAt == null) {
+            this.status = EmailOutboxStatus.FAILED;
+        } else {
+            this.status = EmailOutboxStatus.PENDING;
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.bluelight.backend.domain.email;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * EmailOutbox Repository
+ */
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * 발송 대상 배치 잠금 (SELECT ... FOR UPDATE SKIP LOCKED) — idx_email_outbox_due (status, next_attempt_at)
+     * - PENDING 도래 행 + 점유 만료된 SENDING 행 (발송 중 서버 중단 등)
+     * - 다른 트랜잭션이 점유 중인 행은 건너뜀 → 같은 행을 두 발송기가 동시에 가져가지 않음
+     */
+    @Query(value = "SELECT * FROM email_outbox " +
+                   "WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= :now " +
+                   "ORDER BY next_attempt_at, outbox_seq LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<EmailOutbox> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    long countByStatus(EmailOutboxStatus status);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutbox o WHERE o.status = :status AND o.createdAt < :before")
+    int deleteByStatusAndCreatedAtBefore(@Param("status") EmailOutboxStatus status,
+                                         @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,15 @@
+package com.bluelight.backend.domain.email;
+
+/**
+ * 이메일 outbox 상태
+ * - PENDING: 발송 대기 (재시도 대기 포함, next_attempt_at 이후 발송)
+ * - SENDING: 발송기가 점유 중 (next_attempt_at = 점유 만료 시각, 만료 시 다시 발송 대상)
+ * - SENT: 발송 완료
+ * - FAILED: 최대 재시도 초과로 포기
+ */
+public enum EmailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,46 @@
+package com.bluelight.backend.domain.file;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소(SHA-256) 기반 저장 blob 참조 카운트 (BaseEntity 미상속)
+ * - blob_path = FileEntity.fileUrl 등 저장 경로 컬럼에 기록되는 값 (blobs/{hash 앞 2자리}/{hash}{확장자})
+ * - 참조 증감은 FileBlobRepository 원자적 UPDATE로만 수행
+ * - ref_count 0 이후 유예 기간이 지나면 FileBlobGarbageCollector가 물리 삭제
+ */
+@Entity
+@Table(name = "file_blobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FileBlob {
+
+    @Id
+    @Column(name = "blob_path", length = 200)
+    private String blobPath;
+
+    @Column(name = "sha256", nullable = false, length = 64)
+    private String sha256;
+
+    /**
+     * 평문 기준 바이트 수
+     */
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 참조가 0이 된 시각 (GC 유예 기준, 참조 중이면 null)
+     */
+    @Column(name = "released_at")
+    private LocalDateTime releasedAt;
+}
@@ -0,0 +1,72 @@
+package com.bluelight.backend.domain.file;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * FileBlob Repository
+ */
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, String> {
+
+    /**
+     * blob 기록 전 행 확보 — 없으면 ref_count=0 + released_at=now로 생성 (참조 증가 없음)
+     * - 참조 없는 행은 released_at을 갱신 → GC 유예 기간 재시작 (기록 중인 blob을 GC가 삭제하지 않음)
+     * - 이후 업무 트랜잭션이 롤백돼 acquire가 취소되면 이 행이 남아 GC가 blob을 정리
+     */
+    @Modifying
+    @Query(value = "INSERT INTO file_blobs (blob_path, sha256, size, ref_count, created_at, released_at) " +
+                   "VALUES (:path, :sha256, :size, 0, NOW(6), NOW(6)) " +
+                   "ON DUPLICATE KEY UPDATE released_at = IF(ref_count = 0, NOW(6), released_at)",
+           nativeQuery = true)
+    int register(@Param("path") String path, @Param("sha256") String sha256, @Param("size") long size);
+
+    /**
+     * 참조 1 증가 (없으면 ref_count=1로 생성) — 동시 저장에도 원자적
+     */
+    @Modifying
+    @Query(value = "INSERT INTO file_blobs (blob_path, sha256, size, ref_count, created_at) " +
+                   "VALUES (:path, :sha256, :size, 1, NOW(6)) " +
+                   "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, released_at = NULL",
+           nativeQuery = true)
+    int acquire(@Param("path") String path, @Param("sha256") String sha256, @Param("size") long size);
+
+    /**
+     * 참조 1 감소 — 0이 되면 released_at 기록
+     * (MySQL 단일 테이블 UPDATE는 앞 SET 절의 갱신 값을 뒤 SET 절에서 참조)
+     *
+     * @return 0이면 추적 대상 blob이 아니거나 이미 참조 없음
+     */
+    @Modifying
+    @Query(value = "UPDATE file_blobs SET ref_count = ref_count - 1, " +
+                   "released_at = IF(ref_count = 0, NOW(6), NULL) " +
+                   "WHERE blob_path = :path AND ref_count > 0",
+           nativeQuery = true)
+    int release(@Param("path") String path);
+
+    /**
+     * GC 대상 — idx_file_blobs_orphan (ref_count, released_at)
+     */
+    @Query("SELECT b.blobPath FROM FileBlob b WHERE b.refCount = 0 AND b.releasedAt < :before " +
+           "ORDER BY b.releasedAt")
+    List<String> findOrphanPaths(@Param("before") LocalDateTime before, Pageable pageable);
+
+    /**
+     * 참조 0 + 유예 경과 blob 행 잠금 (SELECT ... FOR UPDATE)
+     * - 조회 후 다시 참조되거나 register()로 유예가 갱신된 행은 제외
+     * - 같은 내용을 동시에 저장하는 register()/acquire()는 이 잠금이 풀릴 때까지 대기 → 삭제 후 재생성
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM FileBlob b WHERE b.blobPath = :path AND b.refCount = 0 AND b.releasedAt < :before")
+    Optional<FileBlob> lockOrphan(@Param("path") String path, @Param("before") LocalDateTime before);
+}
@@ -73,6 +73,12 @@ public class FileEntity {
     @Column(name = "file_size")
     private Long fileSize;
 
+    /**
+     * 시스템 생성 여부 (LOA 자동 생성 등) — false면 사용자가 업로드한 파일
+     */
+    @Column(name = "system_generated", nullable = false)
+    private boolean systemGenerated;
+
     /**
      * 업로드 일시
      */
@@ -106,13 +112,15 @@ public class FileEntity {
     private LocalDateTime deletedAt;
 
     @Builder
-    public FileEntity(Application application, SldOrder sldOrder, FileType fileType, String fileUrl, String originalFilename, Long fileSize) {
+    public FileEntity(Application application, SldOrder sldOrder, FileType fileType, String fileUrl, String originalFilename, Long fileSize,
+                      boolean systemGenerated) {
         this.application = application;
         this.sldOrder = sldOrder;
         this.fileType = fileType;
         this.fileUrl = fileUrl;
         this.originalFilename = originalFilename;
         this.fileSize = fileSize;
+        this.systemGenerated = systemGenerated;
         this.uploadedAt = LocalDateTime.now();
     }
 
@@ -2,12 +2,15 @@ package com.bluelight.backend.domain.notification;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+
 /**
  * Notification Repository
  */
@@ -16,6 +19,18 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     Page<Notification> findByRecipientUserSeqOrderByCreatedAtDesc(Long recipientSeq, Pageable pageable);
 
+    /**
+     * 커서 기반 알림 목록 — createdAt DESC, notificationSeq DESC
+     */
+    @Query("SELECT n FROM Notification n WHERE FK(n.recipient) = :recipientSeq AND " +
+           "(:cursorAt IS NULL OR n.createdAt < :cursorAt OR " +
+           " (n.createdAt = :cursorAt AND n.notificationSeq < :cursorSeq)) " +
+           "ORDER BY n.createdAt DESC, n.notificationSeq DESC")
+    Slice<Notification> findSliceByRecipient(@Param("recipientSeq") Long recipientSeq,
+                                             @Param("cursorAt") LocalDateTime cursorAt,
+                                             @Param("cursorSeq") Long cursorSeq,
+                                             Pageable pageable);
+
     long countByRecipientUserSeqAndIsReadFalse(Long recipientSeq);
 
     @Modifying
@@ -0,0 +1,21 @@
+package com.bluelight.backend.domain.price;
+
+import java.math.BigDecimal;
+
+/**
+ * 단가 티어 불변 값 (PriceTierCache 스냅샷용 — 영속성 컨텍스트와 무관)
+ */
+public record PriceTier(Long masterPriceSeq, String description, int kvaMin, int kvaMax,
+                        BigDecimal price, BigDecimal renewalPrice, BigDecimal sldPrice) {
+
+    public static PriceTier from(MasterPrice masterPrice) {
+        return new PriceTier(
+                masterPrice.getMasterPriceSeq(),
+                masterPrice.getDescription(),
+                masterPrice.getKvaMin(),
+                masterPrice.getKvaMax(),
+                masterPrice.getPrice(),
+                masterPrice.getRenewalPrice(),
+                masterPrice.getSldPrice());
+    }
+}
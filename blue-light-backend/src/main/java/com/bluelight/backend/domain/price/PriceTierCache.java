@@ -0,0 +1,54 @@
+package com.bluelight.backend.domain.price;
+
+import com.bluelight.backend.common.cache.VersionedSnapshotCache;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 활성 단가 티어 상주 캐시 (price_tier_version 기반 무효화, VersionedSnapshotCache)
+ * - 활성 티어 전체를 불변 PriceTierTable로 보관 → 가격 계산 시 DB 접근 없음
+ *
+ * master_prices를 변경하는 코드는 반드시 markChanged()를 호출할 것
+ */
+@Component
+public class PriceTierCache extends VersionedSnapshotCache<PriceTierTable> {
+
+    private final MasterPriceRepository masterPriceRepository;
+
+    public PriceTierCache(MasterPriceRepository masterPriceRepository, JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate, "price_tier_version", "Price tiers");
+        this.masterPriceRepository = masterPriceRepository;
+    }
+
+    /**
+     * 특정 용량에 해당하는 활성 티어 조회
+     */
+    public Optional<PriceTier> findByKva(int kva) {
+        return Optional.ofNullable(table().find(kva));
+    }
+
+    /**
+     * 현재 티어 테이블
+     */
+    public PriceTierTable table() {
+        return current();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${price.tier-cache.poll-interval-ms:1000}")
+    public void poll() {
+        super.poll();
+    }
+
+    @Override
+    protected PriceTierTable load() {
+        List<PriceTier> tiers = masterPriceRepository.findByIsActiveTrueOrderByKvaMinAsc().stream()
+                .map(PriceTier::from)
+                .toList();
+        return PriceTierTable.of(tiers);
+    }
+}
@@ -0,0 +1,106 @@
+package com.bluelight.backend.domain.price;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 활성 단가 티어의 kVA 구간 색인 (불변)
+ *
+ * - kVA 축을 서로 겹치지 않는 구간으로 나눠 구간 시작값(starts)과 해당 티어 번호(tierIndex)를 보관
+ * - 조회: starts 이진 탐색 1회 → 객체 생성 없음
+ * - 겹치는 티어가 있으면 kvaMin이 가장 작은 티어 우선 (기존 kva_min 오름차순 LIMIT 1 조회와 동일)
+ * - 어느 티어에도 속하지 않는 구간은 tierIndex = -1
+ */
+public final class PriceTierTable {
+
+    public static final PriceTierTable EMPTY = new PriceTierTable(List.of(), new int[0], new int[0]);
+
+    private static final int NO_TIER = -1;
+
+    /** kvaMin 오름차순 */
+    private final List<PriceTier> tiers;
+    /** 구간 시작 kVA (오름차순, 다음 시작 직전까지가 한 구간) */
+    private final int[] starts;
+    private final int[] tierIndex;
+
+    private PriceTierTable(List<PriceTier> tiers, int[] starts, int[] tierIndex) {
+        this.tiers = tiers;
+        this.starts = starts;
+        this.tierIndex = tierIndex;
+    }
+
+    /**
+     * @param activeTiers 활성 티어 (순서 무관)
+     */
+    public static PriceTierTable of(List<PriceTier> activeTiers) {
+        List<PriceTier> sorted = activeTiers.stream()
+                .sorted(Comparator.comparingInt(PriceTier::kvaMin))
+                .toList();
+
+        TreeSet<Integer> boundaries = new TreeSet<>();
+        for (PriceTier tier : sorted) {
+            if (tier.kvaMin() > tier.kvaMax()) {
+                continue;
+            }
+            boundaries.add(tier.kvaMin());
+            if (tier.kvaMax() < Integer.MAX_VALUE) {
+                boundaries.add(tier.kvaMax() + 1);
+            }
+        }
+
+        // 경계 사이에서는 포함 티어가 바뀌지 않으므로 구간 시작값으로 판정, 같은 티어가 이어지는 구간은 병합
+        List<int[]> segments = new ArrayList<>();
+        int previous = NO_TIER;
+        for (int start : boundaries) {
+            int owner = owner(sorted, start);
+            if (segments.isEmpty() || owner != previous) {
+                segments.add(new int[]{start, owner});
+                previous = owner;
+            }
+        }
+
+        int[] starts = new int[segments.size()];
+        int[] tierIndex = new int[segments.size()];
+        for (int i = 0; i < segments.size(); i++) {
+            starts[i] = segments.get(i)[0];
+            tierIndex[i] = segments.get(i)[1];
+        }
+        return new PriceTierTable(sorted, starts, tierIndex);
+    }
+
+    /**
+     * kVA가 속한 티어 (없으면 null)
+     */
+    public PriceTier find(int kva) {
+        int i = Arrays.binarySearch(starts, kva);
+        if (i < 0) {
+            // 삽입 위치 직전 구간
+            i = -i - 2;
+            if (i < 0) {
+                return null;
+            }
+        }
+        int index = tierIndex[i];
+        return index == NO_TIER ? null : tiers.get(index);
+    }
+
+    /**
+     * 활성 티어 목록 (kvaMin 오름차순)
+     */
+    public List<PriceTier> tiers() {
+        return tiers;
+    }
+
+    private static int owner(List<PriceTier> sorted, int kva) {
+        for (int i = 0; i < sorted.size(); i++) {
+            PriceTier tier = sorted.get(i);
+            if (tier.kvaMin() <= kva && kva <= tier.kvaMax()) {
+                return i;
+            }
+        }
+        return NO_TIER;
+    }
+}
@@ -0,0 +1,47 @@
+package com.bluelight.backend.domain.ratelimit;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rate Limit 윈도우별 집계 엔티티 (클러스터 동기화용)
+ * - InMemoryRateLimiterEngine의 로컬 카운트를 서버 간 주기적으로 합산
+ * - (limiter_type, identifier, window_start) 당 1행 — 요청마다 INSERT하지 않음
+ * - 쓰기는 RateLimitCounterRepository.addCount (native upsert)로만 수행
+ */
+@Entity
+@Table(name = "rate_limit_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RateLimitCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "counter_seq")
+    private Long counterSeq;
+
+    @Column(name = "limiter_type", nullable = false, length = 20)
+    private String limiterType;
+
+    @Column(name = "identifier", nullable = false, length = 100)
+    private String identifier;
+
+    /**
+     * 윈도우 시작 시각 (epoch millis, windowMillis 단위로 정렬)
+     */
+    @Column(name = "window_start", nullable = false)
+    private long windowStart;
+
+    @Column(name = "window_millis", nullable = false)
+    private long windowMillis;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,57 @@
+package com.bluelight.backend.domain.ratelimit;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RateLimitCounterRepository extends JpaRepository<RateLimitCounter, Long> {
+
+    /**
+     * 윈도우 집계에 로컬 증가분 합산 (없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO rate_limit_counters " +
+                   "(limiter_type, identifier, window_start, window_millis, attempt_count, updated_at) " +
+                   "VALUES (:type, :identifier, :windowStart, :windowMillis, :delta, NOW(6)) " +
+                   "ON DUPLICATE KEY UPDATE attempt_count = attempt_count + :delta, updated_at = NOW(6)",
+           nativeQuery = true)
+    int addCount(@Param("type") String limiterType,
+                 @Param("identifier") String identifier,
+                 @Param("windowStart") long windowStart,
+                 @Param("windowMillis") long windowMillis,
+                 @Param("delta") int delta);
+
+    /**
+     * 지정 시각 이후 변경된 집계 조회 (증분 동기화)
+     */
+    @Query("SELECT c FROM RateLimitCounter c WHERE c.updatedAt >= :since")
+    List<RateLimitCounter> findUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * DB 현재 시각 (updated_at과 같은 기준 — 최초 증분 조회 기준점)
+     */
+    @Query(value = "SELECT NOW(6)", nativeQuery = true)
+    LocalDateTime currentTime();
+
+    /**
+     * 특정 대상의 집계 삭제 (로그인 성공 시 초기화)
+     */
+    @Modifying
+    @Query("DELETE FROM RateLimitCounter c WHERE c.limiterType = :type AND c.identifier = :identifier")
+    void deleteByLimiterTypeAndIdentifier(@Param("type") String limiterType,
+                                          @Param("identifier") String identifier);
+
+    /**
+     * 만료된 집계 정리 (배치)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM rate_limit_counters WHERE updated_at < :cutoff LIMIT :batchSize",
+           nativeQuery = true)
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,48 @@
+package com.bluelight.backend.domain.setting;
+
+import com.bluelight.backend.common.cache.VersionedSnapshotCache;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * system_settings 상주 캐시 (settings_version 기반 무효화, VersionedSnapshotCache)
+ *
+ * 캐시로 조회하는 설정을 변경하는 코드는 반드시 markChanged()를 호출할 것
+ */
+@Component
+public class SettingsCache extends VersionedSnapshotCache<Map<String, String>> {
+
+    private final SystemSettingRepository systemSettingRepository;
+
+    public SettingsCache(SystemSettingRepository systemSettingRepository, JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate, "settings_version", "System settings");
+        this.systemSettingRepository = systemSettingRepository;
+    }
+
+    /**
+     * 설정 값 조회 (없으면 empty, 빈 문자열은 그대로 반환)
+     */
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(current().get(key));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${settings.cache.poll-interval-ms:1000}")
+    public void poll() {
+        super.poll();
+    }
+
+    @Override
+    protected Map<String, String> load() {
+        Map<String, String> values = new HashMap<>();
+        for (SystemSetting setting : systemSettingRepository.findAll()) {
+            values.put(setting.getSettingKey(), setting.getSettingValue());
+        }
+        return Map.copyOf(values);
+    }
+}
@@ -19,6 +19,7 @@ import java.math.BigDecimal;
  */
 @Entity
 @Table(name = "sld_orders")
+@EntityListeners(SldOrderStatusListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE sld_orders SET deleted_at = NOW() WHERE sld_order_seq = ?")
@@ -117,6 +118,14 @@ public class SldOrder extends BaseEntity {
     @Column(name = "revision_comment", columnDefinition = "TEXT")
     private String revisionComment;
 
+    /**
+     * 마지막으로 집계에 반영된 상태 (비영속, SldOrderStatusListener 전용)
+     * - null: 아직 집계되지 않음 (신규) 또는 삭제됨
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private SldOrderStatus syncedStatus;
+
     @Builder
     public SldOrder(User user, String address, String postalCode,
                     String buildingType, Integer selectedKva, String applicantNote) {
@@ -251,4 +260,24 @@ public class SldOrder extends BaseEntity {
             this.status = SldOrderStatus.IN_PROGRESS;
         }
     }
+
+    /**
+     * 현재 상태를 집계 기준으로 기록 (로드 직후)
+     */
+    void markStatusSynced() {
+        this.syncedStatus = isDeleted() ? null : this.status;
+    }
+
+    /**
+     * 집계 기준 대비 변경분을 이벤트로 반환하고 기준 갱신 — 변경 없으면 null
+     */
+    SldOrderStatusChangedEvent drainStatusChange(boolean removed) {
+        SldOrderStatus current = (removed || isDeleted()) ? null : this.status;
+        if (current == syncedStatus) {
+            return null;
+        }
+        SldOrderStatusChangedEvent event = new SldOrderStatusChangedEvent(sldOrderSeq, syncedStatus, current);
+        this.syncedStatus = current;
+        return event;
+    }
 }
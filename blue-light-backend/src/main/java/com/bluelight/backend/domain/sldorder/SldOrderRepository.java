@@ -3,6 +3,7 @@ package com.bluelight.backend.domain.sldorder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -32,7 +33,8 @@ public interface SldOrderRepository extends JpaRepository<SldOrder, Long> {
     Page<SldOrder> findByAssignedManagerUserSeqOrderByCreatedAtDesc(Long managerSeq, Pageable pageable);
 
     /**
-     * 상태별 건수 (대시보드 통계)
+     * 상태별 건수 (대시보드 통계, GROUP BY 1회)
      */
-    long countByStatus(SldOrderStatus status);
+    @Query("SELECT o.status AS status, COUNT(o) AS count FROM SldOrder o GROUP BY o.status")
+    List<SldOrderStatusCount> countGroupByStatus();
 }
@@ -0,0 +1,12 @@
+package com.bluelight.backend.domain.sldorder;
+
+/**
+ * SLD 주문 상태 변경 이벤트 (커밋 후 대시보드 집계 반영용)
+ * - fromStatus == null: 신규 생성
+ * - toStatus == null: 삭제 (Soft Delete 포함)
+ */
+public record SldOrderStatusChangedEvent(
+        Long sldOrderSeq,
+        SldOrderStatus fromStatus,
+        SldOrderStatus toStatus) {
+}
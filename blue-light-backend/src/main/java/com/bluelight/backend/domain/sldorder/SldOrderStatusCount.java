@@ -0,0 +1,11 @@
+package com.bluelight.backend.domain.sldorder;
+
+/**
+ * 상태별 SLD 주문 건수 (GROUP BY 프로젝션)
+ */
+public interface SldOrderStatusCount {
+
+    SldOrderStatus getStatus();
+
+    long getCount();
+}
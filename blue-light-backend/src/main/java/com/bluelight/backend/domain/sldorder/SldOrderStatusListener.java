@@ -0,0 +1,43 @@
+package com.bluelight.backend.domain.sldorder;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * SldOrder 상태 변경 감지 EntityListener
+ * - 로드 시점 상태를 기준으로 flush 때 변경분을 이벤트로 발행
+ * - Hibernate SpringBeanContainer가 생성 (생성자 주입)
+ */
+public class SldOrderStatusListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SldOrderStatusListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostLoad
+    void onLoad(SldOrder order) {
+        order.markStatusSynced();
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onWrite(SldOrder order) {
+        publish(order.drainStatusChange(false));
+    }
+
+    @PostRemove
+    void onRemove(SldOrder order) {
+        publish(order.drainStatusChange(true));
+    }
+
+    private void publish(SldOrderStatusChangedEvent event) {
+        if (event != null) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+}
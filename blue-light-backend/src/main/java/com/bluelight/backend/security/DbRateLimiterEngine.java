@@ -0,0 +1,62 @@
+package com.bluelight.backend.security;
+
+import com.bluelight.backend.domain.ratelimit.RateLimitAttempt;
+import com.bluelight.backend.domain.ratelimit.RateLimitAttemptRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * DB 기반 Rate Limit 엔진 (rate-limit.engine=db)
+ * - 요청마다 rate_limit_attempts에 COUNT + INSERT
+ * - 모든 서버가 같은 테이블을 보므로 다중 서버에서 즉시 일관된 제한
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.engine", havingValue = "db")
+@RequiredArgsConstructor
+public class DbRateLimiterEngine implements RateLimiterEngine {
+
+    private final RateLimitAttemptRepository rateLimitAttemptRepository;
+
+    @Override
+    @Transactional
+    public boolean tryAcquire(String limiterType, String identifier, int maxAttempts, Duration window) {
+        if (countRecent(limiterType, identifier, window) >= maxAttempts) {
+            return false;
+        }
+        record(limiterType, identifier, window);
+        return true;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isBlocked(String limiterType, String identifier, int maxAttempts, Duration window) {
+        return countRecent(limiterType, identifier, window) >= maxAttempts;
+    }
+
+    @Override
+    @Transactional
+    public void record(String limiterType, String identifier, Duration window) {
+        rateLimitAttemptRepository.save(
+                RateLimitAttempt.builder()
+                        .limiterType(limiterType)
+                        .identifier(identifier)
+                        .build()
+        );
+    }
+
+    @Override
+    @Transactional
+    public void reset(String limiterType, String identifier) {
+        rateLimitAttemptRepository.deleteByLimiterTypeAndIdentifier(limiterType, identifier);
+    }
+
+    private long countRecent(String limiterType, String identifier, Duration window) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(window);
+        return rateLimitAttemptRepository.countRecentAttempts(limiterType, identifier, cutoff);
+    }
+}
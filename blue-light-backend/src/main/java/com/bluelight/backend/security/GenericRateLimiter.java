@@ -1,27 +1,24 @@
 package com.bluelight.backend.security;
 
 import com.bluelight.backend.common.exception.BusinessException;
-import com.bluelight.backend.domain.ratelimit.RateLimitAttempt;
-import com.bluelight.backend.domain.ratelimit.RateLimitAttemptRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 
 /**
- * 범용 Rate Limiter (DB 기반)
+ * 범용 Rate Limiter
  * - 다양한 엔드포인트에 재사용 가능
- * - LoginRateLimiter와 동일한 RateLimitAttempt 엔티티 사용
+ * - 카운팅은 RateLimiterEngine에 위임 (memory 기본, db 선택)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class GenericRateLimiter {
 
-    private final RateLimitAttemptRepository rateLimitAttemptRepository;
+    private final RateLimiterEngine rateLimiterEngine;
 
     /**
      * Rate limit 검사 및 기록 (하나의 호출로 검사 + 기록)
@@ -32,34 +29,20 @@ public class GenericRateLimiter {
      * @param maxAttempts   윈도우 내 최대 허용 횟수
      * @param windowMinutes 시간 윈도우 (분)
      */
-    @Transactional
     public void checkAndRecord(String type, String identifier, int maxAttempts, long windowMinutes) {
-        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(windowMinutes);
-        long recentCount = rateLimitAttemptRepository.countRecentAttempts(type, identifier, cutoff);
-
-        if (recentCount >= maxAttempts) {
-            log.warn("Rate limit exceeded: type={}, identifier={}, count={}/{}", type, identifier, recentCount, maxAttempts);
+        if (!rateLimiterEngine.tryAcquire(type, identifier, maxAttempts, Duration.ofMinutes(windowMinutes))) {
+            log.warn("Rate limit exceeded: type={}, identifier={}, max={}", type, identifier, maxAttempts);
             throw new BusinessException(
                     "Too many requests. Please try again later.",
                     HttpStatus.TOO_MANY_REQUESTS,
                     "RATE_LIMIT_EXCEEDED");
         }
-
-        rateLimitAttemptRepository.save(
-                RateLimitAttempt.builder()
-                        .limiterType(type)
-                        .identifier(identifier)
-                        .build()
-        );
     }
 
     /**
      * Rate limit 검사만 (기록하지 않음)
      */
-    @Transactional(readOnly = true)
     public boolean isBlocked(String type, String identifier, int maxAttempts, long windowMinutes) {
-        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(windowMinutes);
-        long recentCount = rateLimitAttemptRepository.countRecentAttempts(type, identifier, cutoff);
-        return recentCount >= maxAttempts;
+        return rateLimiterEngine.isBlocked(type, identifier, maxAttempts, Duration.ofMinutes(windowMinutes));
     }
 }
@@ -0,0 +1,417 @@
+package com.bluelight.backend.security;
+
+import com.bluelight.backend.domain.ratelimit.RateLimitCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 로컬 메모리 Rate Limit 엔진 (rate-limit.engine=memory, 기본값)
+ *
+ * 슬라이딩 윈도우 카운터 (이전 윈도우 가중치 + 현재 윈도우):
+ *   estimate = previous × (1 - 현재 윈도우 경과 비율) + current
+ * - 키(limiterType:identifier)별 카운터는 ConcurrentHashMap 버킷 단위로 분산
+ * - 카운터 상태는 불변 객체 + CAS 갱신 → 락 없이 검사/기록을 원자적으로 수행
+ * - 윈도우 시작 시각은 epoch 기준으로 정렬 → 모든 서버에서 동일한 윈도우 경계
+ *
+ * 메모리 상한 (rate-limit.max-entries):
+ * - 2개 윈도우 동안 접근 없는 카운터는 1분마다 축출
+ * - 상한 도달 시 유휴/만료(추정치 0, 미동기화분 없음) 카운터만 즉시 정리
+ * - 그래도 가득 차 있으면 새 키는 추적하지 않고 차단 (fail closed)
+ *   → 새 식별자를 대량으로 만들어 이미 차단된 키의 카운터를 밀어내는 공격 방지
+ *
+ * 클러스터 동기화 (rate-limit.cluster-sync.enabled=true):
+ * - 로컬 증가분(pending)을 RateLimitClusterSyncService가 주기적으로 DB에 합산
+ * - 다른 서버의 집계값(remote)을 받아 estimate에 반영 → 요청 경로에서는 DB 접근 없음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rate-limit.engine", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimiterEngine implements RateLimiterEngine {
+
+    private final ConcurrentHashMap<String, SlidingWindowCounter> counters = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final AtomicLong lastCapacityWarning = new AtomicLong();
+    private final Queue<String[]> pendingResets = new ConcurrentLinkedQueue<>();
+
+    private final int maxEntries;
+    private final boolean clusterSync;
+    private final LongSupplier clock;
+
+    @Autowired
+    public InMemoryRateLimiterEngine(
+            @Value("${rate-limit.max-entries:100000}") int maxEntries,
+            @Value("${rate-limit.cluster-sync.enabled:false}") boolean clusterSync) {
+        this(maxEntries, clusterSync, System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock 현재 시각(epoch millis) — 테스트에서 윈도우 경계 재현용
+     */
+    InMemoryRateLimiterEngine(int maxEntries, boolean clusterSync, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.clusterSync = clusterSync;
+        this.clock = clock;
+        log.info("Rate limiter engine: in-memory (maxEntries={}, clusterSync={})", maxEntries, clusterSync);
+    }
+
+    @Override
+    public boolean tryAcquire(String limiterType, String identifier, int maxAttempts, Duration window) {
+        SlidingWindowCounter counter = counterFor(limiterType, identifier, window.toMillis());
+        // 상한 도달로 추적할 수 없는 새 키는 차단
+        return counter != null && counter.tryAcquire(maxAttempts, clock.getAsLong());
+    }
+
+    @Override
+    public boolean isBlocked(String limiterType, String identifier, int maxAttempts, Duration window) {
+        SlidingWindowCounter counter = counters.get(key(limiterType, identifier));
+        if (counter == null) {
+            // 상한 도달 중에는 새 키를 기록할 수 없으므로 차단 (fail closed)
+            return counters.size() >= maxEntries;
+        }
+        return counter.estimate(clock.getAsLong()) >= maxAttempts;
+    }
+
+    @Override
+    public void record(String limiterType, String identifier, Duration window) {
+        SlidingWindowCounter counter = counterFor(limiterType, identifier, window.toMillis());
+        if (counter != null) {
+            counter.record(clock.getAsLong());
+        }
+    }
+
+    @Override
+    public void reset(String limiterType, String identifier) {
+        counters.remove(key(limiterType, identifier));
+        if (clusterSync) {
+            pendingResets.add(new String[]{limiterType, identifier});
+        }
+    }
+
+    /**
+     * 1분마다 만료 카운터 축출
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long now = clock.getAsLong();
+        int before = counters.size();
+        counters.values().removeIf(c -> c.isIdle(now));
+        int evicted = before - counters.size();
+        if (evicted > 0) {
+            log.debug("Rate limit counters evicted: {} (remaining={})", evicted, counters.size());
+        }
+    }
+
+    /**
+     * 현재 추적 중인 카운터 수
+     */
+    public int size() {
+        return counters.size();
+    }
+
+    // ── 클러스터 동기화 지원 (RateLimitClusterSyncService 전용) ──
+
+    /**
+     * 아직 DB에 반영되지 않은 로컬 증가분을 꺼내고 0으로 초기화
+     */
+    public List<PendingDelta> drainPendingDeltas() {
+        List<PendingDelta> deltas = new ArrayList<>();
+        for (SlidingWindowCounter counter : counters.values()) {
+            counter.drainPending(deltas);
+        }
+        return deltas;
+    }
+
+    /**
+     * DB 반영에 실패한 증가분을 되돌림 (다음 동기화에서 다시 합산)
+     * - 그 사이 윈도우가 2개 이상 지났거나 카운터가 축출된 몫은 더 이상 의미가 없으므로 버림
+     */
+    public void restorePendingDeltas(List<PendingDelta> deltas) {
+        long now = clock.getAsLong();
+        for (PendingDelta delta : deltas) {
+            SlidingWindowCounter counter = counters.get(key(delta.limiterType(), delta.identifier()));
+            if (counter != null) {
+                counter.restorePending(delta.windowStart(), delta.delta(), now);
+            }
+        }
+    }
+
+    /**
+     * DB 반영에 실패한 초기화 대상을 되돌림
+     */
+    public void restoreResets(List<String[]> resets) {
+        pendingResets.addAll(resets);
+    }
+
+    /**
+     * 로컬에서 초기화된 대상 목록을 꺼냄 (DB 집계값도 삭제해야 함)
+     */
+    public List<String[]> drainResets() {
+        List<String[]> resets = new ArrayList<>();
+        String[] reset;
+        while ((reset = pendingResets.poll()) != null) {
+            resets.add(reset);
+        }
+        return resets;
+    }
+
+    /**
+     * DB 집계값 반영 — 로컬에서 이미 동기화한 몫을 빼고 나머지를 다른 서버 몫(remote)으로 저장
+     * - 로컬에 없는 키는 새로 생성 (다른 서버에서 차단된 IP를 이 서버도 차단)
+     */
+    public void applyClusterCounts(List<RateLimitCounter> rows) {
+        long now = clock.getAsLong();
+        for (RateLimitCounter row : rows) {
+            SlidingWindowCounter counter = counterFor(
+                    row.getLimiterType(), row.getIdentifier(), row.getWindowMillis());
+            if (counter != null) {
+                counter.applyClusterCount(row.getWindowStart(), row.getAttemptCount(), now);
+            }
+        }
+    }
+
+    /**
+     * 키의 카운터 (없으면 생성)
+     *
+     * @return 상한에 도달해 새 키를 추적할 수 없으면 null
+     */
+    private SlidingWindowCounter counterFor(String limiterType, String identifier, long windowMillis) {
+        String key = key(limiterType, identifier);
+        SlidingWindowCounter counter = counters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        if (counters.size() >= maxEntries) {
+            evictOverflow();
+            if (counters.size() >= maxEntries) {
+                warnCapacity();
+                return null;
+            }
+        }
+        return counters.computeIfAbsent(key,
+                k -> new SlidingWindowCounter(limiterType, identifier, windowMillis, clock.getAsLong()));
+    }
+
+    /**
+     * 상한 도달 시 유휴/만료 카운터 정리 — 동시에 한 스레드만 수행, 활성 카운터는 유지
+     */
+    private void evictOverflow() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = clock.getAsLong();
+            int before = counters.size();
+            counters.values().removeIf(c -> c.isIdle(now) || c.isExpired(now));
+            log.debug("Rate limit counters evicted at capacity: {} (remaining={})",
+                    before - counters.size(), counters.size());
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * 상한 도달 경고 (1분에 1회)
+     */
+    private void warnCapacity() {
+        long now = clock.getAsLong();
+        long last = lastCapacityWarning.get();
+        if (now - last > 60_000 && lastCapacityWarning.compareAndSet(last, now)) {
+            log.warn("Rate limit counter capacity reached ({} active counters), rejecting new keys", maxEntries);
+        }
+    }
+
+    private static String key(String limiterType, String identifier) {
+        return limiterType + ':' + identifier;
+    }
+
+    /**
+     * DB에 합산할 로컬 증가분
+     */
+    public record PendingDelta(String limiterType, String identifier,
+                               long windowStart, long windowMillis, int delta) {
+    }
+
+    /**
+     * 키 하나의 슬라이딩 윈도우 카운터
+     */
+    static final class SlidingWindowCounter {
+
+        private final String limiterType;
+        private final String identifier;
+        private final long windowMillis;
+        private final AtomicReference<Window> state;
+        private volatile Remote remote = Remote.EMPTY;
+        private volatile long lastAccess;
+
+        SlidingWindowCounter(String limiterType, String identifier, long windowMillis, long now) {
+            this.limiterType = limiterType;
+            this.identifier = identifier;
+            this.windowMillis = Math.max(1, windowMillis);
+            this.state = new AtomicReference<>(new Window(alignedStart(now), 0, 0, 0, 0));
+            this.lastAccess = now;
+        }
+
+        boolean tryAcquire(int maxAttempts, long now) {
+            lastAccess = now;
+            while (true) {
+                Window current = state.get();
+                Window rolled = current.roll(now, windowMillis);
+                if (estimate(rolled, now) >= maxAttempts) {
+                    if (rolled != current) {
+                        state.compareAndSet(current, rolled);
+                    }
+                    return false;
+                }
+                if (state.compareAndSet(current, rolled.increment())) {
+                    return true;
+                }
+            }
+        }
+
+        void record(long now) {
+            lastAccess = now;
+            while (true) {
+                Window current = state.get();
+                if (state.compareAndSet(current, current.roll(now, windowMillis).increment())) {
+                    return;
+                }
+            }
+        }
+
+        double estimate(long now) {
+            return estimate(state.get().roll(now, windowMillis), now);
+        }
+
+        private double estimate(Window window, long now) {
+            Remote r = remote;
+            long previous = window.previous;
+            long current = window.current;
+            if (r.windowStart == window.start) {
+                previous += r.previous;
+                current += r.current;
+            } else if (r.windowStart == window.start - windowMillis) {
+                previous += r.current;
+            }
+            double elapsed = (double) (now - window.start) / windowMillis;
+            return previous * Math.max(0.0, 1.0 - elapsed) + current;
+        }
+
+        boolean isIdle(long now) {
+            return now - lastAccess > windowMillis * 2;
+        }
+
+        /**
+         * 추정치 0 + DB 미반영분 없음 → 삭제해도 판정에 영향 없음
+         */
+        boolean isExpired(long now) {
+            Window window = state.get();
+            return window.pendingPrevious == 0 && window.pendingCurrent == 0 && estimate(now) <= 0.0;
+        }
+
+        void restorePending(long windowStart, int delta, long now) {
+            while (true) {
+                Window before = state.get();
+                Window current = before.roll(now, windowMillis);
+                Window restored;
+                if (windowStart == current.start) {
+                    restored = new Window(current.start, current.previous, current.current,
+                            current.pendingPrevious, Math.min(current.current, current.pendingCurrent + delta));
+                } else if (windowStart == current.start - windowMillis) {
+                    restored = new Window(current.start, current.previous, current.current,
+                            Math.min(current.previous, current.pendingPrevious + delta), current.pendingCurrent);
+                } else {
+                    return;
+                }
+                if (state.compareAndSet(before, restored)) {
+                    return;
+                }
+            }
+        }
+
+        void drainPending(List<PendingDelta> out) {
+            while (true) {
+                Window current = state.get();
+                if (current.pendingCurrent == 0 && current.pendingPrevious == 0) {
+                    return;
+                }
+                Window drained = new Window(current.start, current.previous, current.current, 0, 0);
+                if (state.compareAndSet(current, drained)) {
+                    if (current.pendingPrevious > 0) {
+                        out.add(new PendingDelta(limiterType, identifier,
+                                current.start - windowMillis, windowMillis, current.pendingPrevious));
+                    }
+                    if (current.pendingCurrent > 0) {
+                        out.add(new PendingDelta(limiterType, identifier,
+                                current.start, windowMillis, current.pendingCurrent));
+                    }
+                    return;
+                }
+            }
+        }
+
+        void applyClusterCount(long windowStart, int clusterCount, long now) {
+            Window window = state.get().roll(now, windowMillis);
+            Remote r = remote;
+            if (windowStart == window.start) {
+                int mine = window.current - window.pendingCurrent;
+                int previous = (r.windowStart == window.start) ? r.previous
+                        : (r.windowStart == window.start - windowMillis) ? r.current : 0;
+                remote = new Remote(window.start, previous, Math.max(0, clusterCount - mine));
+            } else if (windowStart == window.start - windowMillis) {
+                int mine = window.previous - window.pendingPrevious;
+                int current = (r.windowStart == window.start) ? r.current : 0;
+                remote = new Remote(window.start, Math.max(0, clusterCount - mine), current);
+            }
+        }
+
+        private long alignedStart(long now) {
+            return now - Math.floorMod(now, windowMillis);
+        }
+    }
+
+    /**
+     * 로컬 윈도우 상태 (불변)
+     * - previous/current: 이 서버에서 기록한 횟수
+     * - pendingPrevious/pendingCurrent: 그중 아직 DB에 합산하지 않은 횟수
+     */
+    private record Window(long start, int previous, int current, int pendingPrevious, int pendingCurrent) {
+
+        Window roll(long now, long windowMillis) {
+            if (now < start + windowMillis) {
+                return this;
+            }
+            long elapsedWindows = (now - start) / windowMillis;
+            long newStart = start + elapsedWindows * windowMillis;
+            if (elapsedWindows == 1) {
+                return new Window(newStart, current, 0, pendingCurrent, 0);
+            }
+            return new Window(newStart, 0, 0, 0, 0);
+        }
+
+        Window increment() {
+            return new Window(start, previous, current + 1, pendingPrevious, pendingCurrent + 1);
+        }
+    }
+
+    /**
+     * 다른 서버에서 기록한 횟수 (클러스터 동기화 시에만 사용)
+     */
+    private record Remote(long windowStart, int previous, int current) {
+        static final Remote EMPTY = new Remote(Long.MIN_VALUE, 0, 0);
+    }
+}
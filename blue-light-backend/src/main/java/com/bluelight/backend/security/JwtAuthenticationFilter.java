@@ -19,7 +19,7 @@ import java.util.List;
 
 /**
  * JWT 인증 필터
- * - 요청 헤더에서 JWT 토큰을 추출하여 검증
+ * - 요청 헤더에서 JWT 토큰을 추출하여 검증 (JwtTokenProvider.verify — 1회 파싱, 반복 토큰은 캐시)
  * - 유효한 토큰인 경우 SecurityContext에 인증 정보 설정
  */
 @Slf4j
@@ -39,34 +39,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            Long userSeq = jwtTokenProvider.getUserSeq(token);
-            String role = jwtTokenProvider.getRole(token);
-            Boolean approved = jwtTokenProvider.getApproved(token);
-
-            // 미승인 LEW는 ROLE_LEW_PENDING 권한 부여 → /api/admin/** 접근 차단
-            String authority;
-            if ("LEW".equals(role) && (approved == null || !approved)) {
-                authority = "ROLE_LEW_PENDING";
-            } else {
-                authority = "ROLE_" + role;
-            }
+        if (StringUtils.hasText(token)) {
+            jwtTokenProvider.verify(token).ifPresent(this::authenticate);
+        }
+
+        filterChain.doFilter(request, response);
+    }
 
-            // 권한 설정
-            List<SimpleGrantedAuthority> authorities = List.of(
-                    new SimpleGrantedAuthority(authority)
-            );
+    private void authenticate(VerifiedToken token) {
+        Long userSeq = token.userSeq();
+        String role = token.role();
+        Boolean approved = token.approved();
+
+        // 미승인 LEW는 ROLE_LEW_PENDING 권한 부여 → /api/admin/** 접근 차단
+        String authority;
+        if ("LEW".equals(role) && (approved == null || !approved)) {
+            authority = "ROLE_LEW_PENDING";
+        } else {
+            authority = "ROLE_" + role;
+        }
 
-            // 인증 객체 생성 및 SecurityContext에 설정
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userSeq, null, authorities);
+        // 권한 설정
+        List<SimpleGrantedAuthority> authorities = List.of(
+                new SimpleGrantedAuthority(authority)
+        );
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        // 인증 객체 생성 및 SecurityContext에 설정
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userSeq, null, authorities);
 
-            log.debug("Security Context에 인증 정보 설정 완료: userSeq={}, role={}, authority={}", userSeq, role, authority);
-        }
+        SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        filterChain.doFilter(request, response);
+        log.debug("Security Context에 인증 정보 설정 완료: userSeq={}, role={}, authority={}", userSeq, role, authority);
     }
 
     /**
@@ -2,41 +2,68 @@ package com.bluelight.backend.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * JWT 토큰 생성 및 검증 유틸리티
+ * - 파서는 기동 시 1회 생성 (불변, 스레드 안전)
+ * - verify(): 1회 파싱으로 전체 클레임 반환 + 검증 완료 토큰 캐시 (jwt.verified-cache.max-entries, 0 = 끔)
+ *   → 같은 토큰의 반복 요청(SSE, 파일 다운로드 등)은 서명 검증 생략
+ *
+ * 메트릭: jwt.verify (result=cache_hit|verified|invalid), jwt.verified-cache.size
  */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secretKeyString;
-
-    @Value("${jwt.expiration}")
-    private Long expiration;
+    private static final String DEV_SECRET_PREFIX = "bluelight-jwt-secret-key";
 
-    private SecretKey secretKey;
+    private final Long expiration;
+    private final SecretKey secretKey;
+    private final JwtParser parser;
+    /** null이면 캐시 사용 안 함 */
+    private final VerifiedTokenCache cache;
 
-    private static final String DEV_SECRET_PREFIX = "bluelight-jwt-secret-key";
+    private final Counter cacheHitCounter;
+    private final Counter verifiedCounter;
+    private final Counter invalidCounter;
 
-    @PostConstruct
-    protected void init() {
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKeyString,
+                            @Value("${jwt.expiration}") Long expiration,
+                            @Value("${jwt.verified-cache.max-entries:10000}") int cacheMaxEntries,
+                            MeterRegistry meterRegistry) {
         if (secretKeyString.startsWith(DEV_SECRET_PREFIX)) {
             log.warn("========================================");
             log.warn("WARNING: Using default JWT secret key!");
             log.warn("Set JWT_SECRET environment variable for production.");
             log.warn("========================================");
         }
+        this.expiration = expiration;
         this.secretKey = Keys.hmacShaKeyFor(secretKeyString.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.cache = cacheMaxEntries > 0 ? new VerifiedTokenCache(cacheMaxEntries) : null;
+
+        this.cacheHitCounter = verifyCounter(meterRegistry, "cache_hit");
+        this.verifiedCounter = verifyCounter(meterRegistry, "verified");
+        this.invalidCounter = verifyCounter(meterRegistry, "invalid");
+        if (cache != null) {
+            Gauge.builder("jwt.verified-cache.size", cache, VerifiedTokenCache::size)
+                    .description("검증 완료 토큰 캐시 항목 수")
+                    .register(meterRegistry);
+        }
     }
 
     /**
@@ -65,6 +92,42 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * 토큰 검증 + 전체 클레임 추출 (1회 파싱)
+     * - 캐시에 있고 만료 전이면 서명 검증 없이 반환
+     *
+     * @return 유효하지 않거나 만료된 토큰이면 empty
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        String key = null;
+        if (cache != null) {
+            key = VerifiedTokenCache.digest(token);
+            VerifiedToken cached = cache.get(key, Instant.now());
+            if (cached != null) {
+                cacheHitCounter.increment();
+                return Optional.of(cached);
+            }
+        }
+
+        Claims claims = parseOrNull(token);
+        if (claims == null) {
+            invalidCounter.increment();
+            return Optional.empty();
+        }
+        VerifiedToken verified = new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                claims.get("approved", Boolean.class),
+                claims.get("emailVerified", Boolean.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+        verifiedCounter.increment();
+        if (cache != null && verified.expiresAt() != null) {
+            cache.put(key, verified);
+        }
+        return Optional.of(verified);
+    }
+
     /**
      * 토큰에서 사용자 ID 추출
      */
@@ -109,22 +172,7 @@ public class JwtTokenProvider {
      * 토큰 유효성 검증
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            log.debug("Invalid JWT signature: {}", e.getMessage());
-        } catch (ExpiredJwtException e) {
-            log.debug("Expired JWT token: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            log.debug("Unsupported JWT token: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.debug("JWT claims string is empty: {}", e.getMessage());
-        }
-        return false;
+        return parseOrNull(token) != null;
     }
 
     /**
@@ -138,10 +186,31 @@ public class JwtTokenProvider {
      * Claims 파싱
      */
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Claims 파싱 — 유효하지 않으면 null
+     */
+    private Claims parseOrNull(String token) {
+        try {
+            return parseClaims(token);
+        } catch (SecurityException | MalformedJwtException e) {
+            log.debug("Invalid JWT signature: {}", e.getMessage());
+        } catch (ExpiredJwtException e) {
+            log.debug("Expired JWT token: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.debug("Unsupported JWT token: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.debug("JWT claims string is empty: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private static Counter verifyCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("jwt.verify")
+                .description("Access Token 검증 결과")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 }
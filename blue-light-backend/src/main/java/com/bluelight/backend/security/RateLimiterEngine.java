@@ -0,0 +1,35 @@
+package com.bluelight.backend.security;
+
+import java.time.Duration;
+
+/**
+ * Rate Limit 카운팅 엔진
+ * - GenericRateLimiter / LoginRateLimiter / ChatRateLimiter가 공통으로 사용
+ * - rate-limit.engine 설정으로 구현체 선택
+ *   - memory (기본값): InMemoryRateLimiterEngine — 로컬 슬라이딩 윈도우, DB 접근 없음
+ *   - db: DbRateLimiterEngine — rate_limit_attempts 테이블 (기존 방식)
+ */
+public interface RateLimiterEngine {
+
+    /**
+     * 검사 + 기록을 원자적으로 수행
+     *
+     * @return 허용되어 기록되었으면 true, 제한 초과면 false (기록하지 않음)
+     */
+    boolean tryAcquire(String limiterType, String identifier, int maxAttempts, Duration window);
+
+    /**
+     * 제한 초과 여부만 검사 (기록하지 않음)
+     */
+    boolean isBlocked(String limiterType, String identifier, int maxAttempts, Duration window);
+
+    /**
+     * 시도 1회 기록 (제한 검사 없음)
+     */
+    void record(String limiterType, String identifier, Duration window);
+
+    /**
+     * 특정 대상의 시도 기록 초기화 (예: 로그인 성공)
+     */
+    void reset(String limiterType, String identifier);
+}
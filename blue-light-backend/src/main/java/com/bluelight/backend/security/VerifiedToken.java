@@ -0,0 +1,21 @@
+package com.bluelight.backend.security;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 Access Token 클레임 (1회 파싱 결과)
+ *
+ * @param userSeq       사용자 PK (subject)
+ * @param email         사용자 이메일
+ * @param role          사용자 역할
+ * @param approved      승인 여부 (LEW만 관련, 없으면 null)
+ * @param emailVerified 이메일 인증 여부 (없으면 null)
+ * @param expiresAt     만료 시각 (exp 클레임이 없으면 null — 캐시하지 않음)
+ */
+public record VerifiedToken(Long userSeq, String email, String role,
+                            Boolean approved, Boolean emailVerified, Instant expiresAt) {
+
+    boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,90 @@
+package com.bluelight.backend.security;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 검증 완료 토큰 캐시 (JwtTokenProvider 내부용)
+ *
+ * - 키: 토큰 SHA-256 다이제스트 (원문 토큰은 보관하지 않음)
+ * - 조회 시 토큰 만료 시각이 지났으면 제거 후 미스 → 만료 판정은 서명 검증과 동일
+ * - 최대 maxEntries, 초과 시 만료 항목 정리 후에도 넘치면 90%까지 임의 제거 (InMemoryRateLimiterEngine과 동일 방식)
+ */
+@Slf4j
+class VerifiedTokenCache {
+
+    private final Map<String, VerifiedToken> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final int maxEntries;
+
+    VerifiedTokenCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * @return 유효한 캐시 항목, 없거나 만료되었으면 null
+     */
+    VerifiedToken get(String key, Instant now) {
+        VerifiedToken cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.isExpired(now)) {
+            entries.remove(key, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    void put(String key, VerifiedToken token) {
+        entries.put(key, token);
+        if (entries.size() > maxEntries) {
+            evictOverflow();
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evictOverflow() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            entries.values().removeIf(token -> token.isExpired(now));
+            int target = (int) (maxEntries * 0.9);
+            int dropped = 0;
+            Iterator<String> it = entries.keySet().iterator();
+            while (entries.size() > target && it.hasNext()) {
+                it.next();
+                it.remove();
+                dropped++;
+            }
+            if (dropped > 0) {
+                log.debug("Verified token cache full: dropped {} entries (max={})", dropped, maxEntries);
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
@@ -3,6 +3,9 @@
 -- MySQL 8.0 / UTF8MB4
 -- ============================================
 
+-- FULLTEXT(ngram) 인덱스는 불용어 없이 생성 (ngram 파서는 불용어를 포함한 토큰을 모두 제외 — 기본 목록의 a, i)
+SET SESSION innodb_ft_enable_stopword = OFF;
+
 -- 1. 사용자
 CREATE TABLE IF NOT EXISTS users (
     user_seq       BIGINT       NOT NULL AUTO_INCREMENT,
@@ -30,7 +33,8 @@ CREATE TABLE IF NOT EXISTS users (
     updated_by     BIGINT,
     deleted_at     DATETIME(6),
     PRIMARY KEY (user_seq),
-    UNIQUE KEY uk_users_email (email)
+    UNIQUE KEY uk_users_email (email),
+    FULLTEXT KEY ft_users_search (first_name, last_name, email) WITH PARSER ngram
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- 2. 라이선스 신청
@@ -70,6 +74,11 @@ CREATE TABLE IF NOT EXISTS applications (
     KEY idx_applications_status (status),
     KEY idx_applications_assigned_lew (assigned_lew_seq),
     KEY idx_applications_type (application_type),
+    KEY idx_applications_created (created_at),
+    KEY idx_applications_status_created (status, created_at),
+    KEY idx_applications_lew_created (assigned_lew_seq, created_at),
+    KEY idx_applications_status_expiry (status, license_expiry_date),
+    FULLTEXT KEY ft_applications_address (address) WITH PARSER ngram,
     CONSTRAINT fk_applications_user FOREIGN KEY (user_seq) REFERENCES users (user_seq),
     CONSTRAINT fk_applications_assigned_lew FOREIGN KEY (assigned_lew_seq) REFERENCES users (user_seq),
     CONSTRAINT fk_applications_original FOREIGN KEY (original_application_seq) REFERENCES applications (application_seq)
@@ -121,6 +130,7 @@ CREATE TABLE IF NOT EXISTS files (
     file_url        VARCHAR(500) NOT NULL,
     original_filename VARCHAR(255),
     file_size       BIGINT,
+    system_generated TINYINT(1)  NOT NULL DEFAULT 0,
     uploaded_at     DATETIME(6),
     updated_at      DATETIME(6),
     created_by      BIGINT,
@@ -142,6 +152,16 @@ CREATE TABLE IF NOT EXISTS system_settings (
     PRIMARY KEY (setting_key)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 6-1. 시스템 설정 버전 (단일 행, 변경 시 증가 → 서버별 SettingsCache 무효화)
+CREATE TABLE IF NOT EXISTS settings_version (
+    id          TINYINT     NOT NULL,
+    version     BIGINT      NOT NULL DEFAULT 0,
+    updated_at  DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT IGNORE INTO settings_version (id, version) VALUES (1, 0);
+
 -- 7. 비밀번호 재설정 토큰
 CREATE TABLE IF NOT EXISTS password_reset_tokens (
     token_seq      BIGINT       NOT NULL AUTO_INCREMENT,
@@ -194,6 +214,16 @@ CREATE TABLE IF NOT EXISTS master_prices (
     PRIMARY KEY (master_price_seq)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 9-1. 단가표 버전 (단일 행, 변경 시 증가 → 서버별 PriceTierCache 무효화)
+CREATE TABLE IF NOT EXISTS price_tier_version (
+    id          TINYINT     NOT NULL,
+    version     BIGINT      NOT NULL DEFAULT 0,
+    updated_at  DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT IGNORE INTO price_tier_version (id, version) VALUES (1, 0);
+
 -- 10. 챗봇 대화 기록
 CREATE TABLE IF NOT EXISTS chat_messages (
     chat_message_seq  BIGINT       NOT NULL AUTO_INCREMENT,
@@ -254,9 +284,20 @@ CREATE TABLE IF NOT EXISTS audit_logs (
     KEY idx_audit_logs_category (action_category),
     KEY idx_audit_logs_entity (entity_type, entity_id),
     KEY idx_audit_logs_created_at (created_at),
-    KEY idx_audit_logs_composite (action_category, created_at)
+    KEY idx_audit_logs_composite (action_category, created_at),
+    KEY idx_audit_logs_user_created (user_seq, created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 12-1. 감사 로그 사용자 캐시 버전 (단일 행, 역할 변경 시 증가 → 서버별 AuditUserCache 무효화)
+CREATE TABLE IF NOT EXISTS audit_user_version (
+    id          TINYINT     NOT NULL,
+    version     BIGINT      NOT NULL DEFAULT 0,
+    updated_at  DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+INSERT IGNORE INTO audit_user_version (id, version) VALUES (1, 0);
+
 -- 13. ShedLock (스케줄러 분산 잠금)
 CREATE TABLE IF NOT EXISTS shedlock (
     name       VARCHAR(64)  NOT NULL,
@@ -276,6 +317,20 @@ CREATE TABLE IF NOT EXISTS rate_limit_attempts (
     KEY idx_rate_limit_lookup (limiter_type, identifier, attempted_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 14-1. Rate Limit 윈도우 집계 (memory 엔진 클러스터 동기화, 요청당 INSERT 없음)
+CREATE TABLE IF NOT EXISTS rate_limit_counters (
+    counter_seq    BIGINT       NOT NULL AUTO_INCREMENT,
+    limiter_type   VARCHAR(20)  NOT NULL,
+    identifier     VARCHAR(100) NOT NULL,
+    window_start   BIGINT       NOT NULL,
+    window_millis  BIGINT       NOT NULL,
+    attempt_count  INT          NOT NULL DEFAULT 0,
+    updated_at     DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (counter_seq),
+    UNIQUE KEY uk_rate_limit_counter (limiter_type, identifier, window_start),
+    KEY idx_rate_limit_counter_updated (updated_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- 15. 감사 로그 아카이브 (1년 초과 로그 보관, Privacy Policy 5년 보유)
 CREATE TABLE IF NOT EXISTS audit_logs_archive (
     audit_log_seq    BIGINT       NOT NULL,
@@ -438,5 +493,34 @@ CREATE TABLE IF NOT EXISTS notifications (
     deleted_at        DATETIME(6),
     PRIMARY KEY (notification_seq),
     CONSTRAINT fk_notification_recipient FOREIGN KEY (recipient_seq) REFERENCES users (user_seq),
-    INDEX idx_notification_recipient_read (recipient_seq, is_read, deleted_at)
+    INDEX idx_notification_recipient_read (recipient_seq, is_read, deleted_at),
+    INDEX idx_notification_recipient_created (recipient_seq, created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 20. 이메일 outbox (업무 트랜잭션과 함께 커밋, EmailOutboxDispatcher가 배치 발송)
+CREATE TABLE IF NOT EXISTS email_outbox (
+    outbox_seq       BIGINT       NOT NULL AUTO_INCREMENT,
+    recipient        VARCHAR(255) NOT NULL,
+    subject          VARCHAR(300) NOT NULL,
+    html_body        MEDIUMTEXT   NOT NULL,
+    status           VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+    attempts         INT          NOT NULL DEFAULT 0,
+    next_attempt_at  DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    last_error       VARCHAR(500),
+    created_at       DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    sent_at          DATETIME(6),
+    PRIMARY KEY (outbox_seq),
+    INDEX idx_email_outbox_due (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 21. 내용 주소 저장 blob 참조 카운트 (FileBlobRegistry, 참조 0 blob은 FileBlobGarbageCollector가 정리)
+CREATE TABLE IF NOT EXISTS file_blobs (
+    blob_path    VARCHAR(200) NOT NULL,
+    sha256       CHAR(64)     NOT NULL,
+    size         BIGINT       NOT NULL,
+    ref_count    INT          NOT NULL DEFAULT 0,
+    created_at   DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    released_at  DATETIME(6),
+    PRIMARY KEY (blob_path),
+    INDEX idx_file_blobs_orphan (ref_count, released_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,174 @@
+package com.bluelight.backend.api.admin;
+
+import com.bluelight.backend.domain.application.ApplicationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 신청 키워드 검색 JMH 벤치마크 (JUnit 테스트 아님 — ./gradlew applicationSearchBenchmark, Docker 필요)
+ *
+ * - MySQL 8.0 컨테이너에 schema.sql 적용 후 신청자 20,000명 / 신청 120,000건 적재 (고정 시드)
+ * - like: 변경 전 searchByKeyword JPQL이 생성하는 SQL (LIKE '%keyword%' 4개 OR — 전체 스캔)
+ * - fullText: ApplicationRepository.searchFullText와 같은 SQL (FULLTEXT ngram + 신청 ID 정확 일치)
+ * - 둘 다 관리자 목록 1페이지(20건) 조회 + count 쿼리를 1회로 측정
+ * - 결과 건수는 의미 차이로 다를 수 있음 (ApplicationSearchService 문서 참고)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApplicationSearchBenchmark {
+
+    private static final int USERS = 20_000;
+    private static final int APPLICATIONS = 120_000;
+    private static final int BATCH = 2_000;
+    private static final int PAGE_SIZE = 20;
+
+    /** 변경 전 LIKE 검색 (Application/User의 @SQLRestriction 포함) */
+    private static final String LIKE_FROM = "FROM applications a " +
+            "JOIN users u ON u.user_seq = a.user_seq AND u.deleted_at IS NULL " +
+            "WHERE a.deleted_at IS NULL " +
+            "AND (LOWER(a.address) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(CONCAT(u.first_name, ' ', u.last_name)) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR CAST(a.application_seq AS CHAR) LIKE CONCAT('%', :keyword, '%')) ";
+
+    private static final String[] FIRST_NAMES = {"Kaki", "Mei", "Wei", "Siti", "Arjun", "Hui", "Daniel", "Priya",
+            "Jun", "Nur", "Ethan", "Li", "Ravi", "Grace", "Farid", "Yan", "Chloe", "Kumar", "Xin", "Aisha"};
+    private static final String[] LAST_NAMES = {"Tanaka", "Lim", "Tan", "Ng", "Wong", "Lee", "Goh", "Chua",
+            "Ong", "Teo", "Koh", "Sim", "Rahman", "Singh", "Nair", "Chen", "Yeo", "Ho", "Low", "Pillai"};
+    private static final String[] STREETS = {"Marina Bay", "Orchard Road", "Tampines Avenue", "Jurong West Street",
+            "Ang Mo Kio Avenue", "Bukit Timah Road", "Pasir Ris Drive", "Woodlands Ring", "Serangoon Central",
+            "Toa Payoh Lorong", "Bedok North Road", "Clementi Avenue", "Hougang Street", "Punggol Field",
+            "Sengkang East Way", "Yishun Ring Road", "Bishan Street", "Queenstown Close", "Kallang Bahru",
+            "Changi Business Park"};
+    private static final String[] BUILDINGS = {"Tower", "Plaza", "Industrial Building", "Centre", "Residences",
+            "Hub", "Point", "Court"};
+    private static final String[] STATUSES = {"PENDING_REVIEW", "PENDING_PAYMENT", "PAID", "IN_PROGRESS",
+            "COMPLETED", "EXPIRED"};
+
+    @Param({"marina", "tanaka", "bay tower", "10234"})
+    public String keyword;
+
+    private MySQLContainer mysql;
+    private NamedParameterJdbcTemplate jdbc;
+    private MapSqlParameterSource likeParams;
+    private MapSqlParameterSource fullTextParams;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mysql = new MySQLContainer("mysql:8.0");
+        mysql.start();
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                mysql.getJdbcUrl() + "?rewriteBatchedStatements=true", mysql.getUsername(), mysql.getPassword());
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        load(new JdbcTemplate(dataSource));
+        jdbc = new NamedParameterJdbcTemplate(dataSource);
+
+        likeParams = new MapSqlParameterSource("keyword", keyword);
+        fullTextParams = new MapSqlParameterSource()
+                .addValue("query", ApplicationSearchService.toBooleanQuery(keyword))
+                .addValue("applicationSeq", ApplicationSearchService.parseSeq(keyword))
+                .addValue("status", null)
+                .addValue("lewSeq", null);
+        if (count(ApplicationRepository.FULL_TEXT_SEARCH_FROM, fullTextParams) == 0) {
+            throw new IllegalStateException("FULLTEXT search found nothing for '" + keyword + "'");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (mysql != null) {
+            mysql.stop();
+        }
+    }
+
+    @Benchmark
+    public void like(Blackhole bh) {
+        search(LIKE_FROM, likeParams, bh);
+    }
+
+    @Benchmark
+    public void fullText(Blackhole bh) {
+        search(ApplicationRepository.FULL_TEXT_SEARCH_FROM, fullTextParams, bh);
+    }
+
+    /**
+     * Page 조회와 동일: 목록 1페이지 + count
+     */
+    private void search(String from, MapSqlParameterSource params, Blackhole bh) {
+        bh.consume(jdbc.queryForList("SELECT a.application_seq " + from +
+                "ORDER BY a.created_at DESC LIMIT " + PAGE_SIZE, params, Long.class));
+        bh.consume(count(from, params));
+    }
+
+    private long count(String from, MapSqlParameterSource params) {
+        Long count = jdbc.queryForObject("SELECT COUNT(*) " + from, params, Long.class);
+        return count != null ? count : 0;
+    }
+
+    private static void load(JdbcTemplate jdbc) {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        List<Object[]> users = new ArrayList<>(BATCH);
+        for (int i = 1; i <= USERS; i++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            users.add(new Object[]{i, (first + "." + last + i + "@example.com").toLowerCase(), first, last,
+                    Timestamp.valueOf(base)});
+            if (users.size() == BATCH || i == USERS) {
+                jdbc.batchUpdate("INSERT INTO users (user_seq, email, password, first_name, last_name, role, " +
+                        "created_at) VALUES (?, ?, 'x', ?, ?, 'APPLICANT', ?)", users);
+                users.clear();
+            }
+        }
+
+        List<Object[]> applications = new ArrayList<>(BATCH);
+        for (int i = 1; i <= APPLICATIONS; i++) {
+            String address = (1 + random.nextInt(999)) + " " + STREETS[random.nextInt(STREETS.length)] + " "
+                    + BUILDINGS[random.nextInt(BUILDINGS.length)] + " #" + (1 + random.nextInt(30)) + "-"
+                    + (1 + random.nextInt(200));
+            applications.add(new Object[]{i, 1 + random.nextInt(USERS), address,
+                    String.format("%06d", random.nextInt(1_000_000)), 45 + random.nextInt(2000),
+                    BigDecimal.valueOf(350 + random.nextInt(3000)), STATUSES[random.nextInt(STATUSES.length)],
+                    Timestamp.valueOf(base.plusMinutes(i * 5L))});
+            if (applications.size() == BATCH || i == APPLICATIONS) {
+                jdbc.batchUpdate("INSERT INTO applications (application_seq, user_seq, address, postal_code, " +
+                        "selected_kva, quote_amount, status, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                        applications);
+                applications.clear();
+            }
+        }
+        jdbc.execute("ANALYZE TABLE users, applications");
+    }
+}
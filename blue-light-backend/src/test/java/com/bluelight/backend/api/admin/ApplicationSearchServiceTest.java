@@ -0,0 +1,96 @@
+package com.bluelight.backend.api.admin;
+
+import com.bluelight.backend.domain.application.ApplicationRepository;
+import com.bluelight.backend.domain.application.ApplicationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 검색식 생성 / 엔진 분기 검증 (저장소는 mock — 실제 일치 결과는 ApplicationSearchRepositoryTest)
+ * - 2자 미만 단어 제외, 남는 단어가 없으면 LIKE
+ * - 키워드 전체가 숫자일 때만 신청 ID 정확 일치
+ * - 단어마다 +"단어" (모두 포함)
+ */
+class ApplicationSearchServiceTest {
+
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+
+    private ApplicationRepository repository;
+    private ApplicationSearchService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ApplicationRepository.class);
+        service = new ApplicationSearchService(repository, "fulltext");
+    }
+
+    @Test
+    void everyTermIsRequired() {
+        assertThat(ApplicationSearchService.toBooleanQuery("marina  bay"))
+                .isEqualTo("+\"marina\" +\"bay\"");
+    }
+
+    @Test
+    void termsShorterThanTokenSizeAreDropped() {
+        assertThat(ApplicationSearchService.toBooleanQuery("a marina b")).isEqualTo("+\"marina\"");
+        assertThat(ApplicationSearchService.toBooleanQuery("a b")).isNull();
+    }
+
+    @Test
+    void quotesAreStrippedAndOperatorsStayLiteral() {
+        assertThat(ApplicationSearchService.toBooleanQuery("\"tan\" -lim* @2"))
+                .isEqualTo("+\"tan\" +\"-lim*\" +\"@2\"");
+        assertThat(ApplicationSearchService.toBooleanQuery("\" \"")).isNull();
+    }
+
+    @Test
+    void termCountIsCapped() {
+        String query = ApplicationSearchService.toBooleanQuery("aa bb cc dd ee ff gg hh ii jj kk ll");
+
+        assertThat(query.split(" ")).hasSize(10);
+        assertThat(query).endsWith("+\"jj\"");
+    }
+
+    @Test
+    void onlyShortTermsFallBackToLike() {
+        service.search("a b", null, null, PAGE);
+
+        verify(repository).searchByKeyword("a b", PAGE);
+        verify(repository, never()).searchFullText(anyString(), any(), any(), any(), any());
+    }
+
+    @Test
+    void numericKeywordAlsoMatchesIdExactly() {
+        service.search("1203", ApplicationStatus.PAID, 7L, PAGE);
+
+        verify(repository).searchFullText("+\"1203\"", 1203L, "PAID", 7L, PAGE);
+    }
+
+    @Test
+    void mixedKeywordHasNoIdMatch() {
+        service.search("block 12", null, null, PAGE);
+
+        verify(repository).searchFullText(eq("+\"block\" +\"12\""), isNull(), isNull(), isNull(), any());
+    }
+
+    @Test
+    void likeEngineKeepsLegacyQueries() {
+        ApplicationSearchService like = new ApplicationSearchService(repository, "like");
+
+        like.search("marina", ApplicationStatus.PAID, 7L, PAGE);
+
+        verify(repository).searchByKeywordAndStatusAndAssignedLew("marina", ApplicationStatus.PAID, 7L, PAGE);
+        verify(repository, never()).searchFullText(anyString(), any(), any(), any(), any());
+    }
+}
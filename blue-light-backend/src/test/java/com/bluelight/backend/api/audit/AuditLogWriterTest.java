@@ -0,0 +1,218 @@
+package com.bluelight.backend.api.audit;
+
+import com.bluelight.backend.domain.audit.AuditAction;
+import com.bluelight.backend.domain.audit.AuditCategory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 감사 로그 일괄 기록기 검증 (JdbcTemplate은 mock — 배치 크기/호출 스레드만 기록)
+ * - batch-size 도달 시 즉시, 아니면 flush-interval마다 기록
+ * - 큐 초과: caller-runs는 호출 스레드에서 직접 기록, drop은 버리고 집계
+ * - 종료: 큐에 남은 로그와 종료 중 접수된 로그를 모두 기록
+ */
+class AuditLogWriterTest {
+
+    private static final long LONG_INTERVAL_MS = 60_000;
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry registry;
+    private final List<String> flushThreads = new ArrayList<>();
+    private final AtomicInteger written = new AtomicInteger();
+    private final CountDownLatch writerBlocked = new CountDownLatch(1);
+    private final CountDownLatch releaseWriter = new CountDownLatch(1);
+    private volatile boolean blockWriter;
+    private AuditLogWriter writer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        registry = new SimpleMeterRegistry();
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenAnswer(invocation -> {
+            String thread = Thread.currentThread().getName();
+            if (blockWriter && thread.equals("audit-log-writer")) {
+                writerBlocked.countDown();
+                releaseWriter.await(5, TimeUnit.SECONDS);
+            }
+            synchronized (flushThreads) {
+                flushThreads.add(thread);
+            }
+            written.addAndGet(invocation.<Collection<?>>getArgument(1).size());
+            return new int[0][];
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseWriter.countDown();
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void fullBatchIsWrittenWithoutWaitingForInterval() {
+        writer = start(100, 5, LONG_INTERVAL_MS, "caller-runs");
+
+        for (int i = 0; i < 5; i++) {
+            writer.submit(entry(i));
+        }
+
+        await(() -> written.get() == 5);
+        assertThat(flushThreads).containsExactly("audit-log-writer");
+    }
+
+    @Test
+    void partialBatchIsWrittenAfterInterval() {
+        writer = start(100, 50, 20, "caller-runs");
+
+        writer.submit(entry(1));
+        writer.submit(entry(2));
+
+        await(() -> written.get() == 2);
+        assertThat(flushThreads).allMatch("audit-log-writer"::equals);
+    }
+
+    @Test
+    void overflowRunsOnCallerThread() throws InterruptedException {
+        writer = startWithBlockedWriter("caller-runs");
+
+        writer.submit(entry(2));
+        writer.submit(entry(3));
+        writer.submit(entry(4));
+
+        // 큐(2건)가 가득 차 4번째는 호출 스레드에서 즉시 기록
+        assertThat(written.get()).isEqualTo(1);
+        assertThat(flushThreads).containsExactly(Thread.currentThread().getName());
+
+        releaseWriter.countDown();
+        writer.stop();
+        assertThat(written.get()).isEqualTo(4);
+        assertThat(registry.get("audit.writer.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    void overflowDropPolicyDiscardsAndCounts() throws InterruptedException {
+        writer = startWithBlockedWriter("drop");
+
+        writer.submit(entry(2));
+        writer.submit(entry(3));
+        writer.submit(entry(4));
+
+        assertThat(written.get()).isZero();
+        assertThat(registry.get("audit.writer.dropped").counter().count()).isEqualTo(1);
+
+        releaseWriter.countDown();
+        writer.stop();
+        assertThat(written.get()).isEqualTo(3);
+    }
+
+    @Test
+    void stopDrainsQueuedEntries() {
+        writer = start(1000, 100, LONG_INTERVAL_MS, "caller-runs");
+        for (int i = 0; i < 250; i++) {
+            writer.submit(entry(i));
+        }
+
+        writer.stop();
+
+        assertThat(written.get()).isEqualTo(250);
+        assertThat(registry.get("audit.writer.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    void entriesSubmittedWhileStoppingAreNotLost() throws Exception {
+        writer = start(100_000, 50, 5, "drop");
+        int threads = 4;
+        int perThread = 2_000;
+        CountDownLatch started = new CountDownLatch(threads);
+        List<Thread> submitters = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread submitter = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; i < perThread; i++) {
+                    writer.submit(entry(i));
+                }
+            });
+            submitter.start();
+            submitters.add(submitter);
+        }
+        started.await();
+
+        writer.stop();
+        for (Thread submitter : submitters) {
+            submitter.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        assertThat(written.get()).isEqualTo(threads * perThread);
+        assertThat(registry.get("audit.writer.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    void submitAfterStopWritesSynchronously() {
+        writer = start(100, 10, LONG_INTERVAL_MS, "caller-runs");
+        writer.stop();
+
+        writer.submit(entry(1));
+
+        assertThat(written.get()).isEqualTo(1);
+        assertThat(flushThreads).containsExactly(Thread.currentThread().getName());
+    }
+
+    /**
+     * 큐 용량 2, batch 1 — 첫 건을 꺼낸 writer 스레드가 기록 중 멈춘 상태로 반환
+     */
+    private AuditLogWriter startWithBlockedWriter(String policy) throws InterruptedException {
+        blockWriter = true;
+        AuditLogWriter started = start(2, 1, LONG_INTERVAL_MS, policy);
+        started.submit(entry(1));
+        assertThat(writerBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+        return started;
+    }
+
+    private AuditLogWriter start(int capacity, int batchSize, long flushIntervalMs, String policy) {
+        AuditLogWriter started = new AuditLogWriter(jdbcTemplate, mock(AuditUserCache.class), registry,
+                capacity, batchSize, flushIntervalMs, policy);
+        started.start();
+        return started;
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static AuditLogWriter.Entry entry(int i) {
+        return new AuditLogWriter.Entry(null, "admin@example.com", "ADMIN",
+                AuditAction.LOGIN_SUCCESS, AuditCategory.AUTH,
+                "User", String.valueOf(i), null, null, null,
+                "127.0.0.1", "test", "POST", "/api/auth/login", 200,
+                LocalDateTime.now());
+    }
+}
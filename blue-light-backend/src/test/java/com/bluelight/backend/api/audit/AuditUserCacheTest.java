@@ -0,0 +1,90 @@
+package com.bluelight.backend.api.audit;
+
+import com.bluelight.backend.domain.user.User;
+import com.bluelight.backend.domain.user.UserRepository;
+import com.bluelight.backend.domain.user.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 감사 로그 사용자 캐시 검증 (저장소/JdbcTemplate은 mock)
+ * - 캐시 미스분만 일괄 조회, 없는 사용자도 빈 값으로 캐시
+ * - evict()는 audit_user_version 증가 → 이 서버 캐시 즉시 무효화
+ * - 다른 서버의 버전 증가는 poll()로 감지
+ */
+class AuditUserCacheTest {
+
+    private static final String VERSION_QUERY = "SELECT version FROM audit_user_version WHERE id = 1";
+
+    private UserRepository userRepository;
+    private JdbcTemplate jdbcTemplate;
+    private AuditUserCache cache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForList(VERSION_QUERY, Long.class)).thenReturn(List.of(0L));
+        User user = user(1L, "lew@example.com", UserRole.LEW);
+        when(userRepository.findAllById(any())).thenReturn(List.of(user));
+        cache = new AuditUserCache(userRepository, jdbcTemplate, 300);
+    }
+
+    @Test
+    void resolvesMissesOnceAndCachesUnknownUsers() {
+        Map<Long, AuditUserCache.AuditUser> first = cache.resolve(Set.of(1L, 2L));
+        Map<Long, AuditUserCache.AuditUser> second = cache.resolve(Set.of(1L, 2L));
+
+        assertThat(first.get(1L).email()).isEqualTo("lew@example.com");
+        assertThat(first.get(1L).role()).isEqualTo("LEW");
+        assertThat(first.get(2L).email()).isNull();
+        assertThat(second).isEqualTo(first);
+        verify(userRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    void evictBumpsSharedVersionAndReloads() {
+        cache.resolve(Set.of(1L));
+
+        cache.evict(1L);
+        cache.resolve(Set.of(1L));
+
+        verify(jdbcTemplate).update(
+                "UPDATE audit_user_version SET version = version + 1, updated_at = NOW(6) WHERE id = 1");
+        verify(userRepository, times(2)).findAllById(any());
+    }
+
+    @Test
+    void pollDetectsChangeFromAnotherServer() {
+        cache.resolve(Set.of(1L));
+        cache.poll();
+        cache.resolve(Set.of(1L));
+        verify(userRepository, times(1)).findAllById(any());
+
+        when(jdbcTemplate.queryForList(VERSION_QUERY, Long.class)).thenReturn(List.of(1L));
+        cache.poll();
+        cache.resolve(Set.of(1L));
+
+        verify(userRepository, times(2)).findAllById(any());
+    }
+
+    private static User user(Long seq, String email, UserRole role) {
+        User user = mock(User.class);
+        when(user.getUserSeq()).thenReturn(seq);
+        when(user.getEmail()).thenReturn(email);
+        when(user.getRole()).thenReturn(role);
+        return user;
+    }
+}
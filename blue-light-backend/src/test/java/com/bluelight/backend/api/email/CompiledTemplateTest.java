@@ -0,0 +1,99 @@
+package com.bluelight.backend.api.email;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 템플릿 컴파일/렌더링 검증 — 변수 누락, 이스케이프, 문법 오류
+ */
+class CompiledTemplateTest {
+
+    @Test
+    void rendersLiteralsAndVariablesInOrder() {
+        CompiledTemplate template = CompiledTemplate.compile("t", "Hello {{name}}, #{{ seq }}!", true);
+
+        assertThat(template.render(Map.of("name", "Tan", "seq", 42))).isEqualTo("Hello Tan, #42!");
+    }
+
+    @Test
+    void templateWithoutVariablesIsReturnedAsIs() {
+        CompiledTemplate template = CompiledTemplate.compile("t", "<p>static</p>", true);
+
+        assertThat(template.render(Map.of())).isEqualTo("<p>static</p>");
+    }
+
+    @Test
+    void escapesHtmlInDoubleBraces() {
+        CompiledTemplate template = CompiledTemplate.compile("t", "<p>{{value}}</p>", true);
+
+        assertThat(template.render(Map.of("value", "<b>\"Tan\" & 'Co'</b>")))
+                .isEqualTo("<p>&lt;b&gt;&quot;Tan&quot; &amp; &#39;Co&#39;&lt;/b&gt;</p>");
+    }
+
+    @Test
+    void tripleBracesInsertRawValue() {
+        CompiledTemplate template = CompiledTemplate.compile("t", "<p>{{{value}}}</p>", true);
+
+        assertThat(template.render(Map.of("value", "<strong>12</strong> days")))
+                .isEqualTo("<p><strong>12</strong> days</p>");
+    }
+
+    @Test
+    void escapeDisabledForPlainTextTemplates() {
+        CompiledTemplate subject = CompiledTemplate.compile("t:subject", "Licence {{no}} & more", false);
+
+        assertThat(subject.render(Map.of("no", "A&B"))).isEqualTo("Licence A&B & more");
+    }
+
+    @Test
+    void missingVariableFails() {
+        CompiledTemplate template = CompiledTemplate.compile("welcome", "Hello {{userName}}", true);
+
+        assertThatThrownBy(() -> template.render(Map.of("username", "Tan")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("userName")
+                .hasMessageContaining("welcome");
+    }
+
+    @Test
+    void nullValueRendersEmpty() {
+        CompiledTemplate template = CompiledTemplate.compile("t", "[{{a}}][{{{b}}}]", true);
+        Map<String, Object> model = new HashMap<>();
+        model.put("a", null);
+        model.put("b", null);
+
+        assertThat(template.render(model)).isEqualTo("[][]");
+    }
+
+    @Test
+    void unclosedVariableFailsAtCompile() {
+        assertThatThrownBy(() -> CompiledTemplate.compile("broken", "Hello {{name", true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Unclosed")
+                .hasMessageContaining("broken");
+        assertThatThrownBy(() -> CompiledTemplate.compile("broken", "Hello {{{name}}", true))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void invalidVariableNameFailsAtCompile() {
+        assertThatThrownBy(() -> CompiledTemplate.compile("broken", "Hello {{ user name }}", true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("user name");
+        assertThatThrownBy(() -> CompiledTemplate.compile("broken", "Hello {{}}", true))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void repeatedRendersDoNotLeakPreviousOutput() {
+        CompiledTemplate template = CompiledTemplate.compile("t", "<p>{{v}}</p>", true);
+
+        assertThat(template.render(Map.of("v", "x".repeat(100_000)))).hasSize(100_007);
+        assertThat(template.render(Map.of("v", "y"))).isEqualTo("<p>y</p>");
+    }
+}
@@ -0,0 +1,133 @@
+package com.bluelight.backend.api.email;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이메일 렌더링 JMH 벤치마크 (JUnit 테스트 아님 — ./gradlew emailTemplateBenchmark, -prof gc로 할당량 함께 출력)
+ *
+ * - legacy: 기존 SmtpEmailService 방식 (텍스트 블록 + String.formatted, 호출마다 포맷 문자열 해석)
+ * - compiled: EmailTemplates (기동 시 컴파일된 구간 배열 + 재사용 StringBuilder)
+ * - 같은 만료 알림 메일을 렌더링해 HTML 문자열 반환 (모델 구성 비용 포함) — gc.alloc.rate.norm이 호출당 할당 바이트
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailTemplateBenchmark {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy");
+    private static final String USER_NAME = "Tan Ah Kow";
+    private static final String LICENSE_NUMBER = "LN-2024-000123";
+    private static final String ADDRESS = "10 Anson Road, #12-01, Singapore 079903";
+    private static final int DAYS_REMAINING = 12;
+
+    private EmailTemplates templates;
+    private LocalDate expiryDate;
+
+    @Setup
+    public void setUp() {
+        templates = new EmailTemplates();
+        expiryDate = LocalDate.now().plusDays(DAYS_REMAINING);
+    }
+
+    @Benchmark
+    public String legacy() {
+        return legacyLicenseExpiryHtml(USER_NAME, LICENSE_NUMBER, ADDRESS, expiryDate, DAYS_REMAINING);
+    }
+
+    @Benchmark
+    public String compiled() {
+        return templates.render("license-expiry-warning", model(expiryDate, DAYS_REMAINING)).html();
+    }
+
+    /**
+     * SmtpEmailService.sendLicenseExpiryWarningEmail과 같은 모델 구성
+     */
+    private static Map<String, Object> model(LocalDate expiryDate, int daysRemaining) {
+        String urgencyColor = daysRemaining <= 7 ? "#dc2626" : daysRemaining <= 14 ? "#f59e0b" : "#1a3a5c";
+        String daysText = daysRemaining <= 0
+                ? "Your licence has expired."
+                : "Your licence will expire in <strong>" + daysRemaining + " day" + (daysRemaining == 1 ? "" : "s") + "</strong>.";
+        Map<String, Object> model = new HashMap<>(12);
+        model.put("userName", USER_NAME);
+        model.put("urgencyColor", urgencyColor);
+        model.put("daysText", daysText);
+        model.put("licenseNumber", LICENSE_NUMBER);
+        model.put("address", ADDRESS);
+        model.put("expiryDate", expiryDate.format(DATE_FORMAT));
+        return model;
+    }
+
+    // ── 기존 빌더 (비교 기준, SmtpEmailService 템플릿 전환 이전 코드) ──────────────────────
+
+    private static String legacyLicenseExpiryHtml(String userName, String licenseNumber,
+                                           String address, LocalDate expiryDate, int daysRemaining) {
+        String formattedDate = expiryDate.format(DATE_FORMAT);
+        String urgencyColor = daysRemaining <= 7 ? "#dc2626" : daysRemaining <= 14 ? "#f59e0b" : "#1a3a5c";
+        String daysText = daysRemaining <= 0
+                ? "Your licence has expired."
+                : "Your licence will expire in <strong>" + daysRemaining + " day" + (daysRemaining == 1 ? "" : "s") + "</strong>.";
+
+        return """
+                <!DOCTYPE html>
+                <html>
+                <head><meta charset="UTF-8"></head>
+                <body style="font-family: Arial, sans-serif; background-color: #f4f6f9; margin: 0; padding: 20px;">
+                  <div style="max-width: 600px; margin: 0 auto; background-color: #ffffff; border-radius: 8px; overflow: hidden; box-shadow: 0 2px 8px rgba(0,0,0,0.1);">
+                    <div style="background-color: #1a3a5c; padding: 24px; text-align: center;">
+                      <h1 style="color: #ffffff; margin: 0; font-size: 24px;">LicenseKaki</h1>
+                    </div>
+                    <div style="padding: 32px 24px;">
+                      <h2 style="color: #333333; margin-top: 0;">Licence Expiry Notice</h2>
+                      <p style="color: #555555; line-height: 1.6;">Hello %s,</p>
+                      <p style="color: %s; line-height: 1.6; font-size: 16px;">
+                        %s
+                      </p>
+                      <div style="background-color: #f8fafc; border: 1px solid #e2e8f0; border-radius: 8px; padding: 20px; margin: 24px 0;">
+                        <table style="width: 100%%; font-size: 14px; color: #555555;">
+                          <tr>
+                            <td style="padding: 6px 0; font-weight: bold;">Licence No.</td>
+                            <td style="padding: 6px 0;">%s</td>
+                          </tr>
+                          <tr>
+                            <td style="padding: 6px 0; font-weight: bold;">Address</td>
+                            <td style="padding: 6px 0;">%s</td>
+                          </tr>
+                          <tr>
+                            <td style="padding: 6px 0; font-weight: bold;">Expiry Date</td>
+                            <td style="padding: 6px 0; color: %s; font-weight: bold;">%s</td>
+                          </tr>
+                        </table>
+                      </div>
+                      <p style="color: #555555; line-height: 1.6;">
+                        To continue operating your electrical installation, please submit a renewal application
+                        before the expiry date. You can start the renewal process by logging into your LicenseKaki account.
+                      </p>
+                      <hr style="border: none; border-top: 1px solid #eee; margin: 24px 0;">
+                      <p style="color: #aaaaaa; font-size: 12px;">
+                        This is an automated notification from LicenseKaki. If you have already renewed your licence, please disregard this email.
+                      </p>
+                    </div>
+                  </div>
+                </body>
+                </html>
+                """.formatted(userName, urgencyColor, daysText, licenseNumber, address, urgencyColor, formattedDate);
+    }
+}
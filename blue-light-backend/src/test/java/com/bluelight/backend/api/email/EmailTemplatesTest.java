@@ -0,0 +1,63 @@
+package com.bluelight.backend.api.email;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * classpath 템플릿 로딩 + 레이아웃 삽입(들여쓰기) 검증
+ */
+class EmailTemplatesTest {
+
+    private final EmailTemplates templates = new EmailTemplates();
+
+    @Test
+    void insertContentIndentsEveryBodyLineToSlotLevel() {
+        String layout = "<div>\n    {{{content}}}\n</div>\n";
+
+        String merged = EmailTemplates.insertContent(layout, "<h2>Title</h2>\n<p>\n  text\n</p>\n");
+
+        assertThat(merged).isEqualTo("<div>\n    <h2>Title</h2>\n    <p>\n      text\n    </p>\n</div>\n");
+    }
+
+    @Test
+    void insertContentLeavesBlankLinesUnindented() {
+        String layout = "  {{{content}}}|";
+
+        assertThat(EmailTemplates.insertContent(layout, "a\n\nb")).isEqualTo("  a\n\n  b|");
+    }
+
+    @Test
+    void rendersSubjectAndBodyInsideLayout() {
+        RenderedEmail email = templates.render("payment-confirm", Map.of(
+                "userName", "Tan & Co",
+                "amount", "350.00",
+                "appSeq", 17,
+                "address", "10 Anson Road"));
+
+        assertThat(email.subject()).isEqualTo("Payment Confirmed - Application #17 - LicenseKaki");
+        assertThat(email.html())
+                .startsWith("<!DOCTYPE html>")
+                .contains("\n      <p style=\"color: #555555; line-height: 1.6;\">Hello Tan &amp; Co,</p>\n")
+                .contains("<strong>$350.00</strong>")
+                .doesNotContain("{{")
+                .doesNotContain("<!-- subject:");
+    }
+
+    @Test
+    void unknownTemplateFails() {
+        assertThatThrownBy(() -> templates.render("no-such-template", Map.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("no-such-template");
+    }
+
+    @Test
+    void missingModelVariableFails() {
+        assertThatThrownBy(() -> templates.render("payment-confirm", Map.of("userName", "Tan")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Missing variable");
+    }
+}
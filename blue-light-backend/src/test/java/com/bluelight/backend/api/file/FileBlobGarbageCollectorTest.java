@@ -0,0 +1,103 @@
+package com.bluelight.backend.api.file;
+
+import com.bluelight.backend.domain.file.FileBlob;
+import com.bluelight.backend.domain.file.FileBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 참조 0 blob 정리 검증 (저장소/트랜잭션은 mock)
+ * - 잠금 시점 재확인으로 다시 참조된 blob은 삭제하지 않음
+ * - 물리 삭제 실패 시 행 유지
+ */
+class FileBlobGarbageCollectorTest {
+
+    private static final String PATH = "blobs/ab/ab12.pdf";
+
+    private FileBlobRepository repository;
+    private FileStorageService storage;
+    private FileBlobGarbageCollector collector;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(FileBlobRepository.class);
+        storage = mock(FileStorageService.class);
+        TransactionTemplate tx = mock(TransactionTemplate.class);
+        when(tx.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        collector = new FileBlobGarbageCollector(repository, storage, tx, 24);
+    }
+
+    @Test
+    void purgesLockedOrphanAndDeletesRow() {
+        FileBlob blob = mock(FileBlob.class);
+        when(repository.findOrphanPaths(any(), any())).thenReturn(List.of(PATH));
+        when(repository.lockOrphan(eq(PATH), any())).thenReturn(Optional.of(blob));
+        when(storage.purge(PATH)).thenReturn(true);
+
+        collector.collect();
+
+        verify(storage).purge(PATH);
+        verify(repository).delete(blob);
+    }
+
+    @Test
+    void skipsBlobReferencedAgainBeforeLock() {
+        when(repository.findOrphanPaths(any(), any())).thenReturn(List.of(PATH));
+        when(repository.lockOrphan(eq(PATH), any())).thenReturn(Optional.empty());
+
+        collector.collect();
+
+        verify(storage, never()).purge(anyString());
+        verify(repository, never()).delete(any());
+    }
+
+    @Test
+    void keepsRowWhenPhysicalDeleteFails() {
+        FileBlob blob = mock(FileBlob.class);
+        when(repository.findOrphanPaths(any(), any())).thenReturn(List.of(PATH));
+        when(repository.lockOrphan(eq(PATH), any())).thenReturn(Optional.of(blob));
+        when(storage.purge(PATH)).thenReturn(false);
+
+        collector.collect();
+
+        verify(repository, never()).delete(any());
+        verify(repository, times(1)).findOrphanPaths(any(), any());
+    }
+
+    @Test
+    void lockRechecksSameGraceCutoff() {
+        when(repository.findOrphanPaths(any(), any())).thenReturn(List.of(PATH));
+        when(repository.lockOrphan(eq(PATH), any())).thenReturn(Optional.empty());
+
+        collector.collect();
+
+        ArgumentCaptor<LocalDateTime> queried = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> locked = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).findOrphanPaths(queried.capture(), any(Pageable.class));
+        verify(repository).lockOrphan(eq(PATH), locked.capture());
+        assertThat(locked.getValue()).isEqualTo(queried.getValue());
+        assertThat(queried.getValue()).isCloseTo(LocalDateTime.now().minusHours(24), within(5, SECONDS));
+    }
+}
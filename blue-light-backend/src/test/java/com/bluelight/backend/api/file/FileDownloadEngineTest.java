@@ -0,0 +1,197 @@
+package com.bluelight.backend.api.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Range / 조건부 요청 해석 검증 (저장소는 mock)
+ */
+class FileDownloadEngineTest {
+
+    private static final String PATH = "files/report.pdf";
+    private static final int SIZE = 100;
+    private static final String ETAG = "\"abc123\"";
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+    private final byte[] content = new byte[SIZE];
+    private FileStorageService storage;
+    private FileDownloadEngine engine;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < SIZE; i++) {
+            content[i] = (byte) i;
+        }
+        storage = mock(FileStorageService.class);
+        when(storage.stat(PATH)).thenReturn(new FileStat(SIZE, LAST_MODIFIED, ETAG, null));
+        when(storage.openRange(eq(PATH), anyLong(), anyLong())).thenAnswer(invocation -> {
+            long offset = invocation.getArgument(1);
+            long length = invocation.getArgument(2);
+            return FileRange.ofStream(new ByteArrayInputStream(content, (int) offset, (int) length), offset, length, SIZE);
+        });
+        engine = new FileDownloadEngine(storage);
+        request = new MockHttpServletRequest();
+    }
+
+    @Test
+    void noRangeServesWholeFile() throws IOException {
+        ResponseEntity<StreamingResponseBody> response = serve();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(SIZE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETAG);
+        assertThat(body(response)).isEqualTo(content);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "bytes=10-19,  10, 19",
+            "bytes=90-,    90, 99",
+            "bytes=-5,     95, 99",
+            "bytes=0-0,     0,  0",
+            "bytes=50-500, 50, 99"
+    })
+    void singleRangeServesPartialContent(String range, int start, int end) throws IOException {
+        request.addHeader(HttpHeaders.RANGE, range);
+
+        ResponseEntity<StreamingResponseBody> response = serve();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE))
+                .isEqualTo("bytes " + start + "-" + end + "/" + SIZE);
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(end - start + 1);
+        verify(storage).openRange(PATH, start, end - start + 1);
+        assertThat(body(response)).isEqualTo(Arrays.copyOfRange(content, start, end + 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"bytes=100-", "bytes=100-200", "bytes=150-160"})
+    void unsatisfiableRangeReturns416(String range) {
+        request.addHeader(HttpHeaders.RANGE, range);
+
+        ResponseEntity<StreamingResponseBody> response = serve();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */" + SIZE);
+        verify(storage, never()).openRange(anyString(), anyLong(), anyLong());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"bytes=0-1,5-6", "bytes=abc", "items=0-10", "bytes=20-10"})
+    void multipleOrMalformedRangesServeWholeFile(String range) {
+        request.addHeader(HttpHeaders.RANGE, range);
+
+        ResponseEntity<StreamingResponseBody> response = serve();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(storage).openRange(PATH, 0, SIZE);
+    }
+
+    @Test
+    void ifRangeWithMatchingEtagHonoursRange() {
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-19");
+        request.addHeader(HttpHeaders.IF_RANGE, ETAG);
+
+        assertThat(serve().getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+    }
+
+    @Test
+    void ifRangeWithStaleEtagServesWholeFile() {
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-19");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+
+        assertThat(serve().getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(storage).openRange(PATH, 0, SIZE);
+    }
+
+    @Test
+    void ifRangeWithWeakEtagServesWholeFile() {
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-19");
+        request.addHeader(HttpHeaders.IF_RANGE, "W/" + ETAG);
+
+        assertThat(serve().getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void ifRangeWithDateComparesSeconds() {
+        HttpHeaders dates = new HttpHeaders();
+        dates.setDate(HttpHeaders.IF_RANGE, LAST_MODIFIED);
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-19");
+        request.addHeader(HttpHeaders.IF_RANGE, dates.getFirst(HttpHeaders.IF_RANGE));
+
+        assertThat(serve().getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+
+        dates.setDate(HttpHeaders.IF_RANGE, LAST_MODIFIED - 60_000);
+        MockHttpServletRequest stale = new MockHttpServletRequest();
+        stale.addHeader(HttpHeaders.RANGE, "bytes=10-19");
+        stale.addHeader(HttpHeaders.IF_RANGE, dates.getFirst(HttpHeaders.IF_RANGE));
+
+        assertThat(engine.serve(stale, PATH, MediaType.APPLICATION_PDF, "inline").getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {ETAG, "W/" + ETAG, "\"other\", " + ETAG, "*"})
+    void ifNoneMatchReturns304WithoutOpeningFile(String ifNoneMatch) {
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+
+        ResponseEntity<StreamingResponseBody> response = serve();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        verify(storage, never()).openRange(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    void plainFileUsesSendfileWhenSupported() {
+        Path file = Path.of("/data/files/report.pdf");
+        when(storage.openRange(eq(PATH), anyLong(), anyLong())).thenAnswer(invocation ->
+                FileRange.ofPlainFile(file, null, invocation.getArgument(1), invocation.getArgument(2), SIZE));
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-19");
+
+        ResponseEntity<StreamingResponseBody> response = serve();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(response.getBody()).isNull();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(file.toAbsolutePath().toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(10L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(20L);
+    }
+
+    private ResponseEntity<StreamingResponseBody> serve() {
+        return engine.serve(request, PATH, MediaType.APPLICATION_PDF, "inline");
+    }
+
+    private static byte[] body(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toByteArray();
+    }
+}
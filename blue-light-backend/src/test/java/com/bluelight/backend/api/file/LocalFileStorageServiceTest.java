@@ -0,0 +1,149 @@
+package com.bluelight.backend.api.file;
+
+import com.bluelight.backend.common.exception.BusinessException;
+import com.bluelight.backend.common.util.FileEncryptionUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 내용 주소 blob 저장 순서 검증 (참조 카운트는 mock, 암호화 비활성)
+ * - register(참조 0 행) → blob 기록 → acquire 순서 — 기록 후 롤백돼도 GC가 정리할 행이 먼저 존재
+ * - 같은 내용 재저장/동시 저장 시 blob 1개 공유, 임시 파일 미잔존
+ */
+class LocalFileStorageServiceTest {
+
+    private static final byte[] CONTENT = "LOA for application 17".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path root;
+
+    private FileBlobRegistry registry;
+    private LocalFileStorageService storage;
+
+    @BeforeEach
+    void setUp() {
+        FileEncryptionUtil encryption = new FileEncryptionUtil();
+        ReflectionTestUtils.setField(encryption, "encryptionKeyBase64", "");
+        ReflectionTestUtils.setField(encryption, "previousKeysBase64", "");
+        encryption.init();
+
+        registry = mock(FileBlobRegistry.class);
+        storage = new LocalFileStorageService(encryption, registry);
+        ReflectionTestUtils.setField(storage, "uploadDir", root.toString());
+        ReflectionTestUtils.setField(storage, "dedupEnabled", true);
+        storage.init();
+    }
+
+    @Test
+    void registersBeforeWritingAndAcquiresAfter() {
+        List<Boolean> existedAt = new ArrayList<>();
+        doAnswer(invocation -> existedAt.add(Files.exists(blobFile(invocation.getArgument(0)))))
+                .when(registry).register(any());
+        doAnswer(invocation -> existedAt.add(Files.exists(blobFile(invocation.getArgument(0)))))
+                .when(registry).acquire(any());
+
+        StoredFile stored = storage.storeBytes(CONTENT, "loa.PDF", "applications/17");
+
+        assertThat(stored.path()).isEqualTo(FileBlobRegistry.blobPath(stored.sha256(), ".pdf"));
+        assertThat(stored.size()).isEqualTo(CONTENT.length);
+        assertThat(existedAt).containsExactly(false, true);
+        InOrder order = inOrder(registry);
+        order.verify(registry).register(stored);
+        order.verify(registry).acquire(stored);
+    }
+
+    @Test
+    void sameContentIsWrittenOnce() throws IOException {
+        StoredFile first = storage.storeBytes(CONTENT, "a.pdf", "applications/1");
+        StoredFile second = storage.storeBytes(CONTENT, "b.pdf", "applications/2");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(Files.readAllBytes(blobFile(first))).isEqualTo(CONTENT);
+        verify(registry, times(2)).register(first);
+        verify(registry, times(2)).acquire(first);
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    void registerFailureWritesNothing() throws IOException {
+        doThrow(new IllegalStateException("db down")).when(registry).register(any());
+
+        assertThatThrownBy(() -> storage.storeBytes(CONTENT, "a.pdf", "applications/1"))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(registry, never()).acquire(any());
+        try (Stream<Path> files = Files.walk(root)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    @Test
+    void concurrentStoresOfSameContentShareOneBlob() throws Exception {
+        List<CompletableFuture<StoredFile>> stores = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String subDirectory = "applications/" + i;
+            stores.add(CompletableFuture.supplyAsync(() -> storage.storeBytes(CONTENT, "a.pdf", subDirectory)));
+        }
+        CompletableFuture.allOf(stores.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        StoredFile blob = stores.get(0).join();
+        assertThat(stores).allSatisfy(store -> assertThat(store.join()).isEqualTo(blob));
+        assertThat(Files.readAllBytes(blobFile(blob))).isEqualTo(CONTENT);
+        assertThat(storage.stat(blob.path()).sha256()).isEqualTo(blob.sha256());
+        verify(registry, times(8)).acquire(blob);
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    void deleteOfBlobOnlyReleasesReference() {
+        StoredFile blob = storage.storeBytes(CONTENT, "a.pdf", "applications/1");
+
+        storage.delete(blob.path());
+
+        verify(registry).release(blob.path());
+        assertThat(blobFile(blob)).exists();
+        assertThat(storage.purge(blob.path())).isTrue();
+        assertThat(blobFile(blob)).doesNotExist();
+    }
+
+    @Test
+    void emptyDataIsRejected() {
+        assertThatThrownBy(() -> storage.storeBytes(new byte[0], "a.pdf", "applications/1"))
+                .isInstanceOf(BusinessException.class);
+        verify(registry, never()).register(any());
+    }
+
+    private Path blobFile(StoredFile blob) {
+        return root.resolve(blob.path());
+    }
+
+    private List<Path> tempFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(path -> path.toString().endsWith(LocalFileStorageService.TEMP_SUFFIX)).toList();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.bluelight.backend.api.file;
+
+import com.bluelight.backend.common.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * S3 내용 주소 저장 검증 (클라이언트/참조 카운트는 mock, 모든 업로드를 멀티파트로)
+ * - 같은 키를 다른 요청이 업로드 중이면 결과를 기다려 성공 시에만 PUT 생략
+ * - 참조 증가는 업로드 성공 후에만
+ */
+class S3FileStorageServiceTest {
+
+    private static final byte[] CONTENT = "signed LOA".getBytes(StandardCharsets.UTF_8);
+
+    private S3Client s3Client;
+    private S3AsyncClient s3AsyncClient;
+    private FileBlobRegistry registry;
+    private S3FileStorageService storage;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        s3AsyncClient = mock(S3AsyncClient.class);
+        registry = mock(FileBlobRegistry.class);
+        storage = new S3FileStorageService(s3Client, s3AsyncClient, registry);
+        ReflectionTestUtils.setField(storage, "bucket", "bluelight-files");
+        ReflectionTestUtils.setField(storage, "multipartThresholdMb", 0L);
+        ReflectionTestUtils.setField(storage, "dedupEnabled", true);
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenThrow(NoSuchKeyException.builder().message("missing").build());
+    }
+
+    @Test
+    void newBlobIsRegisteredUploadedThenAcquired() {
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+        StoredFile stored = storage.storeBytes(CONTENT, "loa.pdf", "applications/17");
+
+        assertThat(FileBlobRegistry.isBlobPath(stored.path())).isTrue();
+        InOrder order = inOrder(registry, s3AsyncClient);
+        order.verify(registry).register(stored);
+        order.verify(s3AsyncClient).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+        order.verify(registry).acquire(stored);
+    }
+
+    @Test
+    void existingObjectSkipsUpload() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder().build());
+
+        StoredFile stored = storage.storeBytes(CONTENT, "loa.pdf", "applications/17");
+
+        verify(s3AsyncClient, never()).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+        verify(registry).acquire(stored);
+    }
+
+    @Test
+    void failedUploadTakesNoReference() {
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("connection reset")));
+
+        assertThatThrownBy(() -> storage.storeBytes(CONTENT, "loa.pdf", "applications/17"))
+                .isInstanceOf(BusinessException.class);
+
+        verify(registry).register(any());
+        verify(registry, never()).acquire(any());
+    }
+
+    @Test
+    void waitsForConcurrentUploadOfSameKey() throws Exception {
+        CompletableFuture<PutObjectResponse> upload = new CompletableFuture<>();
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenReturn(upload);
+
+        CompletableFuture<StoredFile> first = CompletableFuture.supplyAsync(() ->
+                storage.storeBytes(CONTENT, "loa.pdf", "applications/1"));
+        awaitPendingUpload();
+        CompletableFuture<StoredFile> second = CompletableFuture.supplyAsync(() ->
+                storage.storeBytes(CONTENT, "loa.pdf", "applications/2"));
+        verify(registry, timeout(5000).times(2)).register(any());
+        Thread.sleep(100);
+        assertThat(second).isNotDone();
+
+        upload.complete(PutObjectResponse.builder().build());
+
+        StoredFile stored = first.get(5, TimeUnit.SECONDS);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(stored);
+        verify(s3AsyncClient, times(1)).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+        verify(registry, times(2)).acquire(stored);
+    }
+
+    @Test
+    void uploadsAgainWhenConcurrentUploadFails() throws Exception {
+        CompletableFuture<PutObjectResponse> failing = new CompletableFuture<>();
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(failing, CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+        CompletableFuture<StoredFile> first = CompletableFuture.supplyAsync(() ->
+                storage.storeBytes(CONTENT, "loa.pdf", "applications/1"));
+        awaitPendingUpload();
+        CompletableFuture<StoredFile> second = CompletableFuture.supplyAsync(() ->
+                storage.storeBytes(CONTENT, "loa.pdf", "applications/2"));
+        verify(registry, timeout(5000).times(2)).register(any());
+
+        failing.completeExceptionally(new IllegalStateException("connection reset"));
+
+        StoredFile stored = second.get(5, TimeUnit.SECONDS);
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(BusinessException.class);
+        verify(s3AsyncClient, times(2)).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+        verify(registry, times(1)).acquire(stored);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void awaitPendingUpload() throws InterruptedException {
+        Map<String, CompletableFuture<?>> pending =
+                (Map<String, CompletableFuture<?>>) ReflectionTestUtils.getField(storage, "pendingUploads");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pending.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(pending).hasSize(1);
+    }
+}
@@ -0,0 +1,116 @@
+package com.bluelight.backend.api.ratelimit;
+
+import com.bluelight.backend.domain.ratelimit.RateLimitCounter;
+import com.bluelight.backend.domain.ratelimit.RateLimitCounterRepository;
+import com.bluelight.backend.security.InMemoryRateLimiterEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Rate Limit 클러스터 동기화 검증 (저장소/트랜잭션은 mock)
+ * - 커밋 실패 시 꺼낸 증가분·초기화 대상을 되돌려 다음 주기에 이후 증가분과 합산
+ * - 최초 증분 조회 기준은 DB NOW(), 이후는 마지막으로 본 updated_at
+ * - 다른 서버 집계값을 엔진에 반영
+ */
+class RateLimitClusterSyncServiceTest {
+
+    private static final String TYPE = "LOGIN";
+    private static final Duration WINDOW = Duration.ofHours(1);
+    private static final LocalDateTime DB_NOW = LocalDateTime.of(2026, 3, 1, 9, 0, 0);
+
+    private InMemoryRateLimiterEngine engine;
+    private RateLimitCounterRepository repository;
+    private TransactionTemplate tx;
+    private RateLimitClusterSyncService service;
+
+    @BeforeEach
+    void setUp() {
+        engine = new InMemoryRateLimiterEngine(1000, true);
+        repository = mock(RateLimitCounterRepository.class);
+        tx = mock(TransactionTemplate.class);
+        when(repository.currentTime()).thenReturn(DB_NOW);
+        when(repository.findUpdatedSince(any())).thenReturn(List.of());
+        service = new RateLimitClusterSyncService(engine, repository, tx);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void failedCommitRequeuesDeltasAndResetsForNextSync() {
+        when(tx.execute(any()))
+                .thenAnswer(invocation -> {
+                    invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null);
+                    throw new DataAccessResourceFailureException("commit failed");
+                })
+                .thenAnswer(invocation ->
+                        invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        record("10.0.0.1", 3);
+        engine.reset(TYPE, "user@example.com");
+
+        service.sync();
+        record("10.0.0.1", 2);
+        service.sync();
+
+        ArgumentCaptor<Integer> delta = ArgumentCaptor.forClass(Integer.class);
+        verify(repository, times(2)).addCount(eq(TYPE), eq("10.0.0.1"), anyLong(), eq(WINDOW.toMillis()),
+                delta.capture());
+        assertThat(delta.getAllValues()).containsExactly(3, 5);
+        verify(repository, times(2)).deleteByLimiterTypeAndIdentifier(TYPE, "user@example.com");
+        assertThat(engine.drainPendingDeltas()).isEmpty();
+        assertThat(engine.drainResets()).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void initialWatermarkComesFromDatabaseClock() {
+        when(tx.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        LocalDateTime updatedAt = DB_NOW.plusSeconds(3);
+        RateLimitCounter row = counter("10.0.0.2", 4, updatedAt);
+        when(repository.findUpdatedSince(DB_NOW.minusMinutes(60))).thenReturn(List.of(row));
+
+        service.sync();
+        service.sync();
+
+        verify(repository).findUpdatedSince(DB_NOW.minusMinutes(60));
+        verify(repository).findUpdatedSince(updatedAt.minusSeconds(1));
+        verify(repository, times(1)).currentTime();
+        // 다른 서버에서 4회 기록 → 이 서버도 한도 4에서 차단
+        assertThat(engine.isBlocked(TYPE, "10.0.0.2", 4, WINDOW)).isTrue();
+        assertThat(engine.isBlocked(TYPE, "10.0.0.2", 5, WINDOW)).isFalse();
+    }
+
+    private void record(String identifier, int times) {
+        for (int i = 0; i < times; i++) {
+            engine.record(TYPE, identifier, WINDOW);
+        }
+    }
+
+    private static RateLimitCounter counter(String identifier, int count, LocalDateTime updatedAt) {
+        long now = System.currentTimeMillis();
+        RateLimitCounter row = mock(RateLimitCounter.class);
+        when(row.getLimiterType()).thenReturn(TYPE);
+        when(row.getIdentifier()).thenReturn(identifier);
+        when(row.getWindowStart()).thenReturn(now - Math.floorMod(now, WINDOW.toMillis()));
+        when(row.getWindowMillis()).thenReturn(WINDOW.toMillis());
+        when(row.getAttemptCount()).thenReturn(count);
+        when(row.getUpdatedAt()).thenReturn(updatedAt);
+        return row;
+    }
+}
@@ -0,0 +1,111 @@
+package com.bluelight.backend.api.sldagent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SLD Agent SSE 청크 중계 JMH 벤치마크 (JUnit 테스트 아님 — ./gradlew sldRelayBenchmark)
+ *
+ * - AI 서비스가 보내는 청크 구성(token 다수 + tool_start/tool_result + sld_preview SVG + done)을 그대로 흘려보냄
+ * - raw: 스트리밍 JsonParser로 type/content만 추출 후 원문 전달 (기본값)
+ * - reserialize: Map으로 파싱 후 다시 직렬화하여 전달 (변경 전 방식, sld.agent.stream.relay=reserialize)
+ * - 둘 다 응답 누적(ResponseBuffer)까지 포함, 전송은 이벤트 빌드까지만 수행하는 emitter로 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SldAgentStreamRelayBenchmark {
+
+    private static final int CHUNKS = 200;
+
+    private SldAgentStreamRelay rawRelay;
+    private SldAgentStreamRelay reserializeRelay;
+    private String[] chunks;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = JsonMapper.builder().build();
+        rawRelay = new SldAgentStreamRelay(objectMapper, "raw", 65535);
+        reserializeRelay = new SldAgentStreamRelay(objectMapper, "reserialize", 65535);
+
+        List<String> list = new ArrayList<>(CHUNKS);
+        list.add("{\"type\":\"session\",\"thread_id\":\"sld-4812-1d2f\"}");
+        list.add("{\"type\":\"tool_start\",\"tool\":\"get_application_details\",\"description\":\"Reading application details\"}");
+        list.add("{\"type\":\"tool_result\",\"tool\":\"get_application_details\",\"summary\":\"63A TPN, 45 kVA, 3 sub-circuits\"}");
+        list.add("{\"type\":\"sld_preview\",\"svg\":\"" + "<path d=\\\"M10 10 L90 90\\\" stroke=\\\"#000\\\"/>".repeat(400) + "\"}");
+        while (list.size() < CHUNKS - 1) {
+            list.add("{\"type\":\"token\",\"content\":\"The main switch is rated at 63A with a 30mA RCCB \"}");
+        }
+        list.add("{\"type\":\"done\"}");
+        chunks = list.toArray(new String[0]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNKS)
+    public void raw(Blackhole bh) {
+        relay(rawRelay, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNKS)
+    public void reserialize(Blackhole bh) {
+        relay(reserializeRelay, bh);
+    }
+
+    /**
+     * AgentStreamProxy의 청크 처리 순서와 동일 (scan → 누적 → forward)
+     */
+    private void relay(SldAgentStreamRelay relay, Blackhole bh) {
+        DiscardingEmitter emitter = new DiscardingEmitter(bh);
+        SldAgentStreamRelay.ResponseBuffer response = relay.newResponseBuffer();
+        for (String json : chunks) {
+            SldAgentStreamRelay.Chunk chunk = relay.scan(json);
+            if (chunk.isToken()) {
+                response.append(chunk.content());
+            } else if (chunk.isDone() && chunk.content() != null) {
+                response.replace(chunk.content());
+            }
+            bh.consume(relay.forward(emitter, chunk));
+        }
+        bh.consume(response.toString());
+    }
+
+    /**
+     * 이벤트 빌드까지만 수행 (서블릿 응답 없이 직렬화 비용만 측정)
+     */
+    private static final class DiscardingEmitter extends SseEmitter {
+
+        private final Blackhole bh;
+
+        private DiscardingEmitter(Blackhole bh) {
+            this.bh = bh;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            Set<DataWithMediaType> data = builder.build();
+            bh.consume(data);
+        }
+    }
+}
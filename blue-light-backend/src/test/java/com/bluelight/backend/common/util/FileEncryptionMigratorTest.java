@@ -0,0 +1,158 @@
+package com.bluelight.backend.common.util;
+
+import com.bluelight.backend.common.util.FileEncryptionMigrator.Progress;
+import com.bluelight.backend.common.util.FileEncryptionMigrator.State;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import static com.bluelight.backend.common.util.FileEncryptionUtilTest.key;
+import static com.bluelight.backend.common.util.FileEncryptionUtilTest.newUtil;
+import static com.bluelight.backend.common.util.FileEncryptionUtilTest.randomBytes;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 파일 암호화 마이그레이션 검증 (임시 디렉토리, 대역폭 제한 없음)
+ * - 평문 암호화, 현재 키 청크 파일 건너뜀, 이전 키/단일 블록 파일 재암호화
+ * - 체크포인트로 이어서 처리, 키가 바뀌면 처음부터
+ * - 인증되지 않는 단일 블록 크기 파일은 평문으로 간주하지 않고 원본 유지
+ */
+class FileEncryptionMigratorTest {
+
+    private static final String CHECKPOINT = ".migration/file-encryption.checkpoint";
+
+    @TempDir
+    Path root;
+
+    @Test
+    void encryptsPlaintextAndSkipsCurrentChunkedFiles() throws Exception {
+        FileEncryptionUtil util = newUtil(key(1), "");
+        byte[] pdf = pdf(500);
+        byte[] chunked = util.encrypt(randomBytes(1000));
+        Path plainFile = write("applications/1/a.pdf", pdf);
+        Path chunkedFile = write("applications/1/b.pdf", chunked);
+        Path sidecar = write("applications/1/b.pdf.meta", "{}".getBytes(StandardCharsets.UTF_8));
+
+        Progress progress = run(util, false);
+
+        assertThat(progress.state()).isEqualTo(State.COMPLETED);
+        assertThat(progress.encrypted()).isEqualTo(1);
+        assertThat(progress.skipped()).isEqualTo(1);
+        assertThat(progress.failed()).isZero();
+        assertThat(util.decrypt(Files.readAllBytes(plainFile))).isEqualTo(pdf);
+        assertThat(Files.readAllBytes(chunkedFile)).isEqualTo(chunked);
+        assertThat(Files.readString(sidecar)).isEqualTo("{}");
+    }
+
+    @Test
+    void resumesFromCheckpointUnlessReset() throws Exception {
+        FileEncryptionUtil util = newUtil(key(1), "");
+        byte[] pdf = pdf(500);
+        Path done = write("done/a.pdf", pdf);
+        Path todo = write("todo/a.pdf", pdf);
+        try (MigrationCheckpoint checkpoint = MigrationCheckpoint.open(
+                root.resolve(CHECKPOINT), util.keyFingerprint(), false)) {
+            checkpoint.markCompleted("done");
+        }
+
+        Progress resumed = run(util, false);
+
+        assertThat(resumed.directoriesResumed()).isEqualTo(1);
+        assertThat(resumed.encrypted()).isEqualTo(1);
+        assertThat(Files.readAllBytes(done)).isEqualTo(pdf);
+        assertThat(util.decrypt(Files.readAllBytes(todo))).isEqualTo(pdf);
+
+        Progress again = run(util, false);
+        assertThat(again.directoriesResumed()).isEqualTo(again.directoriesScanned());
+        assertThat(again.filesScanned()).isZero();
+
+        Progress reset = run(util, true);
+        assertThat(reset.directoriesResumed()).isZero();
+        assertThat(reset.encrypted()).isEqualTo(1);
+        assertThat(reset.skipped()).isEqualTo(1);
+        assertThat(util.decrypt(Files.readAllBytes(done))).isEqualTo(pdf);
+    }
+
+    @Test
+    void keyRotationReencryptsPreviousKeyAndSingleBlockFiles() throws Exception {
+        FileEncryptionUtil previous = newUtil(key(1), "");
+        byte[] pdf = pdf(500);
+        Path chunked = write("applications/1/a.pdf", pdf);
+        assertThat(run(previous, false).encrypted()).isEqualTo(1);
+
+        byte[] legacyPlain = randomBytes(64 * 1024 + 5);
+        Path legacy = write("applications/2/b.bin",
+                SingleBlockGcmTest.jceEncrypt(SingleBlockGcmTest.spec(key(1)), legacyPlain));
+        FileEncryptionUtil rotated = newUtil(key(2), key(1));
+        Progress progress = run(rotated, false);
+
+        // 키 fingerprint가 바뀌어 이전 체크포인트는 무효 — 모든 디렉토리를 다시 처리
+        assertThat(progress.directoriesResumed()).isZero();
+        assertThat(progress.rotated()).isEqualTo(2);
+        assertThat(progress.failed()).isZero();
+        FileEncryptionUtil currentOnly = newUtil(key(2), "");
+        assertThat(currentOnly.decrypt(Files.readAllBytes(chunked))).isEqualTo(pdf);
+        assertThat(currentOnly.decrypt(Files.readAllBytes(legacy))).isEqualTo(legacyPlain);
+    }
+
+    @Test
+    void refusesUnauthenticatedSingleBlockShape() throws Exception {
+        FileEncryptionUtil util = newUtil(key(2), key(1));
+        byte[] unknown = randomBytes(4096);
+        Path file = write("applications/3/c.bin", unknown);
+
+        Progress first = run(util, false);
+
+        assertThat(first.state()).isEqualTo(State.COMPLETED);
+        assertThat(first.failed()).isEqualTo(1);
+        assertThat(first.encrypted()).isZero();
+        assertThat(Files.readAllBytes(file)).isEqualTo(unknown);
+
+        // 실패한 디렉토리는 체크포인트에 남지 않아 다음 실행에서 다시 검사
+        Progress second = run(util, false);
+        assertThat(second.failed()).isEqualTo(1);
+        assertThat(Files.readAllBytes(file)).isEqualTo(unknown);
+    }
+
+    private Progress run(FileEncryptionUtil util, boolean reset) throws InterruptedException {
+        FileEncryptionMigrator migrator = new FileEncryptionMigrator(util, root.toString(), false, 2, 0);
+        assertThat(migrator.start(reset)).isTrue();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (isActive(migrator.progress().state()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Progress progress = migrator.progress();
+        assertThat(isActive(progress.state())).isFalse();
+        return progress;
+    }
+
+    private static boolean isActive(State state) {
+        return state == State.RUNNING || state == State.STOPPING;
+    }
+
+    /**
+     * 작업 시작 이후 수정된 파일은 건너뛰므로 수정 시각을 과거로 둠
+     */
+    private Path write(String relative, byte[] content) throws IOException {
+        Path file = root.resolve(relative);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(1, ChronoUnit.MINUTES)));
+        return file;
+    }
+
+    private static byte[] pdf(int size) {
+        byte[] pdf = randomBytes(size);
+        byte[] signature = "%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(signature, 0, pdf, 0, signature.length);
+        return pdf;
+    }
+}
@@ -0,0 +1,256 @@
+package com.bluelight.backend.common.util;
+
+import com.bluelight.backend.common.util.FileEncryptionUtil.EncryptionState;
+import com.bluelight.backend.common.util.FileEncryptionUtil.Inspection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 청크 형식(AES-256-GCM) 암복호화 검증
+ * - 청크 경계 전후 크기 왕복, 절단/순서 변경/헤더 변조 탐지, 마지막 청크 AAD 플래그
+ * - Range 다운로드용 offset 오픈 (해당 청크부터 복호화, 인증 실패 시 단일 블록으로 재시도하지 않음)
+ * - 마이그레이션 판별(inspect): 인증되지 않는 단일 블록 크기 파일은 평문으로 간주하지 않음
+ */
+class FileEncryptionUtilTest {
+
+    private static final int CHUNK = 64 * 1024;
+    private static final int STRIDE = CHUNK + FileEncryptionUtil.TAG_BYTES;
+    private static final int HEADER = FileEncryptionUtil.STREAM_HEADER_LENGTH;
+
+    private FileEncryptionUtil util;
+
+    @BeforeEach
+    void setUp() {
+        util = newUtil(key(1), "");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, CHUNK - 1, CHUNK, CHUNK + 1, 3 * CHUNK, 3 * CHUNK + 7})
+    void roundTripAcrossChunkBoundaries(int size) throws IOException {
+        byte[] plain = randomBytes(size);
+
+        byte[] encrypted = encryptStream(plain);
+
+        assertThat(Arrays.copyOf(encrypted, 4)).isEqualTo(FileEncryptionUtil.STREAM_MAGIC);
+        int chunks = Math.max(1, (size + CHUNK - 1) / CHUNK);
+        assertThat(encrypted).hasSize(HEADER + size + chunks * FileEncryptionUtil.TAG_BYTES);
+        assertThat(decryptStream(encrypted)).isEqualTo(plain);
+        assertThat(util.decrypt(encrypted)).isEqualTo(plain);
+    }
+
+    @Test
+    void byteArrayApiWritesChunkedFormat() {
+        byte[] plain = randomBytes(CHUNK + 100);
+
+        byte[] encrypted = util.encrypt(plain);
+
+        assertThat(FileEncryptionUtil.isStreamHeader(Arrays.copyOf(encrypted, HEADER))).isTrue();
+        assertThat(util.decrypt(encrypted)).isEqualTo(plain);
+    }
+
+    @Test
+    void truncationAtChunkBoundaryIsDetected() throws IOException {
+        byte[] encrypted = encryptStream(randomBytes(3 * CHUNK + 10));
+
+        // 완전한 청크 2개만 남김 — 두 번째 청크는 마지막 플래그 없이 암호화됐으므로 인증 실패해야 함
+        byte[] truncated = Arrays.copyOf(encrypted, HEADER + 2 * STRIDE);
+
+        assertThatThrownBy(() -> decryptStream(truncated))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("청크 1");
+    }
+
+    @Test
+    void truncationInsideChunkIsDetected() throws IOException {
+        byte[] encrypted = encryptStream(randomBytes(2 * CHUNK));
+
+        byte[] truncated = Arrays.copyOf(encrypted, encrypted.length - 5);
+
+        assertThatThrownBy(() -> decryptStream(truncated)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void reorderedChunksAreDetected() throws IOException {
+        byte[] encrypted = encryptStream(randomBytes(3 * CHUNK + 10));
+
+        byte[] swapped = encrypted.clone();
+        System.arraycopy(encrypted, HEADER + STRIDE, swapped, HEADER, STRIDE);
+        System.arraycopy(encrypted, HEADER, swapped, HEADER + STRIDE, STRIDE);
+
+        assertThatThrownBy(() -> decryptStream(swapped))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("청크 0");
+    }
+
+    @Test
+    void finalChunkFlagIsAuthenticated() throws IOException {
+        byte[] encrypted = encryptStream(randomBytes(2 * CHUNK + 10));
+
+        // 마지막 청크 뒤에 이전 청크를 덧붙임 — 마지막 플래그로 암호화된 청크가 중간에 오면 실패해야 함
+        byte[] extended = Arrays.copyOf(encrypted, encrypted.length + STRIDE);
+        System.arraycopy(encrypted, HEADER + STRIDE, extended, encrypted.length, STRIDE);
+
+        assertThatThrownBy(() -> decryptStream(extended))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("청크 2");
+    }
+
+    @Test
+    void tamperedHeaderIsDetected() throws IOException {
+        byte[] encrypted = encryptStream(randomBytes(100));
+
+        byte[] tampered = encrypted.clone();
+        tampered[HEADER - 1] ^= 1;
+
+        assertThatThrownBy(() -> decryptStream(tampered)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void previousKeyStillDecrypts() throws IOException {
+        byte[] plain = randomBytes(CHUNK + 1);
+        byte[] encrypted = encryptStream(plain);
+
+        FileEncryptionUtil rotated = newUtil(key(2), key(1));
+
+        try (InputStream in = rotated.decryptingStream(new ByteArrayInputStream(encrypted))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain);
+        }
+        assertThatThrownBy(() -> decryptStream(newUtil(key(2), ""), encrypted)).isInstanceOf(IOException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, CHUNK - 1, CHUNK, CHUNK + 1, 2 * CHUNK + 5, 3 * CHUNK - 1})
+    void openDecryptedAtOffset(int offset, @TempDir Path dir) throws IOException {
+        byte[] plain = randomBytes(3 * CHUNK);
+        Path file = Files.write(dir.resolve("f"), encryptStream(plain));
+
+        try (InputStream in = util.openDecrypted(file, offset)) {
+            assertThat(in.readAllBytes()).isEqualTo(Arrays.copyOfRange(plain, offset, plain.length));
+        }
+        assertThat(util.plaintextLength(file)).isEqualTo(plain.length);
+    }
+
+    @Test
+    void openDecryptedFailsOnTamperedChunk(@TempDir Path dir) throws IOException {
+        byte[] encrypted = encryptStream(randomBytes(3 * CHUNK));
+        encrypted[HEADER + STRIDE + 10] ^= 1;
+        Path file = Files.write(dir.resolve("f"), encrypted);
+
+        assertThatThrownBy(() -> util.openDecrypted(file, CHUNK + 5))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("청크 1");
+        try (InputStream in = util.openDecrypted(file, 2 * CHUNK)) {
+            assertThat(in.readAllBytes()).hasSize(CHUNK);
+        }
+    }
+
+    @Test
+    void inspectClassifiesChunkedFilesByKey(@TempDir Path dir) throws IOException {
+        FileEncryptionUtil rotated = newUtil(key(2), key(1));
+        Path current = Files.write(dir.resolve("current"), rotated.encrypt(randomBytes(100)));
+        Path previous = Files.write(dir.resolve("previous"), util.encrypt(randomBytes(100)));
+        Path unknown = Files.write(dir.resolve("unknown"), newUtil(key(3), "").encrypt(randomBytes(100)));
+
+        assertThat(inspect(rotated, current)).isEqualTo(new Inspection(EncryptionState.CURRENT, null));
+        assertThat(inspect(rotated, previous)).isEqualTo(new Inspection(EncryptionState.STALE, null));
+        assertThat(inspect(rotated, unknown)).isEqualTo(new Inspection(EncryptionState.UNKNOWN_KEY, null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 15, 16, 17, CHUNK + 5})
+    void inspectAuthenticatesSingleBlockWithAnyKey(int size, @TempDir Path dir) throws Exception {
+        FileEncryptionUtil rotated = newUtil(key(2), key(1));
+        SecretKeySpec previousKey = SingleBlockGcmTest.spec(key(1));
+        byte[] plain = randomBytes(size);
+        Path file = Files.write(dir.resolve("legacy"), SingleBlockGcmTest.jceEncrypt(previousKey, plain));
+
+        Inspection inspection = inspect(rotated, file);
+
+        assertThat(inspection.state()).isEqualTo(EncryptionState.STALE);
+        assertThat(inspection.legacyKey()).isEqualTo(previousKey);
+        try (InputStream in = rotated.openMigrationSource(file, inspection)) {
+            assertThat(in.readAllBytes()).isEqualTo(plain);
+        }
+    }
+
+    @Test
+    void inspectTreatsSignedOrTooShortFilesAsPlaintext(@TempDir Path dir) throws IOException {
+        byte[] pdf = Arrays.copyOf("%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII), 500);
+        Path signed = Files.write(dir.resolve("a.pdf"), pdf);
+        Path tiny = Files.write(dir.resolve("tiny"), randomBytes(27));
+
+        assertThat(inspect(util, signed).state()).isEqualTo(EncryptionState.PLAINTEXT);
+        assertThat(inspect(util, tiny).state()).isEqualTo(EncryptionState.PLAINTEXT);
+    }
+
+    @Test
+    void inspectRefusesUnauthenticatedSingleBlockShape(@TempDir Path dir) throws Exception {
+        Path unsigned = Files.write(dir.resolve("blob"), randomBytes(CHUNK + 5));
+        byte[] tampered = SingleBlockGcmTest.jceEncrypt(SingleBlockGcmTest.spec(key(1)), randomBytes(100));
+        tampered[tampered.length - 1] ^= 1;
+        Path corrupt = Files.write(dir.resolve("corrupt"), tampered);
+
+        assertThat(inspect(util, unsigned)).isEqualTo(new Inspection(EncryptionState.UNRECOGNIZED, null));
+        assertThat(inspect(util, corrupt)).isEqualTo(new Inspection(EncryptionState.UNRECOGNIZED, null));
+    }
+
+    private static Inspection inspect(FileEncryptionUtil util, Path file) throws IOException {
+        return util.inspect(file, new IoThrottle(0));
+    }
+
+    private byte[] encryptStream(byte[] plain) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        util.encrypt(new ByteArrayInputStream(plain), Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    private byte[] decryptStream(byte[] encrypted) throws IOException {
+        return decryptStream(util, encrypted);
+    }
+
+    private static byte[] decryptStream(FileEncryptionUtil util, byte[] encrypted) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        util.decrypt(new ByteArrayInputStream(encrypted), Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    static FileEncryptionUtil newUtil(String key, String previousKeys) {
+        FileEncryptionUtil util = new FileEncryptionUtil();
+        ReflectionTestUtils.setField(util, "encryptionKeyBase64", key);
+        ReflectionTestUtils.setField(util, "previousKeysBase64", previousKeys);
+        util.init();
+        return util;
+    }
+
+    static String key(int seed) {
+        byte[] key = new byte[32];
+        new Random(seed).nextBytes(key);
+        return Base64.getEncoder().encodeToString(key);
+    }
+
+    static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,90 @@
+package com.bluelight.backend.common.util;
+
+import com.bluelight.backend.common.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * keyset 페이지네이션 커서 검증
+ * - encode → decode 왕복 (나노초 정밀도 유지, URL 안전 문자만 사용)
+ * - null/빈 문자열은 첫 페이지
+ * - 형식이 잘못되거나 변조된 커서는 500이 아닌 400 INVALID_CURSOR
+ */
+class PageCursorTest {
+
+    @Test
+    void roundTripPreservesPosition() {
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2026, 3, 1, 9, 30, 15, 123_456_789), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(PageCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripWithWholeSecondTimestamp() {
+        // LocalDateTime.toString()은 초/나노초가 0이면 생략 ("2026-03-01T09:00")
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2026, 3, 1, 9, 0), Long.MAX_VALUE);
+
+        assertThat(PageCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " "})
+    void blankCursorMeansFirstPage(String cursor) {
+        assertThat(PageCursor.decode(cursor)).isNull();
+        assertThat(PageCursor.decode(null)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "not a cursor!",      // Base64url 아님
+            "MjAyNi0wMy0wMQ+/",   // 표준 Base64 문자 (+, /)
+            "A"                   // 잘린 Base64
+    })
+    void malformedEncodingIsBadRequest(String cursor) {
+        assertInvalid(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2026-03-01T09:00:00",        // 구분자 없음
+            "2026-03-01T09:00:00|",       // seq 없음
+            "2026-03-01T09:00:00|abc",    // seq 숫자 아님
+            "2026-03-01T09:00:00|99999999999999999999", // seq 범위 초과
+            "2026-13-01T09:00:00|42",     // 잘못된 날짜
+            "yesterday|42",               // 날짜 형식 아님
+            "|42"                         // 날짜 없음
+    })
+    void tamperedPayloadIsBadRequest(String raw) {
+        assertInvalid(Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void tamperedCharacterInValidCursorIsBadRequest() {
+        String encoded = new PageCursor(LocalDateTime.of(2026, 3, 1, 9, 30, 15), 42L).encode();
+        // 첫 글자 변경 → 날짜 부분이 깨짐
+        String tampered = (encoded.charAt(0) == 'A' ? 'B' : 'A') + encoded.substring(1);
+
+        assertInvalid(tampered);
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> PageCursor.decode(cursor))
+                .isInstanceOfSatisfying(BusinessException.class, e -> {
+                    assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+                    assertThat(e.getCode()).isEqualTo("INVALID_CURSOR");
+                });
+    }
+}
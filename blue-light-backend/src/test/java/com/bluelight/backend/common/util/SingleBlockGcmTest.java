@@ -0,0 +1,163 @@
+package com.bluelight.backend.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+
+import static com.bluelight.backend.common.util.FileEncryptionUtilTest.key;
+import static com.bluelight.backend.common.util.FileEncryptionUtilTest.randomBytes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 단일 블록 형식 스트리밍 GCM 검증 — JCE AES/GCM/NoPadding 암호문과 교차 확인
+ * - 16바이트 경계 전후, 내부 버퍼(64KB) 경계를 넘는 16 배수가 아닌 크기
+ * - 키 여러 개 중 인증 키 순번, 태그/암호문 변조 거부
+ */
+class SingleBlockGcmTest {
+
+    private static final int BUFFER = 64 * 1024;
+    private static final int IV_LENGTH = 12;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final SecretKeySpec CURRENT = spec(key(1));
+    private static final SecretKeySpec PREVIOUS = spec(key(2));
+    private static final SecretKeySpec OTHER = spec(key(3));
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 15, 16, 17, BUFFER - 1, BUFFER + 5, 3 * BUFFER + 7})
+    void authenticateAgreesWithJce(int size) throws Exception {
+        byte[] file = jceEncrypt(PREVIOUS, randomBytes(size));
+
+        assertThat(authenticate(file, List.of(CURRENT, PREVIOUS))).isEqualTo(1);
+        assertThat(authenticate(file, List.of(PREVIOUS))).isZero();
+        assertThat(authenticate(file, List.of(CURRENT, OTHER))).isEqualTo(-1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 15, 16, 17, BUFFER - 1, BUFFER + 5, 3 * BUFFER + 7})
+    void decryptingAgreesWithJce(int size) throws Exception {
+        byte[] plain = randomBytes(size);
+        byte[] file = jceEncrypt(CURRENT, plain);
+
+        try (InputStream in = SingleBlockGcm.decrypting(new ByteArrayInputStream(file), file.length, CURRENT)) {
+            assertThat(in.readAllBytes()).isEqualTo(plain);
+        }
+    }
+
+    @Test
+    void decryptingWithOddReadSizesCrossesBlockAndBufferBoundaries() throws Exception {
+        byte[] plain = randomBytes(2 * BUFFER + 33);
+        byte[] file = jceEncrypt(CURRENT, plain);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = SingleBlockGcm.decrypting(new TrickleInputStream(file, 7), file.length, CURRENT)) {
+            byte[] buf = new byte[1000];
+            int n;
+            while ((n = in.read(buf, 0, buf.length)) != -1) {
+                out.write(buf, 0, n);
+            }
+        }
+        assertThat(out.toByteArray()).isEqualTo(plain);
+        assertThat(SingleBlockGcm.authenticate(new TrickleInputStream(file, 7), file.length, List.of(CURRENT)))
+                .isZero();
+    }
+
+    @Test
+    void tamperedTagIsRejected() throws Exception {
+        byte[] file = jceEncrypt(CURRENT, randomBytes(BUFFER + 5));
+        file[file.length - 1] ^= 1;
+
+        assertThat(authenticate(file, List.of(CURRENT, PREVIOUS))).isEqualTo(-1);
+        assertThatThrownBy(() -> decryptAll(file, CURRENT))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("인증 실패");
+    }
+
+    @Test
+    void tamperedCiphertextIsRejected() throws Exception {
+        byte[] file = jceEncrypt(CURRENT, randomBytes(17));
+        file[IV_LENGTH + 16] ^= 1;
+
+        assertThat(authenticate(file, List.of(CURRENT))).isEqualTo(-1);
+        assertThatThrownBy(() -> decryptAll(file, CURRENT)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void wrongKeyIsRejectedAtEndOfStream() throws Exception {
+        byte[] file = jceEncrypt(CURRENT, randomBytes(16));
+
+        assertThatThrownBy(() -> decryptAll(file, PREVIOUS)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void truncatedFileIsRejected() throws Exception {
+        byte[] file = jceEncrypt(CURRENT, randomBytes(100));
+
+        assertThatThrownBy(() -> SingleBlockGcm.authenticate(
+                new ByteArrayInputStream(file, 0, file.length - 1), file.length, List.of(CURRENT)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("길이 불일치");
+    }
+
+    private static int authenticate(byte[] file, List<SecretKeySpec> keys) throws IOException {
+        return SingleBlockGcm.authenticate(new ByteArrayInputStream(file), file.length, keys);
+    }
+
+    private static byte[] decryptAll(byte[] file, SecretKeySpec key) throws IOException {
+        try (InputStream in = SingleBlockGcm.decrypting(new ByteArrayInputStream(file), file.length, key)) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * 기존 단일 블록 형식 기록 방식과 동일: [IV | JCE GCM 출력(ciphertext || tag)]
+     */
+    static byte[] jceEncrypt(SecretKeySpec key, byte[] plain) throws GeneralSecurityException {
+        byte[] iv = new byte[IV_LENGTH];
+        RANDOM.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+        byte[] sealed = cipher.doFinal(plain);
+        byte[] file = new byte[IV_LENGTH + sealed.length];
+        System.arraycopy(iv, 0, file, 0, IV_LENGTH);
+        System.arraycopy(sealed, 0, file, IV_LENGTH, sealed.length);
+        return file;
+    }
+
+    static SecretKeySpec spec(String base64) {
+        return new SecretKeySpec(Base64.getDecoder().decode(base64), "AES");
+    }
+
+    /**
+     * read 1회에 최대 n바이트만 돌려주는 스트림 (짧은 읽기 재현)
+     */
+    private static final class TrickleInputStream extends FilterInputStream {
+
+        private final int maxRead;
+
+        private TrickleInputStream(byte[] data, int maxRead) {
+            super(new ByteArrayInputStream(data));
+            this.maxRead = maxRead;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return super.read(b, off, Math.min(len, maxRead));
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.bluelight.backend.domain.application;
+
+import com.bluelight.backend.api.admin.ApplicationSearchService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 신청 키워드 검색: FULLTEXT(ngram) 쿼리와 기존 LIKE 쿼리의 동작 차이 검증 (MySQL 전용 — Docker 없으면 건너뜀)
+ * - 신청 ID는 정확 일치 (LIKE는 ID 문자열 부분 일치)
+ * - 2자 미만 단어는 무시
+ * - 모든 단어가 한 컬럼 그룹(주소 / 이름·이메일) 안에서 순서와 무관하게 일치
+ * - InnoDB FULLTEXT 인덱스는 커밋 시점에 반영되므로 데이터는 별도 트랜잭션으로 커밋 (테스트 트랜잭션 미사용)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationSearchRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer mysql = new MySQLContainer("mysql:8.0");
+
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+    private static final long TANAKA = 9001;
+    private static final long LIM = 9002;
+    private static final long MARINA = 9100;
+    private static final long ORCHARD = 91005;
+
+    @Autowired
+    private ApplicationRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private ApplicationSearchService fullText;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        fullText = new ApplicationSearchService(repository, "fulltext");
+        tx.executeWithoutResult(status -> {
+            insertUser(TANAKA, "kaki.tanaka@example.com", "Kaki", "Tanaka");
+            insertUser(LIM, "mei.lim@example.com", "Mei", "Lim");
+            insertApplication(MARINA, TANAKA, "Marina Bay Sands Tower 2", "PAID");
+            insertApplication(ORCHARD, LIM, "Orchard Road Block 7", "PENDING_REVIEW");
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            entityManager.createNativeQuery("DELETE FROM applications WHERE application_seq IN (:seqs)")
+                    .setParameter("seqs", List.of(MARINA, ORCHARD))
+                    .executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM users WHERE user_seq IN (:seqs)")
+                    .setParameter("seqs", List.of(TANAKA, LIM))
+                    .executeUpdate();
+        });
+    }
+
+    @Test
+    void idMatchIsExact() {
+        assertThat(search("9100")).containsExactly(MARINA);
+        assertThat(like("9100")).containsExactlyInAnyOrder(MARINA, ORCHARD);
+    }
+
+    @Test
+    void termsShorterThanTokenSizeAreIgnored() {
+        assertThat(search("a marina")).containsExactly(MARINA);
+        assertThat(like("a marina")).isEmpty();
+    }
+
+    @Test
+    void everyTermMustMatchInAnyOrder() {
+        assertThat(search("tower marina")).containsExactly(MARINA);
+        assertThat(like("tower marina")).isEmpty();
+
+        assertThat(search("marina orchard")).isEmpty();
+        assertThat(search("tanaka kaki")).containsExactly(MARINA);
+        assertThat(like("kaki tanaka")).containsExactly(MARINA);
+    }
+
+    @Test
+    void termsMustMatchWithinOneColumnGroup() {
+        // 주소 단어 + 신청자 이름 — 주소/이름·이메일 MATCH가 각각 모든 단어를 요구
+        assertThat(search("marina tanaka")).isEmpty();
+        assertThat(like("marina tanaka")).isEmpty();
+
+        assertThat(search("mei lim")).containsExactly(ORCHARD);
+        assertThat(search("tanaka example")).containsExactly(MARINA);
+    }
+
+    @Test
+    void substringWithinWordStillMatches() {
+        assertThat(search("arin")).containsExactly(MARINA);
+        assertThat(search("chard")).containsExactly(ORCHARD);
+    }
+
+    @Test
+    void statusAndCountShareTheSameFilter() {
+        Page<Application> page = repository.searchFullText(
+                "+\"example\"", null, "PAID", null, PageRequest.of(0, 1));
+
+        assertThat(page.getContent()).extracting(Application::getApplicationSeq).containsExactly(MARINA);
+        assertThat(page.getTotalElements()).isEqualTo(1);
+    }
+
+    private List<Long> search(String keyword) {
+        return tx.execute(status -> fullText.search(keyword, null, null, PAGE).getContent().stream()
+                .map(Application::getApplicationSeq)
+                .toList());
+    }
+
+    private List<Long> like(String keyword) {
+        return tx.execute(status -> repository.searchByKeyword(keyword, PAGE).getContent().stream()
+                .map(Application::getApplicationSeq)
+                .toList());
+    }
+
+    private void insertUser(long seq, String email, String firstName, String lastName) {
+        entityManager.createNativeQuery("INSERT INTO users (user_seq, email, password, first_name, last_name, " +
+                        "role, created_at, updated_at) VALUES (?, ?, 'x', ?, ?, 'APPLICANT', NOW(6), NOW(6))")
+                .setParameter(1, seq)
+                .setParameter(2, email)
+                .setParameter(3, firstName)
+                .setParameter(4, lastName)
+                .executeUpdate();
+    }
+
+    private void insertApplication(long seq, long userSeq, String address, String status) {
+        entityManager.createNativeQuery("INSERT INTO applications (application_seq, user_seq, address, " +
+                        "postal_code, selected_kva, quote_amount, status, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, '018956', 45, 350.00, ?, NOW(6), NOW(6))")
+                .setParameter(1, seq)
+                .setParameter(2, userSeq)
+                .setParameter(3, address)
+                .setParameter(4, status)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,250 @@
+package com.bluelight.backend.domain.file;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * file_blobs 참조 카운트 SQL 검증 (MySQL 전용 구문 — Docker 없으면 건너뜀)
+ * - upsert/release의 IF(ref_count = 0) 평가 순서, register 유예 갱신
+ * - GC 행 잠금 중 같은 내용 재저장 → 잠금 해제 후 새 행으로 생성
+ * - 각 호출은 별도 트랜잭션으로 커밋 (테스트 트랜잭션 미사용)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FileBlobRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer mysql = new MySQLContainer("mysql:8.0");
+
+    private static final String PATH = "blobs/ab/ab12.pdf";
+    private static final String SHA256 = "ab12";
+
+    @Autowired
+    private FileBlobRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> repository.deleteAllInBatch());
+    }
+
+    @Test
+    void acquireCreatesRowThenIncrements() {
+        acquire();
+        acquire();
+
+        FileBlob blob = find();
+        assertThat(blob.getRefCount()).isEqualTo(2);
+        assertThat(blob.getReleasedAt()).isNull();
+        assertThat(blob.getSize()).isEqualTo(10);
+    }
+
+    @Test
+    void releaseMarksReleasedAtOnlyWhenCountReachesZero() {
+        acquire();
+        acquire();
+
+        assertThat(release()).isEqualTo(1);
+        assertThat(find().getRefCount()).isEqualTo(1);
+        assertThat(find().getReleasedAt()).isNull();
+
+        // 앞 SET 절의 감소 결과로 IF(ref_count = 0) 평가
+        assertThat(release()).isEqualTo(1);
+        assertThat(find().getRefCount()).isZero();
+        assertThat(find().getReleasedAt()).isNotNull();
+
+        assertThat(release()).isZero();
+        assertThat(find().getRefCount()).isZero();
+    }
+
+    @Test
+    void releaseOfUntrackedPathChangesNothing() {
+        assertThat(release()).isZero();
+        assertThat(tx.execute(status -> repository.findById(PATH))).isEmpty();
+    }
+
+    @Test
+    void reacquireClearsReleasedAt() {
+        acquire();
+        release();
+
+        acquire();
+
+        assertThat(find().getRefCount()).isEqualTo(1);
+        assertThat(find().getReleasedAt()).isNull();
+    }
+
+    @Test
+    void registerCreatesUnreferencedRowCollectedAfterGrace() {
+        register();
+
+        FileBlob blob = find();
+        assertThat(blob.getRefCount()).isZero();
+        assertThat(blob.getReleasedAt()).isNotNull();
+        assertThat(repository.findOrphanPaths(LocalDateTime.now().plusMinutes(1), PageRequest.of(0, 10)))
+                .containsExactly(PATH);
+        assertThat(repository.findOrphanPaths(LocalDateTime.now().minusMinutes(1), PageRequest.of(0, 10)))
+                .isEmpty();
+    }
+
+    @Test
+    void registerKeepsReferencedRowUntouched() {
+        acquire();
+
+        register();
+
+        assertThat(find().getRefCount()).isEqualTo(1);
+        assertThat(find().getReleasedAt()).isNull();
+    }
+
+    @Test
+    void registerRestartsGraceOfOrphan() {
+        acquire();
+        release();
+        backdateRelease(LocalDateTime.now().minusDays(2));
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(1);
+        assertThat(tx.execute(status -> repository.lockOrphan(PATH, cutoff))).isPresent();
+
+        register();
+
+        assertThat(find().getReleasedAt()).isAfter(cutoff);
+        assertThat(tx.execute(status -> repository.lockOrphan(PATH, cutoff))).isEmpty();
+    }
+
+    @Test
+    void rolledBackAcquireLeavesRegisteredRowForGc() {
+        register();
+
+        tx.executeWithoutResult(status -> {
+            repository.acquire(PATH, SHA256, 10);
+            status.setRollbackOnly();
+        });
+
+        assertThat(find().getRefCount()).isZero();
+        assertThat(find().getReleasedAt()).isNotNull();
+    }
+
+    @Test
+    void lockOrphanSkipsReferencedBlob() {
+        acquire();
+
+        assertThat(tx.execute(status -> repository.lockOrphan(PATH, LocalDateTime.now().plusMinutes(1)))).isEmpty();
+    }
+
+    @Test
+    void acquireWaitsForGcLockAndRecreatesRow() throws Exception {
+        acquire();
+        release();
+        backdateRelease(LocalDateTime.now().minusDays(2));
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        CompletableFuture<Void> gc = CompletableFuture.runAsync(() -> tx.executeWithoutResult(status -> {
+            Optional<FileBlob> orphan = repository.lockOrphan(PATH, LocalDateTime.now().minusDays(1));
+            assertThat(orphan).isPresent();
+            locked.countDown();
+            await(proceed);
+            repository.delete(orphan.get());
+        }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> restore = CompletableFuture.runAsync(this::acquire);
+        Thread.sleep(300);
+        assertThat(restore).isNotDone();
+
+        proceed.countDown();
+        gc.get(10, TimeUnit.SECONDS);
+        restore.get(10, TimeUnit.SECONDS);
+
+        FileBlob blob = find();
+        assertThat(blob.getRefCount()).isEqualTo(1);
+        assertThat(blob.getReleasedAt()).isNull();
+    }
+
+    @Test
+    void concurrentAcquiresCountEveryReference() throws Exception {
+        List<CompletableFuture<Void>> stores = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            stores.add(CompletableFuture.runAsync(() -> {
+                register();
+                acquire();
+            }));
+        }
+        CompletableFuture.allOf(stores.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+
+        assertThat(find().getRefCount()).isEqualTo(8);
+        assertThat(find().getReleasedAt()).isNull();
+    }
+
+    private void register() {
+        tx.executeWithoutResult(status -> repository.register(PATH, SHA256, 10));
+    }
+
+    private void acquire() {
+        tx.executeWithoutResult(status -> repository.acquire(PATH, SHA256, 10));
+    }
+
+    private int release() {
+        Integer updated = tx.execute(status -> repository.release(PATH));
+        return updated != null ? updated : 0;
+    }
+
+    private FileBlob find() {
+        return tx.execute(status -> repository.findById(PATH).orElseThrow());
+    }
+
+    private void backdateRelease(LocalDateTime releasedAt) {
+        tx.executeWithoutResult(status -> entityManager
+                .createNativeQuery("UPDATE file_blobs SET released_at = :releasedAt WHERE blob_path = :path")
+                .setParameter("releasedAt", releasedAt)
+                .setParameter("path", PATH)
+                .executeUpdate());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
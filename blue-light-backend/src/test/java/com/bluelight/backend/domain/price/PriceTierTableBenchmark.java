@@ -0,0 +1,103 @@
+package com.bluelight.backend.domain.price;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단가 티어 조회 JMH 벤치마크 (JUnit 테스트 아님 — ./gradlew priceTierBenchmark)
+ *
+ * - 기본 단가표(data.sql, 7개 티어)로 1 ~ 10,000 kVA 범위(티어 밖 값 포함)를 무작위 순서로 조회
+ * - tableLookup: PriceTierTable 구간 이진 탐색 (PriceTierCache 경로)
+ * - linearScan: 티어 목록에서 kvaMin <= kva <= kvaMax인 첫 티어(kvaMin 오름차순)를 선형 탐색
+ *   (변경 전에는 같은 조건의 범위 쿼리를 계산마다 DB로 실행)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceTierTableBenchmark {
+
+    private static final int MAX_KVA = 10_000;
+
+    private List<PriceTier> tiers;
+    private PriceTierTable table;
+    private int[] kvas;
+
+    @Setup
+    public void setUp() {
+        tiers = List.of(
+                tier(1L, "45 kVA", 45, 45, "350.00", "150.00"),
+                tier(2L, "46 - 100 kVA", 46, 100, "500.00", "200.00"),
+                tier(3L, "101 - 200 kVA", 101, 200, "750.00", "300.00"),
+                tier(4L, "201 - 500 kVA", 201, 500, "1200.00", "450.00"),
+                tier(5L, "501 - 1000 kVA", 501, 1000, "1800.00", "600.00"),
+                tier(6L, "1001 - 2000 kVA", 1001, 2000, "2500.00", "800.00"),
+                tier(7L, "2001 kVA and above", 2001, 9999, "3500.00", "1000.00"));
+        table = PriceTierTable.of(tiers);
+
+        kvas = new int[MAX_KVA];
+        for (int i = 0; i < MAX_KVA; i++) {
+            kvas[i] = i + 1;
+        }
+        Random random = new Random(42);
+        for (int i = kvas.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = kvas[i];
+            kvas[i] = kvas[j];
+            kvas[j] = tmp;
+        }
+
+        for (int kva : kvas) {
+            if (table.find(kva) != linearFind(kva)) {
+                throw new IllegalStateException("Lookup mismatch at " + kva + " kVA");
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MAX_KVA)
+    public void tableLookup(Blackhole bh) {
+        for (int kva : kvas) {
+            bh.consume(table.find(kva));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MAX_KVA)
+    public void linearScan(Blackhole bh) {
+        for (int kva : kvas) {
+            bh.consume(linearFind(kva));
+        }
+    }
+
+    private PriceTier linearFind(int kva) {
+        for (PriceTier tier : tiers) {
+            if (tier.kvaMin() <= kva && kva <= tier.kvaMax()) {
+                return tier;
+            }
+        }
+        return null;
+    }
+
+    private static PriceTier tier(Long seq, String description, int kvaMin, int kvaMax, String price, String sldPrice) {
+        return new PriceTier(seq, description, kvaMin, kvaMax,
+                new BigDecimal(price), new BigDecimal(price), new BigDecimal(sldPrice));
+    }
+}
@@ -0,0 +1,191 @@
+package com.bluelight.backend.security;
+
+import com.bluelight.backend.security.InMemoryRateLimiterEngine.PendingDelta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 슬라이딩 윈도우 Rate Limit 엔진 검증 (시각은 고정 clock으로 제어)
+ * - 상한 직전 동시 요청에서도 정확히 상한만큼만 허용
+ * - 윈도우 경계: 이전 윈도우 가중치 감소, 2개 윈도우 경과 시 초기화
+ * - 유휴 키 축출, 상한 도달 시 새 키 차단 (fail closed)
+ * - 동기화 실패 후 되돌린 증가분은 이후 증가분과 합쳐 다시 꺼냄
+ */
+class InMemoryRateLimiterEngineTest {
+
+    private static final String TYPE = "LOGIN";
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+    private static final long WINDOW_MILLIS = WINDOW.toMillis();
+
+    /** 윈도우 시작 시각 (epoch 기준 정렬) */
+    private static final long START = 1_700_000_040_000L - Math.floorMod(1_700_000_040_000L, WINDOW_MILLIS);
+
+    private final AtomicLong now = new AtomicLong(START);
+    private InMemoryRateLimiterEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new InMemoryRateLimiterEngine(1000, true, now::get);
+    }
+
+    @Test
+    void concurrentAcquiresAtTheLimitAllowExactlyMaxAttempts() throws Exception {
+        int maxAttempts = 50;
+        int threads = 16;
+        int perThread = 20;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(pool.submit(() -> {
+                    ready.countDown();
+                    go.await();
+                    int allowed = 0;
+                    for (int i = 0; i < perThread; i++) {
+                        if (engine.tryAcquire(TYPE, "10.0.0.1", maxAttempts, WINDOW)) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+            ready.await();
+            go.countDown();
+
+            int allowed = 0;
+            for (Future<Integer> result : results) {
+                allowed += result.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(allowed).isEqualTo(maxAttempts);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(engine.isBlocked(TYPE, "10.0.0.1", maxAttempts, WINDOW)).isTrue();
+        assertThat(sum(engine.drainPendingDeltas())).isEqualTo(maxAttempts);
+    }
+
+    @Test
+    void previousWindowWeightDecaysAcrossRollover() {
+        acquire(10, 10);
+        assertThat(engine.tryAcquire(TYPE, "k", 10, WINDOW)).isFalse();
+
+        // 다음 윈도우 중간: 10 × 0.5 = 5 → 5회 더 허용
+        now.set(START + WINDOW_MILLIS + WINDOW_MILLIS / 2);
+        assertThat(acquire(10, 10)).isEqualTo(5);
+
+        // 다음 윈도우 시작 시점: 이전 윈도우(5회)가 그대로 반영
+        now.set(START + 2 * WINDOW_MILLIS);
+        assertThat(acquire(10, 10)).isEqualTo(5);
+
+        // 2개 윈도우 이상 경과: 모두 초기화
+        now.set(START + 5 * WINDOW_MILLIS);
+        assertThat(engine.isBlocked(TYPE, "k", 10, WINDOW)).isFalse();
+        assertThat(acquire(10, 10)).isEqualTo(10);
+    }
+
+    @Test
+    void resetClearsLocalCounterAndQueuesClusterReset() {
+        acquire(3, 3);
+
+        engine.reset(TYPE, "k");
+
+        assertThat(engine.isBlocked(TYPE, "k", 3, WINDOW)).isFalse();
+        assertThat(engine.drainResets()).containsExactly(new String[]{TYPE, "k"});
+    }
+
+    @Test
+    void idleKeysAreEvicted() {
+        engine.record(TYPE, "idle", WINDOW);
+        now.addAndGet(2 * WINDOW_MILLIS);
+        engine.record(TYPE, "active", WINDOW);
+
+        // idle: 마지막 접근 후 2개 윈도우 초과, active: 방금 접근
+        now.addAndGet(1);
+        engine.evictExpired();
+
+        assertThat(engine.size()).isEqualTo(1);
+        assertThat(engine.isBlocked(TYPE, "idle", 1, WINDOW)).isFalse();
+        assertThat(engine.isBlocked(TYPE, "active", 1, WINDOW)).isTrue();
+    }
+
+    @Test
+    void newKeysAreBlockedAtCapacityUntilIdleKeysCanBeEvicted() {
+        InMemoryRateLimiterEngine small = new InMemoryRateLimiterEngine(2, false, now::get);
+        small.record(TYPE, "a", WINDOW);
+        small.record(TYPE, "b", WINDOW);
+
+        assertThat(small.tryAcquire(TYPE, "c", 10, WINDOW)).isFalse();
+        assertThat(small.isBlocked(TYPE, "c", 10, WINDOW)).isTrue();
+        assertThat(small.tryAcquire(TYPE, "a", 10, WINDOW)).isTrue();
+
+        // 기존 키가 유휴 상태가 되면 상한 도달 시 정리 후 새 키 추적
+        now.addAndGet(2 * WINDOW_MILLIS + 1);
+        assertThat(small.tryAcquire(TYPE, "c", 10, WINDOW)).isTrue();
+        assertThat(small.size()).isEqualTo(1);
+    }
+
+    @Test
+    void restoredDeltasMergeWithLaterIncrements() {
+        engine.record(TYPE, "k", WINDOW);
+        engine.record(TYPE, "k", WINDOW);
+        engine.record(TYPE, "k", WINDOW);
+
+        List<PendingDelta> failed = engine.drainPendingDeltas();
+        assertThat(engine.drainPendingDeltas()).isEmpty();
+
+        engine.record(TYPE, "k", WINDOW);
+        engine.restorePendingDeltas(failed);
+        engine.record(TYPE, "k", WINDOW);
+
+        assertThat(engine.drainPendingDeltas())
+                .containsExactly(new PendingDelta(TYPE, "k", START, WINDOW_MILLIS, 5));
+    }
+
+    @Test
+    void restoredDeltaFollowsCounterIntoPreviousWindow() {
+        engine.record(TYPE, "k", WINDOW);
+        engine.record(TYPE, "k", WINDOW);
+        List<PendingDelta> failed = engine.drainPendingDeltas();
+
+        now.set(START + WINDOW_MILLIS + 10);
+        engine.record(TYPE, "k", WINDOW);
+        engine.restorePendingDeltas(failed);
+
+        assertThat(engine.drainPendingDeltas()).containsExactlyInAnyOrder(
+                new PendingDelta(TYPE, "k", START, WINDOW_MILLIS, 2),
+                new PendingDelta(TYPE, "k", START + WINDOW_MILLIS, WINDOW_MILLIS, 1));
+
+        // 2개 윈도우 이상 지난 증가분은 버림
+        List<PendingDelta> stale = List.of(new PendingDelta(TYPE, "k", START - WINDOW_MILLIS, WINDOW_MILLIS, 4));
+        engine.restorePendingDeltas(stale);
+        assertThat(engine.drainPendingDeltas()).isEmpty();
+    }
+
+    private int acquire(int attempts, int maxAttempts) {
+        int allowed = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (engine.tryAcquire(TYPE, "k", maxAttempts, WINDOW)) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    private static int sum(List<PendingDelta> deltas) {
+        return deltas.stream().mapToInt(PendingDelta::delta).sum();
+    }
+}
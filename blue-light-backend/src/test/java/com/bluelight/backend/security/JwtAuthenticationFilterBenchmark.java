@@ -0,0 +1,97 @@
+package com.bluelight.backend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 요청당 오버헤드 JMH 벤치마크 (JUnit 테스트 아님 — ./gradlew jwtFilterBenchmark)
+ *
+ * - legacyFourParses: 기존 필터 방식 (validateToken/getUserSeq/getRole/getApproved 각각 파서 생성 + HS512 검증)
+ * - filterSingleParse: verify() 1회 파싱 (캐시 끔)
+ * - filterCached: 같은 토큰 반복 요청 (검증 완료 캐시 적중)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-jwt-secret-key-for-hs512-signature-0123456789-abcdefghijklmnop";
+
+    private SecretKey secretKey;
+    private String token;
+    private JwtAuthenticationFilter uncachedFilter;
+    private JwtAuthenticationFilter cachedFilter;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        JwtTokenProvider uncached = new JwtTokenProvider(SECRET, 3_600_000L, 0, new SimpleMeterRegistry());
+        JwtTokenProvider cached = new JwtTokenProvider(SECRET, 3_600_000L, 10_000, new SimpleMeterRegistry());
+        token = uncached.createToken(42L, "lew@example.com", "LEW", true, true);
+        uncachedFilter = new JwtAuthenticationFilter(uncached);
+        cachedFilter = new JwtAuthenticationFilter(cached);
+    }
+
+    @Benchmark
+    public void legacyFourParses(Blackhole bh) {
+        bh.consume(legacyParse(token));
+        bh.consume(Long.parseLong(legacyParse(token).getSubject()));
+        bh.consume(legacyParse(token).get("role", String.class));
+        bh.consume(legacyParse(token).get("approved", Boolean.class));
+    }
+
+    @Benchmark
+    public Object filterSingleParse() throws Exception {
+        return runFilter(uncachedFilter);
+    }
+
+    @Benchmark
+    public Object filterCached() throws Exception {
+        return runFilter(cachedFilter);
+    }
+
+    private Object runFilter(JwtAuthenticationFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/notifications/stream");
+        request.setCookies(new Cookie("bluelight_token", token));
+        filter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    /**
+     * 변경 전 JwtTokenProvider.parseClaims — 호출마다 파서 생성
+     */
+    private Claims legacyParse(String jwt) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+}